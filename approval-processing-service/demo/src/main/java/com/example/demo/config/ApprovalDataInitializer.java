@@ -1,108 +1,272 @@
 package com.example.demo.config;
 
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.grpc.ApprovalRequestGrpcClient;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.kafka.InboxChangelog;
+import com.example.demo.kafka.InboxOwnershipChangedEvent;
 import com.example.demo.model.PendingApproval;
 import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.service.ApprovalProcessingService;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.util.retry.Retry;
 
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 
 /**
- * 서버 시작 시 Request Service에서 pending 결재 목록을 Pull (REST API 방식)
- * Kafka를 통해 실시간으로 새로운 요청을 수신하지만, 
- * 서버 재시작 시 기존 pending 데이터를 동기화하기 위해 REST 호출
+ * 서버 시작 시 Request Service에서 pending 결재 목록을 Pull (approval.changelog.enabled=true면 changelog에서 복구)
+ * Kafka(또는 gRPC)를 통해 실시간으로 새로운 요청을 수신하지만,
+ * 서버 재시작 시 기존 pending 데이터를 동기화하기 위해 호출
+ * - approval.transport=grpc: GetAllPendingApprovals 서버 스트리밍 (한 건씩 수신), 끊기면 받은 곳부터 REST로 이어받음
+ * - 그 외: REST API (GET /approvals/pending?after=&limit=) 페이지 단위, 페이지마다 backoff 재시도
+ * - 새 저장소에 모두 적재한 뒤 한 번에 교체하므로 동기화 중에도 조회는 기존 목록을 그대로 봄
+ * - 기동 스레드를 막지 않도록 별도 스레드에서 실행하고, 실패하면 retry-interval 뒤 다시 시도
+ * - 진행 상황: GET /actuator/health (approvalSync), approval.sync.* 메트릭
+ * - 이 Pod가 소유한 결재자(approval-request 파티션 할당)의 요청만 적재하고,
+ *   리밸런스로 소유 파티션이 바뀌면 다시 동기화 (새로 받은 결재자는 채우고, 넘겨준 결재자는 교체 시 빠짐)
+ * - Request Service에는 소유 파티션(partitions, partitionCount)을 함께 보내 그 파티션 결재자의 결재만 받음
+ *   (파티션을 모르는 이전 버전이 전체를 보내도 적재 시 소유 여부를 다시 확인)
+ * - changelog 모드: 소유 파티션의 approval-inbox-changelog를 읽어 복구하므로 Request Service가 없어도 기동 가능
+ *   changelog가 비어 있거나(처음 켠 경우) 파티션 수가 바뀐 경우에만 Request Service에서 받아 changelog에 기록
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApprovalDataInitializer {
 
+    static final String PENDING_URI = "/approvals/pending";
+    static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final InMemoryApprovalRepository repository;
     private final WebClient.Builder webClientBuilder;
+    private final ApprovalProcessingService approvalProcessingService;
+    private final ObjectProvider<ApprovalRequestGrpcClient> approvalRequestGrpcClient;
+    private final ApprovalSyncProgress progress;
+    private final ApprovalInboxOwnership ownership;
+    private final ObjectProvider<InboxChangelog> inboxChangelog;
+
+    private final ScheduledExecutorService syncExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "approval-sync");
+        thread.setDaemon(true);
+        return thread;
+    });
 
     @Value("${approval.request.service.url:http://localhost:8082}")
     private String approvalRequestServiceUrl;
 
+    @Value("${approval.sync.page-size:200}")
+    private int pageSize;
+
+    @Value("${approval.sync.page-timeout:10s}")
+    private Duration pageTimeout;
+
+    @Value("${approval.sync.max-retries:5}")
+    private int maxRetries;
+
+    @Value("${approval.sync.retry-backoff:500ms}")
+    private Duration retryBackoff;
+
+    @Value("${approval.sync.retry-interval:30s}")
+    private Duration retryInterval;
+
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
         log.info("서버 시작 - Request Service에서 pending 결재 목록 동기화 시작");
-        
+        syncExecutor.execute(this::syncUntilCompleted);
+    }
+
+    /**
+     * 소유 파티션 변경 - 진행 중인 동기화가 끝난 뒤 한 번 더 동기화 (동기화 스레드 1개에서 순서대로 실행)
+     */
+    @EventListener(InboxOwnershipChangedEvent.class)
+    public void onOwnershipChanged(InboxOwnershipChangedEvent event) {
+        log.info("결재 대기 목록 소유 파티션 변경 - pending 결재 재동기화: ownedPartitions={}", event.ownedPartitions());
+        if (!syncExecutor.isShutdown()) {
+            syncExecutor.execute(this::syncUntilCompleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        syncExecutor.shutdownNow();
+    }
+
+    private void syncUntilCompleted() {
+        if (!syncPendingApprovals() && !syncExecutor.isShutdown()) {
+            log.info("pending 결재 동기화 재시도 예정: {}초 후", retryInterval.toSeconds());
+            syncExecutor.schedule(this::syncUntilCompleted, retryInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Request Service에서 pending 결재 목록 동기화
+     * 실패하면 새 저장소를 버리고 기존 대기 목록을 그대로 유지
+     *
+     * @return 동기화 완료 여부
+     */
+    public synchronized boolean syncPendingApprovals() {
+        InboxChangelog changelog = inboxChangelog.getIfAvailable();
+        ApprovalRequestGrpcClient grpcClient = approvalRequestGrpcClient.getIfAvailable();
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        SyncScope scope = SyncScope.of(ownership);
+        progress.start(changelog != null ? "changelog" : grpcClient != null ? "grpc" : "rest");
         try {
-            syncPendingApprovals();
+            Map<Long, List<PendingApproval>> restored = null;
+            if (changelog != null) {
+                restored = syncPendingApprovalsByChangelog(changelog, grpcClient, scope, loaded);
+            } else {
+                syncPendingApprovalsFromRequestService(grpcClient, scope, loaded);
+            }
+            int replayed = repository.completeReload(loaded);
+            if (restored != null) {
+                changelog.seed(repository, restored);
+            }
+            progress.complete(replayed);
+            log.info("pending 결재 동기화 완료: 저장 {}건, 동기화 중 변경 {}건 반영, {}ms",
+                    progress.getStored(), replayed, progress.getDuration().toMillis());
+            return true;
         } catch (Exception e) {
-            log.warn("pending 결재 동기화 실패 (Request Service가 아직 시작되지 않았을 수 있음): {}", e.getMessage());
+            repository.abortReload();
+            progress.fail(e);
+            log.warn("pending 결재 동기화 실패 - 기존 대기 목록 유지 (Request Service가 아직 시작되지 않았을 수 있음): {}",
+                    e.getMessage());
+            return false;
         }
     }
 
     /**
-     * Request Service에서 pending 결재 목록 동기화 (REST API)
+     * changelog로 복구 - changelog만으로 채울 수 없으면(처음 켠 경우, 파티션 수 변경) Request Service에서 받음
+     *
+     * @return Request Service에서 받은 경우 changelog에서 복구했던 목록 (교체 후 changelog를 맞출 때 사용), 아니면 null
      */
-    @SuppressWarnings("unchecked")
-    public void syncPendingApprovals() {
-        // 기존 데이터 초기화
-        repository.clear();
-        
-        WebClient webClient = webClientBuilder.baseUrl(approvalRequestServiceUrl).build();
-        
+    private Map<Long, List<PendingApproval>> syncPendingApprovalsByChangelog(InboxChangelog changelog, ApprovalRequestGrpcClient grpcClient,
+                                                 SyncScope scope, InMemoryApprovalRepository loaded) {
+        InboxChangelog.RestoreResult result = changelog.restore(
+                message -> load(message, loaded), loaded::removePendingApproval);
+        if (!result.needsResync()) {
+            return null;
+        }
+        log.info("대기 목록 changelog로 복구할 수 없어 Request Service에서 동기화: empty={}, misplaced={}",
+                result.empty(), result.misplaced());
+        Map<Long, List<PendingApproval>> restored = loaded.getAllPendingApprovals();
+        loaded.clear();
+        // changelog에서 받은 requestId는 버렸으므로 이어받지 않고 처음부터 받음
+        progress.restart(grpcClient != null ? "changelog+grpc" : "changelog+rest");
+        syncPendingApprovalsFromRequestService(grpcClient, scope, loaded);
+        return restored;
+    }
+
+    private void syncPendingApprovalsFromRequestService(ApprovalRequestGrpcClient grpcClient, SyncScope scope,
+                                                        InMemoryApprovalRepository loaded) {
+        if (scope.served().isEmpty()) {
+            // 소유 파티션이 없으면 받을 결재도 없음 (빈 파티션 목록은 전체를 뜻하므로 요청하지 않음)
+            return;
+        }
+        if (grpcClient != null) {
+            syncPendingApprovalsByGrpc(grpcClient, scope, loaded);
+        } else {
+            syncPendingApprovalsByRest(scope, loaded);
+        }
+    }
+
+    /**
+     * gRPC 서버 스트리밍으로 동기화 - 받는 즉시 저장하므로 전체 목록을 한 번에 들고 있지 않음
+     * 스트림이 끊기면 마지막으로 받은 requestId 이후부터 REST로 이어받음
+     */
+    private void syncPendingApprovalsByGrpc(ApprovalRequestGrpcClient grpcClient, SyncScope scope,
+                                            InMemoryApprovalRepository loaded) {
         try {
-            // REST API로 pending 목록 조회
-            List<Map<String, Object>> approvals = webClient.get()
-                    .uri("/approvals/pending")
+            grpcClient.streamPendingApprovals(scope.requestedPartitions(), scope.partitionCount(),
+                    message -> load(message, loaded));
+        } catch (Exception e) {
+            log.warn("gRPC 동기화 중단, REST로 이어서 동기화: lastRequestId={}, error={}",
+                    progress.getLastRequestId(), e.getMessage());
+            progress.switchSource("grpc+rest");
+            syncPendingApprovalsByRest(scope, loaded);
+        }
+    }
+
+    /**
+     * REST API로 동기화 - requestId 오름차순 페이지를 차례로 받아 적재
+     * 페이지 요청이 실패하면 그 페이지만 backoff 재시도하므로 처음부터 다시 받지 않음
+     */
+    private void syncPendingApprovalsByRest(SyncScope scope, InMemoryApprovalRepository loaded) {
+        WebClient webClient = webClientBuilder.baseUrl(approvalRequestServiceUrl).build();
+
+        Long after = progress.getLastRequestId();
+        do {
+            Long cursor = after;
+            ResponseEntity<List<ApprovalRequestMessage>> page = webClient.get()
+                    .uri(uri -> {
+                        uri.path(PENDING_URI).queryParam("limit", pageSize);
+                        if (cursor != null) {
+                            uri.queryParam("after", cursor);
+                        }
+                        if (!scope.requestedPartitions().isEmpty()) {
+                            uri.queryParam("partitions", scope.requestedPartitions().toArray())
+                                    .queryParam("partitionCount", scope.partitionCount());
+                        }
+                        return uri.build();
+                    })
                     .retrieve()
-                    .bodyToMono(new ParameterizedTypeReference<List<Map<String, Object>>>() {})
+                    .toEntity(new ParameterizedTypeReference<List<ApprovalRequestMessage>>() {})
+                    .timeout(pageTimeout)
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                            .doBeforeRetry(signal -> log.warn("pending 결재 페이지 재요청: after={}, attempt={}, error={}",
+                                    cursor, signal.totalRetries() + 1, signal.failure().getMessage())))
                     .block();
-            
-            if (approvals == null || approvals.isEmpty()) {
-                log.info("동기화할 pending 결재가 없습니다.");
-                return;
-            }
 
-            int syncCount = 0;
-            for (Map<String, Object> approval : approvals) {
-                List<Map<String, Object>> steps = (List<Map<String, Object>>) approval.get("steps");
-                
-                // 첫 번째 pending 상태의 결재자 찾기
-                Optional<Map<String, Object>> pendingStep = steps.stream()
-                        .filter(s -> "pending".equals(s.get("status")))
-                        .findFirst();
-
-                if (pendingStep.isPresent()) {
-                    Long approverId = ((Number) pendingStep.get().get("approverId")).longValue();
-
-                    // PendingApproval 객체 생성
-                    List<PendingApproval.StepInfo> stepInfos = steps.stream()
-                            .map(s -> PendingApproval.StepInfo.builder()
-                                    .step(((Number) s.get("step")).intValue())
-                                    .approverId(((Number) s.get("approverId")).longValue())
-                                    .status((String) s.get("status"))
-                                    .build())
-                            .toList();
-
-                    PendingApproval pendingApproval = PendingApproval.builder()
-                            .requestId(((Number) approval.get("requestId")).longValue())
-                            .requesterId(((Number) approval.get("requesterId")).longValue())
-                            .title((String) approval.get("title"))
-                            .content((String) approval.get("content"))
-                            .steps(stepInfos)
-                            .build();
-
-                    // In-Memory에 저장
-                    repository.addPendingApproval(approverId, pendingApproval);
-                    syncCount++;
-                }
+            List<ApprovalRequestMessage> approvals = page.getBody();
+            if (approvals != null) {
+                approvals.forEach(message -> load(message, loaded));
             }
-            
-            log.info("pending 결재 동기화 완료: {}건", syncCount);
-        } catch (Exception e) {
-            log.warn("REST API 동기화 실패: {}", e.getMessage());
+            progress.pageLoaded();
+
+            String nextCursor = page.getHeaders().getFirst(NEXT_CURSOR_HEADER);
+            after = nextCursor != null ? Long.valueOf(nextCursor) : null;
+        } while (after != null);
+    }
+
+    private void load(ApprovalRequestMessage message, InMemoryApprovalRepository loaded) {
+        Long approverId = message.pendingApproverId();
+        boolean stored = (approverId == null || ownership.owns(approverId))
+                && approvalProcessingService.receiveApprovalRequest(message, loaded);
+        progress.loaded(message.getRequestId(), stored);
+    }
+
+    /**
+     * 이번 동기화에서 받을 결재자 파티션 - 시작 시점의 소유 파티션
+     *
+     * @param served 소유 파티션 (할당 정보가 없으면 전체)
+     * @param partitionCount approval-request 파티션 수
+     */
+    record SyncScope(Set<Integer> served, int partitionCount) {
+
+        static SyncScope of(ApprovalInboxOwnership ownership) {
+            return new SyncScope(ownership.getServedPartitions(), ownership.getPartitionCount());
+        }
+
+        /**
+         * Request Service에 보낼 파티션 - 전체를 가지면 비워서 필터 없이 요청
+         */
+        Set<Integer> requestedPartitions() {
+            return served.size() < partitionCount ? served : Set.of();
         }
     }
 }
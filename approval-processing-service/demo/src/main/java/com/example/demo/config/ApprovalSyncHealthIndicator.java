@@ -0,0 +1,22 @@
+package com.example.demo.config;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.stereotype.Component;
+
+/**
+ * pending 결재 동기화 상태 (GET /actuator/health → components.approvalSync)
+ * - 동기화 중이거나 실패해도 실시간 수신(Kafka/gRPC)과 기존 대기 목록으로 계속 동작하므로 UP으로 두고 details로만 알림
+ */
+@Component
+@RequiredArgsConstructor
+public class ApprovalSyncHealthIndicator implements HealthIndicator {
+
+    private final ApprovalSyncProgress progress;
+
+    @Override
+    public Health health() {
+        return Health.up().withDetails(progress.details()).build();
+    }
+}
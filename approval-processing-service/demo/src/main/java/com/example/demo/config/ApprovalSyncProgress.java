@@ -0,0 +1,163 @@
+package com.example.demo.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * pending 결재 동기화 진행 상황
+ * - actuator health(approvalSync)의 details와 approval.sync.* 메트릭으로 노출
+ */
+@Component
+public class ApprovalSyncProgress {
+
+    public enum State { IDLE, RUNNING, COMPLETED, FAILED }
+
+    private volatile State state = State.IDLE;
+    private volatile String source;
+    private volatile Long lastRequestId;
+    private volatile Instant startedAt;
+    private volatile Duration duration;
+    private volatile String error;
+    private final AtomicInteger attempts = new AtomicInteger();
+    private final AtomicInteger pages = new AtomicInteger();
+    private final AtomicInteger received = new AtomicInteger();
+    private final AtomicInteger stored = new AtomicInteger();
+    private final AtomicInteger replayed = new AtomicInteger();
+
+    private final Timer completedTimer;
+    private final Timer failedTimer;
+
+    public ApprovalSyncProgress(MeterRegistry meterRegistry) {
+        Gauge.builder("approval.sync.received", received, AtomicInteger::get)
+                .description("이번 동기화에서 받은 pending 결재 수")
+                .register(meterRegistry);
+        Gauge.builder("approval.sync.stored", stored, AtomicInteger::get)
+                .description("이번 동기화에서 대기 목록에 적재한 결재 수")
+                .register(meterRegistry);
+        Gauge.builder("approval.sync.pages", pages, AtomicInteger::get)
+                .description("이번 동기화에서 받은 REST 페이지 수")
+                .register(meterRegistry);
+        this.completedTimer = Timer.builder("approval.sync.duration")
+                .tag("result", "completed")
+                .description("pending 결재 동기화 소요 시간")
+                .register(meterRegistry);
+        this.failedTimer = Timer.builder("approval.sync.duration")
+                .tag("result", "failed")
+                .description("pending 결재 동기화 소요 시간")
+                .register(meterRegistry);
+    }
+
+    void start(String source) {
+        this.source = source;
+        this.lastRequestId = null;
+        this.startedAt = Instant.now();
+        this.duration = null;
+        this.error = null;
+        attempts.incrementAndGet();
+        pages.set(0);
+        received.set(0);
+        stored.set(0);
+        replayed.set(0);
+        this.state = State.RUNNING;
+    }
+
+    /**
+     * 전달 수단 전환 (gRPC 스트림이 끊겨 REST로 이어받는 경우)
+     */
+    void switchSource(String source) {
+        this.source = source;
+    }
+
+    /**
+     * 처음부터 다시 받기 (changelog 복구 결과를 버리고 Request Service에서 받는 경우)
+     * 이어받을 위치와 받은/적재한 건수를 초기화해 버린 목록 이후부터 받지 않도록 함
+     */
+    void restart(String source) {
+        this.source = source;
+        this.lastRequestId = null;
+        pages.set(0);
+        received.set(0);
+        stored.set(0);
+    }
+
+    void loaded(Long requestId, boolean storedInInbox) {
+        received.incrementAndGet();
+        if (storedInInbox) {
+            stored.incrementAndGet();
+        }
+        this.lastRequestId = requestId;
+    }
+
+    void pageLoaded() {
+        pages.incrementAndGet();
+    }
+
+    void complete(int replayedChanges) {
+        replayed.set(replayedChanges);
+        finish(State.COMPLETED, completedTimer);
+    }
+
+    void fail(Throwable cause) {
+        this.error = cause.getMessage();
+        finish(State.FAILED, failedTimer);
+    }
+
+    private void finish(State result, Timer timer) {
+        this.duration = Duration.between(startedAt, Instant.now());
+        timer.record(duration);
+        this.state = result;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    /**
+     * 이어받을 위치 - 지금까지 받은 마지막 requestId (requestId 오름차순으로 받으므로 이후 건만 요청하면 됨)
+     */
+    public Long getLastRequestId() {
+        return lastRequestId;
+    }
+
+    public int getStored() {
+        return stored.get();
+    }
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    public Map<String, Object> details() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        details.put("state", state);
+        details.put("attempts", attempts.get());
+        if (source != null) {
+            details.put("source", source);
+        }
+        details.put("received", received.get());
+        details.put("stored", stored.get());
+        details.put("pages", pages.get());
+        if (lastRequestId != null) {
+            details.put("lastRequestId", lastRequestId);
+        }
+        if (startedAt != null) {
+            details.put("startedAt", startedAt.toString());
+            details.put("elapsedMillis", (duration != null ? duration : Duration.between(startedAt, Instant.now())).toMillis());
+        }
+        if (state == State.COMPLETED) {
+            details.put("replayedChanges", replayed.get());
+        }
+        if (error != null) {
+            details.put("error", error);
+        }
+        return details;
+    }
+}
@@ -0,0 +1,187 @@
+package com.example.demo.controller;
+
+import com.example.demo.exception.ErrorResponse;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 결재자 대기 목록 API(/process/{approverId}/**)를 소유 Pod로 전달
+ * - 다른 Pod가 소유한 결재자면 같은 요청(메서드, 경로, 쿼리, 본문)을 소유 Pod로 보내고 응답(상태, 본문, 페이지 cursor 헤더)을 그대로 돌려줌
+ * - 전달받은 요청(X-Inbox-Forwarded)은 소유 여부와 관계없이 직접 처리 (리밸런스 중 Pod 사이 반복 전달 방지)
+ * - 소유 Pod에 연결할 수 없으면 503
+ * - 대기 목록 스트림(GET /process/{approverId}/stream)은 전달하지 않고 소유 Pod 주소로 307 redirect
+ *   (연결이 수십 분 유지되므로 중계하면 이 Pod의 요청 스레드를 그동안 붙잡음, 클라이언트가 소유 Pod에 직접 연결할 수 있어야 함)
+ */
+@Slf4j
+@Component
+public class InboxForwardingFilter extends OncePerRequestFilter {
+
+    static final String FORWARDED_HEADER = "X-Inbox-Forwarded";
+    private static final Pattern INBOX_PATH = Pattern.compile("^/process/(\\d{1,18})(/.*)?$");
+    private static final String STREAM_PATH = "/stream";
+    private static final List<String> FORWARDED_REQUEST_HEADERS = List.of(HttpHeaders.CONTENT_TYPE, HttpHeaders.ACCEPT);
+    private static final List<String> FORWARDED_RESPONSE_HEADERS = List.of(ProcessController.NEXT_CURSOR_HEADER);
+
+    private final ApprovalInboxOwnership ownership;
+    private final ObjectMapper objectMapper;
+    private final Duration forwardTimeout;
+    private final HttpClient httpClient;
+    private final Counter forwardedCounter;
+    private final Counter redirectedCounter;
+    private final Counter failedCounter;
+
+    public InboxForwardingFilter(ApprovalInboxOwnership ownership,
+                                 ObjectMapper objectMapper,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${approval.shard.forward-timeout:5s}") Duration forwardTimeout) {
+        this.ownership = ownership;
+        this.objectMapper = objectMapper;
+        this.forwardTimeout = forwardTimeout;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(forwardTimeout)
+                .build();
+        this.forwardedCounter = Counter.builder("approval.inbox.forwarded")
+                .description("소유 Pod로 전달된 결재자 대기 목록 요청 수")
+                .register(meterRegistry);
+        this.redirectedCounter = Counter.builder("approval.inbox.redirected")
+                .description("소유 Pod로 redirect된 결재자 대기 목록 스트림 요청 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("approval.inbox.forward.failed")
+                .description("소유 Pod에 연결하지 못한 결재자 대기 목록 요청 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(FORWARDED_HEADER) != null || approverId(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Long approverId = approverId(request);
+        Optional<String> owner = ownership.remoteOwner(approverId);
+        if (owner.isEmpty()) {
+            chain.doFilter(request, response);
+            return;
+        }
+        if (isStream(request)) {
+            redirect(owner.get(), approverId, request, response);
+            return;
+        }
+        forward(owner.get(), approverId, request, response);
+    }
+
+    /**
+     * 스트림 요청은 같은 경로/쿼리의 소유 Pod 주소로 307 - 클라이언트(EventSource)가 따라가 소유 Pod에 직접 연결
+     */
+    private void redirect(String owner, Long approverId, HttpServletRequest request, HttpServletResponse response) {
+        String query = request.getQueryString();
+        String location = "http://" + owner + request.getRequestURI() + (query != null ? "?" + query : "");
+        redirectedCounter.increment();
+        log.debug("결재자 대기 목록 스트림 소유 Pod로 redirect: approverId={}, owner={}", approverId, owner);
+        response.setStatus(HttpStatus.TEMPORARY_REDIRECT.value());
+        response.setHeader(HttpHeaders.LOCATION, location);
+    }
+
+    private void forward(String owner, Long approverId, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        String query = request.getQueryString();
+        URI uri = URI.create("http://" + owner + request.getRequestURI() + (query != null ? "?" + query : ""));
+        byte[] body = request.getInputStream().readAllBytes();
+
+        HttpRequest.Builder forwarded = HttpRequest.newBuilder(uri)
+                .timeout(forwardTimeout)
+                .header(FORWARDED_HEADER, ownership.getAdvertisedAddress())
+                .method(request.getMethod(), body.length > 0
+                        ? HttpRequest.BodyPublishers.ofByteArray(body)
+                        : HttpRequest.BodyPublishers.noBody());
+        for (String header : FORWARDED_REQUEST_HEADERS) {
+            String value = request.getHeader(header);
+            if (value != null) {
+                forwarded.header(header, value);
+            }
+        }
+
+        HttpResponse<InputStream> ownerResponse;
+        try {
+            ownerResponse = httpClient.send(forwarded.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            unavailable(owner, approverId, request, response, e);
+            return;
+        } catch (IOException e) {
+            unavailable(owner, approverId, request, response, e);
+            return;
+        }
+
+        forwardedCounter.increment();
+        log.debug("결재자 대기 목록 요청 소유 Pod로 전달: approverId={}, owner={}, {} {}, status={}",
+                approverId, owner, request.getMethod(), request.getRequestURI(), ownerResponse.statusCode());
+        response.setStatus(ownerResponse.statusCode());
+        for (String header : FORWARDED_RESPONSE_HEADERS) {
+            ownerResponse.headers().firstValue(header).ifPresent(value -> response.setHeader(header, value));
+        }
+        ownerResponse.headers().firstValue(HttpHeaders.CONTENT_TYPE).ifPresent(response::setContentType);
+        try (InputStream in = ownerResponse.body()) {
+            in.transferTo(response.getOutputStream());
+        }
+    }
+
+    private void unavailable(String owner, Long approverId, HttpServletRequest request, HttpServletResponse response,
+                             Exception cause) throws IOException {
+        failedCounter.increment();
+        log.warn("결재자 대기 목록 소유 Pod 연결 실패: approverId={}, owner={}, error={}", approverId, owner, cause.toString());
+        ErrorResponse error = new ErrorResponse(
+                LocalDateTime.now(),
+                HttpStatus.SERVICE_UNAVAILABLE.value(),
+                "Inbox Owner Unavailable",
+                "결재자 대기 목록을 가진 인스턴스에 연결할 수 없습니다: approverId=" + approverId,
+                request.getRequestURI()
+        );
+        response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    private static boolean isStream(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = INBOX_PATH.matcher(path);
+        return "GET".equals(request.getMethod()) && matcher.matches() && STREAM_PATH.equals(matcher.group(2));
+    }
+
+    /**
+     * /process/{approverId}/** 요청의 approverId (대상 경로가 아니면 null)
+     */
+    private static Long approverId(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        Matcher matcher = INBOX_PATH.matcher(path);
+        return matcher.matches() ? Long.valueOf(matcher.group(1)) : null;
+    }
+}
@@ -1,13 +1,23 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.BatchProcessRequest;
+import com.example.demo.dto.BatchProcessResponse;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.InboxSummary;
+import com.example.demo.dto.PendingApprovalDetail;
 import com.example.demo.dto.ProcessRequest;
 import com.example.demo.dto.ProcessResponse;
 import com.example.demo.model.PendingApproval;
 import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.BatchReplayCache;
+import com.example.demo.service.InboxStreamRegistry;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
 
@@ -20,17 +30,67 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ProcessController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ApprovalProcessingService service;
+    private final BatchReplayCache batchReplayCache;
+    private final InboxStreamRegistry inboxStreamRegistry;
 
     /**
-     * 특정 결재자의 대기 중인 결재 목록 조회
-     * GET /process/{approverId}
+     * 특정 결재자의 대기 중인 결재 목록 조회 (우선순위 → 생성 시각 순)
+     * GET /process/{approverId}?limit=&cursor=&sort=
+     * - limit/cursor/sort 중 하나라도 주면 페이지로 조회하고, 다음 페이지가 있으면 X-Next-Cursor 헤더로 전달
+     * - 셋 다 없으면 전체 목록 (이전 버전 호환)
      */
     @GetMapping("/{approverId}")
-    public ResponseEntity<List<PendingApproval>> getPendingApprovals(@PathVariable("approverId") Long approverId) {
-        log.info("결재 대기 목록 조회 요청: approverId={}", approverId);
-        List<PendingApproval> pendingApprovals = service.getPendingApprovals(approverId);
-        return ResponseEntity.ok(pendingApprovals);
+    public ResponseEntity<List<PendingApproval>> getPendingApprovals(
+            @PathVariable("approverId") Long approverId,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) String sort) {
+        log.info("결재 대기 목록 조회 요청: approverId={}, limit={}, sort={}", approverId, limit, sort);
+        if (limit == null && cursor == null && sort == null) {
+            return ResponseEntity.ok(service.getPendingApprovals(approverId));
+        }
+        CursorPage<PendingApproval> page = service.getPendingApprovals(approverId, sort, cursor,
+                limit != null ? limit : ApprovalProcessingService.DEFAULT_PAGE_SIZE);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, page.getNextCursor());
+        }
+        return response.body(page.getItems());
+    }
+
+    /**
+     * 특정 결재자의 대기 목록 요약 (대기 건수, 가장 오래된 결재의 경과 시간)
+     * GET /process/{approverId}/summary
+     */
+    @GetMapping("/{approverId}/summary")
+    public ResponseEntity<InboxSummary> getInboxSummary(@PathVariable("approverId") Long approverId) {
+        return ResponseEntity.ok(service.getInboxSummary(approverId));
+    }
+
+    /**
+     * 특정 결재자의 대기 목록 스트림 (Server-Sent Events)
+     * 현재 목록을 snapshot으로 한 번 보낸 뒤 변경분(added / removed)만 전송
+     * GET /process/{approverId}/stream
+     */
+    @GetMapping(path = "/{approverId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamPendingApprovals(@PathVariable("approverId") Long approverId) {
+        log.info("결재 대기 목록 스트림 요청: approverId={}", approverId);
+        return inboxStreamRegistry.subscribe(approverId);
+    }
+
+    /**
+     * 결재 단건 조회 - 목록에는 없는 본문(내용, 전체 결재 단계) 포함
+     * GET /process/{approverId}/{requestId}
+     */
+    @GetMapping("/{approverId}/{requestId}")
+    public ResponseEntity<PendingApprovalDetail> getPendingApproval(
+            @PathVariable("approverId") Long approverId,
+            @PathVariable("requestId") Long requestId) {
+        log.info("결재 단건 조회 요청: approverId={}, requestId={}", approverId, requestId);
+        return ResponseEntity.ok(service.getPendingApproval(approverId, requestId));
     }
 
     /**
@@ -48,4 +108,20 @@ public class ProcessController {
                 approverId, requestId, request.getStatus(), request.getComment());
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 결재 일괄 처리 (승인/반려) - 항목별 결과 반환
+     * 같은 batchId로 다시 요청하면 처리하지 않고 처음 결과를 반환 (replayed=true)
+     * POST /process/{approverId}/batch
+     */
+    @PostMapping("/{approverId}/batch")
+    public ResponseEntity<BatchProcessResponse> processApprovals(
+            @PathVariable("approverId") Long approverId,
+            @Valid @RequestBody BatchProcessRequest request) {
+        log.info("결재 일괄 처리 요청: approverId={}, batchId={}, items={}",
+                approverId, request.getBatchId(), request.getItems().size());
+        BatchProcessResponse response = batchReplayCache.execute(approverId, request.getBatchId(), request.getItems(),
+                () -> service.processApprovals(approverId, request.getBatchId(), request.getItems()));
+        return ResponseEntity.ok(response);
+    }
 }
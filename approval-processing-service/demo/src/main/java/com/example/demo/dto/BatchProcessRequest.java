@@ -0,0 +1,50 @@
+package com.example.demo.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class BatchProcessRequest {
+
+    /**
+     * 일괄 처리 ID - 같은 ID로 다시 요청하면 처음 처리한 결과를 그대로 반환 (재시도 시 중복 처리 방지)
+     */
+    @NotBlank(message = "batchId는 필수입니다.")
+    @Size(max = 100, message = "batchId는 100자 이하입니다.")
+    private String batchId;
+
+    @Valid
+    @NotEmpty(message = "처리할 결재는 1건 이상이어야 합니다.")
+    @Size(max = 500, message = "한 번에 처리할 수 있는 결재는 500건 이하입니다.")
+    private List<Item> items;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Item {
+
+        @NotNull(message = "requestId는 필수입니다.")
+        private Long requestId;
+
+        @NotBlank(message = "상태는 필수입니다. (approved 또는 rejected)")
+        private String status;
+
+        /**
+         * 결재 의견/코멘트
+         */
+        private String comment;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+public class BatchProcessResponse {
+
+    private String batchId;
+    private Long approverId;
+    private int processed;
+    private int failed;
+
+    /**
+     * 같은 batchId의 이전 처리 결과를 다시 반환한 경우 true
+     */
+    private boolean replayed;
+
+    private List<ItemResult> results;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ItemResult {
+
+        public static final String PROCESSED = "processed";
+        public static final String NOT_FOUND = "not_found";
+        public static final String INVALID_STATUS = "invalid_status";
+        public static final String DUPLICATE = "duplicate";
+        public static final String SEND_FAILED = "send_failed";
+
+        private Long requestId;
+        private String status;
+
+        /**
+         * processed | not_found | invalid_status | duplicate | send_failed
+         */
+        private String outcome;
+        private String message;
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재자 대기 목록 요약 (대시보드용) - 대기 건수와 가장 오래된 결재의 생성 시각/경과 시간
+ * 대기 중인 결재가 없으면 oldestCreatedAt, oldestAgeSeconds는 null
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InboxSummary {
+
+    private Long approverId;
+    private int pendingCount;
+    private LocalDateTime oldestCreatedAt;
+    private Long oldestAgeSeconds;
+}
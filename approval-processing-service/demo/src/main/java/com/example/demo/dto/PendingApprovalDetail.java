@@ -0,0 +1,26 @@
+package com.example.demo.dto;
+
+import com.example.demo.model.ApprovalBody;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 결재 단건 조회 응답 - 대기 목록 헤더와 복원한 본문
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PendingApprovalDetail {
+
+    private Long requestId;
+    private Long requesterId;
+    private String title;
+    private Integer step;
+    private String content;
+    private List<ApprovalBody.StepInfo> steps;
+}
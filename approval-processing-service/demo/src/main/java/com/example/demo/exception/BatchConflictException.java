@@ -0,0 +1,8 @@
+package com.example.demo.exception;
+
+public class BatchConflictException extends RuntimeException {
+
+    public BatchConflictException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.demo.grpc;
+
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.kafka.ApprovalRequestRerouter;
+import com.example.demo.service.ApprovalProcessingService;
+import io.grpc.Status;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+/**
+ * ApprovalService gRPC 서버 (Approval Processing Service 담당 RPC)
+ * - RequestApproval: 결재 요청 수신 (Kafka approval-request와 같은 처리)
+ *   응답을 받은 Request Service 아웃박스 릴레이가 이벤트를 제거하므로, 저장이 끝난 뒤 응답
+ *   다른 Pod가 소유한 결재자의 요청이면 approval-request 토픽에 approverId key로 재발행한 뒤 응답 (status=rerouted)
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class ApprovalGrpcService extends ApprovalServiceGrpc.ApprovalServiceImplBase {
+
+    private final ApprovalProcessingService approvalProcessingService;
+    private final ApprovalInboxOwnership approvalInboxOwnership;
+    private final ApprovalRequestRerouter approvalRequestRerouter;
+
+    @Override
+    public void requestApproval(ApprovalRequest request, StreamObserver<ApprovalResponse> responseObserver) {
+        ApprovalRequestMessage message = ApprovalProtoMapper.fromProto(request);
+        log.info("gRPC 결재 요청 수신: requestId={}, title={}", message.getRequestId(), message.getTitle());
+        try {
+            String status;
+            Long approverId = message.pendingApproverId();
+            if (approverId != null && !approvalInboxOwnership.owns(approverId)) {
+                approvalRequestRerouter.reroute(approverId, message);
+                status = "rerouted";
+            } else {
+                status = approvalProcessingService.receiveApprovalRequest(message) ? "received" : "ignored";
+            }
+            responseObserver.onNext(ApprovalResponse.newBuilder()
+                    .setStatus(status)
+                    .build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            log.error("gRPC 결재 요청 처리 실패: requestId={}", message.getRequestId(), e);
+            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+        }
+    }
+}
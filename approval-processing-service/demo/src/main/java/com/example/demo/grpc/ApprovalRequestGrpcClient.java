@@ -0,0 +1,166 @@
+package com.example.demo.grpc;
+
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.kafka.ApprovalResultProducer;
+import com.example.demo.service.ApprovalResultSender;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import io.grpc.Context;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Approval Request Service gRPC 클라이언트 (approval.transport=grpc)
+ * - 결재 결과 전달 (ReturnApprovalResult) - 실패하면 같은 결과를 Kafka로 재전송
+ *   (일괄 처리는 모든 결과를 동시에 보낸 뒤 기다리고, 실패한 결과만 모아 Kafka batch로 재전송)
+ *   (Request Service는 pending 단계에만 조건부로 반영하므로 중복 도착해도 한 번만 반영)
+ * - 기동 시 pending 결재 동기화 (GetAllPendingApprovals 서버 스트리밍)
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "approval.transport", havingValue = "grpc")
+public class ApprovalRequestGrpcClient implements ApprovalResultSender {
+
+    private final ApprovalResultProducer approvalResultProducer;
+
+    @GrpcClient("approval-request-service")
+    private ApprovalServiceGrpc.ApprovalServiceFutureStub approvalServiceStub;
+
+    @GrpcClient("approval-request-service")
+    private ApprovalServiceGrpc.ApprovalServiceBlockingStub approvalServiceBlockingStub;
+
+    @Value("${approval.grpc.deadline:5s}")
+    private Duration deadline;
+
+    @Value("${approval.grpc.sync-deadline:5m}")
+    private Duration syncDeadline;
+
+    @Override
+    public void sendApprovalResult(Long requestId, int step, Long approverId, String status, String comment) {
+        ApprovalResultRequest request = ApprovalProtoMapper.toProto(ApprovalResultMessage.builder()
+                .requestId(requestId)
+                .step(step)
+                .approverId(approverId)
+                .status(status)
+                .comment(comment)
+                .build());
+
+        // gRPC 요청 처리 중(RequestApproval 등)에 호출되면 그 호출의 Context를 물려받아
+        // 응답이 끝나는 순간 함께 취소되므로, 취소가 전파되지 않는 Context에서 호출
+        ListenableFuture<ApprovalResultResponse> response;
+        Context detached = Context.current().fork();
+        Context previous = detached.attach();
+        try {
+            response = approvalServiceStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS)
+                    .returnApprovalResult(request);
+        } finally {
+            detached.detach(previous);
+        }
+
+        Futures.addCallback(
+                response,
+                new FutureCallback<>() {
+                    @Override
+                    public void onSuccess(ApprovalResultResponse response) {
+                        log.info("결재 결과 gRPC 전송 성공: requestId={}, step={}, status={}", requestId, step, status);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        log.warn("결재 결과 gRPC 전송 실패, Kafka로 재전송: requestId={}, step={}, error={}",
+                                requestId, step, t.getMessage());
+                        approvalResultProducer.sendApprovalResult(requestId, step, approverId, status, comment);
+                    }
+                },
+                MoreExecutors.directExecutor());
+    }
+
+    /**
+     * 결재 결과 여러 건을 동시에 gRPC로 보내고 모두 응답받을 때까지 기다림 - 실패한 결과는 Kafka batch로 재전송
+     */
+    @Override
+    public List<Boolean> sendApprovalResults(List<ApprovalResultMessage> results) {
+        List<ListenableFuture<ApprovalResultResponse>> responses = new ArrayList<>(results.size());
+        Context detached = Context.current().fork();
+        Context previous = detached.attach();
+        try {
+            ApprovalServiceGrpc.ApprovalServiceFutureStub stub =
+                    approvalServiceStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS);
+            for (ApprovalResultMessage result : results) {
+                responses.add(stub.returnApprovalResult(ApprovalProtoMapper.toProto(result)));
+            }
+        } finally {
+            detached.detach(previous);
+        }
+
+        List<Boolean> sent = new ArrayList<>(results.size());
+        List<Integer> failedIndexes = new ArrayList<>();
+        for (int i = 0; i < responses.size(); i++) {
+            try {
+                responses.get(i).get();
+                sent.add(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sent.add(false);
+                failedIndexes.add(i);
+            } catch (Exception e) {
+                log.warn("결재 결과 gRPC 일괄 전송 실패, Kafka로 재전송: requestId={}, step={}, error={}",
+                        results.get(i).getRequestId(), results.get(i).getStep(), e.getMessage());
+                sent.add(false);
+                failedIndexes.add(i);
+            }
+        }
+        if (!failedIndexes.isEmpty()) {
+            List<Boolean> resent = approvalResultProducer.sendApprovalResults(
+                    failedIndexes.stream().map(results::get).toList());
+            for (int i = 0; i < failedIndexes.size(); i++) {
+                sent.set(failedIndexes.get(i), resent.get(i));
+            }
+        }
+        log.info("결재 결과 gRPC 일괄 전송: {}건 (Kafka 재전송 {}건)", results.size(), failedIndexes.size());
+        return sent;
+    }
+
+    /**
+     * pending 결재를 스트림으로 받아 한 건씩 전달 (받은 만큼만 다음 메시지를 요청하므로 전체 목록을 메모리에 쌓지 않음)
+     *
+     * @param partitions 받을 결재자의 approval-request 파티션 (비어 있으면 전체)
+     * @param partitionCount approval-request 파티션 수
+     * @return 받은 결재 건수
+     */
+    public int streamPendingApprovals(Set<Integer> partitions, int partitionCount,
+                                      Consumer<ApprovalRequestMessage> consumer) {
+        PendingApprovalsRequest request = PendingApprovalsRequest.newBuilder()
+                .addAllPartitions(partitions)
+                .setPartitionCount(partitionCount)
+                .build();
+        Iterator<ApprovalRequest> approvals = approvalServiceBlockingStub
+                .withDeadlineAfter(syncDeadline.toMillis(), TimeUnit.MILLISECONDS)
+                .getAllPendingApprovals(request);
+        int count = 0;
+        while (approvals.hasNext()) {
+            consumer.accept(ApprovalProtoMapper.fromProto(approvals.next()));
+            count++;
+        }
+        return count;
+    }
+}
@@ -0,0 +1,299 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApproverPartitioner;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.admin.Admin;
+import org.apache.kafka.clients.admin.ConsumerGroupDescription;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.common.PartitionInfo;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.listener.ConsumerAwareRebalanceListener;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 결재자 대기 목록 소유권 - approval-request 토픽의 파티션 할당을 그대로 소유 Pod 지도로 사용
+ * - 메시지 key가 approverId이므로 한 결재자의 요청은 항상 같은 파티션 → 그 파티션을 할당받은 Pod만 대기 목록을 가짐
+ * - 내 파티션은 리밸런스 콜백으로, 다른 Pod의 파티션은 Consumer 그룹 조회(describeConsumerGroups)로 파악
+ *   (Consumer client.id에 Pod 주소 approval.shard.advertised-address를 넣어 두어 그룹 멤버 → 주소를 알 수 있음)
+ * - 할당이 바뀌면 InboxOwnershipChangedEvent 발행 → 대기 목록을 Request Service에서 다시 동기화
+ * - 할당 정보가 아직 없거나(기동 직후, Kafka 장애) approval.shard.enabled=false면 모든 결재자를 직접 처리
+ */
+@Slf4j
+@Component
+public class ApprovalInboxOwnership implements ConsumerAwareRebalanceListener {
+
+    static final String CLIENT_ID_PREFIX = "approval-inbox@";
+    private static final long SETTLE_DELAY_MILLIS = 1_000;
+    // client.id = approval-inbox@{host:port} (+ Listener 동시성 번호 -0, -1 ...)
+    private static final Pattern CLIENT_ID = Pattern.compile("^" + CLIENT_ID_PREFIX + "(.+:\\d+)(-\\d+)?$");
+
+    private final ObjectProvider<KafkaAdmin> kafkaAdmin;
+    private final ApplicationEventPublisher eventPublisher;
+    private final boolean enabled;
+    private final String advertisedAddress;
+    private final String groupId;
+    private final Duration refreshInterval;
+
+    // 이 Pod의 Consumer들이 할당받은 approval-request 파티션
+    private final Set<Integer> owned = ConcurrentHashMap.newKeySet();
+    private volatile boolean assignmentKnown;
+    private volatile int partitionCount;
+    // 파티션 → 소유 Pod 주소 (그룹 조회 결과)
+    private volatile Map<Integer, String> owners = Map.of();
+    // 마지막으로 재동기화를 요청한 소유 파티션 (null이면 아직 요청 전)
+    private volatile Set<Integer> publishedPartitions;
+    private volatile Admin admin;
+
+    private final ScheduledExecutorService refreshExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "approval-inbox-owners");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public ApprovalInboxOwnership(ApprovalKafkaTopics approvalKafkaTopics,
+                                  ObjectProvider<KafkaAdmin> kafkaAdmin,
+                                  ApplicationEventPublisher eventPublisher,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${approval.shard.enabled:true}") boolean enabled,
+                                  @Value("${approval.shard.advertised-address:}") String advertisedAddress,
+                                  @Value("${server.port:8080}") int serverPort,
+                                  @Value("${spring.kafka.consumer.group-id}") String groupId,
+                                  @Value("${approval.shard.refresh-interval:15s}") Duration refreshInterval) {
+        this.kafkaAdmin = kafkaAdmin;
+        this.eventPublisher = eventPublisher;
+        this.enabled = enabled;
+        this.advertisedAddress = advertisedAddress.isBlank() ? localAddress(serverPort) : advertisedAddress;
+        this.groupId = groupId;
+        this.refreshInterval = refreshInterval;
+        this.partitionCount = approvalKafkaTopics.getPartitions();
+        Gauge.builder("approval.inbox.owned.partitions", owned, Set::size)
+                .description("이 Pod가 소유한 approval-request 파티션 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startRefresh() {
+        if (enabled) {
+            refreshExecutor.scheduleWithFixedDelay(this::refreshOwners,
+                    refreshInterval.toMillis(), refreshInterval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        refreshExecutor.shutdownNow();
+        if (admin != null) {
+            admin.close(Duration.ofSeconds(1));
+        }
+    }
+
+    /**
+     * approval-request Consumer client.id (그룹 멤버 → Pod 주소 조회용)
+     */
+    public String getClientId() {
+        return CLIENT_ID_PREFIX + advertisedAddress;
+    }
+
+    public String getAdvertisedAddress() {
+        return advertisedAddress;
+    }
+
+    /**
+     * approverId key가 배정되는 approval-request 파티션 (Producer 기본 파티셔너와 같은 murmur2 해시)
+     */
+    public int partitionOf(Long approverId) {
+        return ApproverPartitioner.partitionOf(approverId, partitionCount);
+    }
+
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * 이 Pod가 결재자의 대기 목록을 가지는지 (할당 정보가 없으면 true)
+     */
+    public boolean owns(Long approverId) {
+        return !enabled || !assignmentKnown || owned.contains(partitionOf(approverId));
+    }
+
+    /**
+     * 결재자의 대기 목록을 가진 다른 Pod 주소 (host:port)
+     * 내가 소유하거나 소유 Pod를 아직 모르면 empty → 이 Pod에서 직접 처리
+     */
+    public Optional<String> remoteOwner(Long approverId) {
+        if (owns(approverId)) {
+            return Optional.empty();
+        }
+        String owner = owners.get(partitionOf(approverId));
+        return owner == null || owner.equals(advertisedAddress) ? Optional.empty() : Optional.of(owner);
+    }
+
+    public Set<Integer> getOwnedPartitions() {
+        return Collections.unmodifiableSet(new TreeSet<>(owned));
+    }
+
+    /**
+     * 이 Pod가 대기 목록을 가지는 approval-request 파티션 (할당 정보가 없거나 샤딩 비활성이면 전체 파티션)
+     */
+    public Set<Integer> getServedPartitions() {
+        if (!enabled || !assignmentKnown) {
+            Set<Integer> all = new TreeSet<>();
+            for (int partition = 0; partition < partitionCount; partition++) {
+                all.add(partition);
+            }
+            return Collections.unmodifiableSet(all);
+        }
+        return getOwnedPartitions();
+    }
+
+    public Map<Integer, String> getOwners() {
+        return owners;
+    }
+
+    // ==================== 리밸런스 콜백 (Listener 스레드) ====================
+
+    @Override
+    public void onPartitionsAssigned(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        List<PartitionInfo> topicPartitions = consumer.partitionsFor(ApprovalKafkaTopics.APPROVAL_REQUEST);
+        if (topicPartitions != null && !topicPartitions.isEmpty()) {
+            partitionCount = topicPartitions.size();
+        }
+        assigned(approvalRequestPartitions(partitions));
+    }
+
+    @Override
+    public void onPartitionsRevokedAfterCommit(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        revoked(approvalRequestPartitions(partitions));
+    }
+
+    @Override
+    public void onPartitionsLost(Consumer<?, ?> consumer, Collection<TopicPartition> partitions) {
+        revoked(approvalRequestPartitions(partitions));
+    }
+
+    /**
+     * 파티션 할당 반영 - Listener 스레드(동시성 수만큼)의 할당이 모두 끝나도록 잠시 뒤 settle()에서 정리
+     */
+    void assigned(Set<Integer> partitions) {
+        owned.addAll(partitions);
+        assignmentKnown = true;
+        log.info("approval-request 파티션 할당: assigned={}, owned={}", partitions, getOwnedPartitions());
+        if (enabled && !refreshExecutor.isShutdown()) {
+            refreshExecutor.schedule(this::settle, SETTLE_DELAY_MILLIS, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * 파티션 회수 반영 - 회수된 결재자의 요청은 이후 새 소유 Pod로 전달되고, 남은 항목은 다음 재동기화 때 정리
+     */
+    void revoked(Set<Integer> partitions) {
+        owned.removeAll(partitions);
+        log.info("approval-request 파티션 회수: revoked={}, owned={}", partitions, getOwnedPartitions());
+    }
+
+    /**
+     * 리밸런스 마무리 - 소유 Pod 지도를 갱신하고, 소유 파티션이 지난 재동기화 때와 다르면 재동기화 이벤트 발행
+     * (eager 리밸런스는 같은 파티션을 회수 후 다시 할당하므로 결과가 같으면 재동기화하지 않음)
+     */
+    synchronized void settle() {
+        refreshOwners();
+        Set<Integer> current = getOwnedPartitions();
+        if (!current.equals(publishedPartitions)) {
+            publishedPartitions = current;
+            eventPublisher.publishEvent(new InboxOwnershipChangedEvent(current));
+        }
+    }
+
+    // ==================== 소유 Pod 지도 ====================
+
+    /**
+     * Consumer 그룹 멤버별 할당을 조회해 파티션 → Pod 주소 지도 갱신 (실패하면 기존 지도 유지)
+     */
+    void refreshOwners() {
+        if (kafkaAdmin.getIfAvailable() == null) {
+            return;
+        }
+        try {
+            ConsumerGroupDescription group = admin().describeConsumerGroups(List.of(groupId))
+                    .describedGroups().get(groupId)
+                    .get(10, TimeUnit.SECONDS);
+            updateOwners(group.members());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("결재 대기 목록 소유 Pod 조회 실패 - 기존 지도 유지: {}", e.getMessage());
+        }
+    }
+
+    void updateOwners(Collection<MemberDescription> members) {
+        Map<Integer, String> updated = new HashMap<>();
+        for (MemberDescription member : members) {
+            Matcher matcher = CLIENT_ID.matcher(member.clientId());
+            if (!matcher.matches()) {
+                continue;
+            }
+            member.assignment().topicPartitions().stream()
+                    .filter(tp -> ApprovalKafkaTopics.APPROVAL_REQUEST.equals(tp.topic()))
+                    .forEach(tp -> updated.put(tp.partition(), matcher.group(1)));
+        }
+        if (!updated.equals(owners)) {
+            log.info("결재 대기 목록 소유 Pod 지도 갱신: {}", updated);
+        }
+        owners = Map.copyOf(updated);
+    }
+
+    private Admin admin() {
+        if (admin == null) {
+            synchronized (this) {
+                if (admin == null) {
+                    admin = Admin.create(kafkaAdmin.getObject().getConfigurationProperties());
+                }
+            }
+        }
+        return admin;
+    }
+
+    private static Set<Integer> approvalRequestPartitions(Collection<TopicPartition> partitions) {
+        Set<Integer> result = new TreeSet<>();
+        partitions.stream()
+                .filter(tp -> ApprovalKafkaTopics.APPROVAL_REQUEST.equals(tp.topic()))
+                .forEach(tp -> result.add(tp.partition()));
+        return result;
+    }
+
+    private static String localAddress(int serverPort) {
+        try {
+            return InetAddress.getLocalHost().getHostAddress() + ":" + serverPort;
+        } catch (UnknownHostException e) {
+            return "localhost:" + serverPort;
+        }
+    }
+}
@@ -1,70 +1,52 @@
 package com.example.demo.kafka;
 
-import com.example.demo.model.PendingApproval;
-import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.service.ApprovalProcessingService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
-import java.util.Optional;
-import java.util.stream.Collectors;
-
 /**
  * Kafka Consumer - 결재 요청 수신
  * Approval Request Service에서 발행한 결재 요청을 소비하여 In-Memory에 저장
+ * approverId가 들어온 파티션과 다른 파티션에 배정되는 요청(이전 버전의 requestId key)은 소유 파티션으로 재발행
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class ApprovalRequestConsumer {
 
-    private final InMemoryApprovalRepository repository;
+    private final ApprovalProcessingService approvalProcessingService;
+    private final ApprovalInboxOwnership approvalInboxOwnership;
+    private final ApprovalRequestRerouter approvalRequestRerouter;
 
-    @KafkaListener(topics = "approval-request", groupId = "${spring.kafka.consumer.group-id}")
-    public void consumeApprovalRequest(ApprovalRequestMessage message) {
-        log.info("Kafka 결재 요청 수신: requestId={}, title={}", 
-                message.getRequestId(), message.getTitle());
+    @KafkaListener(topics = ApprovalKafkaTopics.APPROVAL_REQUEST, groupId = "${spring.kafka.consumer.group-id}")
+    public void consumeApprovalRequest(ConsumerRecord<String, ApprovalRequestMessage> record) {
+        ApprovalRequestMessage message = record.value();
+        log.info("Kafka 결재 요청 수신: requestId={}, title={}, partition={}",
+                message.getRequestId(), message.getTitle(), record.partition());
 
         try {
-            // ApprovalRequestMessage를 PendingApproval로 변환
-            PendingApproval pendingApproval = convertToPendingApproval(message);
-
-            // 첫 번째 pending 상태의 결재자 찾기
-            Optional<ApprovalRequestMessage.StepInfo> pendingStep = message.getSteps().stream()
-                    .filter(s -> "pending".equals(s.getStatus()))
-                    .findFirst();
-
-            if (pendingStep.isPresent()) {
-                Long approverId = pendingStep.get().getApproverId();
-                // In-Memory Repository에 해당 결재자의 대기 목록에 추가
-                repository.addPendingApproval(approverId, pendingApproval);
-                
-                log.info("결재 요청 저장 완료: requestId={}, approverId={}", 
-                        message.getRequestId(), approverId);
-            } else {
-                log.warn("pending 상태의 결재 단계가 없습니다: requestId={}", message.getRequestId());
+            Long approverId = message.pendingApproverId();
+            if (approverId != null && approvalInboxOwnership.partitionOf(approverId) != record.partition()
+                    && record.headers().lastHeader(ApprovalRequestRerouter.REROUTED_HEADER) == null) {
+                approvalRequestRerouter.reroute(approverId, message);
+                return;
             }
+            approvalProcessingService.receiveApprovalRequest(message);
+        } catch (InboxChangelogWriteException e) {
+            // changelog에 남지 않은 결재는 재시작 시 사라지므로 offset을 커밋하지 않고 error handler가 재시도
+            log.error("결재 요청 changelog 기록 실패 - 재시도: requestId={}", message.getRequestId());
+            throw e;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("결재 요청 처리 중단: requestId={}", message.getRequestId());
         } catch (Exception e) {
             log.error("결재 요청 처리 실패: requestId={}, error={}", 
                     message.getRequestId(), e.getMessage(), e);
             // 실패 시 별도 처리 (Dead Letter Queue 등) 가능
         }
     }
-
-    private PendingApproval convertToPendingApproval(ApprovalRequestMessage message) {
-        return PendingApproval.builder()
-                .requestId(message.getRequestId())
-                .requesterId(message.getRequesterId())
-                .title(message.getTitle())
-                .content(message.getContent())
-                .steps(message.getSteps().stream()
-                        .map(step -> PendingApproval.StepInfo.builder()
-                                .step(step.getStep())
-                                .approverId(step.getApproverId())
-                                .status(step.getStatus())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
-    }
 }
@@ -0,0 +1,49 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 소유하지 않은 결재자의 요청을 approval-request 토픽에 approverId key로 다시 발행
+ * - gRPC RequestApproval이 소유 Pod가 아닌 곳으로 들어온 경우
+ * - approverId가 아닌 key(이전 버전의 requestId)로 발행되어 다른 파티션에 들어온 경우
+ * 재발행 레코드에는 REROUTED_HEADER를 붙여, 파티션 수 변경 등으로 또 어긋나더라도 한 번만 재발행되게 함
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalRequestRerouter {
+
+    public static final String REROUTED_HEADER = "approval-rerouted";
+
+    private final KafkaTemplate<String, ApprovalRequestMessage> approvalRequestKafkaTemplate;
+
+    @Value("${approval.shard.reroute-timeout:10s}")
+    private Duration rerouteTimeout;
+
+    /**
+     * 소유 파티션으로 재발행 - 전송이 확인될 때까지 기다림 (확인 전에 수신 측이 완료 응답/offset commit을 하지 않도록)
+     */
+    public void reroute(Long approverId, ApprovalRequestMessage message)
+            throws ExecutionException, InterruptedException, TimeoutException {
+        ProducerRecord<String, ApprovalRequestMessage> record = new ProducerRecord<>(
+                ApprovalKafkaTopics.APPROVAL_REQUEST, String.valueOf(approverId), message);
+        record.headers().add(REROUTED_HEADER, "true".getBytes(StandardCharsets.UTF_8));
+        SendResult<String, ApprovalRequestMessage> result = approvalRequestKafkaTemplate.send(record)
+                .get(rerouteTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        log.info("결재 요청 소유 파티션으로 재발행: requestId={}, approverId={}, partition={}",
+                message.getRequestId(), approverId, result.getRecordMetadata().partition());
+    }
+}
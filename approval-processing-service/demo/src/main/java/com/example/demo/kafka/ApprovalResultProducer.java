@@ -1,28 +1,39 @@
 package com.example.demo.kafka;
 
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.service.ApprovalResultSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Kafka Producer - 결재 결과 전송
- * 결재 처리 결과를 Approval Request Service로 전송
+ * 결재 처리 결과를 Approval Request Service로 전송 (approval.transport=grpc일 때는 gRPC 전송 실패 시 재전송용)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ApprovalResultProducer {
+public class ApprovalResultProducer implements ApprovalResultSender {
 
-    private static final String TOPIC = "approval-result";
+    private static final String TOPIC = ApprovalKafkaTopics.APPROVAL_RESULT;
     private final KafkaTemplate<String, ApprovalResultMessage> kafkaTemplate;
 
+    @Value("${approval.batch.send-timeout:10s}")
+    private Duration batchSendTimeout;
+
     /**
      * 결재 결과를 Kafka로 전송
      */
+    @Override
     public void sendApprovalResult(Long requestId, int step, Long approverId, String status, String comment) {
         ApprovalResultMessage message = ApprovalResultMessage.builder()
                 .requestId(requestId)
@@ -49,4 +60,36 @@ public class ApprovalResultProducer {
             }
         });
     }
+
+    /**
+     * 결재 결과 여러 건을 모두 send한 뒤 한 번 flush하여 batch로 전송하고, 건별 전송 확인을 기다림
+     * (key는 requestId이므로 파티션별로 묶여 전송됨)
+     */
+    @Override
+    public List<Boolean> sendApprovalResults(List<ApprovalResultMessage> results) {
+        List<CompletableFuture<SendResult<String, ApprovalResultMessage>>> futures = new ArrayList<>(results.size());
+        for (ApprovalResultMessage result : results) {
+            futures.add(kafkaTemplate.send(TOPIC, String.valueOf(result.getRequestId()), result));
+        }
+        kafkaTemplate.flush();
+
+        long deadline = System.nanoTime() + batchSendTimeout.toNanos();
+        List<Boolean> sent = new ArrayList<>(results.size());
+        for (int i = 0; i < futures.size(); i++) {
+            ApprovalResultMessage result = results.get(i);
+            try {
+                futures.get(i).get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                sent.add(true);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                sent.add(false);
+            } catch (Exception e) {
+                log.error("결재 결과 Kafka 일괄 전송 실패: requestId={}, step={}, error={}",
+                        result.getRequestId(), result.getStep(), e.getMessage());
+                sent.add(false);
+            }
+        }
+        log.info("결재 결과 Kafka 일괄 전송: {}건 중 {}건 성공", results.size(), sent.stream().filter(s -> s).count());
+        return sent;
+    }
 }
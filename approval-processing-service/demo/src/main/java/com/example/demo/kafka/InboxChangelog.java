@@ -0,0 +1,240 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.repository.InboxChangeListener;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+
+/**
+ * 결재자 대기 목록 changelog (approval.changelog.enabled=true)
+ * - 대기 목록 추가는 approverId:requestId key로 approval-inbox-changelog에 기록하고, 제거는 tombstone으로 기록
+ *   (compact 토픽이므로 key마다 마지막 값만 남아 토픽 크기가 현재 대기 건수에 비례)
+ * - 결재자의 approval-request 파티션과 같은 번호의 파티션에 기록하므로, 재시작/리밸런스 시 소유 파티션만 처음부터 읽어 복구
+ *   → 기동 시 Approval Request Service가 없어도 되고, 복구 시간은 Mongo 전체 pending 건수가 아닌 changelog 크기에 비례
+ * - 기록은 저장소 쓰기 안에서 비동기로 보내고, 결재 요청 수신/처리 응답 전에 flushChanges로 기록 확인을 기다림
+ *   (쓰기 스레드별로 실패를 모아 두었다가 flush에서 InboxChangelogWriteException으로 전파)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "approval.changelog.enabled", havingValue = "true")
+public class InboxChangelog implements InboxChangeListener {
+
+    private static final String TOPIC = ApprovalKafkaTopics.APPROVAL_INBOX_CHANGELOG;
+    private static final Duration POLL_TIMEOUT = Duration.ofMillis(500);
+
+    private final ApprovalInboxOwnership ownership;
+    private final KafkaTemplate<String, ApprovalRequestMessage> inboxChangelogKafkaTemplate;
+    private final ConsumerFactory<String, ApprovalRequestMessage> inboxChangelogConsumerFactory;
+    private final Duration restoreTimeout;
+    private final Counter writeFailedCounter;
+    // 이 스레드가 보낸 기록 중 아직 flush로 알리지 않은 첫 실패
+    private final ThreadLocal<AtomicReference<Throwable>> writeFailure = ThreadLocal.withInitial(AtomicReference::new);
+
+    public InboxChangelog(InMemoryApprovalRepository repository,
+                          ApprovalInboxOwnership ownership,
+                          KafkaTemplate<String, ApprovalRequestMessage> inboxChangelogKafkaTemplate,
+                          ConsumerFactory<String, ApprovalRequestMessage> inboxChangelogConsumerFactory,
+                          MeterRegistry meterRegistry,
+                          @Value("${approval.changelog.restore-timeout:2m}") Duration restoreTimeout) {
+        this.ownership = ownership;
+        this.inboxChangelogKafkaTemplate = inboxChangelogKafkaTemplate;
+        this.inboxChangelogConsumerFactory = inboxChangelogConsumerFactory;
+        this.restoreTimeout = restoreTimeout;
+        this.writeFailedCounter = Counter.builder("approval.changelog.write.failed")
+                .description("대기 목록 changelog 기록 실패 수")
+                .register(meterRegistry);
+        repository.addChangeListener(this);
+    }
+
+    // ==================== 기록 (저장소 변경 알림) ====================
+
+    @Override
+    public void added(Long approverId, PendingApproval approval, ApprovalBody body) {
+        send(ownership.partitionOf(approverId), key(approverId, approval.getRequestId()),
+                toMessage(approverId, approval, body));
+    }
+
+    @Override
+    public void removed(Long approverId, List<Long> requestIds) {
+        int partition = ownership.partitionOf(approverId);
+        requestIds.forEach(requestId -> send(partition, key(approverId, requestId), null));
+    }
+
+    /**
+     * 이 스레드가 보낸 기록이 모두 확인될 때까지 기다리고, 실패한 기록이 있으면 예외
+     *
+     * @throws InboxChangelogWriteException 기록 실패 (호출자는 수신 완료 처리 없이 재시도)
+     */
+    @Override
+    public void flush() {
+        inboxChangelogKafkaTemplate.flush();
+        Throwable failure = writeFailure.get().getAndSet(null);
+        if (failure != null) {
+            throw new InboxChangelogWriteException("대기 목록 changelog 기록 실패: " + failure.getMessage(), failure);
+        }
+    }
+
+    /**
+     * Request Service에서 받아 교체한 대기 목록으로 changelog를 맞춤 (처음 켠 경우, 파티션 수가 바뀐 경우)
+     * - 현재 목록의 결재를 모두 기록하고, changelog에서 복구했지만 현재 목록에 없는 결재는 tombstone으로 정리
+     * - 결재자별 쓰기와 섞이지 않게 기록하므로, 그 사이 들어온 변경이 예전 상태로 덮이지 않음
+     *
+     * @return 기록한 레코드 수
+     */
+    public int seed(InMemoryApprovalRepository current, Map<Long, List<PendingApproval>> restored) {
+        Set<Long> approverIds = new HashSet<>(current.getAllPendingApprovals().keySet());
+        approverIds.addAll(restored.keySet());
+        int[] written = {0};
+        for (Long approverId : approverIds) {
+            current.withPendingApprovals(approverId, approvals -> {
+                Set<Long> present = new HashSet<>();
+                for (PendingApproval approval : approvals) {
+                    added(approverId, approval, current.findApprovalBody(approval.getRequestId()).orElse(null));
+                    present.add(approval.getRequestId());
+                }
+                List<Long> stale = restored.getOrDefault(approverId, List.of()).stream()
+                        .map(PendingApproval::getRequestId)
+                        .filter(requestId -> !present.contains(requestId))
+                        .toList();
+                removed(approverId, stale);
+                written[0] += approvals.size() + stale.size();
+            });
+        }
+        flush();
+        log.info("대기 목록 changelog를 Request Service 기준으로 기록: {}건", written[0]);
+        return written[0];
+    }
+
+    private void send(int partition, String key, ApprovalRequestMessage value) {
+        AtomicReference<Throwable> failure = writeFailure.get();
+        inboxChangelogKafkaTemplate.send(new ProducerRecord<>(TOPIC, partition, key, value))
+                .whenComplete((result, ex) -> {
+                    if (ex != null) {
+                        writeFailedCounter.increment();
+                        log.error("대기 목록 changelog 기록 실패: key={}, tombstone={}, error={}",
+                                key, value == null, ex.getMessage());
+                        failure.compareAndSet(null, ex);
+                    }
+                });
+    }
+
+    // ==================== 복구 ====================
+
+    /**
+     * 이 Pod가 대기 목록을 가지는 파티션을 처음부터 끝(복구 시작 시점의 마지막 offset)까지 읽어 기록 순서대로 전달
+     * - 값이 있는 레코드는 put, tombstone은 delete(approverId, requestId)
+     * - 파티션 수 변경 등으로 결재자 파티션과 다른 곳에 있는 레코드는 전달하지 않고 tombstone으로 정리
+     */
+    public RestoreResult restore(Consumer<ApprovalRequestMessage> put, BiConsumer<Long, Long> delete) {
+        List<TopicPartition> partitions = ownership.getServedPartitions().stream()
+                .map(partition -> new TopicPartition(TOPIC, partition))
+                .toList();
+        try (org.apache.kafka.clients.consumer.Consumer<String, ApprovalRequestMessage> consumer =
+                     inboxChangelogConsumerFactory.createConsumer(null, "approval-inbox-restore")) {
+            consumer.assign(partitions);
+            consumer.seekToBeginning(partitions);
+            Map<TopicPartition, Long> endOffsets = consumer.endOffsets(partitions);
+            boolean empty = endOffsets.values().stream().allMatch(offset -> offset == 0);
+
+            long deadline = System.nanoTime() + restoreTimeout.toNanos();
+            int records = 0;
+            int misplaced = 0;
+            while (!caughtUp(consumer, endOffsets)) {
+                if (System.nanoTime() > deadline) {
+                    throw new IllegalStateException("대기 목록 changelog 복구 시간 초과: partitions=" + partitions
+                            + ", records=" + records);
+                }
+                for (ConsumerRecord<String, ApprovalRequestMessage> record : consumer.poll(POLL_TIMEOUT)) {
+                    if (record.offset() >= endOffsets.getOrDefault(new TopicPartition(TOPIC, record.partition()), 0L)) {
+                        continue;
+                    }
+                    records++;
+                    String[] key = record.key().split(":", 2);
+                    Long approverId = Long.valueOf(key[0]);
+                    if (ownership.partitionOf(approverId) != record.partition()) {
+                        send(record.partition(), record.key(), null);
+                        misplaced++;
+                    } else if (record.value() == null) {
+                        delete.accept(approverId, Long.valueOf(key[1]));
+                    } else {
+                        put.accept(record.value());
+                    }
+                }
+            }
+            if (misplaced > 0) {
+                flush();
+            }
+            log.info("대기 목록 changelog 복구: partitions={}, records={}, misplaced={}",
+                    ownership.getServedPartitions(), records, misplaced);
+            return new RestoreResult(records, empty, misplaced);
+        }
+    }
+
+    private static boolean caughtUp(org.apache.kafka.clients.consumer.Consumer<?, ?> consumer, Map<TopicPartition, Long> endOffsets) {
+        return endOffsets.entrySet().stream().allMatch(end -> consumer.position(end.getKey()) >= end.getValue());
+    }
+
+    static String key(Long approverId, Long requestId) {
+        return approverId + ":" + requestId;
+    }
+
+    /**
+     * 복구 시 같은 결재자 대기 목록으로 돌아가도록 본문 없이 추가된 결재는 이 결재자의 pending 단계만 기록
+     */
+    private static ApprovalRequestMessage toMessage(Long approverId, PendingApproval approval, ApprovalBody body) {
+        List<ApprovalRequestMessage.StepInfo> steps = body != null && body.getSteps() != null
+                ? body.getSteps().stream()
+                        .map(step -> new ApprovalRequestMessage.StepInfo(
+                                step.getStep() == null ? 0 : step.getStep(), step.getApproverId(), step.getStatus()))
+                        .toList()
+                : List.of(new ApprovalRequestMessage.StepInfo(
+                        approval.getStep() == null ? 1 : approval.getStep(), approverId, "pending"));
+        return ApprovalRequestMessage.builder()
+                .requestId(approval.getRequestId())
+                .requesterId(approval.getRequesterId())
+                .title(approval.getTitle())
+                .content(body == null ? null : body.getContent())
+                .steps(steps)
+                .priority(approval.getPriority())
+                .createdAt(approval.getCreatedAt())
+                .build();
+    }
+
+    /**
+     * changelog 복구 결과
+     *
+     * @param records   읽은 레코드 수
+     * @param empty     읽은 파티션에 한 번도 기록된 적이 없음 (changelog를 처음 켠 경우)
+     * @param misplaced 결재자 파티션과 다른 곳에 있어 정리한 레코드 수 (파티션 수 변경)
+     */
+    public record RestoreResult(int records, boolean empty, int misplaced) {
+
+        /**
+         * changelog만으로는 대기 목록을 채울 수 없어 Request Service에서 한 번 받아야 하는지
+         */
+        public boolean needsResync() {
+            return empty || misplaced > 0;
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.demo.kafka;
+
+/**
+ * 대기 목록 changelog 기록 실패 - 기록되지 않은 변경은 재시작 시 복구되지 않으므로
+ * 수신 완료(offset commit, gRPC 응답)로 넘어가지 않고 재시도되도록 전파
+ */
+public class InboxChangelogWriteException extends RuntimeException {
+
+    public InboxChangelogWriteException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
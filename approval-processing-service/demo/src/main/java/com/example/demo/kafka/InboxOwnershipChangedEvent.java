@@ -0,0 +1,9 @@
+package com.example.demo.kafka;
+
+import java.util.Set;
+
+/**
+ * 이 Pod가 소유한 approval-request 파티션이 바뀜 (리밸런스) - 대기 목록 재동기화 대상
+ */
+public record InboxOwnershipChangedEvent(Set<Integer> ownedPartitions) {
+}
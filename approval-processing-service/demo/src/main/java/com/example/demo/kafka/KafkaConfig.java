@@ -1,26 +1,36 @@
 package com.example.demo.kafka;
 
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.approval.wire.ApprovalWireDeserializer;
+import com.example.approval.wire.ApprovalWireSerializer;
+import com.example.approval.wire.WireFormat;
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
-import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.*;
-import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
+import org.springframework.util.backoff.ExponentialBackOff;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 /**
  * Kafka 설정 클래스
  * - approval-request 토픽 소비 (Approval Request Service로부터)
  * - approval-result 토픽 발행 (Approval Request Service로)
+ * - approval-request 토픽 재발행 (소유 파티션이 아닌 곳으로 들어온 결재 요청을 approverId key로 다시 보냄)
+ * - approval-inbox-changelog 토픽 기록/복구 (approval.changelog.enabled=true)
  */
 @Configuration
 public class KafkaConfig {
@@ -31,35 +41,54 @@ public class KafkaConfig {
     @Value("${spring.kafka.consumer.group-id}")
     private String groupId;
 
+    // 결재 토픽 메시지 형식 - 발행 형식(json|protobuf), 수신 허용 형식 (전환 기간에는 json,protobuf)
+    @Value("${approval.kafka.wire-format.write:json}")
+    private String writeFormat;
+
+    @Value("${approval.kafka.wire-format.accept:json,protobuf}")
+    private String acceptFormats;
+
+    // changelog 기록 실패로 처리하지 못한 결재 요청 재시도 간격 (성공할 때까지 offset을 커밋하지 않음)
+    @Value("${approval.changelog.retry.initial-interval:1s}")
+    private Duration changelogRetryInitialInterval;
+
+    @Value("${approval.changelog.retry.max-interval:30s}")
+    private Duration changelogRetryMaxInterval;
+
     // ==================== Topics ====================
     
     @Bean
-    public NewTopic approvalRequestTopic() {
-        return TopicBuilder.name("approval-request")
-                .partitions(3)
-                .replicas(1)
-                .build();
+    public NewTopic approvalRequestTopic(ApprovalKafkaTopics approvalKafkaTopics) {
+        return approvalKafkaTopics.newTopic(ApprovalKafkaTopics.APPROVAL_REQUEST);
+    }
+
+    @Bean
+    public NewTopic approvalResultTopic(ApprovalKafkaTopics approvalKafkaTopics) {
+        return approvalKafkaTopics.newTopic(ApprovalKafkaTopics.APPROVAL_RESULT);
     }
 
+    /**
+     * 결재자 대기 목록 changelog - approverId:requestId key, compact
+     */
     @Bean
-    public NewTopic approvalResultTopic() {
-        return TopicBuilder.name("approval-result")
-                .partitions(3)
-                .replicas(1)
-                .build();
+    @ConditionalOnProperty(name = "approval.changelog.enabled", havingValue = "true")
+    public NewTopic approvalInboxChangelogTopic(ApprovalKafkaTopics approvalKafkaTopics,
+                                               @Value("${approval.changelog.segment:1h}") Duration segment) {
+        return approvalKafkaTopics.newCompactedTopic(ApprovalKafkaTopics.APPROVAL_INBOX_CHANGELOG, segment);
     }
 
     // ==================== Producer Configuration ====================
     
+    /**
+     * 결재 결과 Producer - 본문은 approval.kafka.wire-format.write 형식으로 기록
+     */
     @Bean
     public ProducerFactory<String, ApprovalResultMessage> producerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        // 타입 헤더 비활성화 - 수신측 패키지가 다를 수 있으므로
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        WireFormat format = WireFormat.from(writeFormat);
+        return new DefaultKafkaProducerFactory<>(configProps, StringSerializer::new,
+                () -> new ApprovalWireSerializer<ApprovalResultMessage>(format, ApprovalProtoMapper::toProto));
     }
 
     @Bean
@@ -67,27 +96,94 @@ public class KafkaConfig {
         return new KafkaTemplate<>(producerFactory());
     }
 
+    /**
+     * 결재 요청 재발행 Producer - 다른 Pod가 소유한 결재자의 요청을 approverId key로 approval-request에 다시 기록
+     */
+    @Bean
+    public ProducerFactory<String, ApprovalRequestMessage> approvalRequestProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        WireFormat format = WireFormat.from(writeFormat);
+        return new DefaultKafkaProducerFactory<>(configProps, StringSerializer::new,
+                () -> new ApprovalWireSerializer<ApprovalRequestMessage>(format, ApprovalProtoMapper::toProto));
+    }
+
+    @Bean
+    public KafkaTemplate<String, ApprovalRequestMessage> approvalRequestKafkaTemplate() {
+        return new KafkaTemplate<>(approvalRequestProducerFactory());
+    }
+
+    /**
+     * 대기 목록 changelog Producer - 모든 replica 기록 확인(acks=all), 재시도 중복 없음(idempotence)
+     * 항목 제거는 값이 없는 레코드(tombstone)로 기록
+     */
+    @Bean
+    public ProducerFactory<String, ApprovalRequestMessage> inboxChangelogProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        WireFormat format = WireFormat.from(writeFormat);
+        return new DefaultKafkaProducerFactory<>(configProps, StringSerializer::new,
+                () -> new ApprovalWireSerializer<ApprovalRequestMessage>(format, ApprovalProtoMapper::toProto));
+    }
+
+    @Bean
+    public KafkaTemplate<String, ApprovalRequestMessage> inboxChangelogKafkaTemplate() {
+        return new KafkaTemplate<>(inboxChangelogProducerFactory());
+    }
+
     // ==================== Consumer Configuration ====================
     
+    /**
+     * 결재 요청 Consumer - 레코드마다 형식을 판별해 approval.kafka.wire-format.accept에 포함된 형식만 읽음
+     */
     @Bean
     public ConsumerFactory<String, ApprovalRequestMessage> consumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, groupId);
-        configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
-        configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
-        configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ApprovalRequestMessage.class.getName());
-        // 타입 헤더 무시 - 송신측과 수신측의 패키지가 다를 수 있으므로
-        configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaConsumerFactory<>(configProps);
+        Set<WireFormat> accepted = WireFormat.parseAll(acceptFormats);
+        return new DefaultKafkaConsumerFactory<>(configProps, StringDeserializer::new,
+                () -> new ApprovalWireDeserializer<>(ApprovalRequestMessage.class, accepted,
+                        ApprovalProtoMapper::parseApprovalRequest));
+    }
+
+    /**
+     * 대기 목록 changelog 복구 Consumer - 그룹 없이 파티션을 직접 지정해 처음부터 읽음 (offset commit 없음)
+     * changelog에는 두 형식이 섞여 있을 수 있으므로 JSON/Protobuf 모두 읽음
+     */
+    @Bean
+    public ConsumerFactory<String, ApprovalRequestMessage> inboxChangelogConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.ENABLE_AUTO_COMMIT_CONFIG, false);
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest");
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, 2000);
+        return new DefaultKafkaConsumerFactory<>(configProps, StringDeserializer::new,
+                () -> new ApprovalWireDeserializer<>(ApprovalRequestMessage.class, Set.of(WireFormat.values()),
+                        ApprovalProtoMapper::parseApprovalRequest));
     }
 
+    /**
+     * 결재 요청 Listener - 파티션 수만큼 Consumer 스레드를 띄움
+     * 같은 approverId는 같은 파티션으로 들어오므로 한 스레드에서 순서대로 처리됨
+     * 파티션 할당은 결재자 대기 목록 소유권이 되므로 리밸런스를 ApprovalInboxOwnership에 알리고,
+     * client.id에 Pod 주소를 넣어 다른 Pod가 그룹 조회로 소유 Pod 주소를 알 수 있게 함
+     * Listener가 전파하는 예외는 changelog 기록 실패뿐이므로, 기록될 때까지 같은 레코드를 간격을 늘려 가며 재시도
+     */
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, ApprovalRequestMessage> kafkaListenerContainerFactory() {
+    public ConcurrentKafkaListenerContainerFactory<String, ApprovalRequestMessage> kafkaListenerContainerFactory(
+            ApprovalKafkaTopics approvalKafkaTopics, ApprovalInboxOwnership approvalInboxOwnership) {
         ConcurrentKafkaListenerContainerFactory<String, ApprovalRequestMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
+        factory.setConcurrency(approvalKafkaTopics.getListenerConcurrency());
+        factory.getContainerProperties().setClientId(approvalInboxOwnership.getClientId());
+        factory.getContainerProperties().setConsumerRebalanceListener(approvalInboxOwnership);
+        ExponentialBackOff backOff = new ExponentialBackOff(changelogRetryInitialInterval.toMillis(), 2.0);
+        backOff.setMaxInterval(changelogRetryMaxInterval.toMillis());
+        factory.setCommonErrorHandler(new DefaultErrorHandler(backOff));
         return factory;
     }
 }
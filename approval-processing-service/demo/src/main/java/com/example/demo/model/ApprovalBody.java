@@ -1,4 +1,4 @@
-package com.example.demo.kafka.dto;
+package com.example.demo.model;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -8,26 +8,24 @@ import lombok.NoArgsConstructor;
 import java.util.List;
 
 /**
- * Kafka 메시지 - 결재 요청 (Request Service → Processing Service)
+ * 결재 본문 - 내용과 전체 결재 단계
+ * 대기 목록에는 직렬화/압축된 바이트로만 보관하고, 결재 단건을 열 때 복원
  */
 @Data
-@Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ApprovalRequestMessage {
-    
-    private Long requestId;
-    private Long requesterId;
-    private String title;
+@Builder
+public class ApprovalBody {
+
     private String content;
     private List<StepInfo> steps;
-    
+
     @Data
-    @Builder
     @NoArgsConstructor
     @AllArgsConstructor
+    @Builder
     public static class StepInfo {
-        private int step;
+        private Integer step;
         private Long approverId;
         private String status;
     }
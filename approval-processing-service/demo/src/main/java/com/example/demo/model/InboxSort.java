@@ -0,0 +1,63 @@
+package com.example.demo.model;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.Optional;
+
+/**
+ * 결재자 대기 목록 정렬 기준 - 모두 requestId로 끝나므로 항목마다 순서가 하나로 정해짐 (cursor 위치로 사용)
+ * - PRIORITY: 우선순위(1 긴급 → 5 낮음) → 생성 시각 → requestId (기본)
+ * - CREATED: 생성 시각 → requestId (오래된 순)
+ * 우선순위가 없으면 보통(3), 생성 시각이 없으면 가장 뒤로 봄
+ * 비교는 항목이 아닌 바뀌지 않는 정렬 키(Key)로 함
+ */
+public enum InboxSort {
+
+    PRIORITY("priority", Comparator
+            .comparingInt(Key::priority)
+            .thenComparing(Key::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(Key::requestId)),
+    CREATED("created", Comparator
+            .comparing(Key::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(Key::requestId));
+
+    private final String value;
+    private final Comparator<Key> comparator;
+
+    InboxSort(String value, Comparator<Key> comparator) {
+        this.value = value;
+        this.comparator = comparator;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public Comparator<Key> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * 요청 파라미터 값(priority, created)으로 찾기
+     */
+    public static Optional<InboxSort> fromValue(String value) {
+        for (InboxSort sort : values()) {
+            if (sort.value.equalsIgnoreCase(value)) {
+                return Optional.of(sort);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * 대기 항목의 정렬 키 - 추가 시점의 값으로 만들어 두므로, 항목(PendingApproval)이 나중에 바뀌어도
+     * 정렬 인덱스에서 같은 위치로 찾아 제거할 수 있음 (cursor도 이 값만 가짐)
+     */
+    public record Key(int priority, LocalDateTime createdAt, long requestId) {
+
+        public static Key of(PendingApproval approval) {
+            return new Key(approval.getPriority() != null ? approval.getPriority() : PendingApproval.DEFAULT_PRIORITY,
+                    approval.getCreatedAt(), approval.getRequestId());
+        }
+    }
+}
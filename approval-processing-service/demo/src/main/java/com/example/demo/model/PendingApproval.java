@@ -5,11 +5,13 @@ import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 /**
  * 결재 대기 정보를 담는 모델 클래스
- * In-Memory에 저장되는 결재 요청 정보
+ * In-Memory 대기 목록에 저장되는 헤더 - 목록 조회와 결재 처리에 필요한 값만 가짐
+ * 본문(내용, 전체 결재 단계)은 requestId별로 한 번만 압축해 저장하고 단건 조회 시에만 복원 (ApprovalBody)
+ * 대기 목록은 우선순위 → 생성 시각 → requestId 순으로 정렬 (InboxSort)
  */
 @Data
 @NoArgsConstructor
@@ -17,19 +19,14 @@ import java.util.List;
 @Builder
 public class PendingApproval {
 
+    public static final int DEFAULT_PRIORITY = 3;
+
     private Long requestId;
     private Long requesterId;
     private String title;
-    private String content;
-    private List<StepInfo> steps;
-
-    @Data
-    @NoArgsConstructor
-    @AllArgsConstructor
-    @Builder
-    public static class StepInfo {
-        private Integer step;
-        private Long approverId;
-        private String status;
-    }
+    // 이 결재자가 처리할 결재 단계 번호
+    private Integer step;
+    // 1(긴급) ~ 5(낮음)
+    private Integer priority;
+    private LocalDateTime createdAt;
 }
@@ -0,0 +1,231 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ApprovalBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * requestId별 결재 본문 저장소 - 대기 목록 헤더(PendingApproval)와 따로, 결재당 한 번만 보관
+ * - 본문은 바이트로 직렬화하고 COMPRESS_THRESHOLD 이상이면 Deflate로 압축 (문자열/단계 객체 없이 byte[] 하나)
+ * - 같은 결재가 여러 결재자 대기 목록에 있어도(단계 이동, 재동기화 중) 본문은 하나이며 마지막 항목이 빠질 때 함께 제거
+ * - 조회 시에만 풀어서 새 ApprovalBody로 반환
+ */
+final class ApprovalBodyStore {
+
+    // 이보다 짧은 본문은 압축 이득보다 Deflate 헤더/사전 비용이 커서 그대로 저장
+    static final int COMPRESS_THRESHOLD = 128;
+
+    private static final byte RAW = 0;
+    private static final byte DEFLATED = 1;
+
+    private final ConcurrentMap<Long, Entry> bodies = new ConcurrentHashMap<>();
+
+    /**
+     * 대기 목록 항목이 하나 늘어남 - 본문이 있으면 최신 것으로 교체
+     * 본문 없이 추가된 항목도 참조 수에 포함해, 그 항목이 빠질 때의 release와 짝을 맞춤
+     *
+     * @param encoded 직렬화된 본문 (본문 없이 추가된 항목이면 null - 있던 본문은 유지)
+     */
+    void retain(Long requestId, byte[] encoded) {
+        bodies.compute(requestId, (id, entry) -> {
+            if (entry == null) {
+                return new Entry(encoded);
+            }
+            if (encoded != null) {
+                entry.data = encoded;
+            }
+            entry.references++;
+            return entry;
+        });
+    }
+
+    /**
+     * 대기 목록 항목이 하나 빠짐 - 마지막 항목이면 본문도 제거
+     */
+    void release(Long requestId) {
+        bodies.computeIfPresent(requestId, (id, entry) -> --entry.references == 0 ? null : entry);
+    }
+
+    Optional<ApprovalBody> find(Long requestId) {
+        byte[] data = Optional.ofNullable(bodies.get(requestId)).map(entry -> entry.data).orElse(null);
+        return data == null ? Optional.empty() : Optional.of(decode(data));
+    }
+
+    /**
+     * 저장된 본문 수 (본문 없이 참조만 있는 결재는 제외)
+     */
+    int size() {
+        return (int) bodies.values().stream().filter(entry -> entry.data != null).count();
+    }
+
+    /**
+     * 저장된 본문 바이트 합계 (압축 후)
+     */
+    long storedBytes() {
+        return bodies.values().stream()
+                .map(entry -> entry.data)
+                .filter(data -> data != null)
+                .mapToLong(data -> data.length)
+                .sum();
+    }
+
+    void clear() {
+        bodies.clear();
+    }
+
+    /**
+     * 본문 직렬화 - 저장소 쓰기(결재자 잠금) 밖에서 미리 만들어 둠
+     */
+    static byte[] encode(ApprovalBody body) {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream(256);
+        try (DataOutputStream out = new DataOutputStream(buffer)) {
+            writeString(out, body.getContent());
+            List<ApprovalBody.StepInfo> steps = body.getSteps();
+            out.writeInt(steps == null ? -1 : steps.size());
+            if (steps != null) {
+                for (ApprovalBody.StepInfo step : steps) {
+                    out.writeBoolean(step.getStep() != null);
+                    if (step.getStep() != null) {
+                        out.writeInt(step.getStep());
+                    }
+                    out.writeBoolean(step.getApproverId() != null);
+                    if (step.getApproverId() != null) {
+                        out.writeLong(step.getApproverId());
+                    }
+                    writeString(out, step.getStatus());
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] raw = buffer.toByteArray();
+        if (raw.length >= COMPRESS_THRESHOLD) {
+            byte[] deflated = deflate(raw);
+            if (deflated != null) {
+                return deflated;
+            }
+        }
+        byte[] encoded = new byte[raw.length + 1];
+        encoded[0] = RAW;
+        System.arraycopy(raw, 0, encoded, 1, raw.length);
+        return encoded;
+    }
+
+    static ApprovalBody decode(byte[] encoded) {
+        byte[] raw = encoded[0] == DEFLATED ? inflate(encoded) : Arrays.copyOfRange(encoded, 1, encoded.length);
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(raw))) {
+            String content = readString(in);
+            int count = in.readInt();
+            List<ApprovalBody.StepInfo> steps = null;
+            if (count >= 0) {
+                steps = new ArrayList<>(count);
+                for (int i = 0; i < count; i++) {
+                    Integer step = in.readBoolean() ? in.readInt() : null;
+                    Long approverId = in.readBoolean() ? in.readLong() : null;
+                    steps.add(new ApprovalBody.StepInfo(step, approverId, readString(in)));
+                }
+            }
+            return new ApprovalBody(content, steps);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * [DEFLATED][원본 길이 4바이트][압축 데이터] - 압축해도 줄지 않으면 null
+     */
+    private static byte[] deflate(byte[] raw) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(raw);
+            deflater.finish();
+            byte[] output = new byte[raw.length];
+            output[0] = DEFLATED;
+            output[1] = (byte) (raw.length >>> 24);
+            output[2] = (byte) (raw.length >>> 16);
+            output[3] = (byte) (raw.length >>> 8);
+            output[4] = (byte) raw.length;
+            int length = 5;
+            while (!deflater.finished() && length < output.length) {
+                length += deflater.deflate(output, length, output.length - length);
+            }
+            return deflater.finished() ? Arrays.copyOf(output, length) : null;
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] encoded) {
+        int rawLength = ((encoded[1] & 0xff) << 24) | ((encoded[2] & 0xff) << 16)
+                | ((encoded[3] & 0xff) << 8) | (encoded[4] & 0xff);
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(encoded, 5, encoded.length - 5);
+            byte[] raw = new byte[rawLength];
+            int length = 0;
+            while (length < rawLength && !inflater.finished()) {
+                int read = inflater.inflate(raw, length, rawLength - length);
+                if (read == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    break;
+                }
+                length += read;
+            }
+            if (length != rawLength) {
+                throw new IllegalStateException("결재 본문 압축 해제 실패: 길이 " + length + " / " + rawLength);
+            }
+            return raw;
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("결재 본문 압축 해제 실패", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    private static String readString(DataInputStream in) throws IOException {
+        int length = in.readInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 본문(없으면 null)과 이 결재를 가진 대기 목록 항목 수 (변경은 bodies.compute 안에서만)
+     */
+    private static final class Entry {
+
+        volatile byte[] data;
+        int references = 1;
+
+        Entry(byte[] data) {
+            this.data = data;
+        }
+    }
+}
@@ -1,78 +1,424 @@
 package com.example.demo.repository;
 
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.InboxSort;
 import com.example.demo.model.PendingApproval;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
 
-import java.util.*;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
 
 /**
  * In-Memory 저장소
  * 결재자 ID별로 대기 중인 결재 목록을 관리
+ * - 2단계 인덱스: approverId → (requestId → PendingApproval)
+ *   조회/제거/추가 모두 requestId로 바로 찾으며, 같은 결재가 다시 들어와도(Kafka 재전달 등) 한 번만 저장
+ * - 쓰기는 바깥 맵의 compute 안에서 처리되어 결재자(해시 구간)별로만 잠기고, 읽기는 잠금 없이 진행
+ * - 결재자별 목록은 정렬 기준(InboxSort)마다 skip list 인덱스(ConcurrentSkipListMap)로 유지하므로
+ *   추가/제거는 O(log n), 페이지 조회는 cursor 위치를 O(log n)으로 찾아 limit건만 읽음
+ *   대기 건수는 requestId 인덱스 크기, 가장 오래된 결재는 생성 시각 순 첫 항목
+ * - 재적재(beginReload → completeReload): 새 저장소를 다 채운 뒤 한 번에 교체하므로 조회는 항상 완성된 목록을 봄
+ *   적재 중 들어온 추가/제거는 기록해 두었다가 교체 직전에 새 저장소에도 적용
+ * - 변경 알림(InboxChangeListener): 결재자별 쓰기 안에서 호출되어 변경 순서가 유지되고,
+ *   withPendingApprovals로 본 목록 이후의 변경만 알림으로 받을 수 있음
+ * - 대기 목록 항목은 헤더(PendingApproval)만 갖고, 본문(ApprovalBody)은 requestId별로 한 번만 압축해 보관
+ *   (ApprovalBodyStore, 같은 결재의 마지막 항목이 빠질 때 함께 제거, 단건 조회 시에만 복원)
  */
 @Slf4j
 @Repository
 public class InMemoryApprovalRepository {
 
-    // Key: approverId, Value: 해당 결재자가 처리해야 할 결재 목록
-    private final Map<Long, List<PendingApproval>> pendingApprovals = new ConcurrentHashMap<>();
+    // Key: approverId, Value: 해당 결재자가 처리해야 할 결재
+    private volatile ConcurrentMap<Long, ApproverInbox> pendingApprovals = new ConcurrentHashMap<>();
+    // Key: requestId, Value: 압축된 결재 본문 (재적재 시 대기 목록과 함께 교체)
+    private volatile ApprovalBodyStore approvalBodies = new ApprovalBodyStore();
+
+    // 쓰기끼리는 read lock으로 동시에 진행하고, 교체(write lock)와는 섞이지 않도록 함
+    // (재진입이 필요 없고 스레드별 보유 기록을 남기지 않는 StampedLock 사용)
+    private final StampedLock reloadLock = new StampedLock();
+    // 재적재 중에 들어온 변경 (재적재 중이 아니면 null)
+    private volatile Queue<Consumer<InMemoryApprovalRepository>> reloadJournal;
+    private final List<InboxChangeListener> changeListeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * 변경 알림 대상 등록 (재적재용으로 만든 저장소에는 등록하지 않음 - 교체 후 reloaded로 한 번에 알림)
+     */
+    public void addChangeListener(InboxChangeListener changeListener) {
+        changeListeners.add(changeListener);
+    }
+
+    /**
+     * 지금까지의 변경을 알림 대상이 모두 기록할 때까지 기다림 (changelog 등) - 저장소 쓰기 밖에서 호출
+     */
+    public void flushChanges() {
+        changeListeners.forEach(InboxChangeListener::flush);
+    }
 
     /**
-     * 결재 대기 목록에 추가
+     * 결재 대기 목록에 본문 없이 추가
+     *
+     * @return 새로 추가되었는지 여부
      */
-    public void addPendingApproval(Long approverId, PendingApproval approval) {
-        pendingApprovals.computeIfAbsent(approverId, k -> Collections.synchronizedList(new ArrayList<>()))
-                .add(approval);
-        log.info("결재 대기 추가: approverId={}, requestId={}", approverId, approval.getRequestId());
+    public boolean addPendingApproval(Long approverId, PendingApproval approval) {
+        return addPendingApproval(approverId, approval, null);
     }
 
     /**
-     * 특정 결재자의 대기 목록 조회
+     * 결재 대기 목록에 추가 - 이미 있는 결재(approverId + requestId)면 본문을 포함해 무시
+     * 본문은 requestId별로 한 번만 압축해 보관 (다른 결재자 대기 목록에 새로 추가되면(단계 이동) 최신 본문으로 교체)
+     *
+     * @return 새로 추가되었는지 여부
+     */
+    public boolean addPendingApproval(Long approverId, PendingApproval approval, ApprovalBody body) {
+        Long requestId = approval.getRequestId();
+        // 직렬화/압축은 결재자 잠금 밖에서
+        byte[] encodedBody = body == null ? null : ApprovalBodyStore.encode(body);
+        boolean[] added = new boolean[1];
+        long stamp = reloadLock.readLock();
+        try {
+            // 기록을 먼저 남겨, 이 결재를 보고 제거한 쓰기가 기록 순서상 앞서지 않도록 함
+            Queue<Consumer<InMemoryApprovalRepository>> journal = reloadJournal;
+            if (journal != null) {
+                journal.add(target -> target.addPendingApproval(approverId, approval, body));
+            }
+            pendingApprovals.compute(approverId, (id, inbox) -> {
+                if (inbox == null) {
+                    inbox = new ApproverInbox();
+                }
+                added[0] = inbox.add(approval);
+                if (added[0]) {
+                    // 본문이 없어도 참조 수는 올려 제거 시 release와 짝을 맞춤
+                    approvalBodies.retain(requestId, encodedBody);
+                    changeListeners.forEach(listener -> listener.added(approverId, approval, body));
+                }
+                return inbox;
+            });
+        } finally {
+            reloadLock.unlockRead(stamp);
+        }
+        if (added[0]) {
+            log.info("결재 대기 추가: approverId={}, requestId={}", approverId, requestId);
+        } else {
+            log.debug("이미 대기 중인 결재: approverId={}, requestId={}", approverId, requestId);
+        }
+        return added[0];
+    }
+
+    /**
+     * 특정 결재자의 대기 목록 조회 (우선순위 순서 스냅샷)
      */
     public List<PendingApproval> getPendingApprovals(Long approverId) {
-        return pendingApprovals.getOrDefault(approverId, Collections.emptyList());
+        ApproverInbox inbox = pendingApprovals.get(approverId);
+        return inbox == null ? List.of() : inbox.snapshot(InboxSort.PRIORITY);
+    }
+
+    /**
+     * 특정 결재자의 대기 목록 한 페이지 조회 - sort 순서에서 after 다음 항목부터 최대 limit건
+     * after는 정렬 기준 값(우선순위, 생성 시각, requestId)만 보므로 그 사이 처리되어 빠진 결재여도 다음 위치를 찾음
+     *
+     * @param after 이전 페이지의 마지막 항목 (첫 페이지면 null)
+     */
+    public List<PendingApproval> getPendingApprovals(Long approverId, InboxSort sort, PendingApproval after, int limit) {
+        ApproverInbox inbox = pendingApprovals.get(approverId);
+        return inbox == null ? List.of() : inbox.page(sort, after, limit);
+    }
+
+    /**
+     * 특정 결재자의 대기 건수
+     */
+    public int countPendingApprovals(Long approverId) {
+        ApproverInbox inbox = pendingApprovals.get(approverId);
+        return inbox == null ? 0 : inbox.size();
+    }
+
+    /**
+     * 특정 결재자의 가장 오래된(생성 시각 순 첫) 대기 결재
+     */
+    public Optional<PendingApproval> findOldestPendingApproval(Long approverId) {
+        ApproverInbox inbox = pendingApprovals.get(approverId);
+        return inbox == null ? Optional.empty() : Optional.ofNullable(inbox.oldest());
     }
 
     /**
      * 특정 결재 건 조회
      */
     public Optional<PendingApproval> findPendingApproval(Long approverId, Long requestId) {
-        List<PendingApproval> approvals = pendingApprovals.get(approverId);
-        if (approvals == null) {
-            return Optional.empty();
-        }
-        return approvals.stream()
-                .filter(a -> a.getRequestId().equals(requestId))
-                .findFirst();
+        ApproverInbox inbox = pendingApprovals.get(approverId);
+        return inbox == null ? Optional.empty() : Optional.ofNullable(inbox.find(requestId));
+    }
+
+    /**
+     * 결재 본문 조회 - 저장된 본문을 풀어서 반환 (본문 없이 추가된 결재면 empty)
+     */
+    public Optional<ApprovalBody> findApprovalBody(Long requestId) {
+        return approvalBodies.find(requestId);
     }
 
     /**
-     * 결재 대기 목록에서 제거
+     * 결재 대기 목록에서 제거 - 마지막 건이 빠지면 결재자 항목도 함께 제거
      */
     public boolean removePendingApproval(Long approverId, Long requestId) {
-        List<PendingApproval> approvals = pendingApprovals.get(approverId);
-        if (approvals == null) {
-            return false;
+        boolean[] removed = new boolean[1];
+        long stamp = reloadLock.readLock();
+        try {
+            Queue<Consumer<InMemoryApprovalRepository>> journal = reloadJournal;
+            if (journal != null) {
+                journal.add(target -> target.removePendingApproval(approverId, requestId));
+            }
+            pendingApprovals.computeIfPresent(approverId, (id, inbox) -> {
+                removed[0] = inbox.remove(requestId);
+                if (removed[0]) {
+                    approvalBodies.release(requestId);
+                    List<Long> requestIds = List.of(requestId);
+                    changeListeners.forEach(listener -> listener.removed(approverId, requestIds));
+                }
+                return inbox.isEmpty() ? null : inbox;
+            });
+        } finally {
+            reloadLock.unlockRead(stamp);
         }
-        boolean removed = approvals.removeIf(a -> a.getRequestId().equals(requestId));
-        if (removed) {
+        if (removed[0]) {
             log.info("결재 대기 제거: approverId={}, requestId={}", approverId, requestId);
         }
+        return removed[0];
+    }
+
+    /**
+     * 한 결재자의 대기 목록에서 여러 건을 결재자 쓰기 한 번으로 제거하고 변경 알림도 한 번만 보냄
+     * (잠금 없이 읽는 목록 조회에는 제거 도중의 상태가 보일 수 있음)
+     *
+     * @return 실제로 제거된 requestId (없던 건은 제외)
+     */
+    public List<Long> removePendingApprovals(Long approverId, Collection<Long> requestIds) {
+        List<Long> removed = new ArrayList<>(requestIds.size());
+        long stamp = reloadLock.readLock();
+        try {
+            Queue<Consumer<InMemoryApprovalRepository>> journal = reloadJournal;
+            if (journal != null) {
+                List<Long> ids = List.copyOf(requestIds);
+                journal.add(target -> target.removePendingApprovals(approverId, ids));
+            }
+            pendingApprovals.computeIfPresent(approverId, (id, inbox) -> {
+                removed.addAll(inbox.removeAll(requestIds));
+                if (!removed.isEmpty()) {
+                    removed.forEach(approvalBodies::release);
+                    List<Long> removedIds = List.copyOf(removed);
+                    changeListeners.forEach(listener -> listener.removed(approverId, removedIds));
+                }
+                return inbox.isEmpty() ? null : inbox;
+            });
+        } finally {
+            reloadLock.unlockRead(stamp);
+        }
+        if (!removed.isEmpty()) {
+            log.info("결재 대기 일괄 제거: approverId={}, requestIds={}", approverId, removed);
+        }
         return removed;
     }
 
+    /**
+     * 특정 결재자의 대기 목록을 그 결재자의 쓰기와 섞이지 않게 전달
+     * action이 받은 목록 이전의 변경은 목록에 반영되어 있고, 이후의 변경은 모두 InboxChangeListener로 알림
+     */
+    public void withPendingApprovals(Long approverId, Consumer<List<PendingApproval>> action) {
+        long stamp = reloadLock.readLock();
+        try {
+            pendingApprovals.compute(approverId, (id, inbox) -> {
+                action.accept(inbox == null ? List.of() : inbox.snapshot(InboxSort.PRIORITY));
+                return inbox;
+            });
+        } finally {
+            reloadLock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 저장된 결재 본문 수와 압축 후 바이트 합계 (메모리 사용량 확인용)
+     */
+    int getApprovalBodyCount() {
+        return approvalBodies.size();
+    }
+
+    long getApprovalBodyBytes() {
+        return approvalBodies.storedBytes();
+    }
+
     /**
      * 모든 대기 목록 조회 (디버깅용)
      */
     public Map<Long, List<PendingApproval>> getAllPendingApprovals() {
-        return new HashMap<>(pendingApprovals);
+        Map<Long, List<PendingApproval>> snapshot = new HashMap<>();
+        pendingApprovals.forEach((approverId, inbox) -> snapshot.put(approverId, inbox.snapshot(InboxSort.PRIORITY)));
+        return snapshot;
     }
 
     /**
-     * 전체 초기화 (테스트용)
+     * 전체 초기화 (테스트용, 재적재 중인 새 저장소를 다시 채울 때)
      */
     public void clear() {
         pendingApprovals.clear();
+        approvalBodies.clear();
+    }
+
+    /**
+     * 재적재 시작 - 이후 들어오는 추가/제거를 기록하고, 채워 넣을 빈 저장소를 반환
+     */
+    public InMemoryApprovalRepository beginReload() {
+        long stamp = reloadLock.writeLock();
+        try {
+            reloadJournal = new ConcurrentLinkedQueue<>();
+        } finally {
+            reloadLock.unlockWrite(stamp);
+        }
+        return new InMemoryApprovalRepository();
+    }
+
+    /**
+     * 재적재 완료 - 적재 중 기록된 변경을 새 저장소에 적용한 뒤 한 번에 교체
+     *
+     * @return 새 저장소에 다시 적용한 변경 수
+     */
+    public int completeReload(InMemoryApprovalRepository loaded) {
+        int replayed = 0;
+        long stamp = reloadLock.writeLock();
+        try {
+            if (reloadJournal != null) {
+                for (Consumer<InMemoryApprovalRepository> change : reloadJournal) {
+                    change.accept(loaded);
+                    replayed++;
+                }
+            }
+            pendingApprovals = loaded.pendingApprovals;
+            approvalBodies = loaded.approvalBodies;
+            reloadJournal = null;
+        } finally {
+            reloadLock.unlockWrite(stamp);
+        }
+        changeListeners.forEach(InboxChangeListener::reloaded);
+        return replayed;
+    }
+
+    /**
+     * 재적재 취소 - 기존 목록을 그대로 유지
+     */
+    public void abortReload() {
+        long stamp = reloadLock.writeLock();
+        try {
+            reloadJournal = null;
+        } finally {
+            reloadLock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 결재자 1명의 대기 결재 - requestId 인덱스와 정렬 기준별 skip list 인덱스
+     * 변경은 바깥 맵의 compute 안에서만 일어나 결재자별로 직렬화되고, 읽기는 잠금 없이 진행
+     * - 추가/제거/cursor 위치 찾기 모두 O(log n) (정렬 인덱스 key는 추가 시점에 만든 InboxSort.Key)
+     * - 단건 조회와 건수는 requestId 인덱스 하나로 답하므로 서로 어긋나지 않음
+     * - 추가는 requestId 인덱스 → 정렬 인덱스, 제거는 그 반대 순서라 목록에 보이는 결재는 항상 단건 조회됨
+     */
+    private static final class ApproverInbox {
+
+        private final ConcurrentMap<Long, Entry> byRequestId = new ConcurrentHashMap<>();
+        private final ConcurrentNavigableMap<InboxSort.Key, PendingApproval> byPriority =
+                new ConcurrentSkipListMap<>(InboxSort.PRIORITY.getComparator());
+        private final ConcurrentNavigableMap<InboxSort.Key, PendingApproval> byCreated =
+                new ConcurrentSkipListMap<>(InboxSort.CREATED.getComparator());
+
+        boolean add(PendingApproval approval) {
+            InboxSort.Key key = InboxSort.Key.of(approval);
+            if (byRequestId.putIfAbsent(approval.getRequestId(), new Entry(approval, key)) != null) {
+                return false;
+            }
+            byPriority.put(key, approval);
+            byCreated.put(key, approval);
+            return true;
+        }
+
+        boolean remove(Long requestId) {
+            Entry entry = byRequestId.get(requestId);
+            if (entry == null) {
+                return false;
+            }
+            byPriority.remove(entry.key());
+            byCreated.remove(entry.key());
+            byRequestId.remove(requestId);
+            return true;
+        }
+
+        List<Long> removeAll(Collection<Long> requestIds) {
+            List<Long> removed = new ArrayList<>(requestIds.size());
+            for (Long requestId : requestIds) {
+                if (remove(requestId)) {
+                    removed.add(requestId);
+                }
+            }
+            return removed;
+        }
+
+        PendingApproval find(Long requestId) {
+            Entry entry = byRequestId.get(requestId);
+            return entry == null ? null : entry.approval();
+        }
+
+        /**
+         * 정렬 인덱스를 한 번 훑어 복사한 스냅샷 (이후 변경의 영향 없음)
+         */
+        List<PendingApproval> snapshot(InboxSort sort) {
+            return List.copyOf(index(sort).values());
+        }
+
+        List<PendingApproval> page(InboxSort sort, PendingApproval after, int limit) {
+            ConcurrentNavigableMap<InboxSort.Key, PendingApproval> index = index(sort);
+            if (after != null) {
+                index = index.tailMap(InboxSort.Key.of(after), false);
+            }
+            List<PendingApproval> page = new ArrayList<>(Math.min(limit, 64));
+            for (PendingApproval approval : index.values()) {
+                if (page.size() >= limit) {
+                    break;
+                }
+                page.add(approval);
+            }
+            return Collections.unmodifiableList(page);
+        }
+
+        int size() {
+            return byRequestId.size();
+        }
+
+        boolean isEmpty() {
+            return byRequestId.isEmpty();
+        }
+
+        PendingApproval oldest() {
+            Map.Entry<InboxSort.Key, PendingApproval> first = byCreated.firstEntry();
+            return first == null ? null : first.getValue();
+        }
+
+        private ConcurrentNavigableMap<InboxSort.Key, PendingApproval> index(InboxSort sort) {
+            return sort == InboxSort.CREATED ? byCreated : byPriority;
+        }
+
+        /**
+         * 대기 결재와 추가 시점의 정렬 키 (항목 값이 나중에 바뀌어도 같은 key로 정렬 인덱스에서 제거)
+         */
+        private record Entry(PendingApproval approval, InboxSort.Key key) {
+        }
     }
 }
@@ -0,0 +1,37 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+
+import java.util.List;
+
+/**
+ * 결재자 대기 목록 변경 알림 - 결재자별 변경 순서대로 호출됨 (저장소 쓰기 안에서 호출되므로 구현은 바로 반환해야 함)
+ */
+public interface InboxChangeListener {
+
+    /**
+     * 대기 목록에 결재 추가 (body는 본문 없이 추가된 경우 null)
+     */
+    default void added(Long approverId, PendingApproval approval, ApprovalBody body) {
+    }
+
+    /**
+     * 대기 목록에서 결재 제거 (일괄 제거는 한 번에)
+     */
+    default void removed(Long approverId, List<Long> requestIds) {
+    }
+
+    /**
+     * 재적재로 전체 목록이 교체됨 - 건별 변경 없이 목록이 바뀌었으므로 필요하면 다시 조회
+     */
+    default void reloaded() {
+    }
+
+    /**
+     * 지금까지 알린 변경이 모두 기록될 때까지 기다림 (InMemoryApprovalRepository.flushChanges)
+     * - 기록에 실패한 변경이 있으면 예외를 던짐
+     */
+    default void flush() {
+    }
+}
@@ -1,16 +1,37 @@
 package com.example.demo.service;
 
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.dto.BatchProcessRequest;
+import com.example.demo.dto.BatchProcessResponse;
+import com.example.demo.dto.BatchProcessResponse.ItemResult;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.InboxSummary;
+import com.example.demo.dto.PendingApprovalDetail;
 import com.example.demo.dto.ProcessResponse;
 import com.example.demo.exception.ApprovalNotFoundException;
+import com.example.demo.exception.InvalidPageRequestException;
 import com.example.demo.exception.InvalidStatusException;
-import com.example.demo.kafka.ApprovalResultProducer;
+import com.example.demo.kafka.InboxChangelogWriteException;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.InboxSort;
 import com.example.demo.model.PendingApproval;
 import com.example.demo.repository.InMemoryApprovalRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 결재 처리 비즈니스 로직
@@ -20,8 +41,49 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ApprovalProcessingService {
 
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 500;
+
     private final InMemoryApprovalRepository repository;
-    private final ApprovalResultProducer approvalResultProducer;
+    private final ApprovalResultSender approvalResultSender;
+
+    /**
+     * 결재 요청 수신 (Kafka approval-request / gRPC RequestApproval 공통)
+     * 첫 번째 pending 단계의 결재자 대기 목록에 저장
+     *
+     * @return 저장 여부 (pending 단계가 없으면 false)
+     */
+    public boolean receiveApprovalRequest(ApprovalRequestMessage message) {
+        boolean stored = receiveApprovalRequest(message, repository);
+        // changelog 기록이 확인된 뒤에 수신 완료(offset commit, gRPC 응답)가 되도록 기다림
+        try {
+            repository.flushChanges();
+        } catch (InboxChangelogWriteException e) {
+            // 기록되지 않은 추가는 되돌려 두어야 재전송(Kafka 재시도, 아웃박스 재발행) 때 다시 추가되면서 기록됨
+            if (stored) {
+                repository.removePendingApproval(message.pendingApproverId(), message.getRequestId());
+                flushRemovals(message.pendingApproverId());
+            }
+            throw e;
+        }
+        return stored;
+    }
+
+    /**
+     * 결재 요청을 지정한 저장소에 저장 (pending 동기화 중 교체 전 저장소 적재용)
+     *
+     * @return 저장 여부 (pending 단계가 없으면 false)
+     */
+    public boolean receiveApprovalRequest(ApprovalRequestMessage message, InMemoryApprovalRepository target) {
+        Long approverId = message.pendingApproverId();
+        if (approverId == null) {
+            log.warn("pending 상태의 결재 단계가 없습니다: requestId={}", message.getRequestId());
+            return false;
+        }
+        target.addPendingApproval(approverId, toPendingApproval(message, approverId), toApprovalBody(message));
+        log.info("결재 요청 저장 완료: requestId={}, approverId={}", message.getRequestId(), approverId);
+        return true;
+    }
 
     /**
      * 특정 결재자의 대기 중인 결재 목록 조회
@@ -33,41 +95,96 @@ public class ApprovalProcessingService {
         return pendingApprovals;
     }
 
+    /**
+     * 특정 결재자의 대기 목록 한 페이지 조회 - cursor 다음 항목부터 정렬 순서대로 최대 limit건
+     * cursor는 이전 페이지 마지막 항목의 정렬 기준 값이라, 그 사이 결재가 추가/처리되어도 건너뛰거나 중복되지 않음
+     *
+     * @param sort   정렬 기준 (priority, created - 없으면 priority)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지면 null)
+     * @param limit  페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     */
+    public CursorPage<PendingApproval> getPendingApprovals(Long approverId, String sort, String cursor, int limit) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + limit);
+        }
+        InboxSort inboxSort = sort == null ? InboxSort.PRIORITY : InboxSort.fromValue(sort)
+                .orElseThrow(() -> new InvalidPageRequestException("지원하지 않는 정렬 기준입니다: " + sort));
+        PendingApproval after = cursor == null ? null : decodeCursor(inboxSort, cursor);
+
+        List<PendingApproval> approvals = repository.getPendingApprovals(approverId, inboxSort, after, limit + 1);
+        boolean hasNext = approvals.size() > limit;
+        List<PendingApproval> items = hasNext ? approvals.subList(0, limit) : approvals;
+        String nextCursor = hasNext ? encodeCursor(inboxSort, items.get(items.size() - 1)) : null;
+        log.debug("결재 대기 목록 페이지 조회: approverId={}, sort={}, items={}, hasNext={}",
+                approverId, inboxSort.getValue(), items.size(), hasNext);
+        return new CursorPage<>(items, nextCursor);
+    }
+
+    /**
+     * 특정 결재자의 대기 목록 요약 - 대기 건수와 가장 오래된 결재의 경과 시간 (목록을 읽지 않고 O(1))
+     */
+    public InboxSummary getInboxSummary(Long approverId) {
+        int pendingCount = repository.countPendingApprovals(approverId);
+        LocalDateTime oldestCreatedAt = repository.findOldestPendingApproval(approverId)
+                .map(PendingApproval::getCreatedAt)
+                .orElse(null);
+        Long oldestAgeSeconds = oldestCreatedAt == null ? null
+                : Math.max(0, Duration.between(oldestCreatedAt, LocalDateTime.now()).getSeconds());
+        return InboxSummary.builder()
+                .approverId(approverId)
+                .pendingCount(pendingCount)
+                .oldestCreatedAt(oldestCreatedAt)
+                .oldestAgeSeconds(oldestAgeSeconds)
+                .build();
+    }
+
+    /**
+     * 결재 단건 조회 - 대기 목록 헤더와 압축 보관된 본문을 풀어서 함께 반환
+     */
+    public PendingApprovalDetail getPendingApproval(Long approverId, Long requestId) {
+        PendingApproval approval = repository.findPendingApproval(approverId, requestId)
+                .orElseThrow(() -> new ApprovalNotFoundException(
+                        "결재 요청을 찾을 수 없습니다: approverId=" + approverId + ", requestId=" + requestId));
+        ApprovalBody body = repository.findApprovalBody(requestId).orElseGet(ApprovalBody::new);
+        return PendingApprovalDetail.builder()
+                .requestId(approval.getRequestId())
+                .requesterId(approval.getRequesterId())
+                .title(approval.getTitle())
+                .step(approval.getStep())
+                .content(body.getContent())
+                .steps(body.getSteps())
+                .build();
+    }
+
     /**
      * 결재 처리 (승인/반려)
-     * Kafka 메시지 전송 후 In-Memory에서 제거
+     * 결과 전송(Kafka 또는 gRPC) 후 In-Memory에서 제거
      */
     public ProcessResponse processApproval(Long approverId, Long requestId, String status, String comment) {
         log.info("결재 처리 시작: approverId={}, requestId={}, status={}, comment={}", 
                 approverId, requestId, status, comment);
 
         // 상태값 검증
-        if (!"approved".equals(status) && !"rejected".equals(status)) {
+        if (!isValidStatus(status)) {
             throw new InvalidStatusException("유효하지 않은 상태값입니다: " + status);
         }
 
         // 해당 결재자의 대기 목록에서 요청 찾기
-        List<PendingApproval> pendingApprovals = repository.getPendingApprovals(approverId);
-        PendingApproval targetApproval = pendingApprovals.stream()
-                .filter(pa -> pa.getRequestId().equals(requestId))
-                .findFirst()
+        PendingApproval targetApproval = repository.findPendingApproval(approverId, requestId)
                 .orElseThrow(() -> new ApprovalNotFoundException(
                         "결재 요청을 찾을 수 없습니다: approverId=" + approverId + ", requestId=" + requestId));
 
-        // 현재 결재자의 step 번호 찾기
-        int currentStep = targetApproval.getSteps().stream()
-                .filter(s -> s.getApproverId().equals(approverId) && "pending".equals(s.getStatus()))
-                .findFirst()
-                .map(PendingApproval.StepInfo::getStep)
-                .orElse(1);
+        // 현재 결재자의 step 번호
+        int currentStep = currentStep(targetApproval);
 
-        // 1. Kafka로 Approval Request Service에 결과 전송 (의견 포함)
-        approvalResultProducer.sendApprovalResult(requestId, currentStep, approverId, status, comment);
-        log.info("Kafka 결재 결과 전송: requestId={}, step={}, status={}, comment={}", 
+        // 1. Approval Request Service에 결과 전송 (의견 포함)
+        approvalResultSender.sendApprovalResult(requestId, currentStep, approverId, status, comment);
+        log.info("결재 결과 전송: requestId={}, step={}, status={}, comment={}", 
                 requestId, currentStep, status, comment);
         
         // 2. In-Memory에서 해당 결재자의 대기 항목 제거
         repository.removePendingApproval(approverId, requestId);
+        flushRemovals(approverId);
         log.info("결재 처리 완료: approverId={}, requestId={}", approverId, requestId);
 
         return ProcessResponse.builder()
@@ -77,4 +194,178 @@ public class ApprovalProcessingService {
                 .message("결재 처리가 완료되었습니다.")
                 .build();
     }
+
+    /**
+     * 결재 일괄 처리 (승인/반려)
+     * 모든 항목을 대기 목록 인덱스로 먼저 확인한 뒤, 처리 가능한 결과를 한 번에 전송(Kafka batch 또는 gRPC 동시 호출)하고
+     * 전송이 확인된 건만 대기 목록에서 한 번에 제거 - 항목별 결과를 요청 순서대로 반환
+     */
+    public BatchProcessResponse processApprovals(Long approverId, String batchId, List<BatchProcessRequest.Item> items) {
+        log.info("결재 일괄 처리 시작: approverId={}, batchId={}, items={}", approverId, batchId, items.size());
+
+        // 1. 항목 확인 - 상태값, 대기 목록 존재 여부 (같은 requestId가 여러 번 있으면 첫 항목만)
+        Map<Long, ItemResult> rejected = new HashMap<>();
+        Set<Long> seen = new HashSet<>();
+        List<ApprovalResultMessage> accepted = new ArrayList<>(items.size());
+        for (BatchProcessRequest.Item item : items) {
+            Long requestId = item.getRequestId();
+            if (!seen.add(requestId)) {
+                continue;
+            }
+            if (!isValidStatus(item.getStatus())) {
+                rejected.put(requestId, itemResult(item, ItemResult.INVALID_STATUS,
+                        "유효하지 않은 상태값입니다: " + item.getStatus()));
+                continue;
+            }
+            PendingApproval approval = repository.findPendingApproval(approverId, requestId).orElse(null);
+            if (approval == null) {
+                rejected.put(requestId, itemResult(item, ItemResult.NOT_FOUND, "결재 요청을 찾을 수 없습니다."));
+                continue;
+            }
+            accepted.add(ApprovalResultMessage.builder()
+                    .requestId(requestId)
+                    .step(currentStep(approval))
+                    .approverId(approverId)
+                    .status(item.getStatus())
+                    .comment(item.getComment())
+                    .build());
+        }
+
+        // 2. 결과 일괄 전송 후 전송이 확인된 건만 한 번에 제거
+        Set<Long> sent = new HashSet<>();
+        if (!accepted.isEmpty()) {
+            List<Boolean> confirmed = approvalResultSender.sendApprovalResults(accepted);
+            for (int i = 0; i < accepted.size(); i++) {
+                if (confirmed.get(i)) {
+                    sent.add(accepted.get(i).getRequestId());
+                }
+            }
+            repository.removePendingApprovals(approverId, sent);
+            flushRemovals(approverId);
+        }
+
+        // 3. 항목별 결과 (요청 순서, 중복 항목은 두 번째부터 duplicate)
+        List<ItemResult> results = new ArrayList<>(items.size());
+        Set<Long> reported = new HashSet<>();
+        for (BatchProcessRequest.Item item : items) {
+            Long requestId = item.getRequestId();
+            if (!reported.add(requestId)) {
+                results.add(itemResult(item, ItemResult.DUPLICATE, "같은 요청에 중복된 결재입니다."));
+            } else if (sent.contains(requestId)) {
+                results.add(itemResult(item, ItemResult.PROCESSED, "결재 처리가 완료되었습니다."));
+            } else if (rejected.containsKey(requestId)) {
+                results.add(rejected.get(requestId));
+            } else {
+                results.add(itemResult(item, ItemResult.SEND_FAILED, "결재 결과 전송에 실패했습니다. 다시 시도해 주세요."));
+            }
+        }
+
+        int processed = sent.size();
+        log.info("결재 일괄 처리 완료: approverId={}, batchId={}, processed={}, failed={}",
+                approverId, batchId, processed, items.size() - processed);
+        return BatchProcessResponse.builder()
+                .batchId(batchId)
+                .approverId(approverId)
+                .processed(processed)
+                .failed(items.size() - processed)
+                .results(results)
+                .build();
+    }
+
+    /**
+     * 대기 목록 제거 기록 확인 - 기록에 실패해도 예외를 던지지 않음
+     * - 처리 후 제거는 결과가 이미 전송되었으므로 응답을 성공으로 둠
+     *   (복구 시 다시 보이는 결재는 처리해도 Request Service가 조건부 반영으로 무시)
+     */
+    private void flushRemovals(Long approverId) {
+        try {
+            repository.flushChanges();
+        } catch (InboxChangelogWriteException e) {
+            log.warn("대기 목록 제거 changelog 기록 실패: approverId={}, error={}", approverId, e.getMessage());
+        }
+    }
+
+    private static boolean isValidStatus(String status) {
+        return "approved".equals(status) || "rejected".equals(status);
+    }
+
+    /**
+     * 현재 결재자의 pending step 번호 (없으면 1)
+     */
+    private static int currentStep(PendingApproval approval) {
+        return approval.getStep() != null ? approval.getStep() : 1;
+    }
+
+    /**
+     * 페이지 cursor - "정렬|우선순위|생성 시각|requestId"를 URL-safe Base64로 (클라이언트는 값 그대로 다시 전달)
+     */
+    private static String encodeCursor(InboxSort sort, PendingApproval last) {
+        String key = sort.getValue()
+                + "|" + (last.getPriority() != null ? last.getPriority() : PendingApproval.DEFAULT_PRIORITY)
+                + "|" + (last.getCreatedAt() != null ? last.getCreatedAt() : "")
+                + "|" + last.getRequestId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static PendingApproval decodeCursor(InboxSort sort, String cursor) {
+        try {
+            String[] key = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (key.length != 4) {
+                throw new InvalidPageRequestException("잘못된 cursor입니다: " + cursor);
+            }
+            if (!sort.getValue().equals(key[0])) {
+                throw new InvalidPageRequestException(
+                        "cursor의 정렬 기준(" + key[0] + ")이 요청한 정렬 기준(" + sort.getValue() + ")과 다릅니다.");
+            }
+            return PendingApproval.builder()
+                    .priority(Integer.valueOf(key[1]))
+                    .createdAt(key[2].isEmpty() ? null : LocalDateTime.parse(key[2]))
+                    .requestId(Long.valueOf(key[3]))
+                    .build();
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidPageRequestException("잘못된 cursor입니다: " + cursor);
+        }
+    }
+
+    private static ItemResult itemResult(BatchProcessRequest.Item item, String outcome, String message) {
+        return ItemResult.builder()
+                .requestId(item.getRequestId())
+                .status(item.getStatus())
+                .outcome(outcome)
+                .message(message)
+                .build();
+    }
+
+    /**
+     * 대기 목록 헤더 - 이 결재자의 pending 단계 번호를 미리 찾아 둠
+     * 우선순위/생성 시각이 없는 메시지(이전 발행)는 보통 우선순위, 수신 시각으로 정렬
+     */
+    private static PendingApproval toPendingApproval(ApprovalRequestMessage message, Long approverId) {
+        Integer step = message.getSteps().stream()
+                .filter(s -> approverId.equals(s.getApproverId()) && "pending".equals(s.getStatus()))
+                .findFirst()
+                .map(ApprovalRequestMessage.StepInfo::getStep)
+                .orElse(null);
+        return PendingApproval.builder()
+                .requestId(message.getRequestId())
+                .requesterId(message.getRequesterId())
+                .title(message.getTitle())
+                .step(step)
+                .priority(message.getPriority() != null ? message.getPriority() : PendingApproval.DEFAULT_PRIORITY)
+                .createdAt(message.getCreatedAt() != null ? message.getCreatedAt() : LocalDateTime.now())
+                .build();
+    }
+
+    private static ApprovalBody toApprovalBody(ApprovalRequestMessage message) {
+        return ApprovalBody.builder()
+                .content(message.getContent())
+                .steps(message.getSteps().stream()
+                        .map(step -> ApprovalBody.StepInfo.builder()
+                                .step(step.getStep())
+                                .approverId(step.getApproverId())
+                                .status(step.getStatus())
+                                .build())
+                        .toList())
+                .build();
+    }
 }
@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+
+import com.example.approval.wire.ApprovalResultMessage;
+import java.util.List;
+
+/**
+ * 결재 결과를 Approval Request Service로 전달하는 전송 수단 (approval.transport: kafka | grpc)
+ */
+public interface ApprovalResultSender {
+
+    /**
+     * 결재 결과 전송 (비동기 - 전송 결과는 구현체가 로그로 남김)
+     */
+    void sendApprovalResult(Long requestId, int step, Long approverId, String status, String comment);
+
+    /**
+     * 결재 결과 여러 건 전송 (일괄 처리) - 모두 보낸 뒤 전송이 확인될 때까지 기다림
+     * 기본 구현은 건별 비동기 전송이므로 모두 전송된 것으로 봄
+     *
+     * @return 결과별 전송 확인 여부 (입력 순서)
+     */
+    default List<Boolean> sendApprovalResults(List<ApprovalResultMessage> results) {
+        results.forEach(result -> sendApprovalResult(result.getRequestId(), result.getStep(),
+                result.getApproverId(), result.getStatus(), result.getComment()));
+        return results.stream().map(result -> Boolean.TRUE).toList();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.BatchProcessRequest;
+import com.example.demo.dto.BatchProcessResponse;
+import com.example.demo.exception.BatchConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * 일괄 결재 처리 결과 보관 - 같은 결재자의 같은 batchId 요청은 한 번만 처리
+ * - 재요청(클라이언트 재시도, 응답 유실 등)에는 처음 처리한 결과를 replayed=true로 반환
+ * - 처리 중인 batchId로 동시에 들어온 요청은 처음 요청의 처리가 끝날 때까지 기다렸다가 같은 결과를 반환
+ * - 같은 batchId에 다른 항목을 보내면 409 (BatchConflictException)
+ * - 처리 중 예외가 나면 결과를 남기지 않아 같은 batchId로 다시 시도할 수 있음
+ * 결과는 approval.batch.replay-ttl 동안, 최대 approval.batch.replay-max-entries건까지 보관 (넘치면 처리가 끝난 오래된 것부터 제거)
+ * - 처리 중인 batchId는 보관 기간/건수와 관계없이 제거하지 않음 (제거하면 동시 재요청이 같은 결재를 다시 처리)
+ * 보관은 이 인스턴스 메모리에만 하므로, 재시작하거나 결재자 파티션이 다른 인스턴스로 옮겨간 뒤의 재요청은
+ * 다시 처리되고, 이미 처리된 항목은 대기 목록에 없어 not_found로 응답함
+ */
+@Slf4j
+@Component
+public class BatchReplayCache {
+
+    private final ConcurrentMap<String, Entry> entries = new ConcurrentHashMap<>();
+    // 보관 순서 (오래된 것부터 제거)
+    private final Queue<Entry> order = new ConcurrentLinkedQueue<>();
+    private final long ttlNanos;
+    private final int maxEntries;
+
+    public BatchReplayCache(@Value("${approval.batch.replay-ttl:10m}") Duration ttl,
+                            @Value("${approval.batch.replay-max-entries:10000}") int maxEntries) {
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 처음 보는 batchId면 처리하고 결과를 보관, 이미 처리한(처리 중인) batchId면 그 결과를 반환
+     */
+    public BatchProcessResponse execute(Long approverId, String batchId, List<BatchProcessRequest.Item> items,
+                                        Supplier<BatchProcessResponse> action) {
+        String key = approverId + ":" + batchId;
+        Entry entry = new Entry(key, List.copyOf(items), System.nanoTime());
+        Entry existing;
+        while ((existing = entries.putIfAbsent(key, entry)) != null
+                && existing.result.isDone() && existing.isExpired(ttlNanos)) {
+            entries.remove(key, existing);
+        }
+
+        if (existing != null) {
+            if (!existing.items.equals(entry.items)) {
+                throw new BatchConflictException(
+                        "같은 batchId로 다른 결재 목록이 요청되었습니다: approverId=" + approverId + ", batchId=" + batchId);
+            }
+            log.info("일괄 결재 재요청 - 이전 결과 반환: approverId={}, batchId={}", approverId, batchId);
+            return await(existing).toBuilder().replayed(true).build();
+        }
+
+        order.add(entry);
+        evict();
+        try {
+            BatchProcessResponse response = action.get();
+            entry.result.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            entries.remove(key, entry);
+            entry.result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private static BatchProcessResponse await(Entry entry) {
+        try {
+            return entry.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 만료된 결과와 최대 건수를 넘는 오래된 결과 제거 - 처리 중인 항목은 건너뜀
+     */
+    private void evict() {
+        Iterator<Entry> it = order.iterator();
+        while (it.hasNext()) {
+            Entry oldest = it.next();
+            boolean replaced = entries.get(oldest.key) != oldest;
+            if (!replaced && !oldest.result.isDone()) {
+                continue;
+            }
+            if (!replaced && !oldest.isExpired(ttlNanos) && entries.size() <= maxEntries) {
+                break;
+            }
+            it.remove();
+            entries.remove(oldest.key, oldest);
+        }
+    }
+
+    private static final class Entry {
+
+        private final String key;
+        private final List<BatchProcessRequest.Item> items;
+        private final long createdAt;
+        private final CompletableFuture<BatchProcessResponse> result = new CompletableFuture<>();
+
+        Entry(String key, List<BatchProcessRequest.Item> items, long createdAt) {
+            this.key = key;
+            this.items = items;
+            this.createdAt = createdAt;
+        }
+
+        boolean isExpired(long ttlNanos) {
+            return System.nanoTime() - createdAt > ttlNanos;
+        }
+    }
+}
@@ -0,0 +1,275 @@
+package com.example.demo.service;
+
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.repository.InboxChangeListener;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 결재자 대기 목록 스트림(SSE) 구독 관리
+ * - 구독하면 현재 목록을 snapshot 이벤트로 한 번 보내고, 이후에는 저장소 변경 알림(InboxChangeListener)을
+ *   added / removed 이벤트로만 보냄 → 비용이 조회 횟수 × 목록 크기가 아니라 변경 건수에 비례
+ * - 변경 이벤트는 한 번만 직렬화해 그 결재자의 구독자들에게 나눠 보냄 (구독자가 없는 결재자는 조회 한 번으로 끝)
+ * - 전송은 구독자별 큐를 전송 스레드가 비우는 방식이라 느린 구독자가 저장소 쓰기를 막지 않음
+ *   (큐가 approval.stream.max-pending-events를 넘으면 연결을 끊고, 다시 연결하면 snapshot부터 받음)
+ * - 재적재로 목록이 교체되면 snapshot을 다시 보내고, 더 이상 소유하지 않는 결재자의 연결은 끊어 소유 Pod로 다시 연결되게 함
+ * - approval.stream.heartbeat-interval마다 주석 이벤트를 보내 프록시 유휴 종료를 막고 끊긴 연결을 정리
+ */
+@Slf4j
+@Component
+public class InboxStreamRegistry implements InboxChangeListener {
+
+    static final String SNAPSHOT_EVENT = "snapshot";
+    static final String ADDED_EVENT = "added";
+    static final String REMOVED_EVENT = "removed";
+    private static final Set<DataWithMediaType> HEARTBEAT = SseEmitter.event().comment("keep-alive").build();
+
+    private final InMemoryApprovalRepository repository;
+    private final ApprovalInboxOwnership ownership;
+    private final ObjectMapper objectMapper;
+    private final long timeoutMillis;
+    private final int maxPendingEvents;
+
+    // Key: approverId, Value: 해당 결재자의 대기 목록 구독자
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final Counter droppedCounter;
+    private final ExecutorService dispatchExecutor;
+    private final ScheduledExecutorService heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "approval-inbox-stream-heartbeat");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public InboxStreamRegistry(InMemoryApprovalRepository repository,
+                               ApprovalInboxOwnership ownership,
+                               ObjectMapper objectMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${approval.stream.timeout:30m}") Duration timeout,
+                               @Value("${approval.stream.heartbeat-interval:15s}") Duration heartbeatInterval,
+                               @Value("${approval.stream.max-pending-events:1000}") int maxPendingEvents,
+                               @Value("${approval.stream.dispatch-threads:2}") int dispatchThreads) {
+        this.repository = repository;
+        this.ownership = ownership;
+        this.objectMapper = objectMapper;
+        this.timeoutMillis = timeout.toMillis();
+        this.maxPendingEvents = maxPendingEvents;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.dispatchExecutor = Executors.newFixedThreadPool(dispatchThreads, runnable -> {
+            Thread thread = new Thread(runnable, "approval-inbox-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("approval.inbox.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("결재자 대기 목록 스트림 구독자 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("approval.inbox.stream.dropped")
+                .description("전송 대기 이벤트가 쌓여 끊은 대기 목록 스트림 수")
+                .register(meterRegistry);
+
+        heartbeatExecutor.scheduleWithFixedDelay(this::heartbeat,
+                heartbeatInterval.toMillis(), heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+        repository.addChangeListener(this);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+        subscribers.values().forEach(set -> set.forEach(Subscriber::close));
+        dispatchExecutor.shutdown();
+    }
+
+    /**
+     * 결재자 대기 목록 구독 - 현재 목록(snapshot) 이후의 변경만 이어서 받음
+     */
+    public SseEmitter subscribe(Long approverId) {
+        SseEmitter emitter = new SseEmitter(timeoutMillis);
+        Subscriber subscriber = new Subscriber(approverId, emitter);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onError(error -> unregister(subscriber));
+
+        // 목록 조회와 구독 등록을 그 결재자의 쓰기 사이에 끼워 넣어, snapshot 이후의 변경을 빠짐없이 받게 함
+        repository.withPendingApprovals(approverId, snapshot -> {
+            subscribers.compute(approverId, (id, set) -> {
+                if (set == null) {
+                    set = ConcurrentHashMap.newKeySet();
+                }
+                set.add(subscriber);
+                return set;
+            });
+            subscriber.enqueue(event(SNAPSHOT_EVENT, snapshot));
+        });
+        subscriberCount.incrementAndGet();
+        log.info("결재 대기 목록 스트림 구독: approverId={}", approverId);
+        return emitter;
+    }
+
+    @Override
+    public void added(Long approverId, PendingApproval approval, ApprovalBody body) {
+        Set<Subscriber> set = subscribers.get(approverId);
+        if (set != null) {
+            Set<DataWithMediaType> event = event(ADDED_EVENT, approval);
+            set.forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    @Override
+    public void removed(Long approverId, List<Long> requestIds) {
+        Set<Subscriber> set = subscribers.get(approverId);
+        if (set != null) {
+            Set<DataWithMediaType> event = event(REMOVED_EVENT, requestIds);
+            set.forEach(subscriber -> subscriber.enqueue(event));
+        }
+    }
+
+    /**
+     * 재적재 후 - 소유한 결재자는 snapshot을 다시 보내고, 넘겨준 결재자의 연결은 끊음
+     */
+    @Override
+    public void reloaded() {
+        for (Long approverId : subscribers.keySet()) {
+            if (!ownership.owns(approverId)) {
+                Set<Subscriber> moved = subscribers.remove(approverId);
+                if (moved != null) {
+                    log.info("결재자 소유권 이동 - 대기 목록 스트림 종료: approverId={}, subscribers={}",
+                            approverId, moved.size());
+                    moved.forEach(Subscriber::close);
+                }
+                continue;
+            }
+            repository.withPendingApprovals(approverId, snapshot -> {
+                Set<Subscriber> set = subscribers.get(approverId);
+                if (set != null) {
+                    Set<DataWithMediaType> event = event(SNAPSHOT_EVENT, snapshot);
+                    set.forEach(subscriber -> subscriber.enqueue(event));
+                }
+            });
+        }
+    }
+
+    int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.enqueue(HEARTBEAT)));
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.unregistered.compareAndSet(false, true)) {
+            return;
+        }
+        subscriber.closed = true;
+        subscribers.computeIfPresent(subscriber.approverId, (id, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+        subscriberCount.decrementAndGet();
+        log.info("결재 대기 목록 스트림 구독 종료: approverId={}", subscriber.approverId);
+    }
+
+    /**
+     * 이벤트 본문은 구독자 수와 관계없이 한 번만 직렬화
+     */
+    private Set<DataWithMediaType> event(String name, Object data) {
+        try {
+            return SseEmitter.event().name(name).data(objectMapper.writeValueAsString(data)).build();
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("대기 목록 이벤트 직렬화 실패: " + name, e);
+        }
+    }
+
+    /**
+     * 구독자 1명 - 이벤트 큐를 전송 스레드 하나가 순서대로 비움
+     */
+    private final class Subscriber {
+
+        private final Long approverId;
+        private final SseEmitter emitter;
+        private final Queue<Set<DataWithMediaType>> queue = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger();
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean unregistered = new AtomicBoolean();
+        private volatile boolean closed;
+
+        Subscriber(Long approverId, SseEmitter emitter) {
+            this.approverId = approverId;
+            this.emitter = emitter;
+        }
+
+        void enqueue(Set<DataWithMediaType> event) {
+            if (closed) {
+                return;
+            }
+            if (pending.incrementAndGet() > maxPendingEvents) {
+                log.warn("결재 대기 목록 스트림 전송 지연 - 연결 종료: approverId={}", approverId);
+                droppedCounter.increment();
+                close();
+                return;
+            }
+            queue.add(event);
+            if (draining.compareAndSet(false, true)) {
+                try {
+                    dispatchExecutor.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    close();
+                }
+            }
+        }
+
+        private void drain() {
+            do {
+                Set<DataWithMediaType> event;
+                while (!closed && (event = queue.poll()) != null) {
+                    pending.decrementAndGet();
+                    try {
+                        emitter.send(event);
+                    } catch (IOException | IllegalStateException e) {
+                        log.debug("결재 대기 목록 스트림 전송 실패: approverId={}, error={}", approverId, e.getMessage());
+                        close();
+                    }
+                }
+                draining.set(false);
+            } while (!closed && !queue.isEmpty() && draining.compareAndSet(false, true));
+        }
+
+        void close() {
+            closed = true;
+            queue.clear();
+            unregister(this);
+            try {
+                emitter.complete();
+            } catch (IllegalStateException e) {
+                // 이미 끝난 연결
+            }
+        }
+    }
+}
@@ -0,0 +1,321 @@
+package com.example.demo.config;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.grpc.ApprovalRequestGrpcClient;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.kafka.ApprovalKafkaTopics;
+import com.example.demo.kafka.InboxChangelog;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.ApprovalResultSender;
+import io.grpc.Status;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApprovalDataInitializer 테스트")
+class ApprovalDataInitializerTest {
+
+    private static final long LAST_REQUEST_ID = 5L;
+    private static final int PAGE_SIZE = 2;
+
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    private final ApprovalSyncProgress progress = new ApprovalSyncProgress(new SimpleMeterRegistry());
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<ApprovalRequestGrpcClient> grpcClientProvider = mock(ObjectProvider.class);
+    @SuppressWarnings("unchecked")
+    private final ObjectProvider<InboxChangelog> changelogProvider = mock(ObjectProvider.class);
+    private final List<Long> requestedCursors = new CopyOnWriteArrayList<>();
+    // 페이지 요청의 partitions, partitionCount 파라미터
+    private final List<String> requestedPartitions = new CopyOnWriteArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final ApprovalInboxOwnership ownership = new ApprovalInboxOwnership(new ApprovalKafkaTopics(3, (short) 1, 0),
+            mock(ObjectProvider.class), event -> { }, new SimpleMeterRegistry(),
+            true, "localhost:8083", 8083, "approval-processing-group", Duration.ofSeconds(15));
+
+    // 지정한 after 값의 페이지 요청을 몇 번 더 실패시킬지
+    private final AtomicInteger failuresLeft = new AtomicInteger();
+    private Long failingCursor = -1L;
+
+    @BeforeEach
+    void setUp() {
+        // 동기화 전부터 있던 대기 건 (Request Service에서는 이미 처리됨)
+        repository.addPendingApproval(7L, PendingApproval.builder().requestId(99L).build());
+    }
+
+    @Test
+    @DisplayName("REST 페이지를 차례로 받아 적재한 뒤 한 번에 교체")
+    void syncByRest_PagesAndSwaps() {
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).containsExactly(null, 2L, 4L);
+        assertThat(inbox()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(progress.getState()).isEqualTo(ApprovalSyncProgress.State.COMPLETED);
+        assertThat(progress.details()).containsEntry("pages", 3).containsEntry("stored", 5).containsEntry("source", "rest");
+    }
+
+    @Test
+    @DisplayName("페이지 요청 일시 실패 - 그 페이지만 재요청하고 이어서 진행")
+    void syncByRest_RetriesFailedPageOnly() {
+        // given
+        failingCursor = 2L;
+        failuresLeft.set(2);
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).containsExactly(null, 2L, 2L, 2L, 4L);
+        assertThat(inbox()).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("재시도 후에도 실패 - 적재하던 목록은 버리고 기존 대기 목록 유지")
+    void syncByRest_FailureKeepsExistingInbox() {
+        // given
+        failingCursor = 2L;
+        failuresLeft.set(Integer.MAX_VALUE);
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isFalse();
+        assertThat(inbox()).containsExactly(99L);
+        assertThat(progress.getState()).isEqualTo(ApprovalSyncProgress.State.FAILED);
+        assertThat(progress.getLastRequestId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("gRPC 스트림이 끊기면 마지막으로 받은 requestId 이후부터 REST로 이어받음")
+    void syncByGrpc_ResumesByRest() {
+        // given
+        ApprovalRequestGrpcClient grpcClient = mock(ApprovalRequestGrpcClient.class);
+        when(grpcClientProvider.getIfAvailable()).thenReturn(grpcClient);
+        doAnswer(invocation -> {
+            Consumer<ApprovalRequestMessage> consumer = invocation.getArgument(2);
+            consumer.accept(message(1L));
+            consumer.accept(message(2L));
+            throw Status.UNAVAILABLE.asRuntimeException();
+        }).when(grpcClient).streamPendingApprovals(any(), anyInt(), any());
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).containsExactly(2L, 4L);
+        assertThat(inbox()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(progress.details()).containsEntry("source", "grpc+rest");
+        // 파티션 할당 전에는 전체 파티션을 가지므로 필터 없이 요청
+        verify(grpcClient).streamPendingApprovals(eq(Set.of()), eq(3), any());
+        assertThat(requestedPartitions).containsOnly("[]/null");
+    }
+
+    @Test
+    @DisplayName("파티션 할당 후 동기화 - 소유 파티션만 요청하고, 그래도 받은 다른 결재자의 요청은 적재하지 않음")
+    void sync_LoadsOwnedApproversOnly() {
+        // given - 결재자 7의 파티션이 아닌 파티션만 할당받음
+        int ownedPartition = (ownership.partitionOf(7L) + 1) % 3;
+        ownership.onPartitionsAssigned(mock(org.apache.kafka.clients.consumer.Consumer.class), Set.of(new TopicPartition(
+                ApprovalKafkaTopics.APPROVAL_REQUEST, ownedPartition)));
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then - 파티션 필터를 모르는 이전 버전처럼 결재자 7의 요청을 보내도 기존 항목과 함께 빠짐
+        assertThat(completed).isTrue();
+        assertThat(requestedPartitions).containsOnly("[" + ownedPartition + "]/3");
+        assertThat(inbox()).isEmpty();
+        assertThat(progress.details()).containsEntry("received", 5).containsEntry("stored", 0);
+    }
+
+    @Test
+    @DisplayName("소유 파티션이 없으면 Request Service를 호출하지 않고 비운 목록으로 교체")
+    void sync_NoOwnedPartitionSkipsRequestService() {
+        // given
+        ownership.onPartitionsAssigned(mock(org.apache.kafka.clients.consumer.Consumer.class), Set.of());
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).isEmpty();
+        assertThat(inbox()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("changelog 모드 - 기록 순서대로 복구하고 Request Service는 호출하지 않음")
+    void syncByChangelog_RestoresWithoutRequestService() {
+        // given - 1, 2, 3 추가 후 2 제거
+        InboxChangelog changelog = mock(InboxChangelog.class);
+        when(changelogProvider.getIfAvailable()).thenReturn(changelog);
+        when(changelog.restore(any(), any())).thenAnswer(invocation -> {
+            Consumer<ApprovalRequestMessage> put = invocation.getArgument(0);
+            BiConsumer<Long, Long> delete = invocation.getArgument(1);
+            put.accept(message(1L));
+            put.accept(message(2L));
+            put.accept(message(3L));
+            delete.accept(7L, 2L);
+            return new InboxChangelog.RestoreResult(4, false, 0);
+        });
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).isEmpty();
+        assertThat(inbox()).containsExactly(1L, 3L);
+        assertThat(progress.details()).containsEntry("source", "changelog");
+        verify(changelog, never()).seed(any(), any());
+    }
+
+    @Test
+    @DisplayName("changelog를 처음 켠 경우 - Request Service에서 받아 적재하고 changelog에 기록")
+    void syncByChangelog_EmptySeedsFromRequestService() {
+        // given
+        InboxChangelog changelog = mock(InboxChangelog.class);
+        when(changelogProvider.getIfAvailable()).thenReturn(changelog);
+        when(changelog.restore(any(), any())).thenReturn(new InboxChangelog.RestoreResult(0, true, 0));
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).containsExactly(null, 2L, 4L);
+        assertThat(inbox()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(progress.details()).containsEntry("source", "changelog+rest");
+        verify(changelog).seed(repository, Map.of());
+    }
+
+    @Test
+    @DisplayName("changelog 파티션 수가 바뀐 경우 - 복구한 목록을 버리고 Request Service에서 처음부터 받음")
+    void syncByChangelog_MisplacedResyncsFromStart() {
+        // given - 다른 파티션에 기록된 항목이 있어 복구 결과를 쓸 수 없음
+        InboxChangelog changelog = mock(InboxChangelog.class);
+        when(changelogProvider.getIfAvailable()).thenReturn(changelog);
+        when(changelog.restore(any(), any())).thenAnswer(invocation -> {
+            Consumer<ApprovalRequestMessage> put = invocation.getArgument(0);
+            put.accept(message(1L));
+            put.accept(message(2L));
+            put.accept(message(3L));
+            return new InboxChangelog.RestoreResult(3, false, 1);
+        });
+
+        // when
+        boolean completed = initializer().syncPendingApprovals();
+
+        // then - changelog의 마지막 requestId(3) 이후가 아니라 처음부터 받아 1 ~ 3도 빠지지 않음
+        assertThat(completed).isTrue();
+        assertThat(requestedCursors).containsExactly(null, 2L, 4L);
+        assertThat(inbox()).containsExactly(1L, 2L, 3L, 4L, 5L);
+        assertThat(progress.details()).containsEntry("source", "changelog+rest")
+                .containsEntry("received", 5).containsEntry("stored", 5).containsEntry("pages", 3);
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Map<Long, List<PendingApproval>>> restored = ArgumentCaptor.forClass(Map.class);
+        verify(changelog).seed(eq(repository), restored.capture());
+        assertThat(restored.getValue().get(7L)).extracting(PendingApproval::getRequestId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L);
+    }
+
+    private ApprovalDataInitializer initializer() {
+        ApprovalProcessingService service = new ApprovalProcessingService(repository, mock(ApprovalResultSender.class));
+        ApprovalDataInitializer initializer = new ApprovalDataInitializer(repository,
+                WebClient.builder().exchangeFunction(request -> pendingPage(request.url().toString())),
+                service, grpcClientProvider, progress, ownership, changelogProvider);
+        ReflectionTestUtils.setField(initializer, "approvalRequestServiceUrl", "http://approval-request-service");
+        ReflectionTestUtils.setField(initializer, "pageSize", PAGE_SIZE);
+        ReflectionTestUtils.setField(initializer, "pageTimeout", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(initializer, "maxRetries", 3);
+        ReflectionTestUtils.setField(initializer, "retryBackoff", Duration.ofMillis(10));
+        return initializer;
+    }
+
+    /**
+     * Request Service GET /approvals/pending?after=&limit=&partitions=&partitionCount= 흉내 (파티션 필터는 무시) (requestId 1 ~ 5, 결재자 7)
+     */
+    private Mono<ClientResponse> pendingPage(String url) {
+        MultiValueMap<String, String> params = UriComponentsBuilder.fromUriString(url).build().getQueryParams();
+        String after = params.getFirst("after");
+        Long cursor = after != null ? Long.valueOf(after) : null;
+        requestedCursors.add(cursor);
+        requestedPartitions.add(params.getOrDefault("partitions", List.of()) + "/" + params.getFirst("partitionCount"));
+        if (failingCursor.equals(cursor) && failuresLeft.getAndDecrement() > 0) {
+            return Mono.just(ClientResponse.create(HttpStatus.SERVICE_UNAVAILABLE).build());
+        }
+
+        long from = cursor != null ? cursor + 1 : 1;
+        long to = Math.min(from + PAGE_SIZE - 1, LAST_REQUEST_ID);
+        String body = LongStream.rangeClosed(from, to)
+                .mapToObj(requestId -> """
+                        {"id":"doc-%d","requestId":%d,"requesterId":1,"title":"결재 %d","content":"내용",\
+                        "steps":[{"step":1,"approverId":7,"status":"pending","comment":null}],"finalStatus":"in_progress"}\
+                        """.formatted(requestId, requestId, requestId))
+                .collect(Collectors.joining(",", "[", "]"));
+        ClientResponse.Builder response = ClientResponse.create(HttpStatus.OK)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .body(body);
+        if (to < LAST_REQUEST_ID) {
+            response.header(ApprovalDataInitializer.NEXT_CURSOR_HEADER, String.valueOf(to));
+        }
+        return Mono.just(response.build());
+    }
+
+    private ApprovalRequestMessage message(long requestId) {
+        return ApprovalRequestMessage.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .steps(List.of(new ApprovalRequestMessage.StepInfo(1, 7L, "pending")))
+                .build();
+    }
+
+    private Set<Long> inbox() {
+        return repository.getPendingApprovals(7L).stream()
+                .map(PendingApproval::getRequestId)
+                .collect(Collectors.toCollection(TreeSet::new));
+    }
+}
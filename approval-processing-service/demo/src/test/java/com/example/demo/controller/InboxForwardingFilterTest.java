@@ -0,0 +1,167 @@
+package com.example.demo.controller;
+
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+@DisplayName("InboxForwardingFilter 테스트")
+class InboxForwardingFilterTest {
+
+    private static final long LOCAL_APPROVER = 1L;
+    private static final long REMOTE_APPROVER = 2L;
+
+    private final ApprovalInboxOwnership ownership = mock(ApprovalInboxOwnership.class);
+    private final CopyOnWriteArrayList<String> received = new CopyOnWriteArrayList<>();
+    private HttpServer owner;
+    private InboxForwardingFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        // 소유 Pod 흉내 - 받은 요청을 기록하고 고정 응답
+        owner = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        owner.createContext("/process", this::ownerHandler);
+        owner.start();
+
+        when(ownership.remoteOwner(LOCAL_APPROVER)).thenReturn(Optional.empty());
+        when(ownership.remoteOwner(REMOTE_APPROVER)).thenReturn(Optional.of("127.0.0.1:" + owner.getAddress().getPort()));
+        when(ownership.getAdvertisedAddress()).thenReturn("10.0.0.1:8083");
+        filter = new InboxForwardingFilter(ownership, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        owner.stop(0);
+    }
+
+    @Test
+    @DisplayName("이 Pod가 소유한 결재자 - 그대로 컨트롤러로 진행")
+    void localApprover_PassesThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/process/" + LOCAL_APPROVER), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("다른 Pod가 소유한 결재자 - 메서드/경로/쿼리/본문을 소유 Pod로 전달하고 응답을 그대로 반환")
+    void remoteApprover_ForwardedToOwner() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/process/" + REMOTE_APPROVER + "/10");
+        request.setQueryString("dryRun=true");
+        request.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        request.setContent("{\"status\":\"approved\"}".getBytes(StandardCharsets.UTF_8));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(received).containsExactly(
+                "POST /process/2/10?dryRun=true application/json forwardedBy=10.0.0.1:8083 {\"status\":\"approved\"}");
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentType()).isEqualTo(MediaType.APPLICATION_JSON_VALUE);
+        assertThat(response.getContentAsString()).isEqualTo("{\"owner\":true}");
+        assertThat(response.getHeader(ProcessController.NEXT_CURSOR_HEADER)).isEqualTo("next-page");
+    }
+
+    @Test
+    @DisplayName("다른 Pod가 소유한 결재자의 스트림 - 중계하지 않고 소유 Pod 주소로 307 redirect")
+    void remoteApproverStream_RedirectedToOwner() throws Exception {
+        // given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/process/" + REMOTE_APPROVER + "/stream");
+        request.setQueryString("sort=created");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request, response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(received).isEmpty();
+        assertThat(response.getStatus()).isEqualTo(307);
+        assertThat(response.getHeader(HttpHeaders.LOCATION)).isEqualTo(
+                "http://127.0.0.1:" + owner.getAddress().getPort() + "/process/2/stream?sort=created");
+    }
+
+    @Test
+    @DisplayName("이미 전달받은 요청 - 소유 여부와 관계없이 직접 처리 (Pod 사이 반복 전달 방지)")
+    void forwardedRequest_NotForwardedAgain() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/process/" + REMOTE_APPROVER);
+        request.addHeader(InboxForwardingFilter.FORWARDED_HEADER, "10.0.0.2:8083");
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+        assertThat(received).isEmpty();
+    }
+
+    @Test
+    @DisplayName("소유 Pod 연결 실패 - 503")
+    void ownerUnavailable_Returns503() throws Exception {
+        // given
+        owner.stop(0);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(new MockHttpServletRequest("GET", "/process/" + REMOTE_APPROVER), response, chain);
+
+        // then
+        assertThat(chain.getRequest()).isNull();
+        assertThat(response.getStatus()).isEqualTo(503);
+        assertThat(response.getContentAsString()).contains("Inbox Owner Unavailable");
+    }
+
+    @Test
+    @DisplayName("결재자 경로가 아닌 요청 - 필터 대상 아님")
+    void otherPaths_PassThrough() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(new MockHttpServletRequest("GET", "/actuator/health"), new MockHttpServletResponse(), chain);
+
+        assertThat(chain.getRequest()).isNotNull();
+    }
+
+    private void ownerHandler(HttpExchange exchange) throws IOException {
+        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+        received.add(exchange.getRequestMethod() + " " + exchange.getRequestURI()
+                + " " + exchange.getRequestHeaders().getFirst(HttpHeaders.CONTENT_TYPE)
+                + " forwardedBy=" + exchange.getRequestHeaders().getFirst(InboxForwardingFilter.FORWARDED_HEADER)
+                + " " + body);
+        byte[] response = "{\"owner\":true}".getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+        exchange.getResponseHeaders().add(ProcessController.NEXT_CURSOR_HEADER, "next-page");
+        exchange.sendResponseHeaders(201, response.length);
+        exchange.getResponseBody().write(response);
+        exchange.close();
+    }
+}
@@ -1,18 +1,24 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.PendingApprovalDetail;
 import com.example.demo.dto.ProcessRequest;
 import com.example.demo.dto.ProcessResponse;
 import com.example.demo.exception.ApprovalNotFoundException;
 import com.example.demo.exception.GlobalExceptionHandler;
 import com.example.demo.exception.InvalidStatusException;
+import com.example.demo.model.ApprovalBody;
 import com.example.demo.model.PendingApproval;
 import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.BatchReplayCache;
+import com.example.demo.service.InboxStreamRegistry;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.context.annotation.FilterType;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,7 +31,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @DisplayName("ProcessController 테스트")
-@WebMvcTest(ProcessController.class)
+// 소유 Pod 전달 필터는 InboxForwardingFilterTest에서 검증 - 여기서는 컨트롤러만
+@WebMvcTest(controllers = ProcessController.class, excludeFilters = @ComponentScan.Filter(
+        type = FilterType.ASSIGNABLE_TYPE, classes = InboxForwardingFilter.class))
 @Import(GlobalExceptionHandler.class)
 class ProcessControllerTest {
 
@@ -38,6 +46,12 @@ class ProcessControllerTest {
     @MockBean
     private ApprovalProcessingService service;
 
+    @MockBean
+    private BatchReplayCache batchReplayCache;
+
+    @MockBean
+    private InboxStreamRegistry inboxStreamRegistry;
+
     @Test
     @DisplayName("결재 대기 목록 조회 - 성공")
     void getPendingApprovals_success() throws Exception {
@@ -47,23 +61,39 @@ class ProcessControllerTest {
                 .requestId(100L)
                 .requesterId(10L)
                 .title("휴가 신청")
-                .content("연차 휴가 신청합니다.")
-                .steps(List.of(
-                        PendingApproval.StepInfo.builder()
-                                .step(1)
-                                .approverId(1L)
-                                .status("pending")
-                                .build()
-                ))
+                .step(1)
+                .priority(PendingApproval.DEFAULT_PRIORITY)
                 .build();
 
         given(service.getPendingApprovals(approverId)).willReturn(List.of(approval));
 
-        // when & then
+        // when & then - 목록에는 헤더만 (본문 없음)
         mockMvc.perform(get("/process/{approverId}", approverId))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].requestId").value(100))
-                .andExpect(jsonPath("$[0].title").value("휴가 신청"));
+                .andExpect(jsonPath("$[0].title").value("휴가 신청"))
+                .andExpect(jsonPath("$[0].step").value(1))
+                .andExpect(jsonPath("$[0].content").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("결재 단건 조회 - 복원한 본문 포함")
+    void getPendingApproval_withBody() throws Exception {
+        // given
+        given(service.getPendingApproval(1L, 100L)).willReturn(PendingApprovalDetail.builder()
+                .requestId(100L)
+                .requesterId(10L)
+                .title("휴가 신청")
+                .step(1)
+                .content("연차 휴가 신청합니다.")
+                .steps(List.of(new ApprovalBody.StepInfo(1, 1L, "pending")))
+                .build());
+
+        // when & then
+        mockMvc.perform(get("/process/{approverId}/{requestId}", 1L, 100L))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content").value("연차 휴가 신청합니다."))
+                .andExpect(jsonPath("$.steps[0].approverId").value(1));
     }
 
     @Test
@@ -94,7 +124,7 @@ class ProcessControllerTest {
                 .message("결재 처리가 완료되었습니다.")
                 .build();
 
-        given(service.processApproval(eq(approverId), eq(requestId), eq("approved")))
+        given(service.processApproval(eq(approverId), eq(requestId), eq("approved"), any()))
                 .willReturn(response);
 
         // when & then
@@ -121,7 +151,7 @@ class ProcessControllerTest {
                 .message("결재 처리가 완료되었습니다.")
                 .build();
 
-        given(service.processApproval(eq(approverId), eq(requestId), eq("rejected")))
+        given(service.processApproval(eq(approverId), eq(requestId), eq("rejected"), any()))
                 .willReturn(response);
 
         // when & then
@@ -140,7 +170,7 @@ class ProcessControllerTest {
         Long requestId = 100L;
         ProcessRequest request = ProcessRequest.builder().status("invalid").build();
 
-        given(service.processApproval(eq(approverId), eq(requestId), eq("invalid")))
+        given(service.processApproval(eq(approverId), eq(requestId), eq("invalid"), any()))
                 .willThrow(new InvalidStatusException("유효하지 않은 상태값입니다: invalid"));
 
         // when & then
@@ -160,7 +190,7 @@ class ProcessControllerTest {
         Long requestId = 999L;
         ProcessRequest request = ProcessRequest.builder().status("approved").build();
 
-        given(service.processApproval(eq(approverId), eq(requestId), eq("approved")))
+        given(service.processApproval(eq(approverId), eq(requestId), eq("approved"), any()))
                 .willThrow(new ApprovalNotFoundException("결재 요청을 찾을 수 없습니다"));
 
         // when & then
@@ -0,0 +1,215 @@
+package com.example.demo.grpc;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.kafka.ApprovalResultProducer;
+import io.grpc.Context;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.Status;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import io.grpc.stub.StreamObserver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ApprovalRequestGrpcClient 테스트")
+class ApprovalRequestGrpcClientTest {
+
+    private final ApprovalResultProducer approvalResultProducer = mock(ApprovalResultProducer.class);
+    private final List<ApprovalResultRequest> receivedResults = new CopyOnWriteArrayList<>();
+    private final CountDownLatch resultReceived = new CountDownLatch(1);
+    private Server server;
+    private ManagedChannel channel;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        channel.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+        server.shutdownNow().awaitTermination(1, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("결재 결과 gRPC 전송 성공 - Kafka로 재전송하지 않음")
+    void sendApprovalResult_Success() throws Exception {
+        // given
+        ApprovalRequestGrpcClient client = client(new FakeRequestService(Status.OK));
+
+        // when
+        client.sendApprovalResult(10L, 2, 3L, "approved", "확인");
+
+        // then
+        assertThat(resultReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        ApprovalResultRequest result = receivedResults.get(0);
+        assertThat(result.getRequestId()).isEqualTo(10L);
+        assertThat(result.getStep()).isEqualTo(2);
+        assertThat(result.getApproverId()).isEqualTo(3L);
+        assertThat(result.getStatus()).isEqualTo("approved");
+        assertThat(result.getComment()).isEqualTo("확인");
+        verify(approvalResultProducer, after(200).never())
+                .sendApprovalResult(anyLong(), anyInt(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("결재 결과 gRPC 전송 실패 - 같은 결과를 Kafka로 재전송")
+    void sendApprovalResult_Failure_FallsBackToKafka() throws Exception {
+        // given
+        ApprovalRequestGrpcClient client = client(new FakeRequestService(Status.UNAVAILABLE));
+
+        // when
+        client.sendApprovalResult(10L, 1, 2L, "rejected", null);
+
+        // then
+        verify(approvalResultProducer, timeout(5000)).sendApprovalResult(10L, 1, 2L, "rejected", null);
+    }
+
+    @Test
+    @DisplayName("gRPC 요청 처리 중 전송 - 요청 Context가 끝나도 결과 전송은 취소되지 않음")
+    void sendApprovalResult_InsideCancelledContext_NotCancelled() throws Exception {
+        // given - RequestApproval 처리 중 즉시 승인된 경우처럼, 응답과 함께 취소되는 Context 안에서 호출
+        ApprovalRequestGrpcClient client = client(new FakeRequestService(Status.OK));
+        Context.CancellableContext handlerContext = Context.current().withCancellation();
+
+        // when
+        handlerContext.run(() -> client.sendApprovalResult(10L, 1, 2L, "approved", null));
+        handlerContext.cancel(null);
+
+        // then
+        assertThat(resultReceived.await(5, TimeUnit.SECONDS)).isTrue();
+        verify(approvalResultProducer, after(200).never())
+                .sendApprovalResult(anyLong(), anyInt(), anyLong(), anyString(), any());
+    }
+
+    @Test
+    @DisplayName("결재 결과 일괄 gRPC 전송 - 모두 동시에 보내고 응답을 받은 뒤 반환")
+    void sendApprovalResults_Success() throws Exception {
+        // given
+        ApprovalRequestGrpcClient client = client(new FakeRequestService(Status.OK));
+
+        // when
+        List<Boolean> sent = client.sendApprovalResults(List.of(result(10L), result(11L), result(12L)));
+
+        // then
+        assertThat(sent).containsExactly(true, true, true);
+        assertThat(receivedResults).extracting(ApprovalResultRequest::getRequestId)
+                .containsExactlyInAnyOrder(10L, 11L, 12L);
+        verify(approvalResultProducer, never()).sendApprovalResults(anyList());
+    }
+
+    @Test
+    @DisplayName("결재 결과 일괄 gRPC 전송 실패 - 실패한 결과를 Kafka batch로 재전송하고 그 결과를 반환")
+    void sendApprovalResults_Failure_FallsBackToKafkaBatch() throws Exception {
+        // given
+        ApprovalRequestGrpcClient client = client(new FakeRequestService(Status.UNAVAILABLE));
+        List<ApprovalResultMessage> results = List.of(result(10L), result(11L));
+        given(approvalResultProducer.sendApprovalResults(results)).willReturn(List.of(true, false));
+
+        // when
+        List<Boolean> sent = client.sendApprovalResults(results);
+
+        // then
+        assertThat(sent).containsExactly(true, false);
+        verify(approvalResultProducer).sendApprovalResults(results);
+    }
+
+    @Test
+    @DisplayName("pending 결재 스트리밍 - 소유 파티션을 담아 요청하고 받은 순서대로 한 건씩 전달")
+    void streamPendingApprovals() throws Exception {
+        // given
+        FakeRequestService service = new FakeRequestService(Status.OK);
+        ApprovalRequestGrpcClient client = client(service);
+        List<ApprovalRequestMessage> received = new ArrayList<>();
+
+        // when
+        int count = client.streamPendingApprovals(Set.of(2), 3, received::add);
+
+        // then
+        assertThat(service.pendingRequest.getPartitionsList()).containsExactly(2);
+        assertThat(service.pendingRequest.getPartitionCount()).isEqualTo(3);
+        assertThat(count).isEqualTo(3);
+        assertThat(received).extracting(ApprovalRequestMessage::getRequestId).containsExactly(1L, 2L, 3L);
+        assertThat(received.get(0).getSteps()).extracting(ApprovalRequestMessage.StepInfo::getApproverId)
+                .containsExactly(7L);
+        verify(approvalResultProducer, never()).sendApprovalResult(anyLong(), anyInt(), anyLong(), anyString(), any());
+    }
+
+    private static ApprovalResultMessage result(Long requestId) {
+        return ApprovalResultMessage.builder()
+                .requestId(requestId)
+                .step(1)
+                .approverId(2L)
+                .status("approved")
+                .build();
+    }
+
+    private ApprovalRequestGrpcClient client(FakeRequestService service) throws Exception {
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name).addService(service).build().start();
+        channel = InProcessChannelBuilder.forName(name).build();
+
+        ApprovalRequestGrpcClient client = new ApprovalRequestGrpcClient(approvalResultProducer);
+        ReflectionTestUtils.setField(client, "approvalServiceStub", ApprovalServiceGrpc.newFutureStub(channel));
+        ReflectionTestUtils.setField(client, "approvalServiceBlockingStub", ApprovalServiceGrpc.newBlockingStub(channel));
+        ReflectionTestUtils.setField(client, "deadline", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(client, "syncDeadline", Duration.ofSeconds(5));
+        return client;
+    }
+
+    private class FakeRequestService extends ApprovalServiceGrpc.ApprovalServiceImplBase {
+
+        private final Status resultStatus;
+        private volatile PendingApprovalsRequest pendingRequest;
+
+        private FakeRequestService(Status resultStatus) {
+            this.resultStatus = resultStatus;
+        }
+
+        @Override
+        public void returnApprovalResult(ApprovalResultRequest request, StreamObserver<ApprovalResultResponse> responseObserver) {
+            if (!resultStatus.isOk()) {
+                responseObserver.onError(resultStatus.asRuntimeException());
+                return;
+            }
+            receivedResults.add(request);
+            resultReceived.countDown();
+            responseObserver.onNext(ApprovalResultResponse.newBuilder().setStatus("received").build());
+            responseObserver.onCompleted();
+        }
+
+        @Override
+        public void getAllPendingApprovals(PendingApprovalsRequest request, StreamObserver<ApprovalRequest> responseObserver) {
+            pendingRequest = request;
+            for (long requestId = 1; requestId <= 3; requestId++) {
+                responseObserver.onNext(ApprovalRequest.newBuilder()
+                        .setRequestId(requestId)
+                        .setRequesterId(1L)
+                        .setTitle("결재 " + requestId)
+                        .addSteps(Step.newBuilder().setStep(1).setApproverId(7L).setStatus("pending"))
+                        .build());
+            }
+            responseObserver.onCompleted();
+        }
+    }
+}
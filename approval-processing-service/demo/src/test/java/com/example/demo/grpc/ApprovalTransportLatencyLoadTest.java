@@ -0,0 +1,304 @@
+package com.example.demo.grpc;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.approval.wire.ApprovalWireDeserializer;
+import com.example.approval.wire.ApprovalWireSerializer;
+import com.example.approval.wire.WireFormat;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.kafka.ApprovalKafkaTopics;
+import com.example.demo.kafka.ApprovalRequestConsumer;
+import com.example.demo.kafka.ApprovalRequestRerouter;
+import com.example.demo.kafka.ApprovalResultProducer;
+import com.example.demo.kafka.KafkaConfig;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.ApprovalResultSender;
+import io.grpc.Grpc;
+import io.grpc.InsecureChannelCredentials;
+import io.grpc.InsecureServerCredentials;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.stub.StreamObserver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringDeserializer;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.KafkaMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * 결재 전달 수단별 왕복 지연 벤치마크 (gradle loadTest)
+ * - 결재 요청 전송 → Processing Service 수신/저장 → 즉시 승인 → 결재 결과 수신까지의 시간을 한 건씩 측정
+ * - Processing Service 쪽은 실제 구성요소(KafkaConfig Listener/Producer, gRPC 서버/클라이언트)를 사용하고,
+ *   Request Service 쪽(요청 발행, 결과 수신)은 테스트가 대신함
+ * - 두 전달 수단 모두 Protobuf 본문을 사용해 형식 차이 없이 전달 수단만 비교
+ */
+@Tag("load")
+@DisplayName("결재 전달 수단별 왕복 지연 벤치마크")
+class ApprovalTransportLatencyLoadTest {
+
+    private static final int WARMUP = 300;
+    private static final int ROUND_TRIPS = 1_000;
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private static EmbeddedKafkaBroker broker;
+    private static ApprovalKafkaTopics topics;
+
+    private final Map<Long, CompletableFuture<ApprovalResultMessage>> waiting = new ConcurrentHashMap<>();
+
+    @BeforeAll
+    static void startBroker() {
+        ((Logger) LoggerFactory.getLogger("com.example.demo")).setLevel(Level.WARN);
+        topics = new ApprovalKafkaTopics(1, (short) 1, 0);
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+        broker.addTopics(topics.newTopic(ApprovalKafkaTopics.APPROVAL_REQUEST),
+                topics.newTopic(ApprovalKafkaTopics.APPROVAL_RESULT));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("요청 → 처리 → 결과 왕복 지연: Kafka vs gRPC")
+    void roundTripLatency() throws Exception {
+        Latency kafka = measureKafka();
+        Latency grpc = measureGrpc();
+
+        System.out.println(kafka);
+        System.out.println(grpc);
+        System.out.printf("grpc/kafka: p50 %.2f, p99 %.2f%n", grpc.p50() / kafka.p50(), grpc.p99() / kafka.p99());
+
+        assertThat(grpc.p50()).isLessThan(kafka.p50());
+    }
+
+    private Latency measureKafka() throws Exception {
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(kafkaConfig, "groupId", "latency-processing");
+        ReflectionTestUtils.setField(kafkaConfig, "writeFormat", "protobuf");
+        ReflectionTestUtils.setField(kafkaConfig, "acceptFormats", "protobuf");
+        ReflectionTestUtils.setField(kafkaConfig, "changelogRetryInitialInterval", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(kafkaConfig, "changelogRetryMaxInterval", Duration.ofSeconds(30));
+
+        // Processing Service: approval-request 소비 → 즉시 승인 → approval-result 발행
+        ApprovalInboxOwnership ownership = ownership();
+        ApprovalRequestConsumer consumer = new ApprovalRequestConsumer(
+                autoApprovingService(new ApprovalResultProducer(kafkaConfig.kafkaTemplate())),
+                ownership, new ApprovalRequestRerouter(kafkaConfig.approvalRequestKafkaTemplate()));
+        ConcurrentMessageListenerContainer<String, ApprovalRequestMessage> processing = kafkaConfig
+                .kafkaListenerContainerFactory(topics, ownership).createContainer(ApprovalKafkaTopics.APPROVAL_REQUEST);
+        processing.getContainerProperties().setMessageListener(
+                (MessageListener<String, ApprovalRequestMessage>) consumer::consumeApprovalRequest);
+
+        // Request Service 역할: approval-result 수신
+        DefaultKafkaConsumerFactory<String, ApprovalResultMessage> resultConsumerFactory = new DefaultKafkaConsumerFactory<>(
+                Map.of(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                        ConsumerConfig.GROUP_ID_CONFIG, "latency-request",
+                        ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "earliest"),
+                new StringDeserializer(),
+                new ApprovalWireDeserializer<>(ApprovalResultMessage.class, EnumSet.of(WireFormat.PROTOBUF),
+                        ApprovalProtoMapper::parseApprovalResult));
+        KafkaMessageListenerContainer<String, ApprovalResultMessage> results = new KafkaMessageListenerContainer<>(
+                resultConsumerFactory, new ContainerProperties(ApprovalKafkaTopics.APPROVAL_RESULT));
+        results.getContainerProperties().setMessageListener(
+                (MessageListener<String, ApprovalResultMessage>) record -> complete(record.value()));
+
+        // Request Service 역할: 아웃박스 릴레이와 같은 멱등 Producer로 approval-request 발행
+        KafkaTemplate<String, ApprovalRequestMessage> requestTemplate = new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                        ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true,
+                        ProducerConfig.ACKS_CONFIG, "all"),
+                new StringSerializer(),
+                new ApprovalWireSerializer<ApprovalRequestMessage>(WireFormat.PROTOBUF, ApprovalProtoMapper::toProto)));
+
+        processing.start();
+        results.start();
+        try {
+            ContainerTestUtils.waitForAssignment(processing, 1);
+            ContainerTestUtils.waitForAssignment(results, 1);
+            return measure("kafka", 1_000_000L, message -> {
+                requestTemplate.send(ApprovalKafkaTopics.APPROVAL_REQUEST, String.valueOf(message.pendingApproverId()), message);
+                requestTemplate.flush();
+            });
+        } finally {
+            processing.stop();
+            results.stop();
+        }
+    }
+
+    private Latency measureGrpc() throws Exception {
+        // Request Service 역할: ReturnApprovalResult 수신 서버
+        Server requestSide = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(new ApprovalServiceGrpc.ApprovalServiceImplBase() {
+                    @Override
+                    public void returnApprovalResult(ApprovalResultRequest request,
+                                                     StreamObserver<ApprovalResultResponse> responseObserver) {
+                        responseObserver.onNext(ApprovalResultResponse.newBuilder().setStatus("received").build());
+                        responseObserver.onCompleted();
+                        complete(ApprovalProtoMapper.fromProto(request));
+                    }
+                })
+                .build()
+                .start();
+        ManagedChannel toRequestSide = channel(requestSide);
+
+        // Processing Service: RequestApproval 수신 → 즉시 승인 → ReturnApprovalResult 호출
+        ApprovalResultProducer kafkaFallback = mock(ApprovalResultProducer.class);
+        ApprovalRequestGrpcClient resultClient = new ApprovalRequestGrpcClient(kafkaFallback);
+        ReflectionTestUtils.setField(resultClient, "approvalServiceStub", ApprovalServiceGrpc.newFutureStub(toRequestSide));
+        ReflectionTestUtils.setField(resultClient, "deadline", TIMEOUT);
+        Server processingSide = Grpc.newServerBuilderForPort(0, InsecureServerCredentials.create())
+                .addService(new ApprovalGrpcService(autoApprovingService(resultClient),
+                        ownership(), mock(ApprovalRequestRerouter.class)))
+                .build()
+                .start();
+        ManagedChannel toProcessing = channel(processingSide);
+        ApprovalServiceGrpc.ApprovalServiceFutureStub requestStub = ApprovalServiceGrpc.newFutureStub(toProcessing);
+
+        try {
+            Latency latency = measure("grpc", 2_000_000L, message -> requestStub
+                    .withDeadlineAfter(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)
+                    .requestApproval(ApprovalProtoMapper.toProto(message)));
+            verify(kafkaFallback, never()).sendApprovalResult(anyLong(), anyInt(), anyLong(), anyString(), any());
+            return latency;
+        } finally {
+            toProcessing.shutdownNow();
+            toRequestSide.shutdownNow();
+            processingSide.shutdownNow();
+            requestSide.shutdownNow();
+        }
+    }
+
+    /**
+     * 한 건씩 보내고 결과가 돌아오면 다음 건 전송 (warmup 구간은 기록하지 않음)
+     */
+    private Latency measure(String transport, long firstRequestId, Consumer<ApprovalRequestMessage> send) throws Exception {
+        long[] nanos = new long[ROUND_TRIPS];
+        for (int i = 0; i < WARMUP + ROUND_TRIPS; i++) {
+            long requestId = firstRequestId + i;
+            CompletableFuture<ApprovalResultMessage> result = new CompletableFuture<>();
+            waiting.put(requestId, result);
+
+            long started = System.nanoTime();
+            send.accept(message(requestId));
+            ApprovalResultMessage received = result.get(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+            long elapsed = System.nanoTime() - started;
+
+            assertThat(received.getStatus()).isEqualTo("approved");
+            if (i >= WARMUP) {
+                nanos[i - WARMUP] = elapsed;
+            }
+        }
+        return Latency.of(transport, nanos);
+    }
+
+    private void complete(ApprovalResultMessage result) {
+        CompletableFuture<ApprovalResultMessage> future = waiting.remove(result.getRequestId());
+        if (future != null) {
+            future.complete(result);
+        }
+    }
+
+    /**
+     * 결재 요청을 받자마자 첫 번째 결재자가 승인하는 Processing Service
+     */
+    private ApprovalProcessingService autoApprovingService(ApprovalResultSender sender) {
+        return new ApprovalProcessingService(new InMemoryApprovalRepository(), sender) {
+            @Override
+            public boolean receiveApprovalRequest(ApprovalRequestMessage message) {
+                boolean stored = super.receiveApprovalRequest(message);
+                processApproval(message.getSteps().get(0).getApproverId(), message.getRequestId(), "approved", null);
+                return stored;
+            }
+        };
+    }
+
+    /**
+     * 단일 Processing 인스턴스 - 모든 결재자를 직접 처리 (샤딩 비활성)
+     */
+    @SuppressWarnings("unchecked")
+    private ApprovalInboxOwnership ownership() {
+        return new ApprovalInboxOwnership(topics, mock(ObjectProvider.class), event -> { }, new SimpleMeterRegistry(),
+                false, "localhost:8083", 8083, "latency-processing", Duration.ofSeconds(15));
+    }
+
+    private ApprovalRequestMessage message(long requestId) {
+        return ApprovalRequestMessage.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("출장비 정산 요청 #" + requestId)
+                .content("출장 기간: 3일, 교통비 185,000원, 숙박비 240,000원")
+                .steps(List.of(
+                        new ApprovalRequestMessage.StepInfo(1, 2L, "pending"),
+                        new ApprovalRequestMessage.StepInfo(2, 3L, "pending")))
+                .build();
+    }
+
+    private ManagedChannel channel(Server server) {
+        return Grpc.newChannelBuilderForAddress("localhost", server.getPort(), InsecureChannelCredentials.create()).build();
+    }
+
+    private record Latency(String transport, double mean, double p50, double p95, double p99) {
+
+        static Latency of(String transport, long[] nanos) {
+            long[] sorted = nanos.clone();
+            Arrays.sort(sorted);
+            return new Latency(transport,
+                    Arrays.stream(sorted).average().orElse(0) / 1_000.0,
+                    percentile(sorted, 0.50), percentile(sorted, 0.95), percentile(sorted, 0.99));
+        }
+
+        private static double percentile(long[] sorted, double quantile) {
+            return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)] / 1_000.0;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-6s round trip (us): mean %8.1f  p50 %8.1f  p95 %8.1f  p99 %8.1f",
+                    transport, mean, p50, p95, p99);
+        }
+    }
+}
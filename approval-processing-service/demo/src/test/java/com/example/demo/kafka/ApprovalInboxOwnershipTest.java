@@ -0,0 +1,150 @@
+package com.example.demo.kafka;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.MemberAssignment;
+import org.apache.kafka.clients.admin.MemberDescription;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.producer.internals.BuiltInPartitioner;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ApprovalInboxOwnership 테스트")
+class ApprovalInboxOwnershipTest {
+
+    private static final int PARTITIONS = 3;
+    private static final String LOCAL = "10.0.0.1:8083";
+    private static final String PEER = "10.0.0.2:8083";
+
+    private final List<Object> events = new CopyOnWriteArrayList<>();
+    @SuppressWarnings("unchecked")
+    private final ApprovalInboxOwnership ownership = new ApprovalInboxOwnership(
+            new ApprovalKafkaTopics(PARTITIONS, (short) 1, 0), mock(ObjectProvider.class), events::add,
+            new SimpleMeterRegistry(), true, LOCAL, 8083, "approval-processing-group", Duration.ofSeconds(15));
+
+    @AfterEach
+    void tearDown() {
+        ownership.shutdown();
+    }
+
+    @Test
+    @DisplayName("approverId 파티션은 Producer 기본 파티셔너와 같음")
+    void partitionOf_MatchesProducerPartitioner() {
+        LongStream.rangeClosed(1, 1_000).forEach(approverId -> assertThat(ownership.partitionOf(approverId))
+                .isEqualTo(BuiltInPartitioner.partitionForKey(
+                        String.valueOf(approverId).getBytes(StandardCharsets.UTF_8), PARTITIONS)));
+    }
+
+    @Test
+    @DisplayName("파티션 할당 전 - 모든 결재자를 직접 처리")
+    void beforeAssignment_OwnsEveryApprover() {
+        assertThat(LongStream.rangeClosed(1, 100).allMatch(ownership::owns)).isTrue();
+        assertThat(ownership.remoteOwner(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("할당받은 파티션의 결재자만 소유하고, 나머지는 그룹 조회로 찾은 Pod 주소로 전달")
+    void afterAssignment_RoutesByPartition() {
+        // given
+        assign(0);
+        ownership.updateOwners(List.of(
+                member(ApprovalInboxOwnership.CLIENT_ID_PREFIX + LOCAL + "-0", 0),
+                member(ApprovalInboxOwnership.CLIENT_ID_PREFIX + PEER + "-0", 1),
+                member(ApprovalInboxOwnership.CLIENT_ID_PREFIX + PEER + "-1", 2),
+                member("other-client-0", 2)));
+        long local = approverIn(0);
+        long remote = approverIn(2);
+
+        // then
+        assertThat(ownership.owns(local)).isTrue();
+        assertThat(ownership.remoteOwner(local)).isEmpty();
+        assertThat(ownership.owns(remote)).isFalse();
+        assertThat(ownership.remoteOwner(remote)).contains(PEER);
+        assertThat(ownership.getOwners()).containsEntry(0, LOCAL).containsEntry(1, PEER).containsEntry(2, PEER);
+    }
+
+    @Test
+    @DisplayName("소유 Pod를 아직 모르는 파티션 - 직접 처리")
+    void unknownOwner_ServedLocally() {
+        assign(0);
+
+        assertThat(ownership.owns(approverIn(1))).isFalse();
+        assertThat(ownership.remoteOwner(approverIn(1))).isEqualTo(Optional.empty());
+    }
+
+    @Test
+    @DisplayName("소유 파티션이 바뀔 때만 재동기화 이벤트 발행 (eager 리밸런스로 같은 파티션을 다시 받으면 생략)")
+    void settle_PublishesOnlyOnChange() {
+        // 할당 직후 예약되는 settle 대신 테스트에서 직접 호출
+        ownership.shutdown();
+
+        // 첫 할당
+        assign(0, 1);
+        ownership.settle();
+        assertThat(events).containsExactly(new InboxOwnershipChangedEvent(Set.of(0, 1)));
+
+        // 전부 회수 후 같은 파티션 재할당
+        ownership.onPartitionsRevokedAfterCommit(mock(Consumer.class), partitions(0, 1));
+        assign(0, 1);
+        ownership.settle();
+        assertThat(events).hasSize(1);
+
+        // 다른 Pod가 합류해 파티션 1을 넘겨줌
+        ownership.onPartitionsRevokedAfterCommit(mock(Consumer.class), partitions(0, 1));
+        assign(0);
+        ownership.settle();
+        assertThat(events).containsExactly(
+                new InboxOwnershipChangedEvent(Set.of(0, 1)), new InboxOwnershipChangedEvent(Set.of(0)));
+        assertThat(ownership.owns(approverIn(1))).isFalse();
+    }
+
+    @Test
+    @DisplayName("샤딩 비활성 - 할당과 관계없이 모든 결재자를 직접 처리")
+    @SuppressWarnings("unchecked")
+    void disabled_OwnsEveryApprover() {
+        ApprovalInboxOwnership disabled = new ApprovalInboxOwnership(
+                new ApprovalKafkaTopics(PARTITIONS, (short) 1, 0), mock(ObjectProvider.class), events::add,
+                new SimpleMeterRegistry(), false, LOCAL, 8083, "approval-processing-group", Duration.ofSeconds(15));
+        disabled.onPartitionsAssigned(mock(Consumer.class), partitions(0));
+
+        assertThat(disabled.owns(approverIn(1))).isTrue();
+        assertThat(events).isEmpty();
+        disabled.shutdown();
+    }
+
+    private void assign(Integer... partitions) {
+        ownership.onPartitionsAssigned(mock(Consumer.class), partitions(partitions));
+    }
+
+    private static Set<TopicPartition> partitions(Integer... partitions) {
+        return Set.of(partitions).stream()
+                .map(p -> new TopicPartition(ApprovalKafkaTopics.APPROVAL_REQUEST, p))
+                .collect(Collectors.toSet());
+    }
+
+    private long approverIn(int partition) {
+        return LongStream.iterate(1, id -> id + 1)
+                .filter(id -> ownership.partitionOf(id) == partition)
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static MemberDescription member(String clientId, int partition) {
+        return new MemberDescription("member-" + clientId, clientId, "/10.0.0.9",
+                new MemberAssignment(Set.of(new TopicPartition(ApprovalKafkaTopics.APPROVAL_REQUEST, partition))));
+    }
+}
@@ -0,0 +1,223 @@
+package com.example.demo.kafka;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalWireSerializer;
+import com.example.approval.wire.WireFormat;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.ApprovalResultSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.admin.AdminClientConfig;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaAdmin;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 결재자 대기 목록 샤딩 통합 테스트 (gradle loadTest)
+ * - Processing Service 인스턴스 2개(같은 Consumer 그룹, 파티션 6 / 인스턴스당 Listener 3)를 Embedded Kafka에 붙임
+ * - 결재 요청 절반은 approverId key(현재 발행 방식), 절반은 requestId key(이전 발행 방식)로 발행
+ *   → 모든 결재자의 대기 목록이 정확히 한 인스턴스(파티션 소유 Pod)에만 있고, 인스턴스마다 일부만 가짐
+ * - 한 인스턴스를 내리면 남은 인스턴스가 모든 파티션을 받아 재동기화 이벤트 발행
+ */
+@Tag("load")
+@DisplayName("결재자 대기 목록 샤딩 (Processing 인스턴스 2개)")
+class ApprovalInboxShardingLoadTest {
+
+    private static final String GROUP_ID = "sharding-processing";
+    private static final int PARTITIONS = 6;
+    private static final int APPROVERS = 120;
+    private static final int REQUESTS_PER_APPROVER = 5;
+    private static final Duration TIMEOUT = Duration.ofSeconds(60);
+
+    private static EmbeddedKafkaBroker broker;
+    private static ApprovalKafkaTopics topics;
+
+    @BeforeAll
+    static void startBroker() {
+        ((Logger) LoggerFactory.getLogger("com.example.demo")).setLevel(Level.WARN);
+        topics = new ApprovalKafkaTopics(PARTITIONS, (short) 1, PARTITIONS / 2);
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS);
+        broker.afterPropertiesSet();
+        broker.addTopics(topics.newTopic(ApprovalKafkaTopics.APPROVAL_REQUEST));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("결재자별 대기 목록이 소유 인스턴스 한 곳에만 쌓이고, 인스턴스가 빠지면 남은 쪽이 모두 소유")
+    void inboxesShardedByPartitionOwnership() throws Exception {
+        Instance a = Instance.start("10.0.0.1:8083");
+        Instance b = Instance.start("10.0.0.2:8083");
+        try {
+            // 두 인스턴스가 파티션을 나눠 갖고, 서로의 주소를 알 때까지 대기
+            await(() -> a.ownership.getOwnedPartitions().size() == PARTITIONS / 2
+                    && b.ownership.getOwnedPartitions().size() == PARTITIONS / 2
+                    && a.ownership.getOwners().size() == PARTITIONS
+                    && b.ownership.getOwners().size() == PARTITIONS);
+            assertThat(a.ownership.getOwners()).isEqualTo(b.ownership.getOwners());
+
+            // when - 절반은 approverId key, 절반은 이전 방식(requestId key)으로 발행
+            KafkaTemplate<String, ApprovalRequestMessage> template = template();
+            long requestId = 0;
+            for (int round = 0; round < REQUESTS_PER_APPROVER; round++) {
+                for (long approverId = 1; approverId <= APPROVERS; approverId++) {
+                    requestId++;
+                    String key = requestId % 2 == 0 ? String.valueOf(approverId) : String.valueOf(requestId);
+                    template.send(ApprovalKafkaTopics.APPROVAL_REQUEST, key, message(requestId, approverId));
+                }
+            }
+            template.flush();
+            await(() -> a.stored() + b.stored() == APPROVERS * REQUESTS_PER_APPROVER);
+
+            // then - 결재자마다 소유 인스턴스에만 모든 요청이 있고, 다른 인스턴스는 소유 Pod 주소를 알려줌
+            for (long approverId = 1; approverId <= APPROVERS; approverId++) {
+                Instance owner = a.ownership.owns(approverId) ? a : b;
+                Instance other = owner == a ? b : a;
+                assertThat(owner.repository.getPendingApprovals(approverId)).hasSize(REQUESTS_PER_APPROVER);
+                assertThat(other.repository.getPendingApprovals(approverId)).isEmpty();
+                assertThat(other.ownership.remoteOwner(approverId)).contains(owner.ownership.getAdvertisedAddress());
+                assertThat(owner.ownership.remoteOwner(approverId)).isEmpty();
+            }
+            System.out.printf("instance A: partitions=%s, approvers=%d, pending=%d%n",
+                    a.ownership.getOwnedPartitions(), a.repository.getAllPendingApprovals().size(), a.stored());
+            System.out.printf("instance B: partitions=%s, approvers=%d, pending=%d%n",
+                    b.ownership.getOwnedPartitions(), b.repository.getAllPendingApprovals().size(), b.stored());
+            assertThat(a.stored()).isLessThan(APPROVERS * REQUESTS_PER_APPROVER);
+            assertThat(b.stored()).isLessThan(APPROVERS * REQUESTS_PER_APPROVER);
+
+            // when - 인스턴스 B 종료
+            b.stop();
+
+            // then - A가 모든 파티션을 소유하고 재동기화 이벤트 발행
+            await(() -> a.ownership.getOwnedPartitions().size() == PARTITIONS
+                    && a.events.contains(new InboxOwnershipChangedEvent(allPartitions())));
+            assertThat(IntStream.rangeClosed(1, APPROVERS).allMatch(approverId -> a.ownership.owns((long) approverId)))
+                    .isTrue();
+        } finally {
+            a.stop();
+            b.stop();
+        }
+    }
+
+    private static Set<Integer> allPartitions() {
+        Set<Integer> partitions = new HashSet<>();
+        IntStream.range(0, PARTITIONS).forEach(partitions::add);
+        return partitions;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + TIMEOUT.toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(100);
+        }
+    }
+
+    private static KafkaTemplate<String, ApprovalRequestMessage> template() {
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(
+                Map.of(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()),
+                new StringSerializer(),
+                new ApprovalWireSerializer<ApprovalRequestMessage>(WireFormat.PROTOBUF, ApprovalProtoMapper::toProto)));
+    }
+
+    private static ApprovalRequestMessage message(long requestId, long approverId) {
+        return ApprovalRequestMessage.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .content("내용")
+                .steps(List.of(new ApprovalRequestMessage.StepInfo(1, approverId, "pending")))
+                .build();
+    }
+
+    /**
+     * Processing Service 인스턴스 1개 - KafkaConfig Listener + 소유권 + 재발행 + In-Memory 저장소
+     */
+    private static final class Instance {
+
+        final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+        final List<Object> events = new CopyOnWriteArrayList<>();
+        final ApprovalInboxOwnership ownership;
+        final ConcurrentMessageListenerContainer<String, ApprovalRequestMessage> container;
+
+        @SuppressWarnings("unchecked")
+        private Instance(String address) {
+            KafkaConfig kafkaConfig = new KafkaConfig();
+            ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", broker.getBrokersAsString());
+            ReflectionTestUtils.setField(kafkaConfig, "groupId", GROUP_ID);
+            ReflectionTestUtils.setField(kafkaConfig, "writeFormat", "protobuf");
+            ReflectionTestUtils.setField(kafkaConfig, "acceptFormats", "protobuf");
+            ReflectionTestUtils.setField(kafkaConfig, "changelogRetryInitialInterval", Duration.ofSeconds(1));
+            ReflectionTestUtils.setField(kafkaConfig, "changelogRetryMaxInterval", Duration.ofSeconds(30));
+
+            ObjectProvider<KafkaAdmin> kafkaAdmin = mock(ObjectProvider.class);
+            KafkaAdmin admin = new KafkaAdmin(Map.of(AdminClientConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString()));
+            when(kafkaAdmin.getIfAvailable()).thenReturn(admin);
+            when(kafkaAdmin.getObject()).thenReturn(admin);
+            ownership = new ApprovalInboxOwnership(topics, kafkaAdmin, events::add, new SimpleMeterRegistry(),
+                    true, address, 8083, GROUP_ID, Duration.ofSeconds(2));
+            ownership.startRefresh();
+
+            ApprovalRequestRerouter rerouter = new ApprovalRequestRerouter(kafkaConfig.approvalRequestKafkaTemplate());
+            ReflectionTestUtils.setField(rerouter, "rerouteTimeout", Duration.ofSeconds(10));
+            ApprovalRequestConsumer consumer = new ApprovalRequestConsumer(
+                    new ApprovalProcessingService(repository, mock(ApprovalResultSender.class)), ownership, rerouter);
+
+            container = kafkaConfig.kafkaListenerContainerFactory(topics, ownership)
+                    .createContainer(ApprovalKafkaTopics.APPROVAL_REQUEST);
+            container.getContainerProperties().setMessageListener(
+                    (MessageListener<String, ApprovalRequestMessage>) consumer::consumeApprovalRequest);
+        }
+
+        static Instance start(String address) {
+            Instance instance = new Instance(address);
+            instance.container.start();
+            return instance;
+        }
+
+        int stored() {
+            return repository.getAllPendingApprovals().values().stream().mapToInt(List<PendingApproval>::size).sum();
+        }
+
+        void stop() {
+            if (container.isRunning()) {
+                container.stop();
+            }
+            ownership.shutdown();
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApprovalResultMessage;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+@DisplayName("ApprovalResultProducer 테스트")
+class ApprovalResultProducerTest {
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, ApprovalResultMessage> kafkaTemplate = mock(KafkaTemplate.class);
+    private final ApprovalResultProducer producer = new ApprovalResultProducer(kafkaTemplate);
+
+    @Test
+    @DisplayName("일괄 전송 - 모두 send한 뒤 한 번 flush하고, 건별 전송 확인 결과를 입력 순서대로 반환")
+    void sendApprovalResults_SendAllThenFlushOnce() {
+        // given
+        ReflectionTestUtils.setField(producer, "batchSendTimeout", Duration.ofSeconds(1));
+        given(kafkaTemplate.send(eq(ApprovalKafkaTopics.APPROVAL_RESULT), eq("10"), any()))
+                .willReturn(CompletableFuture.completedFuture(mock(SendResult.class)));
+        given(kafkaTemplate.send(eq(ApprovalKafkaTopics.APPROVAL_RESULT), eq("11"), any()))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        given(kafkaTemplate.send(eq(ApprovalKafkaTopics.APPROVAL_RESULT), eq("12"), any()))
+                .willReturn(new CompletableFuture<>());
+
+        // when
+        List<Boolean> sent = producer.sendApprovalResults(List.of(result(10L), result(11L), result(12L)));
+
+        // then - 확인되지 않은 전송(12)은 제한 시간 후 실패로 처리
+        assertThat(sent).containsExactly(true, false, false);
+        InOrder order = inOrder(kafkaTemplate);
+        order.verify(kafkaTemplate, times(3)).send(eq(ApprovalKafkaTopics.APPROVAL_RESULT), anyString(), any());
+        order.verify(kafkaTemplate).flush();
+    }
+
+    private static ApprovalResultMessage result(Long requestId) {
+        return ApprovalResultMessage.builder()
+                .requestId(requestId)
+                .step(1)
+                .approverId(2L)
+                .status("approved")
+                .build();
+    }
+}
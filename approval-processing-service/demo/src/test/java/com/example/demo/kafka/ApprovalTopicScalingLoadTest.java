@@ -0,0 +1,164 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.listener.ConcurrentMessageListenerContainer;
+import org.springframework.kafka.listener.MessageListener;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.kafka.test.utils.ContainerTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 결재 토픽 파티션 확장 부하 테스트 (gradle loadTest)
+ * - ApprovalKafkaTopics로 1/2/3/6 파티션 토픽을 만들고, KafkaConfig의 Listener 설정(동시성 = 파티션 수)으로 소비
+ * - 레코드당 처리 비용(2ms)을 흉내 내어 파티션 수에 따라 처리량이 선형에 가깝게 늘어나는지 확인
+ * - 같은 requestId(key)의 메시지는 발행 순서대로 처리되는지 확인
+ */
+@Tag("load")
+@DisplayName("결재 토픽 파티션 확장 부하 테스트")
+class ApprovalTopicScalingLoadTest {
+
+    private static final int REQUESTS = 600;
+    private static final int MESSAGES_PER_REQUEST = 4;
+    private static final long WORK_MILLIS = 2;
+
+    private static EmbeddedKafkaBroker broker;
+
+    @BeforeAll
+    static void startBroker() {
+        broker = new EmbeddedKafkaKraftBroker(1, 1);
+        broker.afterPropertiesSet();
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("파티션 1 → 6: 처리량이 파티션 수에 비례해 증가하고 requestId별 순서 유지")
+    void throughputScalesWithPartitions() throws Exception {
+        Map<Integer, Double> throughput = new LinkedHashMap<>();
+        for (int partitions : new int[]{1, 2, 3, 6}) {
+            throughput.put(partitions, run(partitions));
+        }
+
+        double base = throughput.get(1);
+        throughput.forEach((partitions, perSecond) -> System.out.printf(
+                "partitions=%d throughput=%.0f msg/s speedup=%.2fx%n", partitions, perSecond, perSecond / base));
+
+        // key 해시 분포가 고르지 않은 만큼 여유를 두고, 파티션 수 대비 60% 이상의 배율을 기대
+        throughput.forEach((partitions, perSecond) ->
+                assertThat(perSecond / base).isGreaterThanOrEqualTo(partitions * 0.6));
+    }
+
+    private double run(int partitions) throws Exception {
+        String topic = ApprovalKafkaTopics.APPROVAL_REQUEST + "-load-" + partitions;
+        ApprovalKafkaTopics topics = new ApprovalKafkaTopics(partitions, (short) 1, 0);
+        broker.addTopics(topics.newTopic(topic));
+
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(kafkaConfig, "groupId", "load-test-" + partitions);
+        ReflectionTestUtils.setField(kafkaConfig, "writeFormat", "json");
+        ReflectionTestUtils.setField(kafkaConfig, "acceptFormats", "json,protobuf");
+        ReflectionTestUtils.setField(kafkaConfig, "changelogRetryInitialInterval", Duration.ofSeconds(1));
+        ReflectionTestUtils.setField(kafkaConfig, "changelogRetryMaxInterval", Duration.ofSeconds(30));
+
+        int total = REQUESTS * MESSAGES_PER_REQUEST;
+        CountDownLatch consumed = new CountDownLatch(total);
+        Map<Long, List<Integer>> sequencesByRequest = new ConcurrentHashMap<>();
+
+        ConcurrentMessageListenerContainer<String, ApprovalRequestMessage> container =
+                kafkaConfig.kafkaListenerContainerFactory(topics, ownership(topics, partitions)).createContainer(topic);
+        container.getContainerProperties().setMessageListener(
+                (MessageListener<String, ApprovalRequestMessage>) record -> {
+                    ApprovalRequestMessage message = record.value();
+                    sequencesByRequest.computeIfAbsent(message.getRequestId(),
+                                    id -> Collections.synchronizedList(new ArrayList<>()))
+                            .add(Integer.parseInt(message.getTitle()));
+                    sleep(WORK_MILLIS);
+                    consumed.countDown();
+                });
+        container.start();
+        try {
+            ContainerTestUtils.waitForAssignment(container, partitions);
+            assertThat(container.getConcurrency()).isEqualTo(partitions);
+
+            KafkaTemplate<String, ApprovalRequestMessage> template = template();
+            long started = System.nanoTime();
+            for (int sequence = 0; sequence < MESSAGES_PER_REQUEST; sequence++) {
+                for (long requestId = 1; requestId <= REQUESTS; requestId++) {
+                    template.send(topic, String.valueOf(requestId), ApprovalRequestMessage.builder()
+                            .requestId(requestId)
+                            .title(String.valueOf(sequence))
+                            .build());
+                }
+            }
+            template.flush();
+
+            assertThat(consumed.await(2, TimeUnit.MINUTES)).isTrue();
+            double seconds = (System.nanoTime() - started) / 1_000_000_000.0;
+
+            List<Integer> expected = IntStream.range(0, MESSAGES_PER_REQUEST).boxed().toList();
+            assertThat(sequencesByRequest).hasSize(REQUESTS);
+            sequencesByRequest.values().forEach(sequences -> assertThat(sequences).isEqualTo(expected));
+            return total / seconds;
+        } finally {
+            container.stop();
+        }
+    }
+
+    private KafkaTemplate<String, ApprovalRequestMessage> template() {
+        Map<String, Object> props = Map.of(
+                ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, broker.getBrokersAsString(),
+                ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class,
+                ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class,
+                ProducerConfig.LINGER_MS_CONFIG, 5,
+                JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return new KafkaTemplate<>(new DefaultKafkaProducerFactory<>(props));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 단일 Processing 인스턴스 - 모든 결재자를 직접 처리 (샤딩 비활성)
+     */
+    @SuppressWarnings("unchecked")
+    private static ApprovalInboxOwnership ownership(ApprovalKafkaTopics topics, int partitions) {
+        return new ApprovalInboxOwnership(topics, mock(ObjectProvider.class), event -> { }, new SimpleMeterRegistry(),
+                false, "localhost:8083", 8083, "load-test-" + partitions, Duration.ofSeconds(15));
+    }
+}
@@ -0,0 +1,124 @@
+package com.example.demo.kafka;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.example.demo.service.ApprovalProcessingService;
+import com.example.demo.service.ApprovalResultSender;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.test.EmbeddedKafkaBroker;
+import org.springframework.kafka.test.EmbeddedKafkaKraftBroker;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 대기 목록 changelog 복구 시간 측정 (gradle loadTest)
+ * - 결재자 APPROVERS명에게 REQUESTS_PER_APPROVER건씩 추가하고 절반을 처리(tombstone)한 changelog를
+ *   새 저장소로 복구 - Request Service 없이 기록된 레코드 수만큼만 읽음
+ */
+@Tag("load")
+@DisplayName("대기 목록 changelog 복구")
+class InboxChangelogLoadTest {
+
+    private static final int PARTITIONS = 6;
+    private static final int APPROVERS = 1_000;
+    private static final int REQUESTS_PER_APPROVER = 20;
+
+    private static EmbeddedKafkaBroker broker;
+    private static ApprovalKafkaTopics topics;
+
+    @BeforeAll
+    static void startBroker() {
+        ((Logger) LoggerFactory.getLogger("com.example.demo")).setLevel(Level.WARN);
+        topics = new ApprovalKafkaTopics(PARTITIONS, (short) 1, 0);
+        broker = new EmbeddedKafkaKraftBroker(1, PARTITIONS);
+        broker.afterPropertiesSet();
+        broker.addTopics(topics.newCompactedTopic(ApprovalKafkaTopics.APPROVAL_INBOX_CHANGELOG, Duration.ofHours(1)));
+    }
+
+    @AfterAll
+    static void stopBroker() {
+        broker.destroy();
+    }
+
+    @Test
+    @DisplayName("추가/처리가 기록된 changelog로 같은 대기 목록 복구")
+    @SuppressWarnings("unchecked")
+    void restoreFromChangelog() {
+        KafkaConfig kafkaConfig = new KafkaConfig();
+        ReflectionTestUtils.setField(kafkaConfig, "bootstrapServers", broker.getBrokersAsString());
+        ReflectionTestUtils.setField(kafkaConfig, "writeFormat", "protobuf");
+        ReflectionTestUtils.setField(kafkaConfig, "acceptFormats", "protobuf");
+        ApprovalInboxOwnership ownership = new ApprovalInboxOwnership(topics, mock(ObjectProvider.class), event -> { },
+                new SimpleMeterRegistry(), false, "localhost:8083", 8083, "changelog-load", Duration.ofSeconds(15));
+        try {
+            // given - 추가 후 절반 처리
+            InMemoryApprovalRepository before = new InMemoryApprovalRepository();
+            InboxChangelog writer = new InboxChangelog(before, ownership, kafkaConfig.inboxChangelogKafkaTemplate(),
+                    kafkaConfig.inboxChangelogConsumerFactory(), new SimpleMeterRegistry(), Duration.ofMinutes(2));
+            long writeStart = System.nanoTime();
+            long requestId = 0;
+            for (long approverId = 1; approverId <= APPROVERS; approverId++) {
+                for (int i = 0; i < REQUESTS_PER_APPROVER; i++) {
+                    before.addPendingApproval(approverId, approval(++requestId, approverId));
+                }
+                long first = requestId - REQUESTS_PER_APPROVER + 1;
+                before.removePendingApprovals(approverId,
+                        LongStream.range(first, first + REQUESTS_PER_APPROVER / 2).boxed().toList());
+            }
+            before.flushChanges();
+            long writeMillis = Duration.ofNanos(System.nanoTime() - writeStart).toMillis();
+
+            // when - 새 저장소로 복구
+            InMemoryApprovalRepository after = new InMemoryApprovalRepository();
+            ApprovalProcessingService service = new ApprovalProcessingService(after, mock(ApprovalResultSender.class));
+            InboxChangelog reader = new InboxChangelog(new InMemoryApprovalRepository(), ownership,
+                    kafkaConfig.inboxChangelogKafkaTemplate(), kafkaConfig.inboxChangelogConsumerFactory(),
+                    new SimpleMeterRegistry(), Duration.ofMinutes(2));
+            long restoreStart = System.nanoTime();
+            InboxChangelog.RestoreResult result = reader.restore(
+                    message -> service.receiveApprovalRequest(message, after),
+                    after::removePendingApproval);
+            long restoreMillis = Duration.ofNanos(System.nanoTime() - restoreStart).toMillis();
+
+            // then
+            int records = APPROVERS * REQUESTS_PER_APPROVER * 3 / 2;
+            System.out.printf("changelog: written=%d records in %dms, restored=%d records in %dms (%.0f records/s)%n",
+                    records, writeMillis, result.records(), restoreMillis,
+                    result.records() * 1000.0 / Math.max(1, restoreMillis));
+            assertThat(result.needsResync()).isFalse();
+            assertThat(result.records()).isEqualTo(records);
+            Map<Long, List<PendingApproval>> expected = before.getAllPendingApprovals();
+            assertThat(after.getAllPendingApprovals()).hasSameSizeAs(expected);
+            expected.forEach((approverId, approvals) -> assertThat(after.getPendingApprovals(approverId))
+                    .extracting(PendingApproval::getRequestId)
+                    .containsExactlyElementsOf(approvals.stream().map(PendingApproval::getRequestId).toList()));
+        } finally {
+            ownership.shutdown();
+        }
+    }
+
+    private static PendingApproval approval(long requestId, long approverId) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .step(1)
+                .build();
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.demo.kafka;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.MockConsumer;
+import org.apache.kafka.clients.consumer.OffsetResetStrategy;
+import org.apache.kafka.clients.producer.ProducerRecord;
+import org.apache.kafka.common.TopicPartition;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.kafka.core.ConsumerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("InboxChangelog 테스트")
+class InboxChangelogTest {
+
+    private static final int PARTITIONS = 3;
+    private static final String TOPIC = ApprovalKafkaTopics.APPROVAL_INBOX_CHANGELOG;
+
+    @SuppressWarnings("unchecked")
+    private final KafkaTemplate<String, ApprovalRequestMessage> kafkaTemplate = mock(KafkaTemplate.class);
+    @SuppressWarnings("unchecked")
+    private final ConsumerFactory<String, ApprovalRequestMessage> consumerFactory = mock(ConsumerFactory.class);
+    private final MockConsumer<String, ApprovalRequestMessage> consumer = new MockConsumer<>(OffsetResetStrategy.EARLIEST);
+    private final List<ProducerRecord<String, ApprovalRequestMessage>> written = new CopyOnWriteArrayList<>();
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    @SuppressWarnings("unchecked")
+    private final ApprovalInboxOwnership ownership = new ApprovalInboxOwnership(
+            new ApprovalKafkaTopics(PARTITIONS, (short) 1, 0), mock(ObjectProvider.class), event -> { },
+            new SimpleMeterRegistry(), false, "localhost:8083", 8083, "approval-processing-group", Duration.ofSeconds(15));
+    private InboxChangelog changelog;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        given(kafkaTemplate.send(any(ProducerRecord.class))).willAnswer(invocation -> {
+            written.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(mock(SendResult.class));
+        });
+        given(consumerFactory.createConsumer(null, "approval-inbox-restore")).willReturn(consumer);
+        changelog = new InboxChangelog(repository, ownership, kafkaTemplate, consumerFactory,
+                new SimpleMeterRegistry(), Duration.ofSeconds(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        ownership.shutdown();
+    }
+
+    @Test
+    @DisplayName("대기 목록 추가/제거 - 결재자 파티션에 approverId:requestId key로 본문과 함께 기록, 제거는 tombstone")
+    void changes_WrittenToApproverPartition() {
+        // when
+        repository.addPendingApproval(7L, approval(100L, 7L));
+        repository.addPendingApproval(7L, approval(100L, 7L));
+        repository.addPendingApproval(7L, approval(101L, 7L), new ApprovalBody("본문", List.of(
+                new ApprovalBody.StepInfo(1, 3L, "approved"), new ApprovalBody.StepInfo(2, 7L, "pending"))));
+        repository.removePendingApprovals(7L, List.of(100L, 101L));
+        repository.flushChanges();
+
+        // then
+        int partition = ownership.partitionOf(7L);
+        assertThat(written).extracting(ProducerRecord::topic).containsOnly(TOPIC);
+        assertThat(written).extracting(ProducerRecord::partition).containsOnly(partition);
+        assertThat(written).extracting(ProducerRecord::key).containsExactly("7:100", "7:101", "7:100", "7:101");
+        assertThat(written.get(0).value().getTitle()).isEqualTo("결재 100");
+        assertThat(written.get(0).value().pendingApproverId()).isEqualTo(7L);
+        assertThat(written.get(1).value().getContent()).isEqualTo("본문");
+        assertThat(written.get(1).value().getSteps()).extracting(ApprovalRequestMessage.StepInfo::getApproverId)
+                .containsExactly(3L, 7L);
+        assertThat(written.subList(2, 4)).extracting(ProducerRecord::value).containsOnlyNulls();
+        verify(kafkaTemplate).flush();
+    }
+
+    @Test
+    @DisplayName("기록 실패 - flush에서 InboxChangelogWriteException, 알린 실패는 다음 flush에 남지 않음")
+    @SuppressWarnings("unchecked")
+    void flush_ThrowsOnWriteFailure() {
+        // given
+        given(kafkaTemplate.send(any(ProducerRecord.class)))
+                .willReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        repository.addPendingApproval(7L, approval(100L, 7L));
+
+        // when & then
+        assertThatThrownBy(repository::flushChanges)
+                .isInstanceOf(InboxChangelogWriteException.class)
+                .hasRootCauseMessage("broker down");
+        repository.flushChanges();
+    }
+
+    @Test
+    @DisplayName("복구 - 모든 파티션을 처음부터 끝까지 기록 순서대로 전달")
+    void restore_ReplaysInOrder() {
+        // given - 결재자 7: 100, 101 추가 후 100 제거 / 결재자 8: 200 추가
+        long approver7 = 7L;
+        long approver8 = LongStream.iterate(8, id -> id + 1)
+                .filter(id -> ownership.partitionOf(id) != ownership.partitionOf(approver7))
+                .findFirst().orElseThrow();
+        List<ConsumerRecord<String, ApprovalRequestMessage>> records = new ArrayList<>();
+        records.add(record(approver7, 100L, 0, true));
+        records.add(record(approver7, 101L, 1, true));
+        records.add(record(approver7, 100L, 2, false));
+        records.add(record(approver8, 200L, 0, true));
+        prepare(records);
+
+        // when
+        List<String> applied = new ArrayList<>();
+        InboxChangelog.RestoreResult result = changelog.restore(
+                message -> applied.add("put " + message.pendingApproverId() + ":" + message.getRequestId()),
+                (approverId, requestId) -> applied.add("delete " + approverId + ":" + requestId));
+
+        // then
+        assertThat(result).isEqualTo(new InboxChangelog.RestoreResult(4, false, 0));
+        assertThat(result.needsResync()).isFalse();
+        assertThat(applied.stream().filter(change -> change.contains(" " + approver7 + ":")))
+                .containsExactly("put 7:100", "put 7:101", "delete 7:100");
+        assertThat(applied).contains("put " + approver8 + ":200");
+        assertThat(written).isEmpty();
+    }
+
+    @Test
+    @DisplayName("복구 - 한 번도 기록되지 않은 changelog는 empty로 알림")
+    void restore_EmptyChangelog() {
+        prepare(List.of());
+
+        InboxChangelog.RestoreResult result = changelog.restore(message -> { }, (approverId, requestId) -> { });
+
+        assertThat(result).isEqualTo(new InboxChangelog.RestoreResult(0, true, 0));
+        assertThat(result.needsResync()).isTrue();
+    }
+
+    @Test
+    @DisplayName("복구 - 결재자 파티션과 다른 곳의 레코드(파티션 수 변경)는 전달하지 않고 tombstone으로 정리")
+    void restore_MisplacedRecordsTombstoned() {
+        // given
+        int wrongPartition = (ownership.partitionOf(7L) + 1) % PARTITIONS;
+        prepare(List.of(new ConsumerRecord<>(TOPIC, wrongPartition, 0, "7:100", message(100L, 7L))));
+
+        // when
+        List<ApprovalRequestMessage> put = new ArrayList<>();
+        InboxChangelog.RestoreResult result = changelog.restore(put::add, (approverId, requestId) -> { });
+
+        // then
+        assertThat(put).isEmpty();
+        assertThat(result.misplaced()).isEqualTo(1);
+        assertThat(result.needsResync()).isTrue();
+        assertThat(written).singleElement().satisfies(tombstone -> {
+            assertThat(tombstone.partition()).isEqualTo(wrongPartition);
+            assertThat(tombstone.key()).isEqualTo("7:100");
+            assertThat(tombstone.value()).isNull();
+        });
+    }
+
+    @Test
+    @DisplayName("Request Service 기준 기록 - 받은 목록은 모두 기록, 복구했지만 없는 결재는 tombstone")
+    void seed_WritesLoadedAndRemovesStale() {
+        // given
+        InMemoryApprovalRepository loaded = new InMemoryApprovalRepository();
+        loaded.addPendingApproval(7L, approval(100L, 7L));
+        Map<Long, List<PendingApproval>> restored = Map.of(7L, List.of(approval(100L, 7L), approval(101L, 7L)));
+
+        // when
+        int count = changelog.seed(loaded, restored);
+
+        // then
+        assertThat(count).isEqualTo(2);
+        assertThat(written).extracting(ProducerRecord::key).containsExactly("7:100", "7:101");
+        assertThat(written.get(0).value()).isNotNull();
+        assertThat(written.get(1).value()).isNull();
+    }
+
+    /**
+     * 모든 파티션의 시작/끝 offset을 맞추고, 첫 poll에 레코드가 오도록 예약
+     */
+    private void prepare(List<ConsumerRecord<String, ApprovalRequestMessage>> records) {
+        Map<TopicPartition, Long> beginning = new HashMap<>();
+        Map<TopicPartition, Long> end = new HashMap<>();
+        for (int partition = 0; partition < PARTITIONS; partition++) {
+            beginning.put(new TopicPartition(TOPIC, partition), 0L);
+            end.put(new TopicPartition(TOPIC, partition), 0L);
+        }
+        records.forEach(record -> end.merge(new TopicPartition(TOPIC, record.partition()), 1L, Long::sum));
+        consumer.updateBeginningOffsets(beginning);
+        consumer.updateEndOffsets(end);
+        consumer.schedulePollTask(() -> records.forEach(consumer::addRecord));
+    }
+
+    private ConsumerRecord<String, ApprovalRequestMessage> record(long approverId, long requestId, long offset,
+                                                                  boolean put) {
+        return new ConsumerRecord<>(TOPIC, ownership.partitionOf(approverId), offset,
+                InboxChangelog.key(approverId, requestId), put ? message(requestId, approverId) : null);
+    }
+
+    private static ApprovalRequestMessage message(long requestId, long approverId) {
+        return ApprovalRequestMessage.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .steps(List.of(new ApprovalRequestMessage.StepInfo(1, approverId, "pending")))
+                .build();
+    }
+
+    private static PendingApproval approval(long requestId, long approverId) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .step(1)
+                .build();
+    }
+}
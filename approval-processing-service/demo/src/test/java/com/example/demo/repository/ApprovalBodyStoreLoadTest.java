@@ -0,0 +1,145 @@
+package com.example.demo.repository;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 대기 결재 1,000,000건의 heap 사용량 벤치마크 (gradle loadTest)
+ * - 본문 포함: 이전 방식처럼 대기 항목마다 내용 문자열과 결재 단계 객체를 그대로 보관
+ * - 헤더 + 압축 본문: 대기 항목은 헤더만, 본문은 requestId별 압축 바이트로 보관
+ * - 본문은 결재마다 새로 만든 문자열(Kafka 메시지를 역직렬화한 것과 같은 상태)로 채우고, GC 후 사용량 차이를 비교
+ */
+@Tag("load")
+@DisplayName("대기 결재 heap 사용량 벤치마크")
+class ApprovalBodyStoreLoadTest {
+
+    private static final int PENDING = 1_000_000;
+    private static final int APPROVERS = 5_000;
+    private static final int OPENED = 10_000;
+
+    private static final String[] DEPARTMENTS = {"개발", "재무", "인사", "영업", "마케팅", "총무", "법무", "구매"};
+    private static final String[] ITEMS = {"노트북", "모니터", "서버", "소프트웨어 라이선스", "사무용 가구", "교육 과정", "출장 경비"};
+
+    @BeforeAll
+    static void quietLogs() {
+        ((Logger) LoggerFactory.getLogger("com.example.demo")).setLevel(Level.WARN);
+    }
+
+    @Test
+    @DisplayName("1,000,000건: 본문 포함 vs 헤더 + 압축 본문")
+    void heapFootprint() throws InterruptedException {
+        // 본문 포함 (이전 방식) - 헤더와 같은 저장소 + 결재별 본문 객체
+        long base = usedHeap();
+        InMemoryApprovalRepository full = new InMemoryApprovalRepository();
+        Map<Long, ApprovalBody> fullBodies = new HashMap<>();
+        long contentChars = fill(full, fullBodies);
+        long fullBytes = usedHeap() - base;
+        assertThat(full.getApprovalBodyCount()).isZero();
+        full = null;
+        fullBodies = null;
+
+        // 헤더 + 압축 본문
+        base = usedHeap();
+        InMemoryApprovalRepository compact = new InMemoryApprovalRepository();
+        fill(compact, null);
+        long compactBytes = usedHeap() - base;
+        assertThat(compact.getApprovalBodyCount()).isEqualTo(PENDING);
+
+        // 단건 조회 시 본문 복원 비용
+        Random random = new Random(7);
+        long start = System.nanoTime();
+        long sink = 0;
+        for (int i = 0; i < OPENED; i++) {
+            sink += compact.findApprovalBody(1L + random.nextInt(PENDING)).orElseThrow().getContent().length();
+        }
+        double openMicros = (System.nanoTime() - start) / 1_000.0 / OPENED;
+
+        System.out.printf("pending=%,d, avg content=%d chars%n", PENDING, contentChars / PENDING);
+        System.out.printf("full body        : %,6d MB (%,d B/entry)%n", fullBytes >> 20, fullBytes / PENDING);
+        System.out.printf("header+compressed: %,6d MB (%,d B/entry, compressed bodies %,d MB)%n",
+                compactBytes >> 20, compactBytes / PENDING, compact.getApprovalBodyBytes() >> 20);
+        System.out.printf("header+compressed/full body: %.2f, open (decompress) %.1fus (sink=%d)%n",
+                (double) compactBytes / fullBytes, openMicros, sink % 10);
+        assertThat(compactBytes).isLessThan(fullBytes * 6 / 10);
+    }
+
+    /**
+     * PENDING건을 결재자 APPROVERS명에게 나눠 저장 - fullBodies가 있으면 본문을 압축하지 않고 그대로 보관
+     *
+     * @return 내용 글자 수 합계
+     */
+    private static long fill(InMemoryApprovalRepository repository, Map<Long, ApprovalBody> fullBodies) {
+        Random random = new Random(42);
+        long chars = 0;
+        for (long requestId = 1; requestId <= PENDING; requestId++) {
+            long approverId = requestId % APPROVERS;
+            ApprovalBody body = body(random, requestId, approverId);
+            chars += body.getContent().length();
+            PendingApproval header = PendingApproval.builder()
+                    .requestId(requestId)
+                    .requesterId(1_000L + random.nextInt(10_000))
+                    .title(String.format("[%s팀] %s 구매 품의 #%d", DEPARTMENTS[random.nextInt(DEPARTMENTS.length)],
+                            ITEMS[random.nextInt(ITEMS.length)], requestId))
+                    .step(2)
+                    .build();
+            if (fullBodies != null) {
+                repository.addPendingApproval(approverId, header);
+                fullBodies.put(requestId, body);
+            } else {
+                repository.addPendingApproval(approverId, header, body);
+            }
+        }
+        return chars;
+    }
+
+    /**
+     * 품의서 형식의 본문 - 항목 수에 따라 길이가 다름 (약 200 ~ 500자)
+     */
+    private static ApprovalBody body(Random random, long requestId, long approverId) {
+        String department = DEPARTMENTS[random.nextInt(DEPARTMENTS.length)];
+        StringBuilder content = new StringBuilder()
+                .append("1. 목적: ").append(department).append("팀 업무 환경 개선 및 ")
+                .append(2024 + random.nextInt(2)).append("년 ").append(1 + random.nextInt(4))
+                .append("분기 사업 계획에 따른 구매 요청드립니다.\n2. 세부 내역\n");
+        int lines = 2 + random.nextInt(6);
+        long total = 0;
+        for (int line = 1; line <= lines; line++) {
+            int quantity = 1 + random.nextInt(20);
+            int price = (10 + random.nextInt(500)) * 10_000;
+            total += (long) quantity * price;
+            content.append("  - ").append(ITEMS[random.nextInt(ITEMS.length)]).append(' ')
+                    .append(quantity).append("개, 단가 ").append(String.format("%,d", price)).append("원\n");
+        }
+        content.append("3. 합계: ").append(String.format("%,d", total)).append("원 (부가세 별도)\n")
+                .append("4. 비고: 예산 코드 B-").append(requestId % 977).append(" 집행, 견적서 첨부. 검토 후 승인 부탁드립니다.");
+        List<ApprovalBody.StepInfo> steps = new ArrayList<>(3);
+        steps.add(new ApprovalBody.StepInfo(1, approverId + 1, new String("approved")));
+        steps.add(new ApprovalBody.StepInfo(2, approverId, new String("pending")));
+        steps.add(new ApprovalBody.StepInfo(3, approverId + 2, new String("pending")));
+        return new ApprovalBody(content.toString(), List.copyOf(steps));
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(200);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
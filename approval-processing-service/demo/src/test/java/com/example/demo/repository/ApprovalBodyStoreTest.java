@@ -0,0 +1,85 @@
+package com.example.demo.repository;
+
+import com.example.demo.model.ApprovalBody;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("ApprovalBodyStore 테스트")
+class ApprovalBodyStoreTest {
+
+    private final ApprovalBodyStore store = new ApprovalBodyStore();
+
+    @Test
+    @DisplayName("긴 본문 - 압축해 저장하고 그대로 복원")
+    void longBody_DeflatedAndRestored() {
+        // given
+        String content = "개발팀 2024년 1분기 예산 집행 승인 요청드립니다. 서버 증설 및 라이선스 갱신 비용 포함. ".repeat(20);
+        ApprovalBody body = new ApprovalBody(content, List.of(
+                new ApprovalBody.StepInfo(1, 5L, "approved"),
+                new ApprovalBody.StepInfo(2, 7L, "pending")));
+
+        // when
+        byte[] encoded = ApprovalBodyStore.encode(body);
+
+        // then
+        assertThat(encoded.length).isLessThan(content.getBytes(StandardCharsets.UTF_8).length / 4);
+        assertThat(ApprovalBodyStore.decode(encoded)).isEqualTo(body);
+    }
+
+    @Test
+    @DisplayName("짧은 본문과 빈 값 - 압축 없이 저장하고 null도 그대로 복원")
+    void shortAndNullBody_Restored() {
+        ApprovalBody empty = new ApprovalBody(null, null);
+        ApprovalBody partial = new ApprovalBody("", List.of(new ApprovalBody.StepInfo(null, null, null)));
+
+        assertThat(ApprovalBodyStore.decode(ApprovalBodyStore.encode(empty))).isEqualTo(empty);
+        assertThat(ApprovalBodyStore.decode(ApprovalBodyStore.encode(partial))).isEqualTo(partial);
+        assertThat(ApprovalBodyStore.encode(partial).length).isLessThan(ApprovalBodyStore.COMPRESS_THRESHOLD);
+    }
+
+    @Test
+    @DisplayName("참조 수 - 대기 항목마다 retain, 모두 release되면 제거")
+    void retainRelease_CountsReferences() {
+        // given
+        store.retain(100L, ApprovalBodyStore.encode(new ApprovalBody("첫 본문", List.of())));
+        store.retain(100L, ApprovalBodyStore.encode(new ApprovalBody("새 본문", List.of())));
+
+        // when
+        store.release(100L);
+
+        // then
+        assertThat(store.find(100L)).map(ApprovalBody::getContent).contains("새 본문");
+        store.release(100L);
+        assertThat(store.find(100L)).isEmpty();
+        assertThat(store.size()).isZero();
+        store.release(100L);
+        assertThat(store.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("본문 없는 retain도 참조 수에 포함 - 그 항목의 release가 남은 본문을 지우지 않음")
+    void retainWithoutBody_KeepsReferencesBalanced() {
+        // given - 본문 있는 항목 하나, 본문 없는 항목 하나
+        store.retain(100L, ApprovalBodyStore.encode(new ApprovalBody("본문", List.of())));
+        store.retain(100L, null);
+
+        // when - 본문 없는 항목이 먼저 빠짐
+        store.release(100L);
+
+        // then - 본문 있는 항목이 남아 있으므로 유지, 마지막 release에서 제거
+        assertThat(store.find(100L)).map(ApprovalBody::getContent).contains("본문");
+        store.release(100L);
+        assertThat(store.find(100L)).isEmpty();
+
+        // 본문 없이만 추가된 결재는 본문 수에 들어가지 않음
+        store.retain(101L, null);
+        assertThat(store.find(101L)).isEmpty();
+        assertThat(store.size()).isZero();
+        assertThat(store.storedBytes()).isZero();
+    }
+}
@@ -0,0 +1,217 @@
+package com.example.demo.repository;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.example.demo.model.InboxSort;
+import com.example.demo.model.PendingApproval;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결재 대기 저장소 동시 처리량 벤치마크 (gradle loadTest)
+ * - 공용 결재함처럼 대기 건수가 많은 경우(결재자 64명 × 2,000건)를 채운 뒤
+ *   64개 스레드가 추가 25% / 제거 25% / 단건 조회 10% / 목록 조회 40%를 섞어 실행
+ *   (목록 조회는 앞 20건 한 페이지를 읽음 - 이전 구현은 잠금 안에서 목록을 복사한 뒤 앞부분을 읽음)
+ * - 기존 구현(결재자별 synchronizedList + 선형 탐색)과 현재 구현(requestId 인덱스 + 정렬 skip list)의 초당 처리 건수 비교
+ * - JIT 순서 영향을 줄이기 위해 두 구현을 모두 warmup한 뒤 번갈아 측정하고, 구현별 최고값을 비교
+ */
+@Tag("load")
+@DisplayName("결재 대기 저장소 동시 처리량 벤치마크")
+class InMemoryApprovalRepositoryLoadTest {
+
+    private static final int THREADS = 64;
+    private static final int APPROVERS = 64;
+    private static final int PRELOADED_PER_APPROVER = 2_000;
+    private static final long WARMUP_MILLIS = 1_000;
+    private static final long MEASURE_MILLIS = 2_000;
+    private static final int ROUNDS = 2;
+    private static final int PAGE_SIZE = 20;
+
+    @BeforeAll
+    static void quietLogs() {
+        ((Logger) LoggerFactory.getLogger("com.example.demo")).setLevel(Level.WARN);
+    }
+
+    @Test
+    @DisplayName("64 스레드 혼합 부하: synchronizedList vs 2단계 인덱스")
+    void mixedWorkloadThroughput() throws Exception {
+        run("synchronizedList", new LegacyInbox(), WARMUP_MILLIS);
+        run("indexed", new IndexedInbox(), WARMUP_MILLIS);
+
+        double legacy = 0;
+        double indexed = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            legacy = Math.max(legacy, run("synchronizedList", new LegacyInbox(), MEASURE_MILLIS));
+            indexed = Math.max(indexed, run("indexed", new IndexedInbox(), MEASURE_MILLIS));
+        }
+
+        System.out.printf("synchronizedList: %,12.0f ops/s%n", legacy);
+        System.out.printf("indexed         : %,12.0f ops/s%n", indexed);
+        System.out.printf("indexed/synchronizedList: %.2f%n", indexed / legacy);
+        assertThat(indexed).isGreaterThan(legacy);
+    }
+
+    /**
+     * 저장소를 채운 뒤 THREADS개 스레드로 millis 동안 혼합 부하를 걸고 초당 처리 건수 반환
+     */
+    private double run(String name, Inbox inbox, long millis) throws Exception {
+        AtomicLong nextRequestId = new AtomicLong();
+        for (long approverId = 0; approverId < APPROVERS; approverId++) {
+            for (int i = 0; i < PRELOADED_PER_APPROVER; i++) {
+                inbox.add(approverId, approval(nextRequestId.incrementAndGet(), approverId));
+            }
+        }
+        long preloaded = nextRequestId.get();
+
+        LongAdder operations = new LongAdder();
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long[] deadline = new long[1];
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                // 이 스레드가 추가한 결재 (먼저 추가한 것부터 제거)
+                ArrayDeque<long[]> added = new ArrayDeque<>();
+                long count = 0;
+                long sink = 0;
+                try {
+                    start.await();
+                    while (System.nanoTime() < deadline[0]) {
+                        long approverId = random.nextInt(APPROVERS);
+                        int op = random.nextInt(100);
+                        if (op < 25 || (op < 50 && added.isEmpty())) {
+                            long requestId = nextRequestId.incrementAndGet();
+                            inbox.add(approverId, approval(requestId, approverId));
+                            added.add(new long[]{approverId, requestId});
+                        } else if (op < 50) {
+                            long[] oldest = added.poll();
+                            inbox.remove(oldest[0], oldest[1]);
+                        } else if (op < 60) {
+                            sink += inbox.find(approverId, 1 + random.nextLong(preloaded)).isPresent() ? 1 : 0;
+                        } else {
+                            for (PendingApproval approval : inbox.page(approverId, PAGE_SIZE)) {
+                                sink += approval.getRequestId();
+                            }
+                        }
+                        count++;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    operations.add(count + (sink == 42 ? 1 : 0));
+                    done.countDown();
+                }
+            }, name + "-" + t);
+            threads.add(thread);
+            thread.start();
+        }
+
+        deadline[0] = System.nanoTime() + millis * 1_000_000;
+        start.countDown();
+        done.await();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return operations.sum() * 1_000.0 / millis;
+    }
+
+    private static PendingApproval approval(long requestId, long approverId) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .step(1)
+                .build();
+    }
+
+    private interface Inbox {
+        void add(Long approverId, PendingApproval approval);
+
+        List<PendingApproval> page(Long approverId, int limit);
+
+        Optional<PendingApproval> find(Long approverId, Long requestId);
+
+        boolean remove(Long approverId, Long requestId);
+    }
+
+    private static final class IndexedInbox implements Inbox {
+
+        private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+
+        @Override
+        public void add(Long approverId, PendingApproval approval) {
+            repository.addPendingApproval(approverId, approval);
+        }
+
+        @Override
+        public List<PendingApproval> page(Long approverId, int limit) {
+            return repository.getPendingApprovals(approverId, InboxSort.PRIORITY, null, limit);
+        }
+
+        @Override
+        public Optional<PendingApproval> find(Long approverId, Long requestId) {
+            return repository.findPendingApproval(approverId, requestId);
+        }
+
+        @Override
+        public boolean remove(Long approverId, Long requestId) {
+            return repository.removePendingApproval(approverId, requestId);
+        }
+    }
+
+    /**
+     * 이전 구현 - 결재자별 synchronizedList, 조회/제거는 선형 탐색
+     * (목록/단건 조회는 동시 변경 중에도 안전하도록 리스트 잠금 안에서 복사/탐색)
+     */
+    private static final class LegacyInbox implements Inbox {
+
+        private final Map<Long, List<PendingApproval>> pendingApprovals = new ConcurrentHashMap<>();
+
+        @Override
+        public void add(Long approverId, PendingApproval approval) {
+            pendingApprovals.computeIfAbsent(approverId, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(approval);
+        }
+
+        @Override
+        public List<PendingApproval> page(Long approverId, int limit) {
+            List<PendingApproval> approvals = new ArrayList<>(pendingApprovals.getOrDefault(approverId, Collections.emptyList()));
+            return approvals.subList(0, Math.min(limit, approvals.size()));
+        }
+
+        @Override
+        public Optional<PendingApproval> find(Long approverId, Long requestId) {
+            List<PendingApproval> approvals = pendingApprovals.get(approverId);
+            if (approvals == null) {
+                return Optional.empty();
+            }
+            synchronized (approvals) {
+                return approvals.stream().filter(a -> a.getRequestId().equals(requestId)).findFirst();
+            }
+        }
+
+        @Override
+        public boolean remove(Long approverId, Long requestId) {
+            List<PendingApproval> approvals = pendingApprovals.get(approverId);
+            return approvals != null && approvals.removeIf(a -> a.getRequestId().equals(requestId));
+        }
+    }
+}
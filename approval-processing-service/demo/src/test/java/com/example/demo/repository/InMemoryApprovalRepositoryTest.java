@@ -1,10 +1,14 @@
 package com.example.demo.repository;
 
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.InboxSort;
 import com.example.demo.model.PendingApproval;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -12,6 +16,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("InMemoryApprovalRepository 테스트")
 class InMemoryApprovalRepositoryTest {
 
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 10, 1, 9, 0);
+
     private InMemoryApprovalRepository repository;
 
     @BeforeEach
@@ -52,6 +58,153 @@ class InMemoryApprovalRepositoryTest {
         assertThat(result).hasSize(2);
     }
 
+    @Test
+    @DisplayName("결재 대기 추가 - 같은 결재가 다시 들어와도 한 번만 저장")
+    void addPendingApproval_duplicateIgnored() {
+        // given
+        Long approverId = 1L;
+        PendingApproval approval = createPendingApproval(100L, 10L, "테스트 결재");
+
+        // when
+        boolean first = repository.addPendingApproval(approverId, approval);
+        boolean redelivered = repository.addPendingApproval(approverId, createPendingApproval(100L, 10L, "테스트 결재"));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(redelivered).isFalse();
+        assertThat(repository.getPendingApprovals(approverId)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("결재 대기 목록 조회 - requestId 순서 스냅샷 (이후 변경의 영향 없음)")
+    void getPendingApprovals_orderedSnapshot() {
+        // given
+        Long approverId = 1L;
+        repository.addPendingApproval(approverId, createPendingApproval(300L, 10L, "테스트 3"));
+        repository.addPendingApproval(approverId, createPendingApproval(100L, 10L, "테스트 1"));
+        repository.addPendingApproval(approverId, createPendingApproval(200L, 10L, "테스트 2"));
+
+        // when
+        List<PendingApproval> snapshot = repository.getPendingApprovals(approverId);
+        repository.removePendingApproval(approverId, 200L);
+        repository.addPendingApproval(approverId, createPendingApproval(400L, 10L, "테스트 4"));
+
+        // then
+        assertThat(snapshot).extracting(PendingApproval::getRequestId).containsExactly(100L, 200L, 300L);
+        assertThat(repository.getPendingApprovals(approverId)).extracting(PendingApproval::getRequestId)
+                .containsExactly(100L, 300L, 400L);
+    }
+
+    @Test
+    @DisplayName("결재 대기 제거 - 마지막 건이 빠지면 결재자 항목도 제거")
+    void removePendingApproval_lastRemovesApprover() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재"));
+
+        // when
+        boolean removed = repository.removePendingApproval(1L, 100L);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(repository.getAllPendingApprovals()).doesNotContainKey(1L);
+        assertThat(repository.findPendingApproval(1L, 100L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결재 대기 일괄 제거 - 있는 건만 한 번에 제거하고, 남은 목록은 순서 유지")
+    void removePendingApprovals_removesExistingOnly() {
+        // given
+        for (long requestId = 100; requestId <= 104; requestId++) {
+            repository.addPendingApproval(1L, createPendingApproval(requestId, 10L, "테스트 결재 " + requestId));
+        }
+        List<PendingApproval> before = repository.getPendingApprovals(1L);
+
+        // when
+        List<Long> removed = repository.removePendingApprovals(1L, List.of(103L, 101L, 999L));
+
+        // then
+        assertThat(removed).containsExactly(103L, 101L);
+        assertThat(repository.getPendingApprovals(1L)).extracting(PendingApproval::getRequestId)
+                .containsExactly(100L, 102L, 104L);
+        assertThat(before).hasSize(5);
+        assertThat(repository.findPendingApproval(1L, 101L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("결재 대기 일괄 제거 - 모두 빠지면 결재자 항목도 제거, 재적재 중이면 새 목록에도 반영")
+    void removePendingApprovals_allRemovedAndJournaled() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재 1"));
+        repository.addPendingApproval(1L, createPendingApproval(101L, 10L, "테스트 결재 2"));
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, createPendingApproval(100L, 10L, "동기화된 결재 1"));
+        loaded.addPendingApproval(1L, createPendingApproval(101L, 10L, "동기화된 결재 2"));
+
+        // when
+        repository.removePendingApprovals(1L, List.of(100L, 101L));
+
+        // then
+        assertThat(repository.getAllPendingApprovals()).doesNotContainKey(1L);
+        repository.completeReload(loaded);
+        assertThat(repository.getAllPendingApprovals()).doesNotContainKey(1L);
+    }
+
+    @Test
+    @DisplayName("변경 알림 - 새로 추가/제거된 결재만 순서대로 알리고, 재적재 교체 후 reloaded")
+    void changeListener_notifiedInOrder() {
+        // given
+        List<String> changes = new ArrayList<>();
+        repository.addChangeListener(new InboxChangeListener() {
+            @Override
+            public void added(Long approverId, PendingApproval approval, ApprovalBody body) {
+                changes.add("added " + approverId + ":" + approval.getRequestId());
+            }
+
+            @Override
+            public void removed(Long approverId, List<Long> requestIds) {
+                changes.add("removed " + approverId + ":" + requestIds);
+            }
+
+            @Override
+            public void reloaded() {
+                changes.add("reloaded");
+            }
+        });
+
+        // when
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재 1"));
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재 1"));
+        repository.addPendingApproval(1L, createPendingApproval(101L, 10L, "테스트 결재 2"));
+        repository.addPendingApproval(1L, createPendingApproval(102L, 10L, "테스트 결재 3"));
+        repository.removePendingApproval(1L, 100L);
+        repository.removePendingApproval(1L, 999L);
+        repository.removePendingApprovals(1L, List.of(101L, 102L, 999L));
+        repository.completeReload(repository.beginReload());
+
+        // then
+        assertThat(changes).containsExactly(
+                "added 1:100", "added 1:101", "added 1:102",
+                "removed 1:[100]", "removed 1:[101, 102]",
+                "reloaded");
+    }
+
+    @Test
+    @DisplayName("결재 대기 목록 전달 - 없는 결재자는 빈 목록, 결재자 항목을 만들지 않음")
+    void withPendingApprovals_snapshot() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재"));
+        List<List<PendingApproval>> received = new ArrayList<>();
+
+        // when
+        repository.withPendingApprovals(1L, received::add);
+        repository.withPendingApprovals(2L, received::add);
+
+        // then
+        assertThat(received.get(0)).extracting(PendingApproval::getRequestId).containsExactly(100L);
+        assertThat(received.get(1)).isEmpty();
+        assertThat(repository.getAllPendingApprovals()).containsOnlyKeys(1L);
+    }
+
     @Test
     @DisplayName("결재 대기 목록 조회 - 빈 목록")
     void getPendingApprovals_empty() {
@@ -112,19 +265,234 @@ class InMemoryApprovalRepositoryTest {
         assertThat(repository.getPendingApprovals(2L)).isEmpty();
     }
 
+    @Test
+    @DisplayName("재적재 - 완료 전까지는 기존 목록을 그대로 조회")
+    void reload_keepsExistingUntilCompleted() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "기존 결재"));
+
+        // when
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, createPendingApproval(200L, 10L, "동기화된 결재"));
+
+        // then
+        assertThat(repository.getPendingApprovals(1L)).extracting(PendingApproval::getRequestId).containsExactly(100L);
+
+        repository.completeReload(loaded);
+        assertThat(repository.getPendingApprovals(1L)).extracting(PendingApproval::getRequestId).containsExactly(200L);
+    }
+
+    @Test
+    @DisplayName("재적재 - 적재 중 들어온 추가/제거를 교체 시 새 목록에 반영")
+    void reload_replaysChangesDuringLoad() {
+        // given
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, createPendingApproval(100L, 10L, "동기화된 결재"));
+        loaded.addPendingApproval(1L, createPendingApproval(101L, 10L, "적재 중 처리된 결재"));
+
+        // when - 적재 중 실시간 수신 2건 (1건은 적재분과 중복), 처리 1건
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "동기화된 결재"));
+        repository.addPendingApproval(2L, createPendingApproval(300L, 10L, "새 결재"));
+        repository.removePendingApproval(1L, 101L);
+        int replayed = repository.completeReload(loaded);
+
+        // then
+        assertThat(replayed).isEqualTo(3);
+        assertThat(repository.getPendingApprovals(1L)).extracting(PendingApproval::getRequestId).containsExactly(100L);
+        assertThat(repository.getPendingApprovals(2L)).extracting(PendingApproval::getRequestId).containsExactly(300L);
+    }
+
+    @Test
+    @DisplayName("재적재 취소 - 기존 목록 유지, 이후 변경은 기록하지 않음")
+    void reload_abortKeepsExisting() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "기존 결재"));
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, createPendingApproval(200L, 10L, "동기화된 결재"));
+
+        // when
+        repository.abortReload();
+        repository.addPendingApproval(1L, createPendingApproval(101L, 10L, "새 결재"));
+
+        // then
+        assertThat(repository.getPendingApprovals(1L)).extracting(PendingApproval::getRequestId)
+                .containsExactly(100L, 101L);
+    }
+
+    @Test
+    @DisplayName("결재 본문 - 같은 결재는 한 번만 보관하고 마지막 대기 항목이 빠질 때 함께 제거")
+    void approvalBody_storedOncePerRequest() {
+        // given - 단계 이동 중 같은 결재가 두 결재자 대기 목록에 있음
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재"), body("1단계 본문"));
+        repository.addPendingApproval(2L, createPendingApproval(100L, 10L, "테스트 결재"), body("2단계 본문"));
+        repository.addPendingApproval(1L, createPendingApproval(101L, 10L, "본문 없는 결재"));
+
+        // then - 최신 본문 하나
+        assertThat(repository.getApprovalBodyCount()).isEqualTo(1);
+        assertThat(repository.findApprovalBody(100L)).map(ApprovalBody::getContent).contains("2단계 본문");
+        assertThat(repository.findApprovalBody(101L)).isEmpty();
+
+        // when - 한쪽이 빠지면 본문 유지, 마지막이 빠지면 제거
+        repository.removePendingApproval(1L, 100L);
+        assertThat(repository.findApprovalBody(100L)).isPresent();
+        repository.removePendingApprovals(2L, List.of(100L));
+
+        // then
+        assertThat(repository.findApprovalBody(100L)).isEmpty();
+        assertThat(repository.getApprovalBodyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결재 본문 - 본문 없이 추가된 항목이 빠져도 다른 결재자의 본문은 유지, 중복 추가는 본문도 무시")
+    void approvalBody_bodilessEntryDoesNotReleaseOthers() {
+        // given - 결재자 1은 본문과 함께, 결재자 2는 본문 없이(재동기화 등) 같은 결재를 가짐
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재"), body("본문"));
+        repository.addPendingApproval(2L, createPendingApproval(100L, 10L, "테스트 결재"));
+        // 같은 결재자에 중복 수신 - 추가되지 않으므로 본문도 그대로
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "테스트 결재"), body("중복 본문"));
+
+        // when
+        repository.removePendingApproval(2L, 100L);
+
+        // then
+        assertThat(repository.findApprovalBody(100L)).map(ApprovalBody::getContent).contains("본문");
+        repository.removePendingApproval(1L, 100L);
+        assertThat(repository.findApprovalBody(100L)).isEmpty();
+        assertThat(repository.getApprovalBodyCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("결재 본문 - 재적재 시 새 저장소의 본문으로 교체, 적재 중 추가된 본문도 반영")
+    void approvalBody_swappedOnReload() {
+        // given
+        repository.addPendingApproval(1L, createPendingApproval(100L, 10L, "기존 결재"), body("기존 본문"));
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, createPendingApproval(200L, 10L, "동기화된 결재"), body("동기화된 본문"));
+        repository.addPendingApproval(1L, createPendingApproval(300L, 10L, "적재 중 결재"), body("적재 중 본문"));
+
+        // when
+        repository.completeReload(loaded);
+
+        // then
+        assertThat(repository.findApprovalBody(100L)).isEmpty();
+        assertThat(repository.findApprovalBody(200L)).map(ApprovalBody::getContent).contains("동기화된 본문");
+        assertThat(repository.findApprovalBody(300L)).map(ApprovalBody::getContent).contains("적재 중 본문");
+    }
+
+    @Test
+    @DisplayName("정렬 - 기본은 우선순위 → 생성 시각 → requestId, created는 생성 시각 → requestId")
+    void getPendingApprovals_sortedByPriorityAndCreatedAt() {
+        // given
+        Long approverId = 1L;
+        repository.addPendingApproval(approverId, createPendingApproval(100L, 3, AT.plusMinutes(1)));
+        repository.addPendingApproval(approverId, createPendingApproval(101L, 1, AT.plusMinutes(5)));
+        repository.addPendingApproval(approverId, createPendingApproval(102L, 5, AT));
+        repository.addPendingApproval(approverId, createPendingApproval(103L, 1, AT.plusMinutes(2)));
+        repository.addPendingApproval(approverId, createPendingApproval(104L, 3, AT.plusMinutes(1)));
+
+        // then
+        assertThat(repository.getPendingApprovals(approverId)).extracting(PendingApproval::getRequestId)
+                .containsExactly(103L, 101L, 100L, 104L, 102L);
+        assertThat(repository.getPendingApprovals(approverId, InboxSort.CREATED, null, 10))
+                .extracting(PendingApproval::getRequestId)
+                .containsExactly(102L, 100L, 104L, 103L, 101L);
+    }
+
+    @Test
+    @DisplayName("페이지 조회 - 이전 페이지 마지막 항목 다음부터, 그 항목이 처리되어 빠져도 이어서 조회")
+    void getPendingApprovals_pageSeeksAfterCursor() {
+        // given - 우선순위 1 ~ 5를 번갈아 20건
+        Long approverId = 1L;
+        for (long requestId = 1; requestId <= 20; requestId++) {
+            repository.addPendingApproval(approverId,
+                    createPendingApproval(requestId, (int) (requestId % 5) + 1, AT.plusSeconds(requestId)));
+        }
+        List<PendingApproval> all = repository.getPendingApprovals(approverId);
+
+        // when
+        List<PendingApproval> first = repository.getPendingApprovals(approverId, InboxSort.PRIORITY, null, 8);
+        PendingApproval last = first.get(first.size() - 1);
+        repository.removePendingApproval(approverId, last.getRequestId());
+        List<PendingApproval> second = repository.getPendingApprovals(approverId, InboxSort.PRIORITY, last, 8);
+        List<PendingApproval> third = repository.getPendingApprovals(approverId, InboxSort.PRIORITY,
+                second.get(second.size() - 1), 8);
+
+        // then
+        assertThat(first).containsExactlyElementsOf(all.subList(0, 8));
+        assertThat(second).containsExactlyElementsOf(all.subList(8, 16));
+        assertThat(third).containsExactlyElementsOf(all.subList(16, 20));
+        assertThat(repository.getPendingApprovals(2L, InboxSort.PRIORITY, null, 8)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("대기 건수와 가장 오래된 결재 - 추가/제거/일괄 제거를 바로 반영")
+    void countAndOldest_trackChanges() {
+        // given
+        Long approverId = 1L;
+        repository.addPendingApproval(approverId, createPendingApproval(100L, 1, AT.plusMinutes(10)));
+        repository.addPendingApproval(approverId, createPendingApproval(101L, 5, AT));
+        repository.addPendingApproval(approverId, createPendingApproval(102L, 3, AT.plusMinutes(5)));
+
+        // then
+        assertThat(repository.countPendingApprovals(approverId)).isEqualTo(3);
+        assertThat(repository.findOldestPendingApproval(approverId)).map(PendingApproval::getRequestId).contains(101L);
+
+        repository.removePendingApproval(approverId, 101L);
+        assertThat(repository.countPendingApprovals(approverId)).isEqualTo(2);
+        assertThat(repository.findOldestPendingApproval(approverId)).map(PendingApproval::getRequestId).contains(102L);
+
+        repository.removePendingApprovals(approverId, List.of(100L, 102L));
+        assertThat(repository.countPendingApprovals(approverId)).isZero();
+        assertThat(repository.findOldestPendingApproval(approverId)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("정렬 키 - 추가 후 항목 값이 바뀌어도 추가 시점 위치로 제거")
+    void remove_afterApprovalMutated() {
+        // given
+        Long approverId = 1L;
+        PendingApproval mutated = createPendingApproval(100L, 3, AT);
+        repository.addPendingApproval(approverId, mutated);
+        repository.addPendingApproval(approverId, createPendingApproval(101L, 3, AT.plusMinutes(1)));
+        mutated.setPriority(1);
+        mutated.setCreatedAt(AT.plusDays(1));
+
+        // when
+        boolean removed = repository.removePendingApproval(approverId, 100L);
+
+        // then
+        assertThat(removed).isTrue();
+        assertThat(repository.countPendingApprovals(approverId)).isEqualTo(1);
+        assertThat(repository.getPendingApprovals(approverId)).extracting(PendingApproval::getRequestId)
+                .containsExactly(101L);
+        assertThat(repository.getPendingApprovals(approverId, InboxSort.CREATED, null, 10))
+                .extracting(PendingApproval::getRequestId).containsExactly(101L);
+    }
+
+    private static ApprovalBody body(String content) {
+        return ApprovalBody.builder()
+                .content(content)
+                .steps(List.of(ApprovalBody.StepInfo.builder().step(1).approverId(1L).status("pending").build()))
+                .build();
+    }
+
     private PendingApproval createPendingApproval(Long requestId, Long requesterId, String title) {
         return PendingApproval.builder()
                 .requestId(requestId)
                 .requesterId(requesterId)
                 .title(title)
-                .content("내용")
-                .steps(List.of(
-                        PendingApproval.StepInfo.builder()
-                                .step(1)
-                                .approverId(1L)
-                                .status("pending")
-                                .build()
-                ))
+                .step(1)
+                .build();
+    }
+
+    private PendingApproval createPendingApproval(Long requestId, int priority, LocalDateTime createdAt) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(10L)
+                .title("테스트 " + requestId)
+                .step(1)
+                .priority(priority)
+                .createdAt(createdAt)
                 .build();
     }
 }
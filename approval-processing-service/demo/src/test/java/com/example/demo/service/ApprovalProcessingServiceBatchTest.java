@@ -0,0 +1,123 @@
+package com.example.demo.service;
+
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.dto.BatchProcessRequest;
+import com.example.demo.dto.BatchProcessResponse;
+import com.example.demo.dto.BatchProcessResponse.ItemResult;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ApprovalProcessingService 일괄 처리 테스트")
+class ApprovalProcessingServiceBatchTest {
+
+    private static final Long APPROVER_ID = 2L;
+
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    private final ApprovalResultSender sender = mock(ApprovalResultSender.class);
+    private final ApprovalProcessingService service = new ApprovalProcessingService(repository, sender);
+
+    @BeforeEach
+    void setUp() {
+        for (long requestId = 100; requestId <= 103; requestId++) {
+            repository.addPendingApproval(APPROVER_ID, approval(requestId));
+        }
+    }
+
+    @Test
+    @DisplayName("일괄 처리 - 처리 가능한 결과를 한 번에 전송하고 한 번에 제거, 항목별 결과는 요청 순서")
+    @SuppressWarnings("unchecked")
+    void processApprovals_MixedOutcomes() {
+        // given
+        given(sender.sendApprovalResults(anyList())).willReturn(List.of(true, true));
+        List<BatchProcessRequest.Item> items = List.of(
+                item(101L, "approved", "확인"),
+                item(999L, "approved", null),
+                item(102L, "hold", null),
+                item(100L, "rejected", "반려"),
+                item(101L, "rejected", null));
+
+        // when
+        BatchProcessResponse response = service.processApprovals(APPROVER_ID, "b-1", items);
+
+        // then - 결과 전송은 1회, 현재 결재자의 step 번호 포함
+        ArgumentCaptor<List<ApprovalResultMessage>> sent = ArgumentCaptor.forClass(List.class);
+        verify(sender, times(1)).sendApprovalResults(sent.capture());
+        assertThat(sent.getValue())
+                .extracting(ApprovalResultMessage::getRequestId, ApprovalResultMessage::getStep,
+                        ApprovalResultMessage::getStatus, ApprovalResultMessage::getComment)
+                .containsExactly(
+                        tuple(101L, 2, "approved", "확인"),
+                        tuple(100L, 2, "rejected", "반려"));
+
+        assertThat(response.getResults()).extracting(ItemResult::getRequestId, ItemResult::getOutcome)
+                .containsExactly(
+                        tuple(101L, ItemResult.PROCESSED),
+                        tuple(999L, ItemResult.NOT_FOUND),
+                        tuple(102L, ItemResult.INVALID_STATUS),
+                        tuple(100L, ItemResult.PROCESSED),
+                        tuple(101L, ItemResult.DUPLICATE));
+        assertThat(response.getProcessed()).isEqualTo(2);
+        assertThat(response.getFailed()).isEqualTo(3);
+        assertThat(response.isReplayed()).isFalse();
+        assertThat(repository.getPendingApprovals(APPROVER_ID)).extracting(PendingApproval::getRequestId)
+                .containsExactly(102L, 103L);
+    }
+
+    @Test
+    @DisplayName("전송이 확인되지 않은 결과 - send_failed로 반환하고 대기 목록에 남김")
+    void processApprovals_SendFailed_KeepsPending() {
+        // given
+        given(sender.sendApprovalResults(anyList())).willReturn(List.of(true, false));
+
+        // when
+        BatchProcessResponse response = service.processApprovals(APPROVER_ID, "b-1",
+                List.of(item(100L, "approved", null), item(101L, "approved", null)));
+
+        // then
+        assertThat(response.getResults()).extracting(ItemResult::getOutcome)
+                .containsExactly(ItemResult.PROCESSED, ItemResult.SEND_FAILED);
+        assertThat(repository.getPendingApprovals(APPROVER_ID)).extracting(PendingApproval::getRequestId)
+                .containsExactly(101L, 102L, 103L);
+    }
+
+    @Test
+    @DisplayName("처리 가능한 항목이 없으면 전송하지 않음")
+    void processApprovals_NothingToSend() {
+        BatchProcessResponse response = service.processApprovals(APPROVER_ID, "b-1",
+                List.of(item(999L, "approved", null), item(100L, "pending", null)));
+
+        verify(sender, never()).sendApprovalResults(anyList());
+        assertThat(response.getProcessed()).isZero();
+        assertThat(response.getResults()).extracting(ItemResult::getOutcome)
+                .containsExactly(ItemResult.NOT_FOUND, ItemResult.INVALID_STATUS);
+        assertThat(repository.getPendingApprovals(APPROVER_ID)).hasSize(4);
+    }
+
+    private static BatchProcessRequest.Item item(Long requestId, String status, String comment) {
+        return new BatchProcessRequest.Item(requestId, status, comment);
+    }
+
+    private static PendingApproval approval(Long requestId) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(10L)
+                .title("결재 " + requestId)
+                .step(2)
+                .build();
+    }
+}
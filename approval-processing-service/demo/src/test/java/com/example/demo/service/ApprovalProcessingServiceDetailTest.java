@@ -0,0 +1,64 @@
+package com.example.demo.service;
+
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.dto.PendingApprovalDetail;
+import com.example.demo.exception.ApprovalNotFoundException;
+import com.example.demo.model.ApprovalBody;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ApprovalProcessingService 대기 항목/단건 조회 테스트")
+class ApprovalProcessingServiceDetailTest {
+
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    private final ApprovalProcessingService service =
+            new ApprovalProcessingService(repository, mock(ApprovalResultSender.class));
+
+    @Test
+    @DisplayName("결재 요청 수신 - 목록에는 헤더(현재 결재자의 step)만, 단건 조회 시 본문 복원")
+    void receivedRequest_HeaderListedBodyOnDetail() {
+        // given
+        service.receiveApprovalRequest(ApprovalRequestMessage.builder()
+                .requestId(100L)
+                .requesterId(1L)
+                .title("예산 승인")
+                .content("개발팀 예산 승인 요청드립니다.")
+                .steps(List.of(
+                        new ApprovalRequestMessage.StepInfo(1, 5L, "approved"),
+                        new ApprovalRequestMessage.StepInfo(2, 7L, "pending")))
+                .build());
+
+        // when
+        List<PendingApproval> inbox = service.getPendingApprovals(7L);
+        PendingApprovalDetail detail = service.getPendingApproval(7L, 100L);
+
+        // then
+        assertThat(inbox).extracting(PendingApproval::getRequestId, PendingApproval::getRequesterId,
+                        PendingApproval::getTitle, PendingApproval::getStep, PendingApproval::getPriority)
+                .containsExactly(tuple(100L, 1L, "예산 승인", 2, PendingApproval.DEFAULT_PRIORITY));
+        assertThat(inbox.get(0).getCreatedAt()).isNotNull();
+        assertThat(detail.getStep()).isEqualTo(2);
+        assertThat(detail.getContent()).isEqualTo("개발팀 예산 승인 요청드립니다.");
+        assertThat(detail.getSteps()).containsExactly(
+                new ApprovalBody.StepInfo(1, 5L, "approved"), new ApprovalBody.StepInfo(2, 7L, "pending"));
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 이 결재자의 대기 목록에 없으면 ApprovalNotFoundException")
+    void detail_NotInInbox() {
+        repository.addPendingApproval(7L, PendingApproval.builder()
+                .requestId(100L).requesterId(1L).title("예산 승인").step(1).build());
+
+        assertThatThrownBy(() -> service.getPendingApproval(8L, 100L)).isInstanceOf(ApprovalNotFoundException.class);
+        assertThat(service.getPendingApproval(7L, 100L).getContent()).isNull();
+    }
+}
@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.InboxSummary;
+import com.example.demo.exception.InvalidPageRequestException;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("ApprovalProcessingService 대기 목록 페이지/요약 조회 테스트")
+class ApprovalProcessingServiceInboxPageTest {
+
+    private static final Long APPROVER = 7L;
+
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    private final ApprovalProcessingService service =
+            new ApprovalProcessingService(repository, mock(ApprovalResultSender.class));
+
+    @BeforeEach
+    void setUp() {
+        // 우선순위 1 ~ 5를 번갈아, 생성 시각은 requestId 순으로 1분 간격
+        LocalDateTime start = LocalDateTime.now().minusHours(1);
+        for (long requestId = 1; requestId <= 12; requestId++) {
+            repository.addPendingApproval(APPROVER, PendingApproval.builder()
+                    .requestId(requestId)
+                    .requesterId(1L)
+                    .title("결재 " + requestId)
+                    .step(1)
+                    .priority((int) (requestId % 5) + 1)
+                    .createdAt(start.plusMinutes(requestId))
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("cursor로 끝까지 조회 - 전체 목록과 같은 순서, 마지막 페이지는 nextCursor 없음")
+    void pagesFollowCursor() {
+        for (String sort : new String[]{null, "priority", "created"}) {
+            List<Long> paged = new ArrayList<>();
+            String cursor = null;
+            int pages = 0;
+            do {
+                CursorPage<PendingApproval> page = service.getPendingApprovals(APPROVER, sort, cursor, 5);
+                page.getItems().forEach(approval -> paged.add(approval.getRequestId()));
+                cursor = page.getNextCursor();
+                pages++;
+            } while (cursor != null);
+
+            assertThat(pages).isEqualTo(3);
+            if ("created".equals(sort)) {
+                assertThat(paged).containsExactly(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L, 12L);
+            } else {
+                assertThat(paged).containsExactlyElementsOf(
+                        service.getPendingApprovals(APPROVER).stream().map(PendingApproval::getRequestId).toList());
+                assertThat(paged).startsWith(5L, 10L, 1L, 6L, 11L);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("잘못된 페이지 요청 - limit 범위, 정렬 기준, cursor 형식, 다른 정렬의 cursor")
+    void invalidPageRequests() {
+        String priorityCursor = service.getPendingApprovals(APPROVER, "priority", null, 5).getNextCursor();
+
+        assertThatThrownBy(() -> service.getPendingApprovals(APPROVER, null, null, 0))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> service.getPendingApprovals(APPROVER, null, null,
+                ApprovalProcessingService.MAX_PAGE_SIZE + 1))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> service.getPendingApprovals(APPROVER, "title", null, 5))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> service.getPendingApprovals(APPROVER, null, "not-a-cursor", 5))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> service.getPendingApprovals(APPROVER, "created", priorityCursor, 5))
+                .isInstanceOf(InvalidPageRequestException.class)
+                .hasMessageContaining("정렬 기준");
+    }
+
+    @Test
+    @DisplayName("요약 - 대기 건수와 가장 오래된 결재의 경과 시간, 비어 있으면 경과 시간 없음")
+    void summary() {
+        InboxSummary summary = service.getInboxSummary(APPROVER);
+
+        assertThat(summary.getPendingCount()).isEqualTo(12);
+        assertThat(summary.getOldestCreatedAt()).isEqualTo(repository.getPendingApprovals(APPROVER).stream()
+                .filter(approval -> approval.getRequestId() == 1L).findFirst().orElseThrow().getCreatedAt());
+        assertThat(summary.getOldestAgeSeconds()).isBetween(59L * 60, 60L * 60);
+
+        InboxSummary empty = service.getInboxSummary(8L);
+        assertThat(empty.getPendingCount()).isZero();
+        assertThat(empty.getOldestCreatedAt()).isNull();
+        assertThat(empty.getOldestAgeSeconds()).isNull();
+    }
+}
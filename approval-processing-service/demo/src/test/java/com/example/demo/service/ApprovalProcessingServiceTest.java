@@ -1,9 +1,12 @@
 package com.example.demo.service;
 
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.demo.dto.PendingApprovalDetail;
 import com.example.demo.dto.ProcessResponse;
 import com.example.demo.exception.ApprovalNotFoundException;
 import com.example.demo.exception.InvalidStatusException;
-import com.example.demo.grpc.ApprovalResultGrpcClient;
+import com.example.demo.kafka.InboxChangelogWriteException;
+import com.example.demo.model.ApprovalBody;
 import com.example.demo.model.PendingApproval;
 import com.example.demo.repository.InMemoryApprovalRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -14,14 +17,17 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @DisplayName("ApprovalProcessingService 테스트")
 @ExtendWith(MockitoExtension.class)
@@ -31,7 +37,7 @@ class ApprovalProcessingServiceTest {
     private InMemoryApprovalRepository repository;
 
     @Mock
-    private ApprovalResultGrpcClient grpcClient;
+    private ApprovalResultSender approvalResultSender;
 
     @InjectMocks
     private ApprovalProcessingService service;
@@ -44,19 +50,8 @@ class ApprovalProcessingServiceTest {
                 .requestId(100L)
                 .requesterId(10L)
                 .title("휴가 신청")
-                .content("연차 휴가 신청합니다.")
-                .steps(List.of(
-                        PendingApproval.StepInfo.builder()
-                                .step(1)
-                                .approverId(1L)
-                                .status("pending")
-                                .build(),
-                        PendingApproval.StepInfo.builder()
-                                .step(2)
-                                .approverId(2L)
-                                .status("pending")
-                                .build()
-                ))
+                .step(1)
+                .priority(PendingApproval.DEFAULT_PRIORITY)
                 .build();
     }
 
@@ -91,6 +86,29 @@ class ApprovalProcessingServiceTest {
         assertThat(result).isEmpty();
     }
 
+    @Test
+    @DisplayName("결재 단건 조회 - 헤더와 복원한 본문(내용, 전체 결재 단계)을 함께 반환")
+    void getPendingApproval_withBody() {
+        // given
+        given(repository.findPendingApproval(1L, 100L)).willReturn(Optional.of(testApproval));
+        given(repository.findApprovalBody(100L)).willReturn(Optional.of(ApprovalBody.builder()
+                .content("연차 휴가 신청합니다.")
+                .steps(List.of(
+                        new ApprovalBody.StepInfo(1, 1L, "pending"),
+                        new ApprovalBody.StepInfo(2, 2L, "pending")))
+                .build()));
+
+        // when
+        PendingApprovalDetail result = service.getPendingApproval(1L, 100L);
+
+        // then
+        assertThat(result.getRequestId()).isEqualTo(100L);
+        assertThat(result.getTitle()).isEqualTo("휴가 신청");
+        assertThat(result.getStep()).isEqualTo(1);
+        assertThat(result.getContent()).isEqualTo("연차 휴가 신청합니다.");
+        assertThat(result.getSteps()).extracting(ApprovalBody.StepInfo::getApproverId).containsExactly(1L, 2L);
+    }
+
     @Test
     @DisplayName("결재 처리 - 승인 성공")
     void processApproval_approve_success() {
@@ -99,20 +117,16 @@ class ApprovalProcessingServiceTest {
         Long requestId = 100L;
         String status = "approved";
 
-        List<PendingApproval> pendingList = new ArrayList<>();
-        pendingList.add(testApproval);
-
-        given(repository.getPendingApprovals(approverId)).willReturn(pendingList);
-        given(grpcClient.returnApprovalResult(eq(requestId), eq(1), eq(approverId), eq(status)))
-                .willReturn("updated");
+        given(repository.findPendingApproval(approverId, requestId)).willReturn(Optional.of(testApproval));
 
         // when
-        ProcessResponse result = service.processApproval(approverId, requestId, status);
+        ProcessResponse result = service.processApproval(approverId, requestId, status, "확인했습니다.");
 
         // then
         assertThat(result.getRequestId()).isEqualTo(requestId);
         assertThat(result.getApproverId()).isEqualTo(approverId);
         assertThat(result.getStatus()).isEqualTo(status);
+        verify(approvalResultSender).sendApprovalResult(requestId, 1, approverId, status, "확인했습니다.");
         verify(repository).removePendingApproval(approverId, requestId);
     }
 
@@ -124,18 +138,14 @@ class ApprovalProcessingServiceTest {
         Long requestId = 100L;
         String status = "rejected";
 
-        List<PendingApproval> pendingList = new ArrayList<>();
-        pendingList.add(testApproval);
-
-        given(repository.getPendingApprovals(approverId)).willReturn(pendingList);
-        given(grpcClient.returnApprovalResult(eq(requestId), eq(1), eq(approverId), eq(status)))
-                .willReturn("updated");
+        given(repository.findPendingApproval(approverId, requestId)).willReturn(Optional.of(testApproval));
 
         // when
-        ProcessResponse result = service.processApproval(approverId, requestId, status);
+        ProcessResponse result = service.processApproval(approverId, requestId, status, null);
 
         // then
         assertThat(result.getStatus()).isEqualTo("rejected");
+        verify(approvalResultSender).sendApprovalResult(requestId, 1, approverId, status, null);
     }
 
     @Test
@@ -147,9 +157,10 @@ class ApprovalProcessingServiceTest {
         String status = "invalid";
 
         // when & then
-        assertThatThrownBy(() -> service.processApproval(approverId, requestId, status))
+        assertThatThrownBy(() -> service.processApproval(approverId, requestId, status, null))
                 .isInstanceOf(InvalidStatusException.class)
                 .hasMessageContaining("유효하지 않은 상태값");
+        verifyNoInteractions(approvalResultSender);
     }
 
     @Test
@@ -160,11 +171,34 @@ class ApprovalProcessingServiceTest {
         Long requestId = 999L;
         String status = "approved";
 
-        given(repository.getPendingApprovals(approverId)).willReturn(List.of(testApproval));
+        given(repository.findPendingApproval(approverId, requestId)).willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> service.processApproval(approverId, requestId, status))
+        assertThatThrownBy(() -> service.processApproval(approverId, requestId, status, null))
                 .isInstanceOf(ApprovalNotFoundException.class)
                 .hasMessageContaining("결재 요청을 찾을 수 없습니다");
+        verifyNoInteractions(approvalResultSender);
+    }
+
+    @Test
+    @DisplayName("결재 요청 수신 - changelog 기록 실패 시 추가를 되돌리고 예외 전파 (재전송 시 다시 기록)")
+    void receiveApprovalRequest_changelogWriteFailure() {
+        // given
+        ApprovalRequestMessage message = ApprovalRequestMessage.builder()
+                .requestId(100L)
+                .requesterId(10L)
+                .title("휴가 신청")
+                .steps(List.of(new ApprovalRequestMessage.StepInfo(1, 1L, "pending")))
+                .build();
+        doThrow(new InboxChangelogWriteException("대기 목록 changelog 기록 실패", new IllegalStateException()))
+                .doNothing()
+                .when(repository).flushChanges();
+
+        // when & then
+        assertThatThrownBy(() -> service.receiveApprovalRequest(message))
+                .isInstanceOf(InboxChangelogWriteException.class);
+        verify(repository).addPendingApproval(eq(1L), any(PendingApproval.class), any(ApprovalBody.class));
+        verify(repository).removePendingApproval(1L, 100L);
+        verify(repository, times(2)).flushChanges();
     }
 }
@@ -0,0 +1,180 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.BatchProcessRequest;
+import com.example.demo.dto.BatchProcessResponse;
+import com.example.demo.exception.BatchConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("BatchReplayCache 테스트")
+class BatchReplayCacheTest {
+
+    private static final List<BatchProcessRequest.Item> ITEMS = List.of(
+            new BatchProcessRequest.Item(100L, "approved", null),
+            new BatchProcessRequest.Item(101L, "rejected", "반려"));
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 batchId 재요청 - 다시 처리하지 않고 처음 결과를 replayed로 반환")
+    void sameBatch_Replayed() {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 100);
+
+        BatchProcessResponse first = cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+        BatchProcessResponse second = cache.execute(1L, "b-1", List.copyOf(ITEMS), () -> response("b-1"));
+
+        assertThat(executions).hasValue(1);
+        assertThat(first.isReplayed()).isFalse();
+        assertThat(second.isReplayed()).isTrue();
+        assertThat(second.getResults()).isEqualTo(first.getResults());
+    }
+
+    @Test
+    @DisplayName("batchId는 결재자별 - 다른 결재자의 같은 batchId는 따로 처리")
+    void sameBatchIdOtherApprover_Executed() {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 100);
+
+        cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+        cache.execute(2L, "b-1", ITEMS, () -> response("b-1"));
+
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("같은 batchId에 다른 항목 - 409")
+    void sameBatchDifferentItems_Conflict() {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 100);
+        cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+
+        assertThatThrownBy(() -> cache.execute(1L, "b-1", ITEMS.subList(0, 1), () -> response("b-1")))
+                .isInstanceOf(BatchConflictException.class);
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("처리 중인 batchId로 동시 요청 - 처음 요청이 끝날 때까지 기다렸다가 같은 결과 반환")
+    void concurrentSameBatch_WaitsForFirst() throws Exception {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 100);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<BatchProcessResponse> first = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, "b-1", ITEMS, () -> {
+                    started.countDown();
+                    await(release);
+                    return response("b-1");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<BatchProcessResponse> second = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, "b-1", ITEMS, () -> response("b-1")));
+
+        Thread.sleep(100);
+        assertThat(second).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).isReplayed()).isFalse();
+        assertThat(second.get(5, TimeUnit.SECONDS).isReplayed()).isTrue();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("처리 중 예외 - 결과를 남기지 않아 같은 batchId로 다시 처리 가능")
+    void failure_NotCached() {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 100);
+
+        assertThatThrownBy(() -> cache.execute(1L, "b-1", ITEMS, () -> {
+            throw new IllegalStateException("전송 실패");
+        })).isInstanceOf(IllegalStateException.class);
+        BatchProcessResponse retried = cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+
+        assertThat(retried.isReplayed()).isFalse();
+        assertThat(executions).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 batchId - 다시 처리")
+    void expired_ExecutedAgain() throws InterruptedException {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMillis(50), 100);
+        cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+
+        Thread.sleep(100);
+        BatchProcessResponse again = cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+
+        assertThat(again.isReplayed()).isFalse();
+        assertThat(executions).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("최대 보관 건수 초과 - 오래된 결과부터 제거")
+    void maxEntries_EvictsOldest() {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 2);
+
+        cache.execute(1L, "b-1", ITEMS, () -> response("b-1"));
+        cache.execute(1L, "b-2", ITEMS, () -> response("b-2"));
+        cache.execute(1L, "b-3", ITEMS, () -> response("b-3"));
+
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.execute(1L, "b-3", ITEMS, () -> response("b-3")).isReplayed()).isTrue();
+        assertThat(cache.execute(1L, "b-1", ITEMS, () -> response("b-1")).isReplayed()).isFalse();
+        assertThat(executions).hasValue(4);
+    }
+
+    @Test
+    @DisplayName("최대 보관 건수 초과 - 처리 중인 batchId는 제거하지 않고 동시 재요청이 그 결과를 기다림")
+    void maxEntries_KeepsInFlight() throws Exception {
+        BatchReplayCache cache = new BatchReplayCache(Duration.ofMinutes(10), 1);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<BatchProcessResponse> first = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, "b-1", ITEMS, () -> {
+                    started.countDown();
+                    await(release);
+                    return response("b-1");
+                }));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        cache.execute(1L, "b-2", ITEMS, () -> response("b-2"));
+        cache.execute(1L, "b-3", ITEMS, () -> response("b-3"));
+        CompletableFuture<BatchProcessResponse> retried = CompletableFuture.supplyAsync(() ->
+                cache.execute(1L, "b-1", ITEMS, () -> response("b-1")));
+
+        Thread.sleep(100);
+        assertThat(retried).isNotDone();
+        release.countDown();
+
+        assertThat(first.get(5, TimeUnit.SECONDS).isReplayed()).isFalse();
+        assertThat(retried.get(5, TimeUnit.SECONDS).isReplayed()).isTrue();
+        assertThat(executions).hasValue(3);
+    }
+
+    private BatchProcessResponse response(String batchId) {
+        executions.incrementAndGet();
+        return BatchProcessResponse.builder()
+                .batchId(batchId)
+                .approverId(1L)
+                .processed(2)
+                .results(List.of(BatchProcessResponse.ItemResult.builder()
+                        .requestId(100L)
+                        .outcome(BatchProcessResponse.ItemResult.PROCESSED)
+                        .build()))
+                .build();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,179 @@
+package com.example.demo.service;
+
+import com.example.demo.controller.ProcessController;
+import com.example.demo.kafka.ApprovalInboxOwnership;
+import com.example.demo.model.PendingApproval;
+import com.example.demo.repository.InMemoryApprovalRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+@DisplayName("InboxStreamRegistry 테스트 (GET /process/{approverId}/stream)")
+class InboxStreamRegistryTest {
+
+    private final InMemoryApprovalRepository repository = new InMemoryApprovalRepository();
+    private final ApprovalInboxOwnership ownership = mock(ApprovalInboxOwnership.class);
+    private InboxStreamRegistry registry;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() {
+        given(ownership.owns(anyLong())).willReturn(true);
+        registry = new InboxStreamRegistry(repository, ownership, new ObjectMapper().findAndRegisterModules(),
+                new SimpleMeterRegistry(), Duration.ofMinutes(1), Duration.ofMinutes(1), 1000, 1);
+        mockMvc = MockMvcBuilders.standaloneSetup(new ProcessController(
+                mock(ApprovalProcessingService.class), mock(BatchReplayCache.class), registry)).build();
+        repository.addPendingApproval(1L, approval(100L));
+        repository.addPendingApproval(1L, approval(101L));
+    }
+
+    @AfterEach
+    void tearDown() {
+        registry.shutdown();
+    }
+
+    @Test
+    @DisplayName("구독 - 현재 목록을 한 번 보낸 뒤 해당 결재자의 추가/제거만 이어서 전송")
+    void subscribe_SnapshotThenDeltas() throws Exception {
+        // given
+        MvcResult stream = subscribe(1L);
+        awaitEvents(stream, 1);
+
+        // when
+        repository.addPendingApproval(1L, approval(102L));
+        repository.addPendingApproval(2L, approval(200L));
+        repository.removePendingApproval(1L, 100L);
+        repository.removePendingApprovals(1L, List.of(101L, 102L));
+
+        // then
+        List<String> events = awaitEvents(stream, 4);
+        assertThat(events.get(0)).startsWith("snapshot [{\"requestId\":100,").contains("{\"requestId\":101,");
+        assertThat(events.get(1)).startsWith("added {\"requestId\":102,");
+        assertThat(events.subList(2, 4)).containsExactly("removed [100]", "removed [101,102]");
+        assertThat(stream.getResponse().getContentType()).startsWith(MediaType.TEXT_EVENT_STREAM_VALUE);
+        assertThat(registry.getSubscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("재적재 - 소유한 결재자는 새 목록을 snapshot으로 다시 전송")
+    void reloaded_ResendsSnapshot() throws Exception {
+        // given
+        MvcResult stream = subscribe(1L);
+        awaitEvents(stream, 1);
+
+        // when
+        InMemoryApprovalRepository loaded = repository.beginReload();
+        loaded.addPendingApproval(1L, approval(300L));
+        repository.completeReload(loaded);
+
+        // then
+        List<String> events = awaitEvents(stream, 2);
+        assertThat(events.get(1)).startsWith("snapshot [{\"requestId\":300,").doesNotContain("\"requestId\":100");
+    }
+
+    @Test
+    @DisplayName("재적재 - 다른 Pod로 넘어간 결재자의 스트림은 종료 (다시 연결하면 소유 Pod로 전달)")
+    void reloaded_ClosesMovedApprovers() throws Exception {
+        // given
+        MvcResult stream = subscribe(1L);
+        awaitEvents(stream, 1);
+        given(ownership.owns(1L)).willReturn(false);
+
+        // when
+        repository.completeReload(repository.beginReload());
+
+        // then
+        await(() -> registry.getSubscriberCount() == 0);
+        repository.addPendingApproval(1L, approval(102L));
+        Thread.sleep(100);
+        assertThat(events(stream)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("연결 종료 - 구독 해제 후에는 전송하지 않음")
+    void completed_Unregistered() throws Exception {
+        // given
+        MvcResult stream = subscribe(1L);
+        awaitEvents(stream, 1);
+
+        // when
+        registry.shutdown();
+
+        // then
+        assertThat(registry.getSubscriberCount()).isZero();
+        repository.addPendingApproval(1L, approval(102L));
+        Thread.sleep(100);
+        assertThat(events(stream)).hasSize(1);
+    }
+
+    private MvcResult subscribe(Long approverId) throws Exception {
+        return mockMvc.perform(get("/process/{approverId}/stream", approverId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    private List<String> awaitEvents(MvcResult stream, int count) throws Exception {
+        await(() -> events(stream).size() >= count);
+        return events(stream);
+    }
+
+    /**
+     * SSE 응답 본문을 "이벤트명 data" 목록으로 변환 (주석 이벤트 제외)
+     */
+    private static List<String> events(MvcResult stream) {
+        List<String> events = new ArrayList<>();
+        String body = new String(stream.getResponse().getContentAsByteArray(), StandardCharsets.UTF_8);
+        for (String block : body.split("\n\n")) {
+            String name = null;
+            String data = null;
+            for (String line : block.split("\n")) {
+                if (line.startsWith("event:")) {
+                    name = line.substring("event:".length());
+                } else if (line.startsWith("data:")) {
+                    data = line.substring("data:".length());
+                }
+            }
+            if (name != null) {
+                events.add(name + " " + data);
+            }
+        }
+        return events;
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertThat(System.nanoTime()).as("조건 대기 시간 초과").isLessThan(deadline);
+            Thread.sleep(20);
+        }
+    }
+
+    private static PendingApproval approval(Long requestId) {
+        return PendingApproval.builder()
+                .requestId(requestId)
+                .requesterId(10L)
+                .title("결재 " + requestId)
+                .step(1)
+                .build();
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.demo.client;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 직원 존재 여부 캐시 (Employee Service 호출 결과)
+ * - 존재함(positive)은 긴 TTL, 존재하지 않음(negative)은 짧은 TTL로 캐싱
+ * - 최대 크기를 넘으면 사용 빈도가 낮은 항목부터 제거
+ * - hit/miss/eviction 통계는 actuator metrics의 cache.* 지표(cache=employee-exists)로 노출
+ * - 직원 생성/삭제 이벤트 수신 시 해당 항목 무효화
+ */
+@Slf4j
+@Component
+public class EmployeeExistenceCache {
+
+    public static final String CACHE_NAME = "employee-exists";
+
+    private final Cache<Long, Boolean> cache;
+
+    public EmployeeExistenceCache(
+            @Value("${employee.cache.positive-ttl:10m}") Duration positiveTtl,
+            @Value("${employee.cache.negative-ttl:30s}") Duration negativeTtl,
+            @Value("${employee.cache.maximum-size:10000}") long maximumSize,
+            MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExistenceExpiry(positiveTtl.toNanos(), negativeTtl.toNanos()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    /**
+     * 캐시된 존재 여부 조회 (없거나 만료되면 empty)
+     */
+    public Optional<Boolean> get(Long employeeId) {
+        return Optional.ofNullable(cache.getIfPresent(employeeId));
+    }
+
+    public void put(Long employeeId, boolean exists) {
+        cache.put(employeeId, exists);
+    }
+
+    public void invalidate(Long employeeId) {
+        cache.invalidate(employeeId);
+        log.debug("직원 존재 여부 캐시 무효화: employeeId={}", employeeId);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    /**
+     * 값(존재 여부)에 따라 만료 시간을 다르게 적용
+     */
+    private static class ExistenceExpiry implements Expiry<Long, Boolean> {
+
+        private final long positiveTtlNanos;
+        private final long negativeTtlNanos;
+
+        ExistenceExpiry(long positiveTtlNanos, long negativeTtlNanos) {
+            this.positiveTtlNanos = positiveTtlNanos;
+            this.negativeTtlNanos = negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterCreate(Long employeeId, Boolean exists, long currentTime) {
+            return exists ? positiveTtlNanos : negativeTtlNanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(Long employeeId, Boolean exists, long currentTime, long currentDuration) {
+            return expireAfterCreate(employeeId, exists, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Long employeeId, Boolean exists, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -1,40 +1,109 @@
 package com.example.demo.client;
 
+import com.example.demo.dto.EmployeeExistsRequest;
+import com.example.demo.dto.EmployeeExistsResponse;
 import com.example.demo.exception.EmployeeNotFoundException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
 @Slf4j
 @Component
 public class EmployeeServiceClient {
 
     private final WebClient webClient;
+    private final EmployeeExistenceCache existenceCache;
 
-    public EmployeeServiceClient(@Value("${employee.service.url}") String employeeServiceUrl) {
+    public EmployeeServiceClient(@Value("${employee.service.url}") String employeeServiceUrl,
+                                 EmployeeExistenceCache existenceCache) {
         this.webClient = WebClient.builder()
                 .baseUrl(employeeServiceUrl)
                 .build();
+        this.existenceCache = existenceCache;
     }
 
     /**
-     * 직원 존재 여부 확인
+     * 직원 존재 여부 확인 (캐시 우선, 호출 실패 결과는 캐싱하지 않음)
      */
     public boolean existsEmployee(Long employeeId) {
+        Optional<Boolean> cached = existenceCache.get(employeeId);
+        if (cached.isPresent()) {
+            return cached.get();
+        }
+
         try {
             Boolean exists = webClient.get()
                     .uri("/employees/{id}/exists", employeeId)
                     .retrieve()
                     .bodyToMono(Boolean.class)
                     .block();
-            return Boolean.TRUE.equals(exists);
+            if (exists == null) {
+                return false;
+            }
+            existenceCache.put(employeeId, exists);
+            return exists;
         } catch (Exception e) {
             log.error("Employee Service 호출 실패: employeeId={}", employeeId, e);
             return false;
         }
     }
 
+    /**
+     * 직원 일괄 존재 여부 확인 - 존재하지 않는 직원 ID 목록 반환
+     * 캐시에 없는 ID만 한 번의 HTTP 호출(POST /employees/exists)로 확인
+     */
+    public List<Long> findMissingEmployees(Collection<Long> employeeIds) {
+        List<Long> missingIds = new ArrayList<>();
+        List<Long> uncachedIds = new ArrayList<>();
+        for (Long employeeId : new LinkedHashSet<>(employeeIds)) {
+            Optional<Boolean> cached = existenceCache.get(employeeId);
+            if (cached.isEmpty()) {
+                uncachedIds.add(employeeId);
+            } else if (!cached.get()) {
+                missingIds.add(employeeId);
+            }
+        }
+        if (uncachedIds.isEmpty()) {
+            return missingIds;
+        }
+
+        try {
+            EmployeeExistsResponse response = webClient.post()
+                    .uri("/employees/exists")
+                    .bodyValue(new EmployeeExistsRequest(uncachedIds))
+                    .retrieve()
+                    .bodyToMono(EmployeeExistsResponse.class)
+                    .block();
+            if (response == null || response.getMissingIds() == null) {
+                missingIds.addAll(uncachedIds);
+                return missingIds;
+            }
+
+            Set<Long> uncachedMissingIds = new HashSet<>(response.getMissingIds());
+            for (Long employeeId : uncachedIds) {
+                boolean exists = !uncachedMissingIds.contains(employeeId);
+                existenceCache.put(employeeId, exists);
+                if (!exists) {
+                    missingIds.add(employeeId);
+                }
+            }
+            return missingIds;
+        } catch (Exception e) {
+            log.error("Employee Service 호출 실패: employeeIds={}", uncachedIds, e);
+            missingIds.addAll(uncachedIds);
+            return missingIds;
+        }
+    }
+
     /**
      * 직원 존재 여부 검증 (없으면 예외 발생)
      */
@@ -43,4 +112,14 @@ public class EmployeeServiceClient {
             throw new EmployeeNotFoundException(employeeId);
         }
     }
+
+    /**
+     * 여러 직원의 존재 여부를 한 번에 검증 (하나라도 없으면 예외 발생)
+     */
+    public void validateEmployees(Collection<Long> employeeIds) {
+        List<Long> missingIds = findMissingEmployees(employeeIds);
+        if (!missingIds.isEmpty()) {
+            throw new EmployeeNotFoundException("직원을 찾을 수 없습니다. employeeIds: " + missingIds);
+        }
+    }
 }
@@ -0,0 +1,249 @@
+package com.example.demo.client;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import com.example.demo.dto.NotificationRequest;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+import reactor.util.retry.Retry;
+
+/**
+ * Notification Service 호출 디스패처
+ * - 대기 중인 알림 수를 queue-capacity로 제한하고, 초과분은 버림 (dropped 메트릭)
+ * - 같은 직원(employeeId)의 알림은 coalesce-window 동안 모아 POST /notifications/approval/batch 1회로 전송
+ *   (max-batch-size에 도달하면 즉시 전송)
+ * - 동시에 진행 중인 HTTP 호출은 max-in-flight개로 제한
+ * - 연결 실패/타임아웃/5xx/429는 지수 backoff로 재시도, 재시도 후에도 실패하면 버림
+ */
+@Slf4j
+@Component
+public class NotificationDispatcher {
+
+    static final String BATCH_URI = "/notifications/approval/batch";
+
+    private final WebClient webClient;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final Duration coalesceWindow;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final Duration requestTimeout;
+
+    // batch 대기 타이머와 batch 방출은 단일 스레드에서만 수행 (Sink 방출 직렬화)
+    private final Scheduler scheduler = Schedulers.newSingle("notification-dispatcher");
+    private final Map<Long, PendingBatch> pending = new ConcurrentHashMap<>();
+    private final Sinks.Many<PendingBatch> batches = Sinks.many().unicast().onBackpressureBuffer();
+    private final AtomicInteger queueDepth = new AtomicInteger();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final CountDownLatch terminated = new CountDownLatch(1);
+
+    private final Counter droppedQueueFull;
+    private final Counter droppedFailed;
+    private final Counter sentCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer latencyTimer;
+
+    @Autowired
+    public NotificationDispatcher(@Value("${notification.service.url}") String notificationServiceUrl,
+                                  @Value("${notification.dispatcher.queue-capacity:10000}") int queueCapacity,
+                                  @Value("${notification.dispatcher.max-in-flight:8}") int maxInFlight,
+                                  @Value("${notification.dispatcher.coalesce-window:200ms}") Duration coalesceWindow,
+                                  @Value("${notification.dispatcher.max-batch-size:50}") int maxBatchSize,
+                                  @Value("${notification.dispatcher.max-retries:3}") int maxRetries,
+                                  @Value("${notification.dispatcher.retry-backoff:200ms}") Duration retryBackoff,
+                                  @Value("${notification.dispatcher.request-timeout:5s}") Duration requestTimeout,
+                                  MeterRegistry meterRegistry) {
+        this(WebClient.builder().baseUrl(notificationServiceUrl).build(), queueCapacity, maxInFlight, coalesceWindow,
+                maxBatchSize, maxRetries, retryBackoff, requestTimeout, meterRegistry);
+    }
+
+    NotificationDispatcher(WebClient webClient, int queueCapacity, int maxInFlight, Duration coalesceWindow,
+                           int maxBatchSize, int maxRetries, Duration retryBackoff, Duration requestTimeout,
+                           MeterRegistry meterRegistry) {
+        this.webClient = webClient;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.coalesceWindow = coalesceWindow;
+        this.maxRetries = maxRetries;
+        this.retryBackoff = retryBackoff;
+        this.requestTimeout = requestTimeout;
+
+        Gauge.builder("notification.dispatch.queue.depth", queueDepth, AtomicInteger::get)
+                .description("전송 대기/진행 중인 알림 수")
+                .register(meterRegistry);
+        Gauge.builder("notification.dispatch.in.flight", inFlight, AtomicInteger::get)
+                .description("진행 중인 batch 호출 수")
+                .register(meterRegistry);
+        this.droppedQueueFull = Counter.builder("notification.dispatch.dropped")
+                .tag("reason", "queue_full")
+                .description("버려진 알림 수")
+                .register(meterRegistry);
+        this.droppedFailed = Counter.builder("notification.dispatch.dropped")
+                .tag("reason", "failed")
+                .description("버려진 알림 수")
+                .register(meterRegistry);
+        this.sentCounter = Counter.builder("notification.dispatch.sent")
+                .description("전송된 알림 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("notification.dispatch.batch.size")
+                .description("batch 호출 1회당 알림 수")
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("notification.dispatch.latency")
+                .description("batch의 첫 알림 접수부터 전송 완료까지 소요 시간")
+                .register(meterRegistry);
+
+        batches.asFlux()
+                .flatMap(this::send, maxInFlight)
+                .doFinally(signal -> terminated.countDown())
+                .subscribe();
+    }
+
+    /**
+     * 알림 접수 - 큐가 가득 찼으면 버림
+     *
+     * @return 접수 여부
+     */
+    public boolean dispatch(NotificationRequest request) {
+        if (request.getEmployeeId() == null) {
+            log.warn("알림 대상 없음: requestId={}", request.getRequestId());
+            return false;
+        }
+        if (queueDepth.incrementAndGet() > queueCapacity) {
+            queueDepth.decrementAndGet();
+            droppedQueueFull.increment();
+            log.warn("알림 큐 초과로 버림: requestId={}, employeeId={}, capacity={}",
+                    request.getRequestId(), request.getEmployeeId(), queueCapacity);
+            return false;
+        }
+
+        pending.compute(request.getEmployeeId(), (employeeId, batch) -> {
+            if (batch == null) {
+                batch = new PendingBatch(employeeId);
+                PendingBatch created = batch;
+                scheduler.schedule(() -> flush(created), coalesceWindow.toMillis(), TimeUnit.MILLISECONDS);
+            }
+            batch.requests.add(request);
+            if (batch.requests.size() >= maxBatchSize) {
+                // 가득 찬 batch는 즉시 전송하고, 이후 알림은 새 batch로 모음
+                PendingBatch full = batch;
+                scheduler.schedule(() -> flush(full));
+                return null;
+            }
+            return batch;
+        });
+        return true;
+    }
+
+    /**
+     * batch 방출 (scheduler 스레드) - 창 만료와 크기 도달 중 먼저 온 쪽에서 한 번만 방출
+     */
+    private void flush(PendingBatch batch) {
+        pending.remove(batch.employeeId, batch);
+        if (batch.emitted) {
+            return;
+        }
+        batch.emitted = true;
+        if (batches.tryEmitNext(batch).isFailure()) {
+            complete(batch);
+            droppedFailed.increment(batch.requests.size());
+            log.warn("알림 batch 방출 실패: employeeId={}, count={}", batch.employeeId, batch.requests.size());
+        }
+    }
+
+    private Mono<Void> send(PendingBatch batch) {
+        List<NotificationRequest> requests = batch.requests;
+        return webClient.post()
+                .uri(BATCH_URI)
+                .bodyValue(requests)
+                .retrieve()
+                .toBodilessEntity()
+                .timeout(requestTimeout)
+                .retryWhen(Retry.backoff(maxRetries, retryBackoff).filter(this::isRetryable))
+                .doOnSubscribe(subscription -> {
+                    inFlight.incrementAndGet();
+                    batchSizeSummary.record(requests.size());
+                })
+                .doOnSuccess(response -> {
+                    sentCounter.increment(requests.size());
+                    latencyTimer.record(System.nanoTime() - batch.createdAt, TimeUnit.NANOSECONDS);
+                    log.info("알림 전송 성공: employeeId={}, count={}", batch.employeeId, requests.size());
+                })
+                .doOnError(error -> {
+                    droppedFailed.increment(requests.size());
+                    log.error("알림 전송 실패: employeeId={}, requestIds={}", batch.employeeId,
+                            requests.stream().map(NotificationRequest::getRequestId).toList(), error);
+                })
+                .onErrorResume(error -> Mono.empty())
+                .doFinally(signal -> {
+                    inFlight.decrementAndGet();
+                    complete(batch);
+                })
+                .then();
+    }
+
+    private void complete(PendingBatch batch) {
+        queueDepth.addAndGet(-batch.requests.size());
+    }
+
+    private boolean isRetryable(Throwable error) {
+        if (error instanceof WebClientResponseException response) {
+            return response.getStatusCode().is5xxServerError() || response.getStatusCode().value() == 429;
+        }
+        return error instanceof WebClientRequestException || error instanceof TimeoutException;
+    }
+
+    /**
+     * 종료 시 모으던 batch를 즉시 전송하고 진행 중인 호출을 기다림
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        scheduler.schedule(() -> {
+            new ArrayList<>(pending.values()).forEach(this::flush);
+            batches.tryEmitComplete();
+        });
+        if (!terminated.await(requestTimeout.multipliedBy(maxRetries + 1L).toMillis(), TimeUnit.MILLISECONDS)) {
+            log.warn("알림 디스패처 종료 대기 시간 초과: queueDepth={}", queueDepth.get());
+        }
+        scheduler.dispose();
+    }
+
+    int getQueueDepth() {
+        return queueDepth.get();
+    }
+
+    private static final class PendingBatch {
+        private final Long employeeId;
+        private final long createdAt = System.nanoTime();
+        private final List<NotificationRequest> requests = new ArrayList<>();
+        private boolean emitted;
+
+        private PendingBatch(Long employeeId) {
+            this.employeeId = employeeId;
+        }
+    }
+}
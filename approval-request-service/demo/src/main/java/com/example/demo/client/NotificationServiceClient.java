@@ -1,43 +1,25 @@
 package com.example.demo.client;
 
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.reactive.function.client.WebClient;
 
 import com.example.demo.dto.NotificationRequest;
 
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
+@RequiredArgsConstructor
 public class NotificationServiceClient {
 
-    private final WebClient webClient;
-
-    public NotificationServiceClient(@Value("${notification.service.url}") String notificationServiceUrl) {
-        this.webClient = WebClient.builder()
-                .baseUrl(notificationServiceUrl)
-                .build();
-    }
+    private final NotificationDispatcher notificationDispatcher;
 
     /**
-     * 알림 전송
+     * 알림 전송 - 디스패처에 접수만 하고 반환 (직원별로 모아 batch 전송, 동시 호출 수 제한, 재시도)
      */
     public void sendNotification(NotificationRequest request) {
-        try {
-            webClient.post()
-                    .uri("/notifications/approval")
-                    .bodyValue(request)
-                    .retrieve()
-                    .bodyToMono(Void.class)
-                    .subscribe(
-                            success -> log.info("알림 전송 성공: requestId={}, employeeId={}",
-                                    request.getRequestId(), request.getEmployeeId()),
-                            error -> log.error("알림 전송 실패: requestId={}, employeeId={}",
-                                    request.getRequestId(), request.getEmployeeId(), error)
-                    );
-        } catch (Exception e) {
-            log.error("Notification Service 호출 실패", e);
+        if (!notificationDispatcher.dispatch(request)) {
+            log.warn("알림 접수 실패: requestId={}, employeeId={}", request.getRequestId(), request.getEmployeeId());
         }
     }
 }
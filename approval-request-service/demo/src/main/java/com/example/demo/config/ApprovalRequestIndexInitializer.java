@@ -0,0 +1,73 @@
+package com.example.demo.config;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.IndexInfo;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.MongoPersistentEntityIndexResolver;
+import org.springframework.data.mongodb.core.mapping.MongoMappingContext;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * approval_requests 인덱스 생성 (spring.data.mongodb.auto-index-creation=false, 기동 시 Kafka 리스너 시작 전)
+ * - requestId unique 인덱스가 아직 없으면 먼저 중복 requestId를 확인
+ *   (카운터 채번 이전의 max+1 채번은 동시 생성 시 같은 번호를 줄 수 있었음)
+ * - 중복이 있으면 인덱스 생성 실패(E11000) 대신 중복 번호와 정리 방법을 담은 메시지로 기동 중단
+ *   → 중복 문서의 requestId를 새 번호로 바꾸거나 삭제한 뒤 다시 기동
+ * - 인덱스는 ApprovalRequestDocument의 @Indexed/@CompoundIndex 선언대로 생성 (이미 있으면 그대로)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalRequestIndexInitializer {
+
+    static final String REQUEST_ID_INDEX = "requestId_unique";
+    private static final int MAX_REPORTED_DUPLICATES = 20;
+
+    private final MongoTemplate mongoTemplate;
+    private final MongoMappingContext mongoMappingContext;
+
+    @PostConstruct
+    public void createIndexes() {
+        IndexOperations indexOps = mongoTemplate.indexOps(ApprovalRequestDocument.class);
+        boolean uniqueIndexExists = indexOps.getIndexInfo().stream()
+                .anyMatch(index -> REQUEST_ID_INDEX.equals(index.getName()));
+        if (!uniqueIndexExists) {
+            checkDuplicateRequestIds();
+        }
+        new MongoPersistentEntityIndexResolver(mongoMappingContext)
+                .resolveIndexFor(ApprovalRequestDocument.class)
+                .forEach(indexOps::createIndex);
+        log.info("approval_requests 인덱스 확인 완료: {}", indexOps.getIndexInfo().stream()
+                .map(IndexInfo::getName)
+                .toList());
+    }
+
+    private void checkDuplicateRequestIds() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.group("requestId").count().as("count"),
+                Aggregation.match(Criteria.where("count").gt(1)),
+                Aggregation.limit(MAX_REPORTED_DUPLICATES));
+        List<Document> duplicates = mongoTemplate.aggregate(aggregation, ApprovalRequestDocument.class, Document.class)
+                .getMappedResults();
+        if (duplicates.isEmpty()) {
+            return;
+        }
+        List<String> reported = duplicates.stream()
+                .map(duplicate -> duplicate.get("_id") + "(" + duplicate.get("count") + "건)")
+                .toList();
+        throw new IllegalStateException("approval_requests에 중복 requestId가 있어 unique 인덱스(" + REQUEST_ID_INDEX
+                + ")를 만들 수 없습니다: " + reported + (duplicates.size() == MAX_REPORTED_DUPLICATES ? " 외" : "")
+                + ". 중복 문서의 requestId를 새 번호로 바꾸거나 삭제한 뒤 다시 기동하세요."
+                + " (확인: db.approval_requests.aggregate([{$group: {_id: '$requestId', count: {$sum: 1}}},"
+                + " {$match: {count: {$gt: 1}}}]))");
+    }
+}
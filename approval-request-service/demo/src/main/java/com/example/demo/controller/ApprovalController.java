@@ -1,20 +1,29 @@
 package com.example.demo.controller;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.example.demo.document.ApprovalRequestDocument;
 import com.example.demo.dto.ApprovalCreateRequest;
 import com.example.demo.dto.ApprovalIdResponse;
 import com.example.demo.dto.ApprovalResponse;
+import com.example.demo.dto.ApprovalSummaryResponse;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.PendingPartitionFilter;
+import com.example.demo.service.ApprovalExportService;
 import com.example.demo.service.ApprovalRequestService;
 
 import jakarta.validation.Valid;
@@ -25,7 +34,10 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ApprovalController {
 
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
     private final ApprovalRequestService approvalRequestService;
+    private final ApprovalExportService approvalExportService;
 
     /**
      * 결재 요청 생성
@@ -40,27 +52,66 @@ public class ApprovalController {
     }
 
     /**
-     * 결재 요청 목록 조회
-     * GET /approvals
+     * 결재 요청 목록 조회 (요약 필드, requestId 오름차순 키셋 페이지네이션)
+     * GET /approvals?after=&limit=&finalStatus=&requesterId=
+     * 다음 페이지가 있으면 X-Next-Cursor 헤더로 다음 after 값을 전달
      */
     @GetMapping
-    public ResponseEntity<List<ApprovalResponse>> getAllApprovals() {
-        List<ApprovalResponse> approvals = approvalRequestService.getAllApprovals();
-        if (approvals == null || approvals.isEmpty()) {
-            return ResponseEntity.ok(List.of());
+    public ResponseEntity<List<ApprovalSummaryResponse>> getApprovals(
+            @RequestParam(required = false) Long after,
+            @RequestParam(defaultValue = "" + ApprovalRequestService.DEFAULT_PAGE_SIZE) int limit,
+            @RequestParam(required = false) String finalStatus,
+            @RequestParam(required = false) Long requesterId) {
+        CursorPage<ApprovalSummaryResponse> page =
+                approvalRequestService.getApprovals(after, limit, finalStatus, requesterId);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
         }
-        return ResponseEntity.ok(approvals);
+        return response.body(page.getItems());
+    }
+
+    /**
+     * 결재 요청 내보내기 (NDJSON 스트리밍, 웨어하우스 적재용)
+     * GET /approvals/export?since=2024-01-01T00:00:00
+     * since를 지정하면 해당 시각 이후 변경(updatedAt)된 문서만 출력
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportApprovals(
+            @RequestParam(required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since) {
+        StreamingResponseBody body = out -> approvalExportService.export(since, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
     /**
      * pending 상태인 결재 요청 목록 조회
-     * GET /approvals/pending
+     * GET /approvals/pending?after=&limit=&partitions=&partitionCount=
      * Approval Processing Service에서 서버 시작 시 동기화용으로 호출
+     * - after/limit을 주면 requestId 오름차순 페이지로 조회하고, 다음 페이지가 있으면 X-Next-Cursor 헤더로 전달
+     * - partitions/partitionCount를 주면 첫 pending 결재자의 approval-request 파티션이 partitions에 속한 결재만 전달
+     *   (Processing Pod가 소유한 파티션만 요청)
+     * - 모두 없으면 전체 목록 (이전 버전 호환)
      */
     @GetMapping("/pending")
-    public ResponseEntity<List<ApprovalRequestDocument>> getPendingApprovals() {
-        List<ApprovalRequestDocument> pendingApprovals = approvalRequestService.getAllPendingApprovals();
-        return ResponseEntity.ok(pendingApprovals);
+    public ResponseEntity<List<ApprovalRequestDocument>> getPendingApprovals(
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) List<Integer> partitions,
+            @RequestParam(required = false) Integer partitionCount) {
+        PendingPartitionFilter filter = PendingPartitionFilter.of(partitions, partitionCount);
+        if (after == null && limit == null && filter == PendingPartitionFilter.ALL) {
+            return ResponseEntity.ok(approvalRequestService.getAllPendingApprovals());
+        }
+        CursorPage<ApprovalRequestDocument> page = approvalRequestService.getPendingApprovals(after,
+                limit != null ? limit : ApprovalRequestService.DEFAULT_PENDING_PAGE_SIZE, filter);
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (page.hasNext()) {
+            response.header(NEXT_CURSOR_HEADER, String.valueOf(page.getNextCursor()));
+        }
+        return response.body(page.getItems());
     }
 
     /**
@@ -1,7 +1,9 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.StatisticsConsistencyReport;
 import com.example.demo.dto.StatisticsResponse;
 import com.example.demo.service.StatisticsService;
+import com.example.demo.service.StatisticsViewService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,6 +19,7 @@ import org.springframework.web.bind.annotation.*;
 public class StatisticsController {
 
     private final StatisticsService statisticsService;
+    private final StatisticsViewService statisticsViewService;
 
     /**
      * 전체 결재 통계 조회
@@ -40,4 +43,25 @@ public class StatisticsController {
         StatisticsResponse statistics = statisticsService.getStatisticsByRequester(requesterId);
         return ResponseEntity.ok(statistics);
     }
+
+    /**
+     * 통계 집계 뷰 재계산 (원본 결재 컬렉션 기준)
+     * POST /statistics/rebuild
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<StatisticsResponse> rebuildStatistics() {
+        log.info("통계 집계 뷰 재계산 요청");
+        statisticsViewService.rebuild();
+        return ResponseEntity.ok(statisticsService.getStatistics());
+    }
+
+    /**
+     * 통계 집계 뷰 정합성 검사 (조회만 수행, 복구는 POST /statistics/rebuild)
+     * GET /statistics/consistency
+     */
+    @GetMapping("/consistency")
+    public ResponseEntity<StatisticsConsistencyReport> checkConsistency() {
+        log.info("통계 집계 뷰 정합성 검사 요청");
+        return ResponseEntity.ok(statisticsViewService.checkConsistency(false));
+    }
 }
@@ -1,31 +1,79 @@
 package com.example.demo.document;
 
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.index.CompoundIndex;
+import org.springframework.data.mongodb.core.index.CompoundIndexes;
+import org.springframework.data.mongodb.core.index.Indexed;
 import org.springframework.data.mongodb.core.mapping.Document;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
+/**
+ * 결재 요청 Document
+ * - 인덱스는 기동 시 ApprovalRequestIndexInitializer가 생성 (중복 requestId 확인 후)
+ *   - requestId: 단건 조회/채번 시드 (unique)
+ *   - finalStatus + requestId: 상태별 조회 및 목록/pending 키셋 페이지네이션
+ *   - requesterId + requestId: 요청자 필터 목록 키셋 페이지네이션
+ *   - updatedAt: 증분 내보내기 워터마크
+ *   - outbox.createdAt: 아웃박스 릴레이의 발행 대기 이벤트 조회
+ */
 @Document(collection = "approval_requests")
+@CompoundIndexes({
+        @CompoundIndex(name = "finalStatus_requestId", def = "{'finalStatus': 1, 'requestId': 1}"),
+        @CompoundIndex(name = "requesterId_requestId", def = "{'requesterId': 1, 'requestId': 1}"),
+        @CompoundIndex(name = "outbox_createdAt", def = "{'outbox.createdAt': 1}")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class ApprovalRequestDocument {
 
+    public static final int DEFAULT_PRIORITY = 3;
+
     @Id
     private String id;
 
+    @Indexed(name = "requestId_unique", unique = true)
     private Long requestId;
     private Long requesterId;
     private String title;
     private String content;
     private List<ApprovalStep> steps;
     private String finalStatus; // in_progress, approved, rejected
+    private Integer priority; // 1(긴급) ~ 5(낮음), 이전 문서는 없음 (보통으로 처리)
     private LocalDateTime createdAt;
+    @Indexed(name = "updatedAt")
     private LocalDateTime updatedAt;
+    @JsonIgnore
+    private List<OutboxEvent> outbox; // Kafka 발행 대기 이벤트 (발행 후 제거)
+
+    /**
+     * Processing Service로 보내는 결재 요청 메시지 (Kafka / gRPC 공용)
+     */
+    public ApprovalRequestMessage toMessage() {
+        return ApprovalRequestMessage.builder()
+                .requestId(requestId)
+                .requesterId(requesterId)
+                .title(title)
+                .content(content)
+                .steps(steps.stream()
+                        .map(step -> ApprovalRequestMessage.StepInfo.builder()
+                                .step(step.getStep())
+                                .approverId(step.getApproverId())
+                                .status(step.getStatus())
+                                .build())
+                        .toList())
+                .priority(priority)
+                .createdAt(createdAt)
+                .build();
+    }
 }
@@ -0,0 +1,43 @@
+package com.example.demo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+import java.time.LocalDateTime;
+
+/**
+ * 결재 통계 집계 뷰 Document
+ * - 전체 통계 1건(id=global)과 요청자별 통계(id=requester:{requesterId})로 구성
+ * - 결재 생성/최종 상태 변경 시 $inc로 증분 갱신
+ */
+@Document(collection = "approval_statistics")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalStatisticsDocument {
+
+    public static final String GLOBAL_ID = "global";
+    public static final String SCOPE_GLOBAL = "global";
+    public static final String SCOPE_REQUESTER = "requester";
+
+    @Id
+    private String id;
+
+    private String scope; // global, requester
+    private Long requesterId;
+    private long totalRequests;
+    private long inProgressCount;
+    private long approvedCount;
+    private long rejectedCount;
+    private long totalSteps; // 평균 결재 단계 수 계산용 (단계 수 합계)
+    private LocalDateTime updatedAt;
+
+    public static String requesterKey(Long requesterId) {
+        return SCOPE_REQUESTER + ":" + requesterId;
+    }
+}
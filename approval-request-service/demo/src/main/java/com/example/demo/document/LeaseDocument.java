@@ -0,0 +1,30 @@
+package com.example.demo.document;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 인스턴스 리스 Document - 여러 인스턴스 중 한 곳만 작업을 수행하도록 보장
+ * - id: 리스 이름 (예: approval-outbox-relay)
+ * - owner: 리스를 가진 인스턴스 ID
+ * - expiresAt: 갱신되지 않으면 다른 인스턴스가 가져갈 수 있는 시각
+ */
+@Document(collection = "leases")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class LeaseDocument {
+
+    @Id
+    private String id;
+
+    private String owner;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package com.example.demo.document;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 결재 문서에 함께 저장되는 Kafka 발행 대기 이벤트 (아웃박스)
+ * - 결재 생성/단계 승인과 같은 쓰기 연산으로 추가되고, 릴레이가 발행에 성공하면 제거
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OutboxEvent {
+
+    private String eventId;
+    private LocalDateTime createdAt;
+
+    public static OutboxEvent create(LocalDateTime now) {
+        return new OutboxEvent(UUID.randomUUID().toString(), now);
+    }
+}
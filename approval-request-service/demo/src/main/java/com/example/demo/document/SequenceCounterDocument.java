@@ -0,0 +1,26 @@
+package com.example.demo.document;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * 채번용 카운터 Document
+ * - id: 시퀀스 이름 (예: approval_request_id)
+ * - value: 지금까지 예약된 마지막 번호
+ */
+@Document(collection = "counters")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class SequenceCounterDocument {
+
+    @Id
+    private String id;
+
+    private Long value;
+}
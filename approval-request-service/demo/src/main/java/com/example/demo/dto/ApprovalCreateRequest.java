@@ -1,6 +1,8 @@
 package com.example.demo.dto;
 
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
@@ -29,4 +31,9 @@ public class ApprovalCreateRequest {
     @NotEmpty(message = "결재 단계는 최소 1개 이상이어야 합니다.")
     @Valid
     private List<StepRequest> steps;
+
+    // 우선순위 1(긴급) ~ 5(낮음) - 없으면 보통(3)
+    @Min(value = 1, message = "우선순위는 1 이상 5 이하여야 합니다.")
+    @Max(value = 5, message = "우선순위는 1 이상 5 이하여야 합니다.")
+    private Integer priority;
 }
@@ -22,6 +22,7 @@ public class ApprovalResponse {
     private String content;
     private List<StepResponse> steps;
     private String finalStatus;
+    private Integer priority;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -35,6 +36,7 @@ public class ApprovalResponse {
                         .map(StepResponse::from)
                         .toList())
                 .finalStatus(doc.getFinalStatus())
+                .priority(doc.getPriority())
                 .createdAt(doc.getCreatedAt())
                 .updatedAt(doc.getUpdatedAt())
                 .build();
@@ -1,4 +1,4 @@
-package com.example.demo.kafka.dto;
+package com.example.demo.dto;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -6,17 +6,16 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Kafka 메시지 - 결재 결과 (Processing Service → Request Service)
+ * 결재 단계 처리 결과 (결재 결과 일괄 반영용)
  */
 @Data
-@Builder
 @NoArgsConstructor
 @AllArgsConstructor
-public class ApprovalResultMessage {
-    
+@Builder
+public class ApprovalStepResult {
     private Long requestId;
     private int step;
     private Long approverId;
     private String status;  // approved or rejected
-    private String comment; // 결재 의견/코멘트
+    private String comment;
 }
@@ -0,0 +1,53 @@
+package com.example.demo.dto;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재 요청 목록용 요약 DTO (본문 content와 단계별 의견 comment 제외)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApprovalSummaryResponse {
+
+    private Long requestId;
+    private Long requesterId;
+    private String title;
+    private List<StepSummary> steps;
+    private String finalStatus;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static ApprovalSummaryResponse from(ApprovalRequestDocument doc) {
+        return ApprovalSummaryResponse.builder()
+                .requestId(doc.getRequestId())
+                .requesterId(doc.getRequesterId())
+                .title(doc.getTitle())
+                .steps(doc.getSteps() == null ? List.of() : doc.getSteps().stream()
+                        .map(s -> new StepSummary(s.getStep(), s.getApproverId(), s.getStatus(), s.getUpdatedAt()))
+                        .toList())
+                .finalStatus(doc.getFinalStatus())
+                .createdAt(doc.getCreatedAt())
+                .updatedAt(doc.getUpdatedAt())
+                .build();
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StepSummary {
+        private Integer step;
+        private Long approverId;
+        private String status;
+        private LocalDateTime updatedAt;
+    }
+}
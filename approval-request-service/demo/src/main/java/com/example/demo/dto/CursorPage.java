@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 키셋(커서) 기반 페이지
+ * - nextCursor: 다음 페이지 요청 시 after로 전달할 값 (마지막 페이지면 null)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+
+    private List<T> items;
+    private Long nextCursor;
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 존재 여부 확인 요청 DTO (Approval Request Service → Employee Service)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsRequest {
+    private List<Long> ids;
+}
@@ -0,0 +1,17 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 존재 여부 확인 응답 DTO (존재하지 않는 직원 ID 목록)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsResponse {
+    private List<Long> missingIds;
+}
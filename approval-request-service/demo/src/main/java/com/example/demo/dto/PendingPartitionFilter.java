@@ -0,0 +1,50 @@
+package com.example.demo.dto;
+
+import com.example.approval.wire.ApproverPartitioner;
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStep;
+import com.example.demo.exception.InvalidPageRequestException;
+
+import java.util.Collection;
+import java.util.Set;
+
+/**
+ * pending 결재 조회 범위 - 첫 pending 단계 결재자의 approval-request 파티션이 partitions에 속한 결재만
+ * - Processing Service는 자기가 소유한 파티션의 결재자 대기 목록만 가지므로, 동기화 시 그 파티션만 요청
+ * - partitions가 null이면 전체
+ * - pending 단계가 없는 결재는 결재자 파티션을 알 수 없으므로 항상 포함 (이전과 같이 받는 쪽에서 판단)
+ */
+public record PendingPartitionFilter(Set<Integer> partitions, int partitionCount) {
+
+    public static final PendingPartitionFilter ALL = new PendingPartitionFilter(null, 0);
+
+    /**
+     * 요청 파라미터로 생성 - 파티션 목록이 없으면 전체, 있으면 파티션 수가 필요하고 각 파티션은 0 ~ partitionCount-1
+     */
+    public static PendingPartitionFilter of(Collection<Integer> partitions, Integer partitionCount) {
+        if (partitions == null || partitions.isEmpty()) {
+            return ALL;
+        }
+        if (partitionCount == null || partitionCount < 1) {
+            throw new InvalidPageRequestException("partitions를 주면 partitionCount(1 이상)도 필요합니다");
+        }
+        for (Integer partition : partitions) {
+            if (partition == null || partition < 0 || partition >= partitionCount) {
+                throw new InvalidPageRequestException("partition은 0 이상 " + partitionCount + " 미만이어야 합니다: " + partition);
+            }
+        }
+        return new PendingPartitionFilter(Set.copyOf(partitions), partitionCount);
+    }
+
+    public boolean matches(ApprovalRequestDocument document) {
+        if (partitions == null || document.getSteps() == null) {
+            return true;
+        }
+        return document.getSteps().stream()
+                .filter(step -> "pending".equals(step.getStatus()))
+                .findFirst()
+                .map(ApprovalStep::getApproverId)
+                .map(approverId -> partitions.contains(ApproverPartitioner.partitionOf(approverId, partitionCount)))
+                .orElse(true);
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 통계 집계 뷰 정합성 검사 결과 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class StatisticsConsistencyReport {
+
+    /**
+     * 집계 뷰와 원본 컬렉션 재계산 결과가 모두 일치하는지 여부
+     */
+    private boolean consistent;
+
+    /**
+     * 비교한 통계 Document 수 (전체 + 요청자별)
+     */
+    private int checkedCount;
+
+    /**
+     * 불일치 항목 목록
+     */
+    private List<Mismatch> mismatches;
+
+    /**
+     * 불일치 항목을 재계산 값으로 복구했는지 여부
+     */
+    private boolean repaired;
+
+    private LocalDateTime checkedAt;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Mismatch {
+        private String id;
+        private String field;
+        private long expected;
+        private long actual;
+    }
+}
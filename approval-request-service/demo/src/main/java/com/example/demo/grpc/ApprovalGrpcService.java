@@ -0,0 +1,100 @@
+package com.example.demo.grpc;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.dto.ApprovalStepResult;
+import com.example.demo.dto.PendingPartitionFilter;
+import com.example.demo.exception.InvalidPageRequestException;
+import com.example.demo.service.ApprovalRequestService;
+
+import io.grpc.Status;
+import io.grpc.stub.ServerCallStreamObserver;
+import io.grpc.stub.StreamObserver;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.server.service.GrpcService;
+
+/**
+ * ApprovalService gRPC 서버 (Approval Request Service 담당 RPC)
+ * - ReturnApprovalResult: Processing Service의 결재 결과 반영 (Kafka approval-result와 같은 처리)
+ * - GetAllPendingApprovals: 진행 중인 결재를 MongoDB 커서로 읽어 한 건씩 스트리밍
+ *   (클라이언트가 받을 수 있을 때만 전송 - isReady/onReady 기반 흐름 제어, partitions를 주면 그 파티션 결재자의 결재만)
+ */
+@Slf4j
+@GrpcService
+@RequiredArgsConstructor
+public class ApprovalGrpcService extends ApprovalServiceGrpc.ApprovalServiceImplBase {
+
+    private final ApprovalRequestService approvalRequestService;
+
+    @Override
+    public void returnApprovalResult(ApprovalResultRequest request, StreamObserver<ApprovalResultResponse> responseObserver) {
+        ApprovalResultMessage message = ApprovalProtoMapper.fromProto(request);
+        log.info("gRPC 결재 결과 수신: requestId={}, step={}, status={}",
+                message.getRequestId(), message.getStep(), message.getStatus());
+        try {
+            // 조건부 반영이므로 Kafka 재전송 등으로 같은 결과가 다시 와도 한 번만 반영됨
+            approvalRequestService.processApprovalResults(List.of(ApprovalStepResult.builder()
+                    .requestId(message.getRequestId())
+                    .step(message.getStep())
+                    .approverId(message.getApproverId())
+                    .status(message.getStatus())
+                    .comment(message.getComment())
+                    .build()));
+            responseObserver.onNext(ApprovalResultResponse.newBuilder().setStatus("received").build());
+            responseObserver.onCompleted();
+        } catch (Exception e) {
+            log.error("gRPC 결재 결과 처리 실패: requestId={}", message.getRequestId(), e);
+            responseObserver.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+        }
+    }
+
+    @Override
+    public void getAllPendingApprovals(PendingApprovalsRequest request, StreamObserver<ApprovalRequest> responseObserver) {
+        ServerCallStreamObserver<ApprovalRequest> observer = (ServerCallStreamObserver<ApprovalRequest>) responseObserver;
+        PendingPartitionFilter filter;
+        try {
+            filter = PendingPartitionFilter.of(request.getPartitionsList(), request.getPartitionCount());
+        } catch (InvalidPageRequestException e) {
+            observer.onError(Status.INVALID_ARGUMENT.withDescription(e.getMessage()).asRuntimeException());
+            return;
+        }
+        Stream<ApprovalRequestDocument> documents = approvalRequestService.streamAllPendingApprovals(filter);
+        Iterator<ApprovalRequestDocument> iterator = documents.iterator();
+        AtomicBoolean finished = new AtomicBoolean();
+
+        observer.setOnCancelHandler(() -> {
+            if (finished.compareAndSet(false, true)) {
+                documents.close();
+                log.info("pending 결재 스트리밍 취소됨");
+            }
+        });
+        // onReady 콜백은 한 번에 하나씩 호출되므로 iterator 접근이 겹치지 않음
+        observer.setOnReadyHandler(() -> {
+            try {
+                while (observer.isReady() && !finished.get()) {
+                    if (!iterator.hasNext()) {
+                        if (finished.compareAndSet(false, true)) {
+                            documents.close();
+                            observer.onCompleted();
+                        }
+                        return;
+                    }
+                    observer.onNext(ApprovalProtoMapper.toProto(iterator.next().toMessage()));
+                }
+            } catch (Exception e) {
+                if (finished.compareAndSet(false, true)) {
+                    documents.close();
+                    log.error("pending 결재 스트리밍 실패", e);
+                    observer.onError(Status.INTERNAL.withDescription(e.getMessage()).withCause(e).asRuntimeException());
+                }
+            }
+        });
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.demo.grpc;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.service.ApprovalRequestSender;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.MoreExecutors;
+
+import lombok.extern.slf4j.Slf4j;
+import net.devh.boot.grpc.client.inject.GrpcClient;
+
+/**
+ * Processing Service gRPC 클라이언트 - 결재 요청 전달 (approval.transport=grpc)
+ * - 아웃박스 릴레이가 사용하며, Processing Service의 응답을 받은 건만 전달 완료로 보고 이벤트 제거
+ * - 호출마다 deadline(approval.grpc.deadline)을 걸어 응답 없는 호출이 릴레이를 붙잡지 않도록 함
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "approval.transport", havingValue = "grpc")
+public class ApprovalProcessingGrpcClient implements ApprovalRequestSender {
+
+    @GrpcClient("approval-processing-service")
+    private ApprovalServiceGrpc.ApprovalServiceFutureStub approvalServiceStub;
+
+    @Value("${approval.grpc.deadline:5s}")
+    private Duration deadline;
+
+    @Override
+    public CompletableFuture<ApprovalResponse> sendApprovalRequest(ApprovalRequestDocument document) {
+        ApprovalRequest request = ApprovalProtoMapper.toProto(document.toMessage());
+        CompletableFuture<ApprovalResponse> result = new CompletableFuture<>();
+        Futures.addCallback(
+                approvalServiceStub.withDeadlineAfter(deadline.toMillis(), TimeUnit.MILLISECONDS).requestApproval(request),
+                new FutureCallback<>() {
+                    @Override
+                    public void onSuccess(ApprovalResponse response) {
+                        log.debug("gRPC 결재 요청 전달 성공: requestId={}, status={}",
+                                request.getRequestId(), response.getStatus());
+                        result.complete(response);
+                    }
+
+                    @Override
+                    public void onFailure(Throwable t) {
+                        result.completeExceptionally(t);
+                    }
+                },
+                MoreExecutors.directExecutor());
+        return result;
+    }
+
+    /**
+     * 호출마다 바로 전송되므로 비울 버퍼 없음
+     */
+    @Override
+    public void flush() {
+    }
+}
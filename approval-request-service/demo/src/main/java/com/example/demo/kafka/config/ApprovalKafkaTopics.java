@@ -0,0 +1,55 @@
+package com.example.demo.kafka.config;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 결재 토픽 정의 - Approval Request Service와 Approval Processing Service가 같은 이름/속성 키로 공유
+ * - approval-request, approval-result 토픽은 approval.kafka.partitions 개의 파티션으로 생성
+ *   (이미 있는 토픽의 파티션이 더 적으면 기동 시 늘어나고, 줄어들지는 않음)
+ * - 리스너 동시성은 기본적으로 파티션 수와 같게 맞춤 (파티션보다 많은 스레드는 유휴 상태)
+ * - approval-request 메시지 key는 현재 pending 단계의 approverId - 한 결재자의 요청은 항상 같은 파티션으로 들어가고,
+ *   그 파티션을 할당받은 Processing Pod가 결재자의 대기 목록을 가짐 (파티션 할당 = 대기 목록 소유권)
+ * - approval-result 메시지 key는 requestId이므로 같은 결재의 결과는 항상 같은 파티션에서 순서대로 처리됨
+ */
+@Component
+public class ApprovalKafkaTopics {
+
+    public static final String APPROVAL_REQUEST = "approval-request";
+    public static final String APPROVAL_RESULT = "approval-result";
+
+    private final int partitions;
+    private final short replicas;
+    private final int listenerConcurrency;
+
+    public ApprovalKafkaTopics(@Value("${approval.kafka.partitions:3}") int partitions,
+                               @Value("${approval.kafka.replicas:1}") short replicas,
+                               @Value("${approval.kafka.listener-concurrency:0}") int listenerConcurrency) {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("approval.kafka.partitions는 1 이상이어야 합니다: " + partitions);
+        }
+        this.partitions = partitions;
+        this.replicas = replicas;
+        this.listenerConcurrency = listenerConcurrency > 0 ? listenerConcurrency : partitions;
+    }
+
+    public NewTopic newTopic(String name) {
+        return TopicBuilder.name(name)
+                .partitions(partitions)
+                .replicas(replicas)
+                .build();
+    }
+
+    public int getPartitions() {
+        return partitions;
+    }
+
+    /**
+     * 결재 토픽 리스너 동시성 (approval.kafka.listener-concurrency, 미지정 시 파티션 수)
+     */
+    public int getListenerConcurrency() {
+        return listenerConcurrency;
+    }
+}
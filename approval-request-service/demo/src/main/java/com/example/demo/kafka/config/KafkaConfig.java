@@ -1,11 +1,15 @@
 package com.example.demo.kafka.config;
 
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 import org.apache.kafka.clients.admin.NewTopic;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -13,17 +17,24 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
-import org.springframework.kafka.config.TopicBuilder;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
-import org.springframework.kafka.support.serializer.JsonSerializer;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 
-import com.example.demo.kafka.dto.ApprovalRequestMessage;
-import com.example.demo.kafka.dto.ApprovalResultMessage;
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.approval.wire.ApprovalWireDeserializer;
+import com.example.approval.wire.ApprovalWireSerializer;
+import com.example.approval.wire.WireFormat;
+import com.example.demo.kafka.dto.EmployeeEventMessage;
 
 @EnableKafka
 @Configuration
@@ -32,38 +43,88 @@ public class KafkaConfig {
     @Value("${spring.kafka.bootstrap-servers}")
     private String bootstrapServers;
 
-    public static final String TOPIC_APPROVAL_REQUEST = "approval-request";
-    public static final String TOPIC_APPROVAL_RESULT = "approval-result";
+    // 결재 결과 batch Consumer - poll 당 최대 건수, 최소 바이트, 최대 대기 시간
+    @Value("${approval.result-consumer.max-batch-size:500}")
+    private int resultMaxBatchSize;
+
+    @Value("${approval.result-consumer.min-batch-bytes:1}")
+    private int resultMinBatchBytes;
+
+    @Value("${approval.result-consumer.max-wait:500ms}")
+    private Duration resultMaxWait;
+
+    // 결재 결과 batch 재시도 - 지수 backoff 최초/최대 간격, 최대 재시도 횟수 (소진 시 DLT로 보냄)
+    @Value("${approval.result-consumer.retry.initial-interval:1s}")
+    private Duration resultRetryInitialInterval;
+
+    @Value("${approval.result-consumer.retry.max-interval:30s}")
+    private Duration resultRetryMaxInterval;
+
+    @Value("${approval.result-consumer.retry.max-retries:20}")
+    private int resultRetryMaxRetries;
+
+    // 결재 요청 Producer (아웃박스 릴레이) - 압축 방식, linger, batch 크기
+    @Value("${approval.outbox.producer.compression-type:lz4}")
+    private String requestCompressionType;
+
+    @Value("${approval.outbox.producer.linger:20ms}")
+    private Duration requestLinger;
+
+    @Value("${approval.outbox.producer.batch-size:65536}")
+    private int requestBatchSize;
+
+    // 결재 토픽 메시지 형식 - 발행 형식(json|protobuf), 수신 허용 형식 (전환 기간에는 json,protobuf)
+    @Value("${approval.kafka.wire-format.write:json}")
+    private String writeFormat;
+
+    @Value("${approval.kafka.wire-format.accept:json,protobuf}")
+    private String acceptFormats;
+
+    public static final String TOPIC_APPROVAL_REQUEST = ApprovalKafkaTopics.APPROVAL_REQUEST;
+    public static final String TOPIC_APPROVAL_RESULT = ApprovalKafkaTopics.APPROVAL_RESULT;
+    public static final String TOPIC_APPROVAL_RESULT_DLT = TOPIC_APPROVAL_RESULT + ".DLT";
+    public static final String TOPIC_EMPLOYEE_EVENTS = "employee-events";
 
     // ==================== Topics ====================
 
     @Bean
-    public NewTopic approvalRequestTopic() {
-        return TopicBuilder.name(TOPIC_APPROVAL_REQUEST)
-                .partitions(1)
-                .replicas(1)
-                .build();
+    public NewTopic approvalRequestTopic(ApprovalKafkaTopics approvalKafkaTopics) {
+        return approvalKafkaTopics.newTopic(TOPIC_APPROVAL_REQUEST);
     }
 
     @Bean
-    public NewTopic approvalResultTopic() {
-        return TopicBuilder.name(TOPIC_APPROVAL_RESULT)
-                .partitions(1)
-                .replicas(1)
-                .build();
+    public NewTopic approvalResultTopic(ApprovalKafkaTopics approvalKafkaTopics) {
+        return approvalKafkaTopics.newTopic(TOPIC_APPROVAL_RESULT);
+    }
+
+    /**
+     * 재시도를 소진한 결재 결과 - 원본과 같은 파티션 번호로 보내므로 파티션 수를 맞춰 생성
+     */
+    @Bean
+    public NewTopic approvalResultDeadLetterTopic(ApprovalKafkaTopics approvalKafkaTopics) {
+        return approvalKafkaTopics.newTopic(TOPIC_APPROVAL_RESULT_DLT);
     }
 
     // ==================== Producer ====================
 
+    /**
+     * 결재 요청 Producer - 멱등 Producer(acks=all)로 재시도 시에도 중복/순서 뒤바뀜 없이 기록
+     * 릴레이가 flush할 때마다 쌓인 레코드를 압축된 batch로 전송
+     * 본문은 approval.kafka.wire-format.write 형식으로 기록
+     */
     @Bean
     public ProducerFactory<String, ApprovalRequestMessage> approvalRequestProducerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
-        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
-        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
-        // 타입 헤더 비활성화 - 수신측 패키지가 다를 수 있으므로
-        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
-        return new DefaultKafkaProducerFactory<>(configProps);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        configProps.put(ProducerConfig.MAX_IN_FLIGHT_REQUESTS_PER_CONNECTION, 5);
+        configProps.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, requestCompressionType);
+        configProps.put(ProducerConfig.LINGER_MS_CONFIG, (int) requestLinger.toMillis());
+        configProps.put(ProducerConfig.BATCH_SIZE_CONFIG, requestBatchSize);
+        WireFormat format = WireFormat.from(writeFormat);
+        return new DefaultKafkaProducerFactory<>(configProps, StringSerializer::new,
+                () -> new ApprovalWireSerializer<ApprovalRequestMessage>(format, ApprovalProtoMapper::toProto));
     }
 
     @Bean
@@ -71,27 +132,99 @@ public class KafkaConfig {
         return new KafkaTemplate<>(approvalRequestProducerFactory());
     }
 
+    /**
+     * 결재 결과 DLT Producer - 원본과 같은 형식으로 기록해 DLT를 approval-result로 그대로 재발행할 수 있게 함
+     */
+    @Bean
+    public ProducerFactory<String, ApprovalResultMessage> approvalResultDeadLetterProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, true);
+        configProps.put(ProducerConfig.ACKS_CONFIG, "all");
+        WireFormat format = WireFormat.from(writeFormat);
+        return new DefaultKafkaProducerFactory<>(configProps, StringSerializer::new,
+                () -> new ApprovalWireSerializer<ApprovalResultMessage>(format, ApprovalProtoMapper::toProto));
+    }
+
+    @Bean
+    public KafkaTemplate<String, ApprovalResultMessage> approvalResultDeadLetterKafkaTemplate() {
+        return new KafkaTemplate<>(approvalResultDeadLetterProducerFactory());
+    }
+
     // ==================== Consumer ====================
 
+    /**
+     * 결재 결과 Consumer - 레코드마다 형식을 판별해 approval.kafka.wire-format.accept에 포함된 형식만 읽음
+     */
     @Bean
     public ConsumerFactory<String, ApprovalResultMessage> approvalResultConsumerFactory() {
         Map<String, Object> configProps = new HashMap<>();
         configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
         configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "approval-request-service");
+        // batch 크기/대기 시간 - min-batch-bytes가 쌓이거나 max-wait가 지나면 poll 반환
+        configProps.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, resultMaxBatchSize);
+        configProps.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, resultMinBatchBytes);
+        configProps.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, (int) resultMaxWait.toMillis());
+        Set<WireFormat> accepted = WireFormat.parseAll(acceptFormats);
+        return new DefaultKafkaConsumerFactory<>(configProps, StringDeserializer::new,
+                () -> new ApprovalWireDeserializer<>(ApprovalResultMessage.class, accepted,
+                        ApprovalProtoMapper::parseApprovalResult));
+    }
+
+    /**
+     * 결재 결과 batch Listener - poll 단위로 받아 MongoDB bulkWrite로 반영
+     * 리스너가 정상 반환한 뒤에만 offset 커밋(BATCH), 예외 시 batch 전체를 지수 backoff로 재시도
+     * 재시도를 소진하면 batch의 레코드를 approval-result.DLT로 보낸 뒤 offset 커밋 (버리지 않음)
+     * 파티션 수만큼 Consumer 스레드를 띄움 (같은 requestId는 같은 파티션 → 한 스레드에서 순서대로 처리)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ApprovalResultMessage> approvalResultListenerContainerFactory(
+            ApprovalKafkaTopics approvalKafkaTopics) {
+        ConcurrentKafkaListenerContainerFactory<String, ApprovalResultMessage> factory =
+                new ConcurrentKafkaListenerContainerFactory<>();
+        factory.setConsumerFactory(approvalResultConsumerFactory());
+        factory.setConcurrency(approvalKafkaTopics.getListenerConcurrency());
+        factory.setBatchListener(true);
+        factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.BATCH);
+        factory.setCommonErrorHandler(approvalResultErrorHandler());
+        return factory;
+    }
+
+    @Bean
+    public DefaultErrorHandler approvalResultErrorHandler() {
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(resultRetryMaxRetries);
+        backOff.setInitialInterval(resultRetryInitialInterval.toMillis());
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(resultRetryMaxInterval.toMillis());
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(
+                approvalResultDeadLetterKafkaTemplate(),
+                (record, e) -> new TopicPartition(TOPIC_APPROVAL_RESULT_DLT, record.partition()));
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
+    /**
+     * 직원 이벤트 Consumer - 인스턴스마다 고유 group으로 모든 이벤트를 수신 (캐시 무효화 브로드캐스트)
+     * 재시작 시 과거 이벤트는 필요 없으므로 latest부터 읽음
+     */
+    @Bean
+    public ConsumerFactory<String, EmployeeEventMessage> employeeEventConsumerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ConsumerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ConsumerConfig.GROUP_ID_CONFIG, "approval-request-service-employee-cache-" + UUID.randomUUID());
+        configProps.put(ConsumerConfig.AUTO_OFFSET_RESET_CONFIG, "latest");
         configProps.put(ConsumerConfig.KEY_DESERIALIZER_CLASS_CONFIG, StringDeserializer.class);
         configProps.put(ConsumerConfig.VALUE_DESERIALIZER_CLASS_CONFIG, JsonDeserializer.class);
         configProps.put(JsonDeserializer.TRUSTED_PACKAGES, "*");
-        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, ApprovalResultMessage.class.getName());
-        // 타입 헤더 무시 - 송신측과 수신측의 패키지가 다를 수 있으므로
+        configProps.put(JsonDeserializer.VALUE_DEFAULT_TYPE, EmployeeEventMessage.class.getName());
         configProps.put(JsonDeserializer.USE_TYPE_INFO_HEADERS, false);
         return new DefaultKafkaConsumerFactory<>(configProps);
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, ApprovalResultMessage> approvalResultListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, ApprovalResultMessage> factory =
+    public ConcurrentKafkaListenerContainerFactory<String, EmployeeEventMessage> employeeEventListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EmployeeEventMessage> factory =
                 new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(approvalResultConsumerFactory());
+        factory.setConsumerFactory(employeeEventConsumerFactory());
         return factory;
     }
 }
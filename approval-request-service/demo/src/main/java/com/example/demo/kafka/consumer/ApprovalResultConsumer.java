@@ -1,47 +1,70 @@
 package com.example.demo.kafka.consumer;
 
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.dto.ApprovalStepResult;
 import com.example.demo.kafka.config.KafkaConfig;
-import com.example.demo.kafka.dto.ApprovalResultMessage;
 import com.example.demo.service.ApprovalRequestService;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
+
 /**
- * 결재 결과를 Kafka에서 수신하는 Consumer
+ * 결재 결과를 Kafka에서 수신하는 Consumer (batch)
+ * - poll 단위 목록을 한 번에 반영하고, 처리 건수/배치 크기/처리 시간을 metrics로 노출
+ *   - approval.result.consumer.records (초당 처리 건수는 rate로 계산)
+ *   - approval.result.consumer.batch.size
+ *   - approval.result.consumer.batch.duration
  */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class ApprovalResultConsumer {
 
     private final ApprovalRequestService approvalRequestService;
+    private final Counter recordCounter;
+    private final DistributionSummary batchSizeSummary;
+    private final Timer batchTimer;
+
+    public ApprovalResultConsumer(ApprovalRequestService approvalRequestService, MeterRegistry meterRegistry) {
+        this.approvalRequestService = approvalRequestService;
+        this.recordCounter = Counter.builder("approval.result.consumer.records")
+                .description("처리한 결재 결과 메시지 수")
+                .register(meterRegistry);
+        this.batchSizeSummary = DistributionSummary.builder("approval.result.consumer.batch.size")
+                .description("poll 당 결재 결과 메시지 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("approval.result.consumer.batch.duration")
+                .description("결재 결과 batch 처리 시간")
+                .register(meterRegistry);
+    }
 
     @KafkaListener(
             topics = KafkaConfig.TOPIC_APPROVAL_RESULT,
             groupId = "approval-request-service",
             containerFactory = "approvalResultListenerContainerFactory"
     )
-    public void consumeApprovalResult(ApprovalResultMessage message) {
-        log.info("Kafka 메시지 수신: topic={}, requestId={}, step={}, status={}, comment={}",
-                KafkaConfig.TOPIC_APPROVAL_RESULT,
-                message.getRequestId(),
-                message.getStep(),
-                message.getStatus(),
-                message.getComment());
-
-        try {
-            approvalRequestService.processApprovalResult(
-                    message.getRequestId(),
-                    message.getStep(),
-                    message.getApproverId(),
-                    message.getStatus(),
-                    message.getComment()
-            );
-            log.info("결재 결과 처리 완료: requestId={}", message.getRequestId());
-        } catch (Exception e) {
-            log.error("결재 결과 처리 실패: requestId={}", message.getRequestId(), e);
-        }
+    public void consumeApprovalResults(List<ApprovalResultMessage> messages) {
+        log.info("Kafka 메시지 수신: topic={}, count={}", KafkaConfig.TOPIC_APPROVAL_RESULT, messages.size());
+
+        List<ApprovalStepResult> results = messages.stream()
+                .map(message -> ApprovalStepResult.builder()
+                        .requestId(message.getRequestId())
+                        .step(message.getStep())
+                        .approverId(message.getApproverId())
+                        .status(message.getStatus())
+                        .comment(message.getComment())
+                        .build())
+                .toList();
+
+        // bulkWrite 실패 시 예외 전파 → offset 미커밋, 컨테이너 error handler가 batch 재시도 (소진 시 DLT)
+        batchTimer.record(() -> approvalRequestService.processApprovalResults(results));
+        recordCounter.increment(messages.size());
+        batchSizeSummary.record(messages.size());
+        log.info("결재 결과 처리 완료: count={}", messages.size());
     }
 }
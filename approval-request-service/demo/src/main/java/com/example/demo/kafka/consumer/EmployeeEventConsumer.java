@@ -0,0 +1,34 @@
+package com.example.demo.kafka.consumer;
+
+import com.example.demo.client.EmployeeExistenceCache;
+import com.example.demo.kafka.config.KafkaConfig;
+import com.example.demo.kafka.dto.EmployeeEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 직원 생성/삭제 이벤트를 Kafka에서 수신하여 직원 존재 여부 캐시를 무효화하는 Consumer
+ * 모든 인스턴스가 각자의 캐시를 무효화해야 하므로 인스턴스별 고유 group으로 구독
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EmployeeEventConsumer {
+
+    private final EmployeeExistenceCache existenceCache;
+
+    @KafkaListener(
+            topics = KafkaConfig.TOPIC_EMPLOYEE_EVENTS,
+            containerFactory = "employeeEventListenerContainerFactory"
+    )
+    public void consumeEmployeeEvent(EmployeeEventMessage message) {
+        log.info("직원 이벤트 수신: employeeId={}, eventType={}",
+                message.getEmployeeId(), message.getEventType());
+
+        if (message.getEmployeeId() != null) {
+            existenceCache.invalidate(message.getEmployeeId());
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.demo.kafka.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Kafka 메시지 - 직원 변경 이벤트 (Employee Service → Request Service)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeEventMessage {
+
+    private Long employeeId;
+    private String eventType; // created, deleted
+    private LocalDateTime occurredAt;
+}
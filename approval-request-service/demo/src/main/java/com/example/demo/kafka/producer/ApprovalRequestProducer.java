@@ -1,63 +1,56 @@
 package com.example.demo.kafka.producer;
 
+import com.example.approval.wire.ApprovalRequestMessage;
 import com.example.demo.document.ApprovalRequestDocument;
 import com.example.demo.kafka.config.KafkaConfig;
-import com.example.demo.kafka.dto.ApprovalRequestMessage;
+import com.example.demo.service.ApprovalRequestSender;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Component;
 
 import java.util.concurrent.CompletableFuture;
-import java.util.stream.Collectors;
 
 /**
- * 결재 요청을 Kafka로 전송하는 Producer
+ * 결재 요청을 Kafka로 전송하는 Producer (아웃박스 릴레이에서 사용, approval.transport=kafka)
  */
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class ApprovalRequestProducer {
+@ConditionalOnProperty(name = "approval.transport", havingValue = "kafka", matchIfMissing = true)
+public class ApprovalRequestProducer implements ApprovalRequestSender {
 
     private final KafkaTemplate<String, ApprovalRequestMessage> kafkaTemplate;
 
     /**
      * 결재 요청을 Processing Service로 전송
+     * - 전송 결과는 호출측에서 future로 확인 (성공한 건만 아웃박스에서 제거)
      */
-    public void sendApprovalRequest(ApprovalRequestDocument document) {
-        ApprovalRequestMessage message = convertToMessage(document);
-        
-        String key = String.valueOf(document.getRequestId());
-        
-        CompletableFuture<SendResult<String, ApprovalRequestMessage>> future = 
-                kafkaTemplate.send(KafkaConfig.TOPIC_APPROVAL_REQUEST, key, message);
-        
-        future.whenComplete((result, ex) -> {
-            if (ex == null) {
-                log.info("Kafka 메시지 전송 성공: topic={}, requestId={}, offset={}",
-                        KafkaConfig.TOPIC_APPROVAL_REQUEST,
-                        message.getRequestId(),
-                        result.getRecordMetadata().offset());
-            } else {
-                log.error("Kafka 메시지 전송 실패: requestId={}", message.getRequestId(), ex);
-            }
-        });
+    @Override
+    public CompletableFuture<SendResult<String, ApprovalRequestMessage>> sendApprovalRequest(ApprovalRequestDocument document) {
+        ApprovalRequestMessage message = document.toMessage();
+
+        // key = 현재 pending 단계의 결재자 → 한 결재자의 요청은 항상 같은 파티션 (= 그 파티션을 가진 Processing Pod의 대기 목록)
+        String key = String.valueOf(message.pendingApproverId());
+
+        return kafkaTemplate.send(KafkaConfig.TOPIC_APPROVAL_REQUEST, key, message)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.debug("Kafka 메시지 전송 성공: topic={}, requestId={}, offset={}",
+                                KafkaConfig.TOPIC_APPROVAL_REQUEST,
+                                message.getRequestId(),
+                                result.getRecordMetadata().offset());
+                    }
+                });
     }
 
-    private ApprovalRequestMessage convertToMessage(ApprovalRequestDocument document) {
-        return ApprovalRequestMessage.builder()
-                .requestId(document.getRequestId())
-                .requesterId(document.getRequesterId())
-                .title(document.getTitle())
-                .content(document.getContent())
-                .steps(document.getSteps().stream()
-                        .map(step -> ApprovalRequestMessage.StepInfo.builder()
-                                .step(step.getStep())
-                                .approverId(step.getApproverId())
-                                .status(step.getStatus())
-                                .build())
-                        .collect(Collectors.toList()))
-                .build();
+    /**
+     * 버퍼에 쌓인 레코드를 linger 대기 없이 즉시 전송 (릴레이 1회분을 압축된 batch로 마감)
+     */
+    @Override
+    public void flush() {
+        kafkaTemplate.flush();
     }
 }
@@ -1,21 +1,33 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.data.mongodb.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import com.example.demo.document.ApprovalRequestDocument;
 
 @Repository
-public interface ApprovalRequestRepository extends MongoRepository<ApprovalRequestDocument, String> {
+public interface ApprovalRequestRepository extends MongoRepository<ApprovalRequestDocument, String>,
+        ApprovalRequestRepositoryCustom {
 
     Optional<ApprovalRequestDocument> findByRequestId(Long requestId);
 
+    boolean existsByRequestId(Long requestId);
+
+    @Query(value = "{ 'requestId': { $in: ?0 } }", fields = "{ 'content': 0 }")
+    List<ApprovalRequestDocument> findWithoutContentByRequestIdIn(Collection<Long> requestIds);
+
     Optional<ApprovalRequestDocument> findTopByOrderByRequestIdDesc();
 
     List<ApprovalRequestDocument> findByFinalStatus(String finalStatus);
 
+    // 커서 기반 조회 - 사용 후 close 필요
+    Stream<ApprovalRequestDocument> streamByFinalStatusOrderByRequestIdAsc(String finalStatus);
+
     List<ApprovalRequestDocument> findByRequesterId(Long requesterId);
 }
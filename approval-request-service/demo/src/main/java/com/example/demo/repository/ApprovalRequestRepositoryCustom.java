@@ -0,0 +1,56 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.dto.ApprovalStepResult;
+
+/**
+ * ApprovalRequestRepository 사용자 정의 연산 (문서 전체를 다시 쓰지 않는 부분 갱신)
+ */
+public interface ApprovalRequestRepositoryCustom {
+
+    /**
+     * 결재 단계 결과를 원자적으로 반영
+     * - 진행 중인 결재의 해당 단계(step + approverId)가 pending일 때만 status/comment/updatedAt을 갱신
+     * - 반려(rejected)면 같은 연산에서 finalStatus도 rejected로 변경
+     * - 남은 마지막 pending 단계의 승인이면 같은 연산에서 finalStatus를 approved로 변경
+     * - 그 밖의 승인(approved)이면 같은 연산에서 아웃박스 이벤트를 추가 (릴레이가 다음 단계로 전달)
+     *
+     * @return 반영된 경우 갱신 후 문서(content 제외), 조건이 맞지 않으면(이미 처리됨 등) empty
+     */
+    Optional<ApprovalRequestDocument> applyStepResult(Long requestId, int step, Long approverId,
+                                                      String status, String comment, LocalDateTime now);
+
+    /**
+     * 여러 결재 단계 결과를 한 번의 bulkWrite(ordered)로 반영 - 각 결과의 조건/갱신은 applyStepResult와 동일
+     * - 마지막 단계 승인이면 최종 승인, 그 밖의 승인이면 다음 단계 전달용 아웃박스 이벤트도 같은 연산에서 처리
+     * - 반영된 단계는 updatedAt이 now로 기록되므로, 이후 조회로 어떤 결과가 반영되었는지 판별할 수 있음
+     *
+     * @return 조건이 일치해 반영된 결과 수
+     */
+    int applyStepResults(List<ApprovalStepResult> results, LocalDateTime now);
+
+    /**
+     * 진행 중인 결재의 모든 단계가 approved이면 finalStatus를 approved로 변경
+     * (단계 결과와 최종 승인이 따로 기록되던 이전 문서의 복구용 - 여러 번 호출해도 한 번만 변경)
+     *
+     * @return 이번 호출로 최종 승인 처리되었는지 여부
+     */
+    boolean completeIfAllApproved(Long requestId, LocalDateTime now);
+
+    /**
+     * 발행 대기 아웃박스 이벤트가 있는 결재 문서를 오래된 이벤트 순으로 조회 (릴레이용, content 포함)
+     */
+    List<ApprovalRequestDocument> findWithPendingOutbox(LocalDateTime before, int limit);
+
+    /**
+     * 발행이 끝난 아웃박스 이벤트 제거 - 조회 이후 새로 추가된 이벤트는 남겨둠
+     *
+     * @param eventIdsByRequestId requestId별 제거할 eventId 목록
+     */
+    void removeOutboxEvents(Map<Long, List<String>> eventIdsByRequestId);
+}
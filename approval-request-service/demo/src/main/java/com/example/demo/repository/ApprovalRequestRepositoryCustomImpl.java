@@ -0,0 +1,159 @@
+package com.example.demo.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.OutboxEvent;
+import com.example.demo.dto.ApprovalStepResult;
+
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class ApprovalRequestRepositoryCustomImpl implements ApprovalRequestRepositoryCustom {
+
+    private final MongoTemplate mongoTemplate;
+
+    @Override
+    public Optional<ApprovalRequestDocument> applyStepResult(Long requestId, int step, Long approverId,
+                                                             String status, String comment, LocalDateTime now) {
+        // 마지막 pending 단계의 승인이면 최종 승인까지 한 번에 (조건이 맞지 않으면 일반 단계 반영)
+        if ("approved".equals(status)) {
+            ApprovalRequestDocument completed = findAndModifyStep(lastPendingStepQuery(requestId, step, approverId),
+                    finalApprovalUpdate(step, approverId, comment, now));
+            if (completed != null) {
+                return Optional.of(completed);
+            }
+        }
+        return Optional.ofNullable(findAndModifyStep(pendingStepQuery(requestId, step, approverId),
+                stepResultUpdate(step, approverId, status, comment, now)));
+    }
+
+    private ApprovalRequestDocument findAndModifyStep(Query query, Update update) {
+        query.fields().exclude("content");
+        return mongoTemplate.findAndModify(query, update,
+                FindAndModifyOptions.options().returnNew(true), ApprovalRequestDocument.class);
+    }
+
+    @Override
+    public int applyStepResults(List<ApprovalStepResult> results, LocalDateTime now) {
+        if (results.isEmpty()) {
+            return 0;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ApprovalRequestDocument.class);
+        for (ApprovalStepResult result : results) {
+            // 승인이면 최종 승인 조건부 갱신을 먼저 두고, 맞지 않을 때만 다음 일반 갱신이 반영됨 (ORDERED)
+            if ("approved".equals(result.getStatus())) {
+                bulkOps.updateOne(
+                        lastPendingStepQuery(result.getRequestId(), result.getStep(), result.getApproverId()),
+                        finalApprovalUpdate(result.getStep(), result.getApproverId(), result.getComment(), now));
+            }
+            bulkOps.updateOne(
+                    pendingStepQuery(result.getRequestId(), result.getStep(), result.getApproverId()),
+                    stepResultUpdate(result.getStep(), result.getApproverId(), result.getStatus(), result.getComment(), now));
+        }
+        return bulkOps.execute().getModifiedCount();
+    }
+
+    @Override
+    public boolean completeIfAllApproved(Long requestId, LocalDateTime now) {
+        Query query = Query.query(Criteria.where("requestId").is(requestId)
+                .and("finalStatus").is("in_progress")
+                .and("steps").not().elemMatch(Criteria.where("status").ne("approved")));
+        Update update = new Update()
+                .set("finalStatus", "approved")
+                .set("updatedAt", now);
+        return mongoTemplate.updateFirst(query, update, ApprovalRequestDocument.class).getModifiedCount() == 1;
+    }
+
+    /**
+     * 진행 중인 결재에서 해당 단계(step + approverId)가 아직 pending인 문서
+     */
+    private Query pendingStepQuery(Long requestId, int step, Long approverId) {
+        return Query.query(Criteria.where("requestId").is(requestId)
+                .and("finalStatus").is("in_progress")
+                .and("steps").elemMatch(pendingStep(step, approverId)));
+    }
+
+    /**
+     * pendingStepQuery 중 해당 단계가 남은 마지막 pending 단계인 문서 (승인하면 모든 단계가 approved)
+     */
+    private Query lastPendingStepQuery(Long requestId, int step, Long approverId) {
+        return Query.query(Criteria.where("requestId").is(requestId)
+                .and("finalStatus").is("in_progress")
+                .andOperator(
+                        Criteria.where("steps").elemMatch(pendingStep(step, approverId)),
+                        Criteria.where("steps").not().elemMatch(Criteria.where("status").ne("approved")
+                                .and("step").ne(step))));
+    }
+
+    private static Criteria pendingStep(int step, Long approverId) {
+        return Criteria.where("step").is(step)
+                .and("approverId").is(approverId)
+                .and("status").is("pending");
+    }
+
+    @Override
+    public List<ApprovalRequestDocument> findWithPendingOutbox(LocalDateTime before, int limit) {
+        Query query = Query.query(Criteria.where("outbox.createdAt").lte(before))
+                .with(Sort.by(Sort.Direction.ASC, "outbox.createdAt"))
+                .limit(limit);
+        return mongoTemplate.find(query, ApprovalRequestDocument.class);
+    }
+
+    @Override
+    public void removeOutboxEvents(Map<Long, List<String>> eventIdsByRequestId) {
+        if (eventIdsByRequestId.isEmpty()) {
+            return;
+        }
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApprovalRequestDocument.class);
+        eventIdsByRequestId.forEach((requestId, eventIds) -> bulkOps.updateOne(
+                Query.query(Criteria.where("requestId").is(requestId)),
+                new Update().pull("outbox", new org.bson.Document("eventId", new org.bson.Document("$in", eventIds)))));
+        bulkOps.execute();
+    }
+
+    /**
+     * arrayFilters로 해당 단계 요소만 갱신
+     * - 반려면 finalStatus도 함께 변경
+     * - 승인이면 다음 단계 전달용 아웃박스 이벤트를 같은 연산에서 추가 (남은 단계가 없으면 릴레이가 발행 없이 제거)
+     */
+    private Update stepResultUpdate(int step, Long approverId, String status, String comment, LocalDateTime now) {
+        Update update = stepUpdate(step, approverId, status, comment, now);
+        if ("rejected".equals(status)) {
+            update.set("finalStatus", "rejected");
+        } else if ("approved".equals(status)) {
+            update.push("outbox", OutboxEvent.create(now));
+        }
+        return update;
+    }
+
+    /**
+     * 마지막 단계 승인 - 단계 결과와 최종 승인(finalStatus)을 같은 연산에서 변경 (다음 단계가 없으므로 아웃박스 이벤트 없음)
+     */
+    private Update finalApprovalUpdate(int step, Long approverId, String comment, LocalDateTime now) {
+        return stepUpdate(step, approverId, "approved", comment, now)
+                .set("finalStatus", "approved");
+    }
+
+    private Update stepUpdate(int step, Long approverId, String status, String comment, LocalDateTime now) {
+        return new Update()
+                .set("steps.$[s].status", status)
+                .set("steps.$[s].comment", comment)
+                .set("steps.$[s].updatedAt", now)
+                .set("updatedAt", now)
+                .filterArray(Criteria.where("s.step").is(step)
+                        .and("s.approverId").is(approverId)
+                        .and("s.status").is("pending"));
+    }
+}
@@ -0,0 +1,14 @@
+package com.example.demo.repository;
+
+import java.util.List;
+
+import org.springframework.data.mongodb.repository.MongoRepository;
+import org.springframework.stereotype.Repository;
+
+import com.example.demo.document.ApprovalStatisticsDocument;
+
+@Repository
+public interface ApprovalStatisticsRepository extends MongoRepository<ApprovalStatisticsDocument, String> {
+
+    List<ApprovalStatisticsDocument> findByScope(String scope);
+}
@@ -0,0 +1,84 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.dto.ApprovalResponse;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 결재 요청 전체/증분 내보내기 (NDJSON)
+ * - MongoDB 커서에서 한 건씩 읽어 바로 출력하므로 메모리 사용량이 데이터 크기와 무관
+ * - since(updatedAt 워터마크)를 지정하면 해당 시각 이후 변경된 문서만 조회
+ */
+@Slf4j
+@Service
+public class ApprovalExportService {
+
+    private static final byte NEW_LINE = '\n';
+
+    private final MongoTemplate mongoTemplate;
+    private final ObjectWriter objectWriter;
+    private final int batchSize;
+
+    public ApprovalExportService(MongoTemplate mongoTemplate,
+                                 ObjectMapper objectMapper,
+                                 @Value("${approval.export.batch-size:500}") int batchSize) {
+        this.mongoTemplate = mongoTemplate;
+        this.objectWriter = objectMapper.writerFor(ApprovalResponse.class);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * 결재 요청을 한 줄에 하나의 JSON으로 출력
+     * - 결과 순서는 보장하지 않으므로 다음 워터마크는 출력된 updatedAt의 최댓값을 사용
+     * - 워터마크 경계의 문서는 중복 출력될 수 있음 (since 이상 조건)
+     *
+     * @param since 이 시각 이후(포함) 변경된 문서만 출력 (null이면 전체)
+     * @return 출력한 문서 수
+     */
+    public long export(LocalDateTime since, OutputStream out) throws IOException {
+        long startTime = System.currentTimeMillis();
+        Query query = since == null ? new Query() : Query.query(changedSince(since));
+        query.cursorBatchSize(batchSize);
+
+        long count = 0;
+        try (Stream<ApprovalRequestDocument> documents = mongoTemplate.stream(query, ApprovalRequestDocument.class)) {
+            Iterator<ApprovalRequestDocument> iterator = documents.iterator();
+            while (iterator.hasNext()) {
+                out.write(objectWriter.writeValueAsBytes(ApprovalResponse.from(iterator.next())));
+                out.write(NEW_LINE);
+                if (++count % batchSize == 0) {
+                    out.flush();
+                }
+            }
+        }
+        out.flush();
+
+        log.info("결재 요청 내보내기 완료: since={}, count={}, elapsed={}ms",
+                since, count, System.currentTimeMillis() - startTime);
+        return count;
+    }
+
+    /**
+     * updatedAt >= since (updatedAt이 없는 기존 문서는 createdAt 기준)
+     */
+    private Criteria changedSince(LocalDateTime since) {
+        return new Criteria().orOperator(
+                Criteria.where("updatedAt").gte(since),
+                new Criteria().andOperator(
+                        Criteria.where("updatedAt").is(null),
+                        Criteria.where("createdAt").gte(since)));
+    }
+}
@@ -0,0 +1,186 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.OutboxEvent;
+import com.example.demo.repository.ApprovalRequestRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 결재 요청 아웃박스 릴레이
+ * - 결재 문서에 함께 저장된 아웃박스 이벤트를 주기적으로 조회해 Processing Service로 발행
+ *   (approval.transport에 따라 approval-request 토픽 또는 gRPC RequestApproval)
+ * - 1회 조회분(batch-size)을 모두 send한 뒤 flush하여 압축된 batch로 전송하고, 전송이 확인된 이벤트만 제거
+ * - 진행 중이 아니거나 남은 pending 단계가 없는 결재의 이벤트는 발행 없이 제거
+ * - 여러 인스턴스가 떠 있어도 리스(leases 컬렉션의 approval-outbox-relay)를 가진 한 곳만 발행
+ */
+@Slf4j
+@Component
+public class ApprovalOutboxRelay {
+
+    static final String LEASE_ID = "approval-outbox-relay";
+
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final ApprovalRequestSender approvalRequestSender;
+    private final LeaseManager leaseManager;
+    private final int batchSize;
+    private final Duration sendTimeout;
+    private final Duration leaseDuration;
+
+    private final AtomicLong lagMillis = new AtomicLong();
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter discardedCounter;
+    private final Timer flushTimer;
+
+    public ApprovalOutboxRelay(ApprovalRequestRepository approvalRequestRepository,
+                               ApprovalRequestSender approvalRequestSender,
+                               LeaseManager leaseManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${approval.outbox.batch-size:200}") int batchSize,
+                               @Value("${approval.outbox.send-timeout:10s}") Duration sendTimeout,
+                               @Value("${approval.outbox.lease-duration:30s}") Duration leaseDuration) {
+        this.approvalRequestRepository = approvalRequestRepository;
+        this.approvalRequestSender = approvalRequestSender;
+        this.leaseManager = leaseManager;
+        this.batchSize = batchSize;
+        this.sendTimeout = sendTimeout;
+        this.leaseDuration = leaseDuration;
+        TimeGauge.builder("approval.outbox.lag", lagMillis, TimeUnit.MILLISECONDS, AtomicLong::get)
+                .description("가장 오래된 발행 대기 아웃박스 이벤트의 경과 시간")
+                .register(meterRegistry);
+        this.relayedCounter = Counter.builder("approval.outbox.relayed")
+                .description("Processing Service로 발행된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("approval.outbox.failed")
+                .description("발행에 실패해 다음 주기로 넘어간 결재 수")
+                .register(meterRegistry);
+        this.discardedCounter = Counter.builder("approval.outbox.discarded")
+                .description("전달할 단계가 없어 발행 없이 제거된 아웃박스 이벤트 수")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder("approval.outbox.flush.duration")
+                .description("1회 조회분 send + flush + 전송 확인 소요 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 발행 대기 이벤트를 batch 단위로 모두 발행 (batch가 가득 차 있으면 이어서 다음 batch 처리)
+     */
+    @Scheduled(fixedDelayString = "${approval.outbox.poll-interval:200ms}")
+    public void relay() {
+        try {
+            while (acquireLease() && relayBatch()) {
+                // 남은 이벤트가 있으면 계속 처리
+            }
+        } catch (Exception e) {
+            log.error("아웃박스 릴레이 실패", e);
+        }
+    }
+
+    /**
+     * 1회 조회분 발행
+     *
+     * @return 조회분을 모두 발행했고 남은 이벤트가 더 있을 수 있으면 true
+     */
+    boolean relayBatch() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalRequestDocument> documents = approvalRequestRepository.findWithPendingOutbox(now, batchSize);
+        if (documents.isEmpty()) {
+            lagMillis.set(0);
+            return false;
+        }
+        documents.stream()
+                .flatMap(document -> document.getOutbox().stream())
+                .map(OutboxEvent::getCreatedAt)
+                .min(LocalDateTime::compareTo)
+                .ifPresent(oldest -> lagMillis.set(Math.max(0, Duration.between(oldest, now).toMillis())));
+
+        Map<Long, List<String>> completed = new HashMap<>();
+        Map<ApprovalRequestDocument, CompletableFuture<?>> sends = new LinkedHashMap<>();
+        for (ApprovalRequestDocument document : documents) {
+            if (!hasStepToDeliver(document)) {
+                completed.put(document.getRequestId(), eventIds(document));
+                discardedCounter.increment(document.getOutbox().size());
+                continue;
+            }
+            try {
+                sends.put(document, approvalRequestSender.sendApprovalRequest(document));
+            } catch (Exception e) {
+                failedCounter.increment();
+                log.error("아웃박스 이벤트 발행 실패: requestId={}", document.getRequestId(), e);
+            }
+        }
+
+        int failed = documents.size() - completed.size() - sends.size();
+        if (!sends.isEmpty()) {
+            failed += flushTimer.record(() -> awaitSends(sends, completed));
+        }
+        approvalRequestRepository.removeOutboxEvents(completed);
+        log.debug("아웃박스 릴레이: documents={}, sent={}, failed={}", documents.size(), sends.size(), failed);
+        return failed == 0 && documents.size() == batchSize;
+    }
+
+    /**
+     * 조회분 전체를 flush한 뒤 전송 결과 확인 - 성공한 결재의 이벤트만 제거 대상에 추가
+     *
+     * @return 전송에 실패한 결재 수
+     */
+    private int awaitSends(Map<ApprovalRequestDocument, CompletableFuture<?>> sends, Map<Long, List<String>> completed) {
+        approvalRequestSender.flush();
+        long deadline = System.nanoTime() + sendTimeout.toNanos();
+        int failed = 0;
+        for (Map.Entry<ApprovalRequestDocument, CompletableFuture<?>> send : sends.entrySet()) {
+            ApprovalRequestDocument document = send.getKey();
+            try {
+                send.getValue().get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                List<String> eventIds = eventIds(document);
+                completed.put(document.getRequestId(), eventIds);
+                relayedCounter.increment(eventIds.size());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                failed++;
+            } catch (Exception e) {
+                failedCounter.increment();
+                failed++;
+                log.error("아웃박스 이벤트 발행 실패: requestId={}", document.getRequestId(), e);
+            }
+        }
+        return failed;
+    }
+
+    /**
+     * 릴레이 리스 획득/갱신 - 배치마다 갱신하므로 발행 중인 인스턴스가 리스를 계속 가짐
+     */
+    boolean acquireLease() {
+        return leaseManager.tryAcquire(LEASE_ID, leaseDuration);
+    }
+
+    /**
+     * 다음 결재자에게 전달할 단계가 남아 있는지 (진행 중 + pending 단계 존재)
+     */
+    private boolean hasStepToDeliver(ApprovalRequestDocument document) {
+        return "in_progress".equals(document.getFinalStatus())
+                && document.getSteps().stream().anyMatch(s -> "pending".equals(s.getStatus()));
+    }
+
+    private List<String> eventIds(ApprovalRequestDocument document) {
+        return new ArrayList<>(document.getOutbox().stream().map(OutboxEvent::getEventId).toList());
+    }
+}
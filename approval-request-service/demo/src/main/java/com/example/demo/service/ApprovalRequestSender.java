@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import java.util.concurrent.CompletableFuture;
+
+import com.example.demo.document.ApprovalRequestDocument;
+
+/**
+ * 결재 요청을 Processing Service로 전달하는 전송 수단 (approval.transport: kafka | grpc)
+ * - 아웃박스 릴레이가 1회 조회분을 모두 보낸 뒤 flush하고, future로 전달 결과를 확인
+ */
+public interface ApprovalRequestSender {
+
+    /**
+     * 결재 요청 전송 - 전달이 확인되면 완료되는 future 반환
+     */
+    CompletableFuture<?> sendApprovalRequest(ApprovalRequestDocument document);
+
+    /**
+     * 버퍼에 쌓인 요청을 즉시 전송 (버퍼가 없는 전송 수단은 아무것도 하지 않음)
+     */
+    void flush();
+}
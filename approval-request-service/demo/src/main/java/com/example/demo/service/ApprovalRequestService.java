@@ -4,49 +4,70 @@ import com.example.demo.client.EmployeeServiceClient;
 import com.example.demo.client.NotificationServiceClient;
 import com.example.demo.document.ApprovalRequestDocument;
 import com.example.demo.document.ApprovalStep;
+import com.example.demo.document.OutboxEvent;
 import com.example.demo.dto.*;
 import com.example.demo.exception.ApprovalNotFoundException;
+import com.example.demo.exception.InvalidPageRequestException;
 import com.example.demo.exception.InvalidStepOrderException;
-import com.example.demo.kafka.producer.ApprovalRequestProducer;
 import com.example.demo.repository.ApprovalRequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApprovalRequestService {
 
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+    // pending 동기화는 본문(content)까지 내려주므로 별도 상한 적용
+    public static final int DEFAULT_PENDING_PAGE_SIZE = 200;
+    public static final int MAX_PENDING_PAGE_SIZE = 1000;
+    // 저장 시 requestId 중복이면 카운터를 다시 맞춰 재시도하는 최대 횟수
+    private static final int MAX_REQUEST_ID_ATTEMPTS = 3;
+
     private final ApprovalRequestRepository approvalRequestRepository;
+    private final MongoTemplate mongoTemplate;
     private final EmployeeServiceClient employeeServiceClient;
     private final NotificationServiceClient notificationServiceClient;
-    private final ApprovalRequestProducer approvalRequestProducer;
+    private final RequestIdAllocator requestIdAllocator;
+    private final StatisticsViewService statisticsViewService;
 
     /**
      * 결재 요청 생성
      */
     public Long createApproval(ApprovalCreateRequest request) {
-        // 1. 요청자 검증
-        employeeServiceClient.validateEmployee(request.getRequesterId());
-
-        // 2. 모든 결재자 검증
-        for (StepRequest step : request.getSteps()) {
-            employeeServiceClient.validateEmployee(step.getApproverId());
-        }
+        // 1~2. 요청자 및 모든 결재자 검증 (Employee Service 1회 호출)
+        Set<Long> participantIds = new LinkedHashSet<>();
+        participantIds.add(request.getRequesterId());
+        request.getSteps().forEach(step -> participantIds.add(step.getApproverId()));
+        employeeServiceClient.validateEmployees(participantIds);
 
         // 3. 결재 단계 순서 검증 (1부터 오름차순)
         validateStepOrder(request.getSteps());
 
-        // 4. 새 requestId 생성
-        Long newRequestId = generateRequestId();
-
-        // 5. Document 생성
+        // 4~5. 새 requestId 생성 및 Document 생성
         List<ApprovalStep> steps = request.getSteps().stream()
                 .map(s -> ApprovalStep.builder()
                         .step(s.getStep())
@@ -55,34 +76,67 @@ public class ApprovalRequestService {
                         .build())
                 .toList();
 
+        LocalDateTime now = LocalDateTime.now();
         ApprovalRequestDocument document = ApprovalRequestDocument.builder()
-                .requestId(newRequestId)
+                .requestId(generateRequestId())
                 .requesterId(request.getRequesterId())
                 .title(request.getTitle())
                 .content(request.getContent())
                 .steps(steps)
                 .finalStatus("in_progress")
-                .createdAt(LocalDateTime.now())
+                .priority(request.getPriority() != null ? request.getPriority() : ApprovalRequestDocument.DEFAULT_PRIORITY)
+                .createdAt(now)
+                .updatedAt(now)  // 증분 내보내기(since) 워터마크 기준
+                .outbox(new ArrayList<>(List.of(OutboxEvent.create(now))))
                 .build();
 
-        // 6. MongoDB에 저장
-        approvalRequestRepository.save(document);
+        // 6. MongoDB에 저장 - Processing Service 전달은 문서에 함께 기록된 아웃박스 이벤트를 릴레이가 발행
+        saveWithUniqueRequestId(document);
+        Long newRequestId = document.getRequestId();
         log.info("결재 요청 생성 완료: requestId={}", newRequestId);
-
-        // 7. Kafka로 Approval Processing Service에 전달
-        approvalRequestProducer.sendApprovalRequest(document);
-        log.info("Kafka 메시지 전송 완료: requestId={}", newRequestId);
+        updateStatistics(newRequestId, () -> statisticsViewService.recordCreated(document));
 
         return newRequestId;
     }
 
     /**
-     * 결재 요청 목록 조회
+     * 결재 요청 목록 조회 (requestId 키셋 페이지네이션, 요약 필드만 조회)
+     *
+     * @param after       이전 페이지의 마지막 requestId (첫 페이지는 null)
+     * @param limit       페이지 크기 (1 ~ MAX_PAGE_SIZE)
+     * @param finalStatus 최종 상태 필터 (선택)
+     * @param requesterId 요청자 필터 (선택)
      */
-    public List<ApprovalResponse> getAllApprovals() {
-        return approvalRequestRepository.findAll().stream()
-                .map(ApprovalResponse::from)
+    public CursorPage<ApprovalSummaryResponse> getApprovals(Long after, int limit, String finalStatus, Long requesterId) {
+        if (limit < 1 || limit > MAX_PAGE_SIZE) {
+            throw new InvalidPageRequestException("limit은 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다: " + limit);
+        }
+
+        Criteria criteria = new Criteria();
+        if (finalStatus != null) {
+            criteria.and("finalStatus").is(finalStatus);
+        }
+        if (requesterId != null) {
+            criteria.and("requesterId").is(requesterId);
+        }
+        if (after != null) {
+            criteria.and("requestId").gt(after);
+        }
+
+        // 다음 페이지 존재 여부 확인을 위해 limit + 1건 조회
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "requestId"))
+                .limit(limit + 1);
+        query.fields().exclude("content").exclude("steps.comment").exclude("outbox");
+
+        List<ApprovalRequestDocument> documents = mongoTemplate.find(query, ApprovalRequestDocument.class);
+        boolean hasNext = documents.size() > limit;
+        List<ApprovalSummaryResponse> items = documents.stream()
+                .limit(limit)
+                .map(ApprovalSummaryResponse::from)
                 .toList();
+        Long nextCursor = hasNext ? items.get(items.size() - 1).getRequestId() : null;
+        return new CursorPage<>(items, nextCursor);
     }
 
     /**
@@ -92,6 +146,63 @@ public class ApprovalRequestService {
         return approvalRequestRepository.findByFinalStatus("in_progress");
     }
 
+    /**
+     * pending 상태인 결재 요청 페이지 조회 (requestId 키셋 페이지네이션, Processing Service 동기화용)
+     *
+     * @param after 이전 페이지의 마지막 requestId (첫 페이지는 null)
+     * @param limit 페이지 크기 (1 ~ MAX_PENDING_PAGE_SIZE)
+     * @param filter 조회 범위 (결재자 파티션) - 범위 밖 결재는 건너뛰므로 마지막이 아닌 페이지도 limit보다 적을 수 있음
+     */
+    public CursorPage<ApprovalRequestDocument> getPendingApprovals(Long after, int limit, PendingPartitionFilter filter) {
+        if (limit < 1 || limit > MAX_PENDING_PAGE_SIZE) {
+            throw new InvalidPageRequestException("limit은 1 이상 " + MAX_PENDING_PAGE_SIZE + " 이하여야 합니다: " + limit);
+        }
+
+        // 조회 범위에 맞는 결재가 limit건 모일 때까지 requestId 순으로 읽음 - 커서는 마지막으로 확인한 requestId
+        List<ApprovalRequestDocument> items = new ArrayList<>();
+        Long cursor = after;
+        while (true) {
+            List<ApprovalRequestDocument> documents = findPendingAfter(cursor, limit + 1);
+            int checked = 0;
+            for (ApprovalRequestDocument document : documents) {
+                if (items.size() == limit) {
+                    break;
+                }
+                checked++;
+                cursor = document.getRequestId();
+                if (filter.matches(document)) {
+                    items.add(document);
+                }
+            }
+            if (checked < documents.size()) {
+                return new CursorPage<>(items, cursor);
+            }
+            if (documents.size() <= limit) {
+                return new CursorPage<>(items, null);
+            }
+        }
+    }
+
+    private List<ApprovalRequestDocument> findPendingAfter(Long after, int limit) {
+        Criteria criteria = Criteria.where("finalStatus").is("in_progress");
+        if (after != null) {
+            criteria.and("requestId").gt(after);
+        }
+        Query query = Query.query(criteria)
+                .with(Sort.by(Sort.Direction.ASC, "requestId"))
+                .limit(limit);
+        query.fields().exclude("outbox");
+        return mongoTemplate.find(query, ApprovalRequestDocument.class);
+    }
+
+    /**
+     * pending 상태인 결재 요청 중 조회 범위에 맞는 것을 커서로 조회 (gRPC 스트리밍용, 호출측에서 close)
+     */
+    public Stream<ApprovalRequestDocument> streamAllPendingApprovals(PendingPartitionFilter filter) {
+        return approvalRequestRepository.streamByFinalStatusOrderByRequestIdAsc("in_progress")
+                .filter(filter::matches);
+    }
+
     /**
      * 결재 요청 상세 조회
      */
@@ -105,27 +216,100 @@ public class ApprovalRequestService {
      * 결재 결과 처리 (Kafka Consumer에서 호출)
      */
     public void processApprovalResult(Long requestId, int step, Long approverId, String status, String comment) {
-        ApprovalRequestDocument document = approvalRequestRepository.findByRequestId(requestId)
-                .orElseThrow(() -> new ApprovalNotFoundException(requestId));
-
-        // 1. 해당 단계의 상태 및 의견 업데이트
+        // 1. 해당 단계의 상태 및 의견을 조건부로 갱신 (pending인 단계만, 반려/마지막 단계 승인이면 finalStatus까지 한 번에)
         LocalDateTime now = LocalDateTime.now();
-        for (ApprovalStep s : document.getSteps()) {
-            if (s.getStep() == step && s.getApproverId().equals(approverId)) {
-                s.setStatus(status);
-                s.setComment(comment);  // 의견 저장
-                s.setUpdatedAt(now);
-                log.info("결재 의견 저장: requestId={}, step={}, comment={}", requestId, step, comment);
-                break;
+        Optional<ApprovalRequestDocument> updated = approvalRequestRepository.applyStepResult(
+                requestId, step, approverId, status, comment, now);
+
+        if (updated.isEmpty()) {
+            if (!approvalRequestRepository.existsByRequestId(requestId)) {
+                throw new ApprovalNotFoundException(requestId);
             }
+            // 중복 수신 등으로 이미 처리된 단계이거나 종료된 결재
+            // 단, 모든 단계가 승인되었는데 최종 승인이 기록되지 않은 결재면 여기서 마저 완료
+            if ("approved".equals(status) && approvalRequestRepository.completeIfAllApproved(requestId, now)) {
+                approvalRequestRepository.findWithoutContentByRequestIdIn(Set.of(requestId))
+                        .forEach(this::afterFinalApproval);
+                return;
+            }
+            log.warn("처리 대상이 아닌 결재 결과 무시: requestId={}, step={}, approverId={}, status={}",
+                    requestId, step, approverId, status);
+            return;
         }
-        document.setUpdatedAt(now);
+        log.info("결재 의견 저장: requestId={}, step={}, comment={}", requestId, step, comment);
+
+        afterStepResultApplied(updated.get(), step, approverId, status, now);
+    }
+
+    /**
+     * 결재 결과 일괄 처리 (Kafka batch Consumer에서 호출)
+     * - poll 단위로 받은 결과를 requestId별로 묶어(수신 순서 유지) 한 번의 bulkWrite로 반영
+     * - bulkWrite 실패 시 예외를 전파하여 offset이 커밋되지 않도록 함 (조건부 갱신이므로 재처리해도 안전)
+     * - 반영 후 통계/알림 후처리는 건별로 수행하고, 실패는 기록만 하고 batch는 완료 처리
+     *   (재전송되어도 이미 반영된 단계는 다시 후처리되지 않으므로 재시도 대상이 아님 - 통계는 야간 정합성 검사로 보정)
+     */
+    public void processApprovalResults(List<ApprovalStepResult> results) {
+        if (results.isEmpty()) {
+            return;
+        }
+        Map<Long, List<ApprovalStepResult>> resultsByRequest = results.stream()
+                .collect(Collectors.groupingBy(ApprovalStepResult::getRequestId, LinkedHashMap::new, Collectors.toList()));
+        List<ApprovalStepResult> ordered = resultsByRequest.values().stream()
+                .flatMap(List::stream)
+                .toList();
+
+        // 1. 일괄 반영 - MongoDB 저장 정밀도(ms)에 맞춘 시각을 기록해 어떤 결과가 반영되었는지 판별
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MILLIS);
+        int appliedCount = approvalRequestRepository.applyStepResults(ordered, now);
+        log.info("결재 결과 일괄 반영: records={}, requests={}, applied={}",
+                ordered.size(), resultsByRequest.size(), appliedCount);
+
+        // 2. 반영된 결과 판별 (content 제외 조회 1회)
+        Map<Long, ApprovalRequestDocument> documents = approvalRequestRepository
+                .findWithoutContentByRequestIdIn(resultsByRequest.keySet()).stream()
+                .collect(Collectors.toMap(ApprovalRequestDocument::getRequestId, Function.identity(), (a, b) -> a));
+
+        List<ApprovalStepResult> applied = new ArrayList<>();
+        Set<String> appliedSteps = new HashSet<>();
+        for (ApprovalStepResult result : ordered) {
+            ApprovalRequestDocument document = documents.get(result.getRequestId());
+            if (document != null && isApplied(document, result, now)
+                    && appliedSteps.add(result.getRequestId() + ":" + result.getStep())) {
+                applied.add(result);
+            } else {
+                log.warn("처리 대상이 아닌 결재 결과 무시: requestId={}, step={}, approverId={}, status={}, exists={}",
+                        result.getRequestId(), result.getStep(), result.getApproverId(), result.getStatus(),
+                        document != null);
+            }
+        }
+
+        // 3. 건별 후처리 - 한 건의 실패가 나머지 건의 알림을 막지 않도록 격리
+        for (ApprovalStepResult result : applied) {
+            Long requestId = result.getRequestId();
+            try {
+                afterStepResultApplied(documents.get(requestId), result.getStep(), result.getApproverId(),
+                        result.getStatus(), now);
+            } catch (RuntimeException e) {
+                log.error("결재 결과 후처리 실패: requestId={}, step={}", requestId, result.getStep(), e);
+            }
+        }
+    }
+
+    /**
+     * 단계 결과가 반영된 이후 처리 (반려/중간 승인 알림/최종 승인)
+     * - 다음 단계 전달은 단계 결과와 같은 연산으로 기록된 아웃박스 이벤트를 릴레이가 발행
+     *
+     * @param document 단계 결과가 반영된 문서 (content 없어도 됨)
+     */
+    private void afterStepResultApplied(ApprovalRequestDocument document, int step, Long approverId, String status,
+                                        LocalDateTime now) {
+        Long requestId = document.getRequestId();
 
         // 2. 반려인 경우
         if ("rejected".equals(status)) {
-            document.setFinalStatus("rejected");
-            approvalRequestRepository.save(document);
             log.info("결재 반려: requestId={}, step={}, approverId={}", requestId, step, approverId);
+            updateStatistics(requestId, () -> statisticsViewService.recordFinalStatusChange(
+                    document.getRequesterId(), "in_progress", "rejected"));
 
             // 요청자에게 반려 알림 전송
             sendRejectionNotification(document, approverId);
@@ -138,23 +322,37 @@ public class ApprovalRequestService {
                 .min(Comparator.comparingInt(ApprovalStep::getStep));
 
         if (nextPendingStep.isPresent()) {
-            // 다음 결재자가 있음 - 저장 후 Kafka로 다시 전달
-            approvalRequestRepository.save(document);
+            // 다음 결재자가 있음 - Kafka 전달은 아웃박스 릴레이가 담당
             log.info("다음 결재 단계로 이동: requestId={}, nextStep={}", requestId, nextPendingStep.get().getStep());
 
             // 요청자에게 중간 승인 알림 전송
             sendPartialApprovalNotification(document, step, approverId);
+        } else if ("approved".equals(document.getFinalStatus())
+                || approvalRequestRepository.completeIfAllApproved(requestId, now)) {
+            // 모든 단계 완료 - 최종 승인 (마지막 단계 결과와 같은 연산으로 기록됨)
+            afterFinalApproval(document);
+        }
+    }
 
-            approvalRequestProducer.sendApprovalRequest(document);
-        } else {
-            // 모든 단계 완료 - 최종 승인
-            document.setFinalStatus("approved");
-            approvalRequestRepository.save(document);
-            log.info("최종 승인 완료: requestId={}", requestId);
+    /**
+     * 최종 승인 이후 처리 - 통계 반영, 요청자에게 승인 완료 알림
+     */
+    private void afterFinalApproval(ApprovalRequestDocument document) {
+        log.info("최종 승인 완료: requestId={}", document.getRequestId());
+        updateStatistics(document.getRequestId(), () -> statisticsViewService.recordFinalStatusChange(
+                document.getRequesterId(), "in_progress", "approved"));
+        sendApprovalNotification(document);
+    }
 
-            // 요청자에게 승인 완료 알림 전송
-            sendApprovalNotification(document);
-        }
+    /**
+     * 일괄 반영 시 기록한 시각(now)과 상태가 일치하면 이번 bulkWrite로 반영된 단계
+     */
+    private boolean isApplied(ApprovalRequestDocument document, ApprovalStepResult result, LocalDateTime now) {
+        return document.getSteps() != null && document.getSteps().stream()
+                .anyMatch(s -> s.getStep() == result.getStep()
+                        && result.getApproverId().equals(s.getApproverId())
+                        && result.getStatus().equals(s.getStatus())
+                        && now.equals(s.getUpdatedAt()));
     }
 
     /**
@@ -173,12 +371,43 @@ public class ApprovalRequestService {
     }
 
     /**
-     * 새 requestId 생성
+     * 새 requestId 생성 (블록 단위로 예약된 카운터에서 발급)
      */
     private Long generateRequestId() {
-        return approvalRequestRepository.findTopByOrderByRequestIdDesc()
-                .map(doc -> doc.getRequestId() + 1)
-                .orElse(1L);
+        return requestIdAllocator.nextId();
+    }
+
+    /**
+     * 새 결재 요청 저장 - requestId가 이미 쓰였으면(롤링 배포 중 이전 버전 인스턴스의 max+1 채번)
+     * 채번 카운터를 현재 최대 requestId 이상으로 다시 맞추고 새 번호로 재시도
+     */
+    private void saveWithUniqueRequestId(ApprovalRequestDocument document) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                approvalRequestRepository.save(document);
+                return;
+            } catch (DuplicateKeyException e) {
+                if (attempt >= MAX_REQUEST_ID_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("이미 사용된 requestId - 카운터를 다시 맞추고 재시도: requestId={}, attempt={}",
+                        document.getRequestId(), attempt);
+                requestIdAllocator.reseed();
+                document.setRequestId(generateRequestId());
+            }
+        }
+    }
+
+    /**
+     * 통계 집계 뷰 갱신
+     * - 결재 처리 자체는 이미 저장되었으므로 실패해도 예외를 전파하지 않음 (야간 정합성 검사에서 복구)
+     */
+    private void updateStatistics(Long requestId, Runnable update) {
+        try {
+            update.run();
+        } catch (Exception e) {
+            log.warn("결재 통계 집계 뷰 갱신 실패: requestId={}", requestId, e);
+        }
     }
 
     /**
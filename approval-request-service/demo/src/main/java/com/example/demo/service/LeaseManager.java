@@ -0,0 +1,46 @@
+package com.example.demo.service;
+
+import com.example.demo.document.LeaseDocument;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * leases 컬렉션 기반 인스턴스 리스 - 이름별로 여러 인스턴스 중 한 곳만 리스를 가짐
+ * - 내 리스이거나 만료된 경우에만 owner/expiresAt이 갱신되고,
+ *   다른 인스턴스의 리스가 유효하면 조건이 맞지 않아 upsert가 _id 중복 키로 실패
+ * - 반납하지 않음 - 만료될 때까지 다른 인스턴스는 같은 이름의 리스를 얻지 못함
+ */
+@Component
+@RequiredArgsConstructor
+public class LeaseManager {
+
+    private final MongoTemplate mongoTemplate;
+    private final String ownerId = UUID.randomUUID().toString();
+
+    /**
+     * 리스 획득/갱신 - 성공하면 지금부터 duration 동안 이 인스턴스가 리스를 가짐
+     */
+    public boolean tryAcquire(String leaseId, Duration duration) {
+        LocalDateTime now = LocalDateTime.now();
+        Query query = Query.query(Criteria.where("_id").is(leaseId)
+                .orOperator(Criteria.where("owner").is(ownerId), Criteria.where("expiresAt").lt(now)));
+        Update update = new Update()
+                .set("owner", ownerId)
+                .set("expiresAt", now.plus(duration));
+        try {
+            mongoTemplate.upsert(query, update, LeaseDocument.class);
+            return true;
+        } catch (DuplicateKeyException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.SequenceCounterDocument;
+import com.example.demo.repository.ApprovalRequestRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * requestId 채번기 (hi/lo 방식)
+ * - counters 컬렉션의 카운터를 findAndModify($inc)로 blockSize만큼 원자적으로 예약
+ * - 예약한 블록 안에서는 AtomicLong으로 DB 접근 없이 번호 발급
+ * - 여러 인스턴스가 동시에 채번해도 블록이 겹치지 않으므로 중복이 발생하지 않음
+ * - 재시작 시 사용하지 않은 블록의 나머지 번호는 버려짐 (번호는 유일하지만 연속적이지 않음)
+ * - 롤링 배포 중에는 이전 버전 인스턴스가 max+1로 채번한 번호와 겹칠 수 있으므로,
+ *   저장 시 중복이 나면 reseed()로 카운터를 그 시점의 최대 requestId 이상으로 다시 맞춤
+ */
+@Slf4j
+@Component
+public class RequestIdAllocator {
+
+    public static final String SEQUENCE_NAME = "approval_request_id";
+
+    private final MongoTemplate mongoTemplate;
+    private final ApprovalRequestRepository approvalRequestRepository;
+    private final int blockSize;
+
+    private final Object refillLock = new Object();
+    private volatile IdBlock currentBlock = IdBlock.EMPTY;
+    private volatile boolean seeded;
+
+    public RequestIdAllocator(MongoTemplate mongoTemplate,
+                              ApprovalRequestRepository approvalRequestRepository,
+                              @Value("${approval.request-id.block-size:100}") int blockSize) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("approval.request-id.block-size는 1 이상이어야 합니다: " + blockSize);
+        }
+        this.mongoTemplate = mongoTemplate;
+        this.approvalRequestRepository = approvalRequestRepository;
+        this.blockSize = blockSize;
+    }
+
+    /**
+     * 새 requestId 발급
+     */
+    public long nextId() {
+        while (true) {
+            IdBlock block = currentBlock;
+            long id = block.next.getAndIncrement();
+            if (id <= block.max) {
+                return id;
+            }
+            // 블록 소진 - 한 스레드만 새 블록을 예약하고 나머지는 교체된 블록을 사용
+            synchronized (refillLock) {
+                if (currentBlock == block) {
+                    currentBlock = reserveBlock();
+                }
+            }
+        }
+    }
+
+    /**
+     * 발급한 번호가 이미 쓰인 경우(이전 버전 인스턴스의 max+1 채번) 호출
+     * 남은 블록을 버리고, 다음 블록 예약 전에 카운터를 현재 최대 requestId 이상으로 다시 맞춤
+     */
+    public void reseed() {
+        synchronized (refillLock) {
+            seeded = false;
+            currentBlock = IdBlock.EMPTY;
+        }
+        log.warn("requestId 카운터 재시드 예약: sequence={}", SEQUENCE_NAME);
+    }
+
+    /**
+     * 카운터를 blockSize만큼 증가시키고 [이전 값 + 1, 새 값] 구간을 예약
+     */
+    private IdBlock reserveBlock() {
+        seedFromExistingRequests();
+
+        SequenceCounterDocument counter = mongoTemplate.findAndModify(
+                Query.query(Criteria.where("_id").is(SEQUENCE_NAME)),
+                new Update().inc("value", blockSize),
+                FindAndModifyOptions.options().returnNew(true).upsert(true),
+                SequenceCounterDocument.class);
+        if (counter == null || counter.getValue() == null) {
+            throw new IllegalStateException("requestId 블록 예약 실패: sequence=" + SEQUENCE_NAME);
+        }
+
+        long max = counter.getValue();
+        long first = max - blockSize + 1;
+        log.debug("requestId 블록 예약: [{}, {}]", first, max);
+        return new IdBlock(first, max);
+    }
+
+    /**
+     * 카운터 도입 이전에 생성된 결재 요청과 번호가 겹치지 않도록
+     * 최초 1회(및 reseed 이후 1회) 카운터를 기존 최대 requestId 이상으로 맞춤 ($max는 이미 더 크면 변경하지 않음)
+     */
+    private void seedFromExistingRequests() {
+        if (seeded) {
+            return;
+        }
+        long existingMax = approvalRequestRepository.findTopByOrderByRequestIdDesc()
+                .map(ApprovalRequestDocument::getRequestId)
+                .orElse(0L);
+        mongoTemplate.upsert(
+                Query.query(Criteria.where("_id").is(SEQUENCE_NAME)),
+                new Update().max("value", existingMax),
+                SequenceCounterDocument.class);
+        seeded = true;
+    }
+
+    /**
+     * 예약된 번호 구간 [next, max]
+     */
+    private static final class IdBlock {
+
+        static final IdBlock EMPTY = new IdBlock(1, 0);
+
+        final AtomicLong next;
+        final long max;
+
+        IdBlock(long first, long max) {
+            this.next = new AtomicLong(first);
+            this.max = max;
+        }
+    }
+}
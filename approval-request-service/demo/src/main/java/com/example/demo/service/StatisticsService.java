@@ -1,26 +1,25 @@
 package com.example.demo.service;
 
-import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStatisticsDocument;
 import com.example.demo.dto.StatisticsResponse;
-import com.example.demo.repository.ApprovalRequestRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
-import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
 /**
  * 결재 통계 서비스
+ * - 결재 생성/처리 시 증분 갱신되는 집계 뷰(approval_statistics)를 읽어 응답 구성
+ * - 결재 문서를 조회하거나 컬렉션 전체를 집계하지 않음
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class StatisticsService {
 
-    private final ApprovalRequestRepository approvalRequestRepository;
+    private final StatisticsViewService statisticsViewService;
 
     /**
      * 전체 결재 통계 조회
@@ -28,9 +27,8 @@ public class StatisticsService {
     public StatisticsResponse getStatistics() {
         log.info("결재 통계 조회 시작");
 
-        List<ApprovalRequestDocument> allRequests = approvalRequestRepository.findAll();
-
-        if (allRequests.isEmpty()) {
+        ApprovalStatisticsDocument global = statisticsViewService.findGlobal().orElse(null);
+        if (global == null || global.getTotalRequests() == 0) {
             return StatisticsResponse.builder()
                     .totalRequests(0)
                     .approvedCount(0)
@@ -44,60 +42,27 @@ public class StatisticsService {
                     .build();
         }
 
-        long totalRequests = allRequests.size();
-        
-        // 상태별 집계
-        long approvedCount = allRequests.stream()
-                .filter(doc -> "approved".equals(doc.getFinalStatus()))
-                .count();
-        
-        long rejectedCount = allRequests.stream()
-                .filter(doc -> "rejected".equals(doc.getFinalStatus()))
-                .count();
-        
-        long inProgressCount = allRequests.stream()
-                .filter(doc -> "in_progress".equals(doc.getFinalStatus()))
-                .count();
-
-        // 승인율, 반려율 계산
-        long completedCount = approvedCount + rejectedCount;
-        double approvalRate = completedCount > 0 ? (approvedCount * 100.0 / completedCount) : 0.0;
-        double rejectionRate = completedCount > 0 ? (rejectedCount * 100.0 / completedCount) : 0.0;
+        // 요청자별 결재 건수
+        Map<Long, Long> requestsByEmployee = new HashMap<>();
+        for (ApprovalStatisticsDocument requester : statisticsViewService.findAllRequesters()) {
+            if (requester.getTotalRequests() > 0) {
+                requestsByEmployee.put(requester.getRequesterId(), requester.getTotalRequests());
+            }
+        }
 
-        // 평균 결재 단계 수
-        double avgStepsCount = allRequests.stream()
-                .mapToInt(doc -> doc.getSteps() != null ? doc.getSteps().size() : 0)
-                .average()
-                .orElse(0.0);
+        // 상태별 분포
+        Map<String, Long> statusDistribution = new HashMap<>();
+        putIfPositive(statusDistribution, "approved", global.getApprovedCount());
+        putIfPositive(statusDistribution, "rejected", global.getRejectedCount());
+        putIfPositive(statusDistribution, "in_progress", global.getInProgressCount());
 
-        // 요청자별 결재 건수
-        Map<Long, Long> requestsByEmployee = allRequests.stream()
-                .collect(Collectors.groupingBy(
-                        ApprovalRequestDocument::getRequesterId,
-                        Collectors.counting()
-                ));
-
-        // 상태별 분포 (최근 건 기준)
-        Map<String, Long> recentStatusDistribution = allRequests.stream()
-                .collect(Collectors.groupingBy(
-                        ApprovalRequestDocument::getFinalStatus,
-                        Collectors.counting()
-                ));
-
-        log.info("통계 계산 완료: total={}, approved={}, rejected={}, inProgress={}", 
-                totalRequests, approvedCount, rejectedCount, inProgressCount);
+        StatisticsResponse response = toResponse(global);
+        response.setRequestsByEmployee(requestsByEmployee);
+        response.setRecentStatusDistribution(statusDistribution);
 
-        return StatisticsResponse.builder()
-                .totalRequests(totalRequests)
-                .approvedCount(approvedCount)
-                .rejectedCount(rejectedCount)
-                .inProgressCount(inProgressCount)
-                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)  // 소수점 2자리
-                .rejectionRate(Math.round(rejectionRate * 100.0) / 100.0)
-                .avgStepsCount(Math.round(avgStepsCount * 100.0) / 100.0)
-                .requestsByEmployee(requestsByEmployee)
-                .recentStatusDistribution(recentStatusDistribution)
-                .build();
+        log.info("통계 조회 완료: total={}, approved={}, rejected={}, inProgress={}",
+                response.getTotalRequests(), response.getApprovedCount(), response.getRejectedCount(), response.getInProgressCount());
+        return response;
     }
 
     /**
@@ -106,10 +71,8 @@ public class StatisticsService {
     public StatisticsResponse getStatisticsByRequester(Long requesterId) {
         log.info("요청자별 통계 조회: requesterId={}", requesterId);
 
-        List<ApprovalRequestDocument> requests = approvalRequestRepository
-                .findByRequesterId(requesterId);
-
-        if (requests.isEmpty()) {
+        ApprovalStatisticsDocument requester = statisticsViewService.findByRequester(requesterId).orElse(null);
+        if (requester == null || requester.getTotalRequests() == 0) {
             return StatisticsResponse.builder()
                     .totalRequests(0)
                     .approvedCount(0)
@@ -121,37 +84,35 @@ public class StatisticsService {
                     .build();
         }
 
-        long totalRequests = requests.size();
-        
-        long approvedCount = requests.stream()
-                .filter(doc -> "approved".equals(doc.getFinalStatus()))
-                .count();
-        
-        long rejectedCount = requests.stream()
-                .filter(doc -> "rejected".equals(doc.getFinalStatus()))
-                .count();
-        
-        long inProgressCount = requests.stream()
-                .filter(doc -> "in_progress".equals(doc.getFinalStatus()))
-                .count();
+        return toResponse(requester);
+    }
+
+    private StatisticsResponse toResponse(ApprovalStatisticsDocument statistics) {
+        long approvedCount = statistics.getApprovedCount();
+        long rejectedCount = statistics.getRejectedCount();
 
+        // 승인율, 반려율 계산
         long completedCount = approvedCount + rejectedCount;
         double approvalRate = completedCount > 0 ? (approvedCount * 100.0 / completedCount) : 0.0;
         double rejectionRate = completedCount > 0 ? (rejectedCount * 100.0 / completedCount) : 0.0;
 
-        double avgStepsCount = requests.stream()
-                .mapToInt(doc -> doc.getSteps() != null ? doc.getSteps().size() : 0)
-                .average()
-                .orElse(0.0);
+        // 평균 결재 단계 수
+        double avgStepsCount = (double) statistics.getTotalSteps() / statistics.getTotalRequests();
 
         return StatisticsResponse.builder()
-                .totalRequests(totalRequests)
+                .totalRequests(statistics.getTotalRequests())
                 .approvedCount(approvedCount)
                 .rejectedCount(rejectedCount)
-                .inProgressCount(inProgressCount)
-                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)
+                .inProgressCount(statistics.getInProgressCount())
+                .approvalRate(Math.round(approvalRate * 100.0) / 100.0)  // 소수점 2자리
                 .rejectionRate(Math.round(rejectionRate * 100.0) / 100.0)
                 .avgStepsCount(Math.round(avgStepsCount * 100.0) / 100.0)
                 .build();
     }
+
+    private void putIfPositive(Map<String, Long> distribution, String status, long count) {
+        if (count > 0) {
+            distribution.put(status, count);
+        }
+    }
 }
@@ -0,0 +1,343 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStatisticsDocument;
+import com.example.demo.dto.StatisticsConsistencyReport;
+import com.example.demo.repository.ApprovalStatisticsRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.bson.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.ArrayOperators;
+import org.springframework.data.mongodb.core.aggregation.ConditionalOperators;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.ToLongFunction;
+
+/**
+ * 결재 통계 집계 뷰(approval_statistics) 관리 서비스
+ * - 결재 생성/최종 상태 변경 시 전체 통계와 요청자별 통계를 $inc로 증분 갱신
+ * - 원본 컬렉션으로부터 전체 재계산(rebuild) 및 정합성 검사 제공
+ * - 뷰 갱신은 결재 문서 저장과 별도 연산이므로, 중간 실패로 어긋난 값은 야간 정합성 검사로 검출/복구
+ * - 야간 정합성 검사는 여러 인스턴스 중 리스(leases 컬렉션의 approval-statistics-consistency-check)를 얻은 한 곳만 수행
+ */
+@Slf4j
+@Service
+public class StatisticsViewService {
+
+    static final String CONSISTENCY_CHECK_LEASE_ID = "approval-statistics-consistency-check";
+
+    private static final Map<String, ToLongFunction<ApprovalStatisticsDocument>> COUNTER_FIELDS = new LinkedHashMap<>();
+
+    static {
+        COUNTER_FIELDS.put("totalRequests", ApprovalStatisticsDocument::getTotalRequests);
+        COUNTER_FIELDS.put("inProgressCount", ApprovalStatisticsDocument::getInProgressCount);
+        COUNTER_FIELDS.put("approvedCount", ApprovalStatisticsDocument::getApprovedCount);
+        COUNTER_FIELDS.put("rejectedCount", ApprovalStatisticsDocument::getRejectedCount);
+        COUNTER_FIELDS.put("totalSteps", ApprovalStatisticsDocument::getTotalSteps);
+    }
+
+    private final MongoTemplate mongoTemplate;
+    private final ApprovalStatisticsRepository approvalStatisticsRepository;
+    private final boolean repairOnCheck;
+    private final Duration consistencyCheckLeaseDuration;
+    private final LeaseManager leaseManager;
+
+    public StatisticsViewService(MongoTemplate mongoTemplate,
+                                 ApprovalStatisticsRepository approvalStatisticsRepository,
+                                 @Value("${approval.statistics.consistency-check.repair:false}") boolean repairOnCheck,
+                                 @Value("${approval.statistics.consistency-check.lease-duration:1h}") Duration consistencyCheckLeaseDuration,
+                                 LeaseManager leaseManager) {
+        this.mongoTemplate = mongoTemplate;
+        this.approvalStatisticsRepository = approvalStatisticsRepository;
+        this.repairOnCheck = repairOnCheck;
+        this.consistencyCheckLeaseDuration = consistencyCheckLeaseDuration;
+        this.leaseManager = leaseManager;
+    }
+
+    /**
+     * 결재 요청 생성 반영 (전체 + 요청자별 건수, 진행 중 건수, 단계 수 합계 증가)
+     */
+    public void recordCreated(ApprovalRequestDocument document) {
+        Map<String, Long> increments = new LinkedHashMap<>();
+        increments.put("totalRequests", 1L);
+        increments.put("totalSteps", (long) (document.getSteps() != null ? document.getSteps().size() : 0));
+        String statusField = statusField(document.getFinalStatus());
+        if (statusField != null) {
+            increments.put(statusField, 1L);
+        }
+        increment(document.getRequesterId(), increments);
+    }
+
+    /**
+     * 최종 상태 변경 반영 (이전 상태 건수 감소, 새 상태 건수 증가)
+     */
+    public void recordFinalStatusChange(Long requesterId, String fromStatus, String toStatus) {
+        if (Objects.equals(fromStatus, toStatus)) {
+            return;
+        }
+        Map<String, Long> increments = new LinkedHashMap<>();
+        String fromField = statusField(fromStatus);
+        if (fromField != null) {
+            increments.put(fromField, -1L);
+        }
+        String toField = statusField(toStatus);
+        if (toField != null) {
+            increments.put(toField, 1L);
+        }
+        if (!increments.isEmpty()) {
+            increment(requesterId, increments);
+        }
+    }
+
+    /**
+     * 전체 통계 조회 (뷰가 아직 없으면 empty)
+     */
+    public Optional<ApprovalStatisticsDocument> findGlobal() {
+        return approvalStatisticsRepository.findById(ApprovalStatisticsDocument.GLOBAL_ID);
+    }
+
+    /**
+     * 요청자별 통계 조회
+     */
+    public Optional<ApprovalStatisticsDocument> findByRequester(Long requesterId) {
+        return approvalStatisticsRepository.findById(ApprovalStatisticsDocument.requesterKey(requesterId));
+    }
+
+    /**
+     * 전체 요청자별 통계 조회
+     */
+    public List<ApprovalStatisticsDocument> findAllRequesters() {
+        return approvalStatisticsRepository.findByScope(ApprovalStatisticsDocument.SCOPE_REQUESTER);
+    }
+
+    /**
+     * 원본 컬렉션으로부터 집계 뷰 전체 재계산
+     * - 재계산 도중 들어온 증분은 덮어써질 수 있으므로 트래픽이 적은 시간에 실행
+     *
+     * @return 기록된 통계 Document 수
+     */
+    public int rebuild() {
+        long startTime = System.currentTimeMillis();
+        Map<String, ApprovalStatisticsDocument> expected = computeFromSource();
+
+        BulkOperations bulkOps = mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApprovalStatisticsDocument.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (ApprovalStatisticsDocument doc : expected.values()) {
+            Update update = new Update()
+                    .set("scope", doc.getScope())
+                    .set("requesterId", doc.getRequesterId())
+                    .set("updatedAt", now);
+            COUNTER_FIELDS.forEach((field, getter) -> update.set(field, getter.applyAsLong(doc)));
+            bulkOps.upsert(Query.query(Criteria.where("_id").is(doc.getId())), update);
+        }
+
+        // 더 이상 결재 요청이 없는 요청자 통계 제거
+        List<String> staleIds = findAllRequesters().stream()
+                .map(ApprovalStatisticsDocument::getId)
+                .filter(id -> !expected.containsKey(id))
+                .toList();
+        if (!staleIds.isEmpty()) {
+            bulkOps.remove(Query.query(Criteria.where("_id").in(staleIds)));
+        }
+        bulkOps.execute();
+
+        log.info("결재 통계 집계 뷰 재계산 완료: documents={}, removed={}, elapsed={}ms",
+                expected.size(), staleIds.size(), System.currentTimeMillis() - startTime);
+        return expected.size();
+    }
+
+    /**
+     * 집계 뷰와 원본 컬렉션 재계산 결과 비교
+     * - 검사 중 처리되는 결재 건으로 인해 일시적인 불일치가 보고될 수 있음
+     *
+     * @param repair true면 불일치 발견 시 rebuild 수행
+     */
+    public StatisticsConsistencyReport checkConsistency(boolean repair) {
+        Map<String, ApprovalStatisticsDocument> expected = computeFromSource();
+        Map<String, ApprovalStatisticsDocument> actual = new LinkedHashMap<>();
+        findGlobal().ifPresent(doc -> actual.put(doc.getId(), doc));
+        findAllRequesters().forEach(doc -> actual.put(doc.getId(), doc));
+
+        List<StatisticsConsistencyReport.Mismatch> mismatches = new ArrayList<>();
+        for (ApprovalStatisticsDocument exp : expected.values()) {
+            ApprovalStatisticsDocument act = actual.getOrDefault(exp.getId(), emptyStatistics(exp.getId(), exp.getRequesterId()));
+            compare(exp.getId(), exp, act, mismatches);
+        }
+        for (ApprovalStatisticsDocument act : actual.values()) {
+            if (!expected.containsKey(act.getId())) {
+                compare(act.getId(), emptyStatistics(act.getId(), act.getRequesterId()), act, mismatches);
+            }
+        }
+
+        boolean repaired = false;
+        if (!mismatches.isEmpty()) {
+            log.warn("결재 통계 집계 뷰 불일치 발견: mismatches={}", mismatches);
+            if (repair) {
+                rebuild();
+                repaired = true;
+            }
+        }
+
+        return StatisticsConsistencyReport.builder()
+                .consistent(mismatches.isEmpty())
+                .checkedCount(Math.max(expected.size(), actual.size()))
+                .mismatches(mismatches)
+                .repaired(repaired)
+                .checkedAt(LocalDateTime.now())
+                .build();
+    }
+
+    /**
+     * 야간 정합성 검사 - 같은 시각에 실행되는 다른 인스턴스는 리스를 얻지 못해 건너뜀
+     */
+    @Scheduled(cron = "${approval.statistics.consistency-check.cron:0 0 3 * * *}")
+    public void scheduledConsistencyCheck() {
+        if (!acquireConsistencyCheckLease()) {
+            log.info("다른 인스턴스가 결재 통계 정합성 검사를 수행 중이어서 건너뜀");
+            return;
+        }
+        StatisticsConsistencyReport report = checkConsistency(repairOnCheck);
+        log.info("결재 통계 정합성 검사 완료: consistent={}, checked={}, mismatches={}, repaired={}",
+                report.isConsistent(), report.getCheckedCount(), report.getMismatches().size(), report.isRepaired());
+    }
+
+    /**
+     * 정합성 검사 리스 획득 - 검사가 끝나도 반납하지 않아, 시계가 조금 어긋난 인스턴스가 lease-duration 안에 다시 검사하지 않음
+     */
+    boolean acquireConsistencyCheckLease() {
+        return leaseManager.tryAcquire(CONSISTENCY_CHECK_LEASE_ID, consistencyCheckLeaseDuration);
+    }
+
+    /**
+     * 집계 뷰가 아직 없으면(최초 배포) 기동 시 한 번 재계산
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initializeIfMissing() {
+        if (findGlobal().isEmpty()) {
+            log.info("결재 통계 집계 뷰가 없어 재계산을 수행합니다.");
+            rebuild();
+        }
+    }
+
+    /**
+     * 전체 통계와 요청자별 통계 Document에 같은 증분($inc)을 한 번의 bulkWrite로 적용
+     */
+    private void increment(Long requesterId, Map<String, Long> increments) {
+        LocalDateTime now = LocalDateTime.now();
+        Update globalUpdate = new Update()
+                .setOnInsert("scope", ApprovalStatisticsDocument.SCOPE_GLOBAL)
+                .set("updatedAt", now);
+        Update requesterUpdate = new Update()
+                .setOnInsert("scope", ApprovalStatisticsDocument.SCOPE_REQUESTER)
+                .setOnInsert("requesterId", requesterId)
+                .set("updatedAt", now);
+        increments.forEach((field, delta) -> {
+            globalUpdate.inc(field, delta);
+            requesterUpdate.inc(field, delta);
+        });
+
+        mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApprovalStatisticsDocument.class)
+                .upsert(Query.query(Criteria.where("_id").is(ApprovalStatisticsDocument.GLOBAL_ID)), globalUpdate)
+                .upsert(Query.query(Criteria.where("_id").is(ApprovalStatisticsDocument.requesterKey(requesterId))), requesterUpdate)
+                .execute();
+    }
+
+    /**
+     * 원본 컬렉션을 (requesterId, finalStatus) 단위로 집계해 기대 통계 계산
+     * - 결과 크기는 결재 건수가 아니라 요청자 수 x 상태 수에 비례
+     */
+    private Map<String, ApprovalStatisticsDocument> computeFromSource() {
+        Aggregation aggregation = Aggregation.newAggregation(
+                Aggregation.project("requesterId", "finalStatus")
+                        .and(ArrayOperators.Size.lengthOfArray(
+                                ConditionalOperators.ifNull("steps").then(Collections.emptyList())))
+                        .as("stepsCount"),
+                Aggregation.group("requesterId", "finalStatus")
+                        .count().as("count")
+                        .sum("stepsCount").as("steps"));
+
+        Map<String, ApprovalStatisticsDocument> result = new LinkedHashMap<>();
+        ApprovalStatisticsDocument global = emptyStatistics(ApprovalStatisticsDocument.GLOBAL_ID, null);
+        result.put(global.getId(), global);
+
+        for (Document row : mongoTemplate.aggregate(aggregation, ApprovalRequestDocument.class, Document.class)) {
+            Document key = row.get("_id", Document.class);
+            Object rawRequesterId = key.get("requesterId");
+            Long requesterId = rawRequesterId == null ? null : ((Number) rawRequesterId).longValue();
+            String finalStatus = key.getString("finalStatus");
+            long count = ((Number) row.get("count")).longValue();
+            long steps = ((Number) row.get("steps")).longValue();
+
+            String id = ApprovalStatisticsDocument.requesterKey(requesterId);
+            ApprovalStatisticsDocument requester = result.computeIfAbsent(id, k -> emptyStatistics(k, requesterId));
+            accumulate(global, finalStatus, count, steps);
+            accumulate(requester, finalStatus, count, steps);
+        }
+        return result;
+    }
+
+    private void accumulate(ApprovalStatisticsDocument doc, String finalStatus, long count, long steps) {
+        doc.setTotalRequests(doc.getTotalRequests() + count);
+        doc.setTotalSteps(doc.getTotalSteps() + steps);
+        switch (finalStatus == null ? "" : finalStatus) {
+            case "in_progress" -> doc.setInProgressCount(doc.getInProgressCount() + count);
+            case "approved" -> doc.setApprovedCount(doc.getApprovedCount() + count);
+            case "rejected" -> doc.setRejectedCount(doc.getRejectedCount() + count);
+            default -> { }
+        }
+    }
+
+    private void compare(String id, ApprovalStatisticsDocument expected, ApprovalStatisticsDocument actual,
+                         List<StatisticsConsistencyReport.Mismatch> mismatches) {
+        COUNTER_FIELDS.forEach((field, getter) -> {
+            long exp = getter.applyAsLong(expected);
+            long act = getter.applyAsLong(actual);
+            if (exp != act) {
+                mismatches.add(new StatisticsConsistencyReport.Mismatch(id, field, exp, act));
+            }
+        });
+    }
+
+    private ApprovalStatisticsDocument emptyStatistics(String id, Long requesterId) {
+        return ApprovalStatisticsDocument.builder()
+                .id(id)
+                .scope(ApprovalStatisticsDocument.GLOBAL_ID.equals(id)
+                        ? ApprovalStatisticsDocument.SCOPE_GLOBAL
+                        : ApprovalStatisticsDocument.SCOPE_REQUESTER)
+                .requesterId(requesterId)
+                .build();
+    }
+
+    /**
+     * 결재 상태 → 집계 필드명
+     */
+    private String statusField(String finalStatus) {
+        if (finalStatus == null) {
+            return null;
+        }
+        return switch (finalStatus) {
+            case "in_progress" -> "inProgressCount";
+            case "approved" -> "approvedCount";
+            case "rejected" -> "rejectedCount";
+            default -> null;
+        };
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.demo.client;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("EmployeeExistenceCache 테스트")
+class EmployeeExistenceCacheTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private EmployeeExistenceCache cache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        cache = new EmployeeExistenceCache(Duration.ofMinutes(10), Duration.ofMillis(100), 100, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("존재하지 않음(negative)은 짧은 TTL 후 만료, 존재함(positive)은 유지")
+    void negativeEntryExpiresBeforePositive() throws InterruptedException {
+        // given
+        cache.put(1L, true);
+        cache.put(2L, false);
+
+        // when
+        Thread.sleep(300);
+
+        // then
+        assertThat(cache.get(1L)).contains(true);
+        assertThat(cache.get(2L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("무효화 후에는 캐시 미스")
+    void invalidate() {
+        // given
+        cache.put(1L, true);
+
+        // when
+        cache.invalidate(1L);
+
+        // then
+        assertThat(cache.get(1L)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("hit/miss 통계가 metrics로 노출")
+    void statsExposedAsMetrics() {
+        // given
+        cache.put(1L, true);
+
+        // when
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        // then
+        assertThat(meterRegistry.get("cache.gets").tag("cache", EmployeeExistenceCache.CACHE_NAME)
+                .tag("result", "hit").functionCounter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", EmployeeExistenceCache.CACHE_NAME)
+                .tag("result", "miss").functionCounter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("cache.evictions").tag("cache", EmployeeExistenceCache.CACHE_NAME)
+                .functionCounter()).isNotNull();
+    }
+}
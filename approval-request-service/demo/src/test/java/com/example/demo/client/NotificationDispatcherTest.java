@@ -0,0 +1,171 @@
+package com.example.demo.client;
+
+import com.example.demo.dto.NotificationRequest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("NotificationDispatcher 테스트")
+class NotificationDispatcherTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private NotificationDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("같은 직원의 알림은 창 안에서 모아 batch 호출 1회로 전송")
+    void dispatch_CoalescesPerEmployee() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(2);
+        dispatcher = dispatcher(request -> {
+            assertThat(request.url().getPath()).isEqualTo(NotificationDispatcher.BATCH_URI);
+            calls.incrementAndGet();
+            done.countDown();
+            return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+        }, 100, 4, 50, Duration.ofMillis(500));
+
+        // when
+        dispatcher.dispatch(notification(1L, 100L));
+        dispatcher.dispatch(notification(2L, 100L));
+        dispatcher.dispatch(notification(3L, 100L));
+        dispatcher.dispatch(notification(4L, 200L));
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        awaitQueueDrained();
+        assertThat(calls.get()).isEqualTo(2);
+        assertThat(meterRegistry.get("notification.dispatch.batch.size").summary().max()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("notification.dispatch.sent").counter().count()).isEqualTo(4.0);
+        assertThat(meterRegistry.get("notification.dispatch.latency").timer().count()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("동시에 진행 중인 호출 수는 max-in-flight를 넘지 않음")
+    void dispatch_BoundsInFlightCalls() throws InterruptedException {
+        // given - max-batch-size 1이라 알림마다 즉시 batch가 방출됨
+        AtomicInteger current = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch done = new CountDownLatch(10);
+        dispatcher = dispatcher(request -> Mono.defer(() -> {
+                    peak.accumulateAndGet(current.incrementAndGet(), Math::max);
+                    return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+                })
+                .delayElement(Duration.ofMillis(50))
+                .doOnNext(response -> {
+                    current.decrementAndGet();
+                    done.countDown();
+                }), 100, 2, 1);
+
+        // when
+        for (long i = 1; i <= 10; i++) {
+            dispatcher.dispatch(notification(i, i));
+        }
+
+        // then
+        assertThat(done.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(peak.get()).isLessThanOrEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("5xx 응답은 backoff 후 재시도")
+    void dispatch_RetriesServerErrors() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        dispatcher = dispatcher(request -> Mono.just(ClientResponse.create(
+                calls.incrementAndGet() < 3 ? HttpStatus.SERVICE_UNAVAILABLE : HttpStatus.OK).build()), 100, 4, 50);
+
+        // when
+        dispatcher.dispatch(notification(1L, 100L));
+
+        // then
+        awaitQueueDrained();
+        assertThat(calls.get()).isEqualTo(3);
+        assertThat(meterRegistry.get("notification.dispatch.sent").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("4xx 응답은 재시도하지 않고 버림")
+    void dispatch_DoesNotRetryClientErrors() throws InterruptedException {
+        // given
+        AtomicInteger calls = new AtomicInteger();
+        dispatcher = dispatcher(request -> {
+            calls.incrementAndGet();
+            return Mono.just(ClientResponse.create(HttpStatus.BAD_REQUEST).build());
+        }, 100, 4, 50);
+
+        // when
+        dispatcher.dispatch(notification(1L, 100L));
+
+        // then
+        awaitQueueDrained();
+        assertThat(calls.get()).isEqualTo(1);
+        assertThat(meterRegistry.get("notification.dispatch.dropped").tag("reason", "failed").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("대기 알림이 queue-capacity를 넘으면 접수하지 않고 버림")
+    void dispatch_DropsWhenQueueFull() {
+        // given - 창이 길어 전송 전까지 대기 알림으로 남아 있음
+        dispatcher = dispatcher(request -> Mono.just(ClientResponse.create(HttpStatus.OK).build()), 2, 4, 50,
+                Duration.ofSeconds(10));
+
+        // when & then
+        assertThat(dispatcher.dispatch(notification(1L, 100L))).isTrue();
+        assertThat(dispatcher.dispatch(notification(2L, 100L))).isTrue();
+        assertThat(dispatcher.dispatch(notification(3L, 100L))).isFalse();
+        assertThat(meterRegistry.get("notification.dispatch.queue.depth").gauge().value()).isEqualTo(2.0);
+        assertThat(meterRegistry.get("notification.dispatch.dropped").tag("reason", "queue_full").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private NotificationDispatcher dispatcher(ExchangeFunction exchangeFunction, int queueCapacity, int maxInFlight,
+                                              int maxBatchSize) {
+        return dispatcher(exchangeFunction, queueCapacity, maxInFlight, maxBatchSize, Duration.ofMillis(50));
+    }
+
+    private NotificationDispatcher dispatcher(ExchangeFunction exchangeFunction, int queueCapacity, int maxInFlight,
+                                              int maxBatchSize, Duration coalesceWindow) {
+        WebClient webClient = WebClient.builder()
+                .baseUrl("http://notification-service")
+                .exchangeFunction(exchangeFunction)
+                .build();
+        return new NotificationDispatcher(webClient, queueCapacity, maxInFlight, coalesceWindow, maxBatchSize,
+                3, Duration.ofMillis(10), Duration.ofSeconds(5), meterRegistry);
+    }
+
+    private void awaitQueueDrained() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (dispatcher.getQueueDepth() > 0 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(dispatcher.getQueueDepth()).isZero();
+    }
+
+    private NotificationRequest notification(Long requestId, Long employeeId) {
+        return NotificationRequest.builder()
+                .requestId(requestId)
+                .employeeId(employeeId)
+                .result("approved")
+                .finalResult("approved")
+                .build();
+    }
+}
@@ -4,10 +4,15 @@ import com.example.demo.document.ApprovalRequestDocument;
 import com.example.demo.document.ApprovalStep;
 import com.example.demo.dto.ApprovalCreateRequest;
 import com.example.demo.dto.ApprovalResponse;
+import com.example.demo.dto.ApprovalSummaryResponse;
+import com.example.demo.dto.CursorPage;
+import com.example.demo.dto.PendingPartitionFilter;
 import com.example.demo.dto.StepRequest;
 import com.example.demo.dto.StepResponse;
 import com.example.demo.exception.ApprovalNotFoundException;
+import com.example.demo.exception.InvalidPageRequestException;
 import com.example.demo.exception.InvalidStepOrderException;
+import com.example.demo.service.ApprovalExportService;
 import com.example.demo.service.ApprovalRequestService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.DisplayName;
@@ -17,13 +22,17 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -40,6 +49,9 @@ class ApprovalControllerTest {
     @MockBean
     private ApprovalRequestService approvalRequestService;
 
+    @MockBean
+    private ApprovalExportService approvalExportService;
+
     @Test
     @DisplayName("결재 요청 생성 - 성공")
     void createApproval_Success() throws Exception {
@@ -109,24 +121,29 @@ class ApprovalControllerTest {
     @DisplayName("결재 요청 목록 조회 - 성공")
     void getAllApprovals_Success() throws Exception {
         // Given
-        List<ApprovalResponse> responses = Arrays.asList(
-                createMockApprovalResponse(1L, "테스트 결재 1"),
-                createMockApprovalResponse(2L, "테스트 결재 2")
+        List<ApprovalSummaryResponse> responses = Arrays.asList(
+                createMockSummaryResponse(1L, "테스트 결재 1"),
+                createMockSummaryResponse(2L, "테스트 결재 2")
         );
-        when(approvalRequestService.getAllApprovals()).thenReturn(responses);
+        when(approvalRequestService.getApprovals(null, 20, null, null))
+                .thenReturn(new CursorPage<>(responses, null));
 
         // When & Then
         mockMvc.perform(get("/approvals"))
                 .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ApprovalController.NEXT_CURSOR_HEADER))
                 .andExpect(jsonPath("$").isArray())
-                .andExpect(jsonPath("$.length()").value(2));
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].content").doesNotExist())
+                .andExpect(jsonPath("$[0].steps[0].comment").doesNotExist());
     }
 
     @Test
     @DisplayName("결재 요청 목록 조회 - 빈 목록")
     void getAllApprovals_EmptyList() throws Exception {
         // Given
-        when(approvalRequestService.getAllApprovals()).thenReturn(Collections.emptyList());
+        when(approvalRequestService.getApprovals(null, 20, null, null))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
 
         // When & Then
         mockMvc.perform(get("/approvals"))
@@ -135,6 +152,129 @@ class ApprovalControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    @DisplayName("결재 요청 목록 조회 - 커서/필터 전달 및 다음 페이지 커서 헤더")
+    void getAllApprovals_WithCursorAndFilters() throws Exception {
+        // Given
+        when(approvalRequestService.getApprovals(10L, 2, "approved", 1L))
+                .thenReturn(new CursorPage<>(Arrays.asList(
+                        createMockSummaryResponse(11L, "테스트 결재 11"),
+                        createMockSummaryResponse(12L, "테스트 결재 12")), 12L));
+
+        // When & Then
+        mockMvc.perform(get("/approvals")
+                        .param("after", "10")
+                        .param("limit", "2")
+                        .param("finalStatus", "approved")
+                        .param("requesterId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ApprovalController.NEXT_CURSOR_HEADER, "12"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].requestId").value(12));
+    }
+
+    @Test
+    @DisplayName("결재 요청 목록 조회 - 허용 범위를 벗어난 limit 시 400")
+    void getAllApprovals_InvalidLimit_Returns400() throws Exception {
+        // Given
+        when(approvalRequestService.getApprovals(null, 1000, null, null))
+                .thenThrow(new InvalidPageRequestException("limit은 1 이상 100 이하여야 합니다: 1000"));
+
+        // When & Then
+        mockMvc.perform(get("/approvals").param("limit", "1000"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Bad Request"));
+    }
+
+    @Test
+    @DisplayName("결재 요청 내보내기 - NDJSON 스트리밍")
+    void exportApprovals_StreamsNdjson() throws Exception {
+        // Given
+        LocalDateTime since = LocalDateTime.of(2024, 1, 1, 0, 0);
+        when(approvalExportService.export(eq(since), any(OutputStream.class))).thenAnswer(invocation -> {
+            OutputStream out = invocation.getArgument(1);
+            out.write("{\"requestId\":1}\n{\"requestId\":2}\n".getBytes(StandardCharsets.UTF_8));
+            return 2L;
+        });
+
+        // When
+        MvcResult result = mockMvc.perform(get("/approvals/export").param("since", "2024-01-01T00:00:00"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string("{\"requestId\":1}\n{\"requestId\":2}\n"));
+    }
+
+    @Test
+    @DisplayName("pending 결재 조회 - 파라미터 없으면 전체 목록")
+    void getPendingApprovals_All() throws Exception {
+        // Given
+        when(approvalRequestService.getAllPendingApprovals())
+                .thenReturn(List.of(createPendingDocument(1L), createPendingDocument(2L)));
+
+        // When & Then
+        mockMvc.perform(get("/approvals/pending"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ApprovalController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(2));
+    }
+
+    @Test
+    @DisplayName("pending 결재 조회 - 페이지 조회 및 다음 페이지 커서 헤더")
+    void getPendingApprovals_Paged() throws Exception {
+        // Given
+        when(approvalRequestService.getPendingApprovals(10L, 2, PendingPartitionFilter.ALL))
+                .thenReturn(new CursorPage<>(List.of(createPendingDocument(11L), createPendingDocument(12L)), 12L));
+
+        // When & Then
+        mockMvc.perform(get("/approvals/pending").param("after", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(ApprovalController.NEXT_CURSOR_HEADER, "12"))
+                .andExpect(jsonPath("$[0].requestId").value(11))
+                .andExpect(jsonPath("$[0].content").value("테스트 내용"))
+                .andExpect(jsonPath("$[0].steps[0].approverId").value(2));
+    }
+
+    @Test
+    @DisplayName("pending 결재 조회 - after만 주면 기본 페이지 크기")
+    void getPendingApprovals_DefaultLimit() throws Exception {
+        // Given
+        when(approvalRequestService.getPendingApprovals(5L, ApprovalRequestService.DEFAULT_PENDING_PAGE_SIZE,
+                PendingPartitionFilter.ALL))
+                .thenReturn(new CursorPage<>(Collections.emptyList(), null));
+
+        // When & Then
+        mockMvc.perform(get("/approvals/pending").param("after", "5"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(ApprovalController.NEXT_CURSOR_HEADER))
+                .andExpect(jsonPath("$.length()").value(0));
+    }
+
+    @Test
+    @DisplayName("pending 결재 조회 - 결재자 파티션만 주면 첫 페이지부터 그 파티션 결재만")
+    void getPendingApprovals_Partitions() throws Exception {
+        // Given
+        when(approvalRequestService.getPendingApprovals(null, ApprovalRequestService.DEFAULT_PENDING_PAGE_SIZE,
+                PendingPartitionFilter.of(List.of(0, 2), 3)))
+                .thenReturn(new CursorPage<>(List.of(createPendingDocument(1L)), null));
+
+        // When & Then
+        mockMvc.perform(get("/approvals/pending").param("partitions", "0", "2").param("partitionCount", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1));
+    }
+
+    @Test
+    @DisplayName("pending 결재 조회 - 파티션 수 없이 파티션만 주면 400")
+    void getPendingApprovals_PartitionsWithoutCount() throws Exception {
+        mockMvc.perform(get("/approvals/pending").param("partitions", "0"))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("결재 요청 상세 조회 - 성공")
     void getApproval_Success() throws Exception {
@@ -190,6 +330,36 @@ class ApprovalControllerTest {
                 .andExpect(jsonPath("$.error").value("Bad Request"));
     }
 
+    private ApprovalRequestDocument createPendingDocument(Long requestId) {
+        return ApprovalRequestDocument.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("테스트 결재 " + requestId)
+                .content("테스트 내용")
+                .steps(List.of(ApprovalStep.builder()
+                        .step(1)
+                        .approverId(2L)
+                        .status("pending")
+                        .build()))
+                .finalStatus("in_progress")
+                .build();
+    }
+
+    private ApprovalSummaryResponse createMockSummaryResponse(Long requestId, String title) {
+        return ApprovalSummaryResponse.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title(title)
+                .steps(List.of(ApprovalSummaryResponse.StepSummary.builder()
+                        .step(1)
+                        .approverId(2L)
+                        .status("pending")
+                        .build()))
+                .finalStatus("in_progress")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+
     private ApprovalResponse createMockApprovalResponse(Long requestId, String title) {
         List<StepResponse> steps = Arrays.asList(
                 StepResponse.builder()
@@ -0,0 +1,153 @@
+package com.example.demo.grpc;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStep;
+import com.example.demo.dto.ApprovalStepResult;
+import com.example.demo.dto.PendingPartitionFilter;
+import com.example.demo.service.ApprovalRequestService;
+import io.grpc.ManagedChannel;
+import io.grpc.Server;
+import io.grpc.StatusRuntimeException;
+import io.grpc.inprocess.InProcessChannelBuilder;
+import io.grpc.inprocess.InProcessServerBuilder;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApprovalGrpcService 테스트")
+class ApprovalGrpcServiceTest {
+
+    private ApprovalRequestService approvalRequestService;
+    private Server server;
+    private ManagedChannel channel;
+    private ApprovalServiceGrpc.ApprovalServiceBlockingStub stub;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        approvalRequestService = mock(ApprovalRequestService.class);
+        String name = InProcessServerBuilder.generateName();
+        server = InProcessServerBuilder.forName(name)
+                .addService(new ApprovalGrpcService(approvalRequestService))
+                .build()
+                .start();
+        channel = InProcessChannelBuilder.forName(name).build();
+        stub = ApprovalServiceGrpc.newBlockingStub(channel);
+    }
+
+    @AfterEach
+    void tearDown() {
+        channel.shutdownNow();
+        server.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("ReturnApprovalResult - 결재 결과를 일괄 반영 경로로 전달")
+    void returnApprovalResult_AppliesResult() {
+        // when
+        ApprovalResultResponse response = stub.returnApprovalResult(ApprovalResultRequest.newBuilder()
+                .setRequestId(10L)
+                .setStep(2)
+                .setApproverId(3L)
+                .setStatus("approved")
+                .setComment("확인")
+                .build());
+
+        // then
+        assertThat(response.getStatus()).isEqualTo("received");
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalStepResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalRequestService).processApprovalResults(captor.capture());
+        assertThat(captor.getValue()).containsExactly(ApprovalStepResult.builder()
+                .requestId(10L).step(2).approverId(3L).status("approved").comment("확인").build());
+    }
+
+    @Test
+    @DisplayName("ReturnApprovalResult - 반영 실패 시 INTERNAL 오류로 응답")
+    void returnApprovalResult_Failure_ReturnsInternal() {
+        // given
+        doThrow(new IllegalStateException("mongo down")).when(approvalRequestService).processApprovalResults(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> stub.returnApprovalResult(ApprovalResultRequest.newBuilder()
+                .setRequestId(10L).setStep(1).setApproverId(2L).setStatus("rejected").build()))
+                .isInstanceOf(StatusRuntimeException.class)
+                .hasMessageContaining("INTERNAL");
+    }
+
+    @Test
+    @DisplayName("GetAllPendingApprovals - 커서 결과를 한 건씩 스트리밍하고 다 보내면 커서를 닫음")
+    void getAllPendingApprovals_StreamsAndClosesCursor() {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<ApprovalRequestDocument> documents = LongStream.rangeClosed(1, 500)
+                .mapToObj(this::document)
+                .onClose(() -> closed.set(true));
+        when(approvalRequestService.streamAllPendingApprovals(PendingPartitionFilter.ALL)).thenReturn(documents);
+
+        // when
+        List<ApprovalRequest> received = new ArrayList<>();
+        Iterator<ApprovalRequest> iterator = stub.getAllPendingApprovals(PendingApprovalsRequest.getDefaultInstance());
+        iterator.forEachRemaining(received::add);
+
+        // then
+        assertThat(received).hasSize(500);
+        assertThat(received.get(0).getRequestId()).isEqualTo(1L);
+        assertThat(received.get(0).getStepsList())
+                .extracting(Step::getApproverId, Step::getStatus)
+                .containsExactly(tuple(2L, "approved"),
+                        tuple(3L, "pending"));
+        assertThat(received.get(499).getRequestId()).isEqualTo(500L);
+        assertThat(closed).isTrue();
+    }
+
+    @Test
+    @DisplayName("GetAllPendingApprovals - 결재자 파티션을 주면 그 범위로 조회, 잘못된 범위는 INVALID_ARGUMENT")
+    void getAllPendingApprovals_Partitions() {
+        // given
+        when(approvalRequestService.streamAllPendingApprovals(PendingPartitionFilter.of(List.of(1), 3)))
+                .thenReturn(Stream.of(document(1L)));
+
+        // when
+        List<ApprovalRequest> received = new ArrayList<>();
+        stub.getAllPendingApprovals(PendingApprovalsRequest.newBuilder().addPartitions(1).setPartitionCount(3).build())
+                .forEachRemaining(received::add);
+
+        // then
+        assertThat(received).extracting(ApprovalRequest::getRequestId).containsExactly(1L);
+        assertThatThrownBy(() -> stub.getAllPendingApprovals(PendingApprovalsRequest.newBuilder().addPartitions(1).build())
+                .forEachRemaining(request -> { }))
+                .isInstanceOf(StatusRuntimeException.class)
+                .hasMessageContaining("INVALID_ARGUMENT");
+    }
+
+    private ApprovalRequestDocument document(long requestId) {
+        return ApprovalRequestDocument.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .content("내용")
+                .steps(List.of(
+                        ApprovalStep.builder().step(1).approverId(2L).status("approved").build(),
+                        ApprovalStep.builder().step(2).approverId(3L).status("pending").build()))
+                .finalStatus("in_progress")
+                .build();
+    }
+}
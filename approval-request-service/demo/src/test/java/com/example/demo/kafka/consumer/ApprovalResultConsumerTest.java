@@ -0,0 +1,76 @@
+package com.example.demo.kafka.consumer;
+
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.demo.dto.ApprovalStepResult;
+import com.example.demo.service.ApprovalRequestService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ApprovalResultConsumer 테스트")
+class ApprovalResultConsumerTest {
+
+    private ApprovalRequestService approvalRequestService;
+    private SimpleMeterRegistry meterRegistry;
+    private ApprovalResultConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        approvalRequestService = mock(ApprovalRequestService.class);
+        meterRegistry = new SimpleMeterRegistry();
+        consumer = new ApprovalResultConsumer(approvalRequestService, meterRegistry);
+    }
+
+    @Test
+    @DisplayName("poll 단위 메시지를 한 번에 서비스로 전달하고 처리 건수/배치 크기 기록")
+    void consumeApprovalResults_DelegatesBatchAndRecordsMetrics() {
+        // given
+        List<ApprovalResultMessage> messages = List.of(
+                new ApprovalResultMessage(1L, 1, 2L, "approved", "확인"),
+                new ApprovalResultMessage(2L, 1, 3L, "rejected", "반려"),
+                new ApprovalResultMessage(1L, 2, 4L, "approved", null));
+
+        // when
+        consumer.consumeApprovalResults(messages);
+
+        // then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalStepResult>> captor = ArgumentCaptor.forClass(List.class);
+        verify(approvalRequestService).processApprovalResults(captor.capture());
+        assertThat(captor.getValue())
+                .extracting(ApprovalStepResult::getRequestId, ApprovalStepResult::getStep, ApprovalStepResult::getStatus)
+                .containsExactly(
+                        tuple(1L, 1, "approved"),
+                        tuple(2L, 1, "rejected"),
+                        tuple(1L, 2, "approved"));
+
+        assertThat(meterRegistry.get("approval.result.consumer.records").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("approval.result.consumer.batch.size").summary().max()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("approval.result.consumer.batch.duration").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("일괄 반영 실패 시 예외를 전파하여 offset이 커밋되지 않도록 함")
+    void consumeApprovalResults_PropagatesFailure() {
+        // given
+        doThrow(new IllegalStateException("bulkWrite failed")).when(approvalRequestService).processApprovalResults(anyList());
+
+        // when & then
+        assertThatThrownBy(() -> consumer.consumeApprovalResults(
+                List.of(new ApprovalResultMessage(1L, 1, 2L, "approved", null))))
+                .isInstanceOf(IllegalStateException.class);
+        assertThat(meterRegistry.get("approval.result.consumer.records").counter().count()).isZero();
+    }
+}
@@ -0,0 +1,172 @@
+package com.example.demo.kafka.serde;
+
+import com.example.approval.wire.ApprovalProtoMapper;
+import com.example.approval.wire.ApprovalRequestMessage;
+import com.example.approval.wire.ApprovalResultMessage;
+import com.example.approval.wire.ApprovalWireDeserializer;
+import com.example.approval.wire.ApprovalWireSerializer;
+import com.example.approval.wire.WireFormat;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.apache.kafka.common.serialization.Serializer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 결재 토픽 메시지 형식 벤치마크 (gradle loadTest)
+ * - 메시지당 바이트 수와 직렬화/역직렬화 ns/op를 JSON과 Protobuf로 비교
+ * - 두 형식을 모두 warmup한 뒤 round마다 번갈아 측정해 평균을 냄 (JIT/GC 영향이 한쪽에 몰리지 않도록)
+ */
+@Tag("load")
+@DisplayName("결재 메시지 JSON vs Protobuf 벤치마크")
+class ApprovalWireFormatBenchmarkTest {
+
+    private static final String TOPIC = "approval-request";
+    private static final int WARMUP_ROUNDS = 100;
+    private static final int MEASURE_ROUNDS = 100;
+
+    @Test
+    @DisplayName("결재 요청 메시지 - bytes/msg, ns/op")
+    void approvalRequest() {
+        List<ApprovalRequestMessage> messages = IntStream.range(0, 1_000)
+                .mapToObj(i -> ApprovalRequestMessage.builder()
+                        .requestId(1_000_000L + i)
+                        .requesterId(1_000L + i % 300)
+                        .title("[2025-" + (i % 12 + 1) + "] 출장비 정산 요청 #" + i)
+                        .content("출장 기간: 3일, 교통비 185,000원, 숙박비 240,000원, 식비 90,000원. 영수증 첨부 " + i)
+                        .steps(List.of(
+                                new ApprovalRequestMessage.StepInfo(1, 2_000L + i % 50, "approved"),
+                                new ApprovalRequestMessage.StepInfo(2, 3_000L + i % 20, "pending"),
+                                new ApprovalRequestMessage.StepInfo(3, 4_000L + i % 5, "pending")))
+                        .build())
+                .toList();
+
+        Result[] results = measure(messages, ApprovalRequestMessage.class);
+        Result json = results[0];
+        Result protobuf = results[1];
+        print("approval-request", json, protobuf);
+
+        assertThat(protobuf.bytesPerMessage).isLessThan(json.bytesPerMessage);
+    }
+
+    @Test
+    @DisplayName("결재 결과 메시지 - bytes/msg, ns/op")
+    void approvalResult() {
+        List<ApprovalResultMessage> messages = IntStream.range(0, 1_000)
+                .mapToObj(i -> new ApprovalResultMessage(1_000_000L + i, i % 3 + 1, 2_000L + i % 50,
+                        i % 10 == 0 ? "rejected" : "approved", i % 2 == 0 ? "확인했습니다" : null))
+                .toList();
+
+        Result[] results = measure(messages, ApprovalResultMessage.class);
+        Result json = results[0];
+        Result protobuf = results[1];
+        print("approval-result", json, protobuf);
+
+        assertThat(protobuf.bytesPerMessage).isLessThan(json.bytesPerMessage);
+    }
+
+    /**
+     * @return [JSON 결과, Protobuf 결과]
+     */
+    private <T> Result[] measure(List<T> messages, Class<T> type) {
+        Bench<T> json = new Bench<>(WireFormat.JSON, messages, type);
+        Bench<T> protobuf = new Bench<>(WireFormat.PROTOBUF, messages, type);
+
+        long sink = 0;
+        for (int round = 0; round < WARMUP_ROUNDS; round++) {
+            sink += json.round(false) + protobuf.round(false);
+        }
+        for (int round = 0; round < MEASURE_ROUNDS; round++) {
+            sink += json.round(true) + protobuf.round(true);
+        }
+        assertThat(sink).isPositive();
+        return new Result[]{json.result(), protobuf.result()};
+    }
+
+    private static final class Bench<T> {
+        private final WireFormat format;
+        private final List<T> messages;
+        private final Serializer<T> serializer;
+        private final Deserializer<T> deserializer;
+        private final byte[][] encoded;
+        private final Headers[] headers;
+        private final double bytesPerMessage;
+        private long serializeNanos;
+        private long deserializeNanos;
+        private long ops;
+
+        @SuppressWarnings("unchecked")
+        private Bench(WireFormat format, List<T> messages, Class<T> type) {
+            this.format = format;
+            this.messages = messages;
+            if (type == ApprovalRequestMessage.class) {
+                serializer = (Serializer<T>) new ApprovalWireSerializer<ApprovalRequestMessage>(format, ApprovalProtoMapper::toProto);
+                deserializer = (Deserializer<T>) new ApprovalWireDeserializer<>(ApprovalRequestMessage.class,
+                        EnumSet.of(format), ApprovalProtoMapper::parseApprovalRequest);
+            } else {
+                serializer = (Serializer<T>) new ApprovalWireSerializer<ApprovalResultMessage>(format, ApprovalProtoMapper::toProto);
+                deserializer = (Deserializer<T>) new ApprovalWireDeserializer<>(ApprovalResultMessage.class,
+                        EnumSet.of(format), ApprovalProtoMapper::parseApprovalResult);
+            }
+
+            encoded = new byte[messages.size()][];
+            headers = new Headers[messages.size()];
+            long totalBytes = 0;
+            for (int i = 0; i < messages.size(); i++) {
+                headers[i] = new RecordHeaders();
+                encoded[i] = serializer.serialize(TOPIC, headers[i], messages.get(i));
+                totalBytes += encoded[i].length;
+            }
+            bytesPerMessage = (double) totalBytes / messages.size();
+        }
+
+        /**
+         * 메시지 집합 전체를 한 번씩 직렬화/역직렬화
+         */
+        private long round(boolean record) {
+            long start = System.nanoTime();
+            long sink = 0;
+            for (T message : messages) {
+                sink += serializer.serialize(TOPIC, new RecordHeaders(), message).length;
+            }
+            long middle = System.nanoTime();
+            for (int i = 0; i < encoded.length; i++) {
+                if (deserializer.deserialize(TOPIC, headers[i], encoded[i]) != null) {
+                    sink++;
+                }
+            }
+            if (record) {
+                serializeNanos += middle - start;
+                deserializeNanos += System.nanoTime() - middle;
+                ops += messages.size();
+            }
+            return sink;
+        }
+
+        private Result result() {
+            return new Result(format, bytesPerMessage, (double) serializeNanos / ops, (double) deserializeNanos / ops);
+        }
+    }
+
+    private void print(String name, Result json, Result protobuf) {
+        System.out.printf("[%s] %-8s %8.1f bytes/msg  serialize %8.1f ns/op  deserialize %8.1f ns/op%n",
+                name, json.format, json.bytesPerMessage, json.serializeNsPerOp, json.deserializeNsPerOp);
+        System.out.printf("[%s] %-8s %8.1f bytes/msg  serialize %8.1f ns/op  deserialize %8.1f ns/op%n",
+                name, protobuf.format, protobuf.bytesPerMessage, protobuf.serializeNsPerOp, protobuf.deserializeNsPerOp);
+        System.out.printf("[%s] protobuf/json: bytes %.2f, serialize %.2f, deserialize %.2f%n", name,
+                protobuf.bytesPerMessage / json.bytesPerMessage,
+                protobuf.serializeNsPerOp / json.serializeNsPerOp,
+                protobuf.deserializeNsPerOp / json.deserializeNsPerOp);
+    }
+
+    private record Result(WireFormat format, double bytesPerMessage, double serializeNsPerOp, double deserializeNsPerOp) {
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.demo.repository;
+
+import com.example.demo.client.EmployeeServiceClient;
+import com.example.demo.client.NotificationServiceClient;
+import com.example.demo.config.ApprovalRequestIndexInitializer;
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStep;
+import com.example.demo.document.OutboxEvent;
+import com.example.demo.dto.PendingPartitionFilter;
+import com.example.demo.service.ApprovalRequestService;
+import com.example.demo.service.RequestIdAllocator;
+import com.example.demo.service.StatisticsViewService;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import org.bson.BsonDocument;
+import org.bson.BsonString;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.mongo.MongoClientSettingsBuilderCustomizer;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 저장소/서비스 조회가 선언된 인덱스를 사용하는지 explain()으로 검증
+ * - 손으로 만든 쿼리가 아니라, 실제 저장소/서비스 메서드를 호출해 드라이버로 나간 find 명령을 그대로 잡아 explain
+ *   (쿼리 형태나 정렬이 바뀌어 인덱스를 못 타거나 인덱스 선언이 빠져 COLLSCAN이 되면 실패)
+ * - 인덱스는 운영과 같이 ApprovalRequestIndexInitializer가 생성 (auto-index-creation=false)
+ */
+@DataMongoTest
+@Import({ApprovalRequestService.class, ApprovalRequestIndexInitializer.class})
+class ApprovalRequestIndexTest {
+
+    private static final String COLLECTION = "approval_requests";
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private ApprovalRequestService approvalRequestService;
+
+    @Autowired
+    private ApprovalRequestIndexInitializer indexInitializer;
+
+    @Autowired
+    private FindCommandCapture findCommands;
+
+    @MockBean
+    private EmployeeServiceClient employeeServiceClient;
+
+    @MockBean
+    private NotificationServiceClient notificationServiceClient;
+
+    @MockBean
+    private RequestIdAllocator requestIdAllocator;
+
+    @MockBean
+    private StatisticsViewService statisticsViewService;
+
+    @BeforeEach
+    void setUp() {
+        approvalRequestRepository.deleteAll();
+        indexInitializer.createIndexes();
+        LocalDateTime now = LocalDateTime.now();
+        List<ApprovalRequestDocument> documents = new ArrayList<>();
+        for (long i = 1; i <= 200; i++) {
+            documents.add(ApprovalRequestDocument.builder()
+                    .requestId(i)
+                    .requesterId(i % 10)
+                    .title("결재 " + i)
+                    .content("본문 " + i)
+                    .steps(List.of(
+                            ApprovalStep.builder().step(1).approverId(100 + i % 5).status("approved").build(),
+                            ApprovalStep.builder().step(2).approverId(200 + i % 5).status("pending").build()))
+                    .finalStatus(i % 3 == 0 ? "approved" : "in_progress")
+                    .createdAt(now.minusMinutes(i))
+                    .updatedAt(now.minusMinutes(i))
+                    .outbox(i % 20 == 0 ? new ArrayList<>(List.of(OutboxEvent.create(now.minusMinutes(i)))) : null)
+                    .build());
+        }
+        approvalRequestRepository.saveAll(documents);
+    }
+
+    @Test
+    @DisplayName("findByRequestId (단건 조회, 결재 결과 반영) - requestId unique 인덱스 사용")
+    void findByRequestId_UsesIndex() {
+        assertIndexScan(() -> approvalRequestRepository.findByRequestId(42L), "requestId_unique");
+    }
+
+    @Test
+    @DisplayName("findTopByOrderByRequestIdDesc (채번 카운터 시드) - requestId 인덱스 역순 스캔")
+    void findTopByOrderByRequestIdDesc_UsesIndex() {
+        assertIndexScan(() -> approvalRequestRepository.findTopByOrderByRequestIdDesc(), "requestId_unique");
+    }
+
+    @Test
+    @DisplayName("findWithoutContentByRequestIdIn (일괄 결과 후처리) - requestId unique 인덱스 사용")
+    void findWithoutContentByRequestIdIn_UsesIndex() {
+        assertIndexScan(() -> approvalRequestRepository.findWithoutContentByRequestIdIn(Set.of(3L, 4L, 5L)),
+                "requestId_unique");
+    }
+
+    @Test
+    @DisplayName("findByFinalStatus / streamByFinalStatusOrderByRequestIdAsc (pending 전체 조회) - finalStatus + requestId 인덱스 사용")
+    void findByFinalStatus_UsesIndex() {
+        assertIndexScan(() -> approvalRequestRepository.findByFinalStatus("in_progress"), "finalStatus_requestId");
+        assertIndexScan(() -> {
+            try (Stream<ApprovalRequestDocument> documents =
+                         approvalRequestRepository.streamByFinalStatusOrderByRequestIdAsc("in_progress")) {
+                documents.findFirst();
+            }
+        }, "finalStatus_requestId");
+    }
+
+    @Test
+    @DisplayName("GET /approvals?finalStatus= 키셋 페이지 - finalStatus + requestId 인덱스로 정렬까지 처리")
+    void getApprovalsByFinalStatus_UsesIndex() {
+        assertOrderedIndexScan(() -> approvalRequestService.getApprovals(100L, 20, "in_progress", null),
+                "finalStatus_requestId");
+    }
+
+    @Test
+    @DisplayName("GET /approvals?requesterId= 키셋 페이지 - requesterId + requestId 인덱스로 정렬까지 처리")
+    void getApprovalsByRequester_UsesIndex() {
+        assertOrderedIndexScan(() -> approvalRequestService.getApprovals(null, 20, null, 3L), "requesterId_requestId");
+    }
+
+    @Test
+    @DisplayName("GET /approvals/pending 키셋 페이지 - finalStatus + requestId 인덱스로 정렬까지 처리")
+    void getPendingApprovals_UsesIndex() {
+        assertOrderedIndexScan(() -> approvalRequestService.getPendingApprovals(100L, 50,
+                PendingPartitionFilter.ALL), "finalStatus_requestId");
+    }
+
+    @Test
+    @DisplayName("findWithPendingOutbox (아웃박스 릴레이) - outbox.createdAt 인덱스 사용")
+    void findWithPendingOutbox_UsesIndex() {
+        assertIndexScan(() -> approvalRequestRepository.findWithPendingOutbox(LocalDateTime.now(), 100),
+                "outbox_createdAt");
+    }
+
+    @Test
+    @DisplayName("인덱스 생성 - unique 인덱스가 없고 중복 requestId가 있으면 중복 번호를 알리며 중단")
+    void createIndexes_FailsOnDuplicateRequestIds() {
+        // given - 이전 max+1 채번기가 남긴 중복
+        mongoTemplate.getCollection(COLLECTION).dropIndexes();
+        mongoTemplate.getCollection(COLLECTION).insertOne(new Document("requestId", 42L).append("title", "중복"));
+
+        // when & then
+        assertThatThrownBy(() -> indexInitializer.createIndexes())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("requestId_unique")
+                .hasMessageContaining("42(2건)");
+
+        mongoTemplate.getCollection(COLLECTION).deleteOne(new Document("title", "중복"));
+    }
+
+    /**
+     * call이 approval_requests에 보낸 find 명령을 모두 explain해 지정한 인덱스를 사용하는지 확인
+     */
+    private void assertIndexScan(Runnable call, String indexName) {
+        for (String plan : explainFinds(call)) {
+            assertThat(plan)
+                    .contains("IXSCAN")
+                    .contains(indexName)
+                    .doesNotContain("COLLSCAN");
+        }
+    }
+
+    /**
+     * 키셋 페이지 조회 - 인덱스 사용에 더해 SORT 단계가 없어야 정렬도 인덱스 순서로 처리된 것
+     */
+    private void assertOrderedIndexScan(Runnable call, String indexName) {
+        assertIndexScan(call, indexName);
+        for (String plan : explainFinds(call)) {
+            assertThat(plan).doesNotContain("\"SORT\"");
+        }
+    }
+
+    private List<String> explainFinds(Runnable call) {
+        findCommands.clear();
+        call.run();
+        List<BsonDocument> finds = findCommands.on(COLLECTION);
+        assertThat(finds).as("find 명령").isNotEmpty();
+        List<String> plans = new ArrayList<>();
+        for (BsonDocument find : finds) {
+            Document explain = mongoTemplate.getDb().runCommand(new BsonDocument("explain", find)
+                    .append("verbosity", new BsonString("queryPlanner")));
+            String plan = explain.get("queryPlanner", Document.class).get("winningPlan", Document.class).toJson();
+            plans.add("find: " + find.toJson() + "\nwinningPlan: " + plan);
+        }
+        return plans;
+    }
+
+    @TestConfiguration
+    static class FindCommandCaptureConfig {
+
+        @Bean
+        FindCommandCapture findCommandCapture() {
+            return new FindCommandCapture();
+        }
+
+        @Bean
+        MongoClientSettingsBuilderCustomizer findCommandCaptureCustomizer(FindCommandCapture findCommandCapture) {
+            return builder -> builder.addCommandListener(findCommandCapture);
+        }
+    }
+
+    /**
+     * 드라이버가 보낸 find 명령에서 세션/클러스터 메타 필드($db, lsid 등)를 뺀 사본을 모음
+     */
+    static class FindCommandCapture implements CommandListener {
+
+        private final List<BsonDocument> commands = new CopyOnWriteArrayList<>();
+
+        @Override
+        public void commandStarted(CommandStartedEvent event) {
+            if (!"find".equals(event.getCommandName())) {
+                return;
+            }
+            // 명령 문서는 이벤트 안에서만 유효하므로 복사
+            BsonDocument find = new BsonDocument();
+            event.getCommand().clone().forEach((key, value) -> {
+                if (!key.startsWith("$") && !"lsid".equals(key) && !"txnNumber".equals(key)) {
+                    find.append(key, value);
+                }
+            });
+            commands.add(find);
+        }
+
+        void clear() {
+            commands.clear();
+        }
+
+        List<BsonDocument> on(String collection) {
+            return commands.stream()
+                    .filter(command -> collection.equals(command.getString("find").getValue()))
+                    .toList();
+        }
+    }
+}
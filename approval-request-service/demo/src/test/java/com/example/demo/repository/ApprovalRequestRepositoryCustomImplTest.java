@@ -0,0 +1,239 @@
+package com.example.demo.repository;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.OutboxEvent;
+import com.example.demo.dto.ApprovalStepResult;
+import com.mongodb.bulk.BulkWriteResult;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.FindAndModifyOptions;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApprovalRequestRepositoryCustomImpl 테스트")
+class ApprovalRequestRepositoryCustomImplTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 9, 0);
+
+    private MongoTemplate mongoTemplate;
+    private ApprovalRequestRepositoryCustomImpl repository;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        repository = new ApprovalRequestRepositoryCustomImpl(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("승인 결과 - pending 단계만 arrayFilters로 갱신하고 content는 반환하지 않음")
+    void applyStepResult_Approved() {
+        // given - 마지막 pending 단계가 아님 (최종 승인 조건 불일치)
+        ApprovalRequestDocument updated = ApprovalRequestDocument.builder().requestId(1L).build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ApprovalRequestDocument.class))).thenReturn(null, updated);
+
+        // when
+        Optional<ApprovalRequestDocument> result = repository.applyStepResult(1L, 2, 3L, "approved", "확인했습니다.", NOW);
+
+        // then
+        assertThat(result).contains(updated);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        ArgumentCaptor<FindAndModifyOptions> options = ArgumentCaptor.forClass(FindAndModifyOptions.class);
+        verify(mongoTemplate, times(2)).findAndModify(query.capture(), update.capture(), options.capture(),
+                eq(ApprovalRequestDocument.class));
+
+        Document queryObject = query.getValue().getQueryObject();
+        assertThat(queryObject).containsEntry("requestId", 1L).containsEntry("finalStatus", "in_progress");
+        assertThat(queryObject.get("steps", Document.class).get("$elemMatch", Document.class))
+                .containsEntry("step", 2).containsEntry("approverId", 3L).containsEntry("status", "pending");
+        assertThat(query.getValue().getFieldsObject()).containsEntry("content", 0);
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set).containsEntry("steps.$[s].status", "approved")
+                .containsEntry("steps.$[s].comment", "확인했습니다.")
+                .containsEntry("steps.$[s].updatedAt", NOW)
+                .containsEntry("updatedAt", NOW)
+                .doesNotContainKey("finalStatus");
+        // 다음 단계 전달용 아웃박스 이벤트를 같은 연산에서 추가
+        Document push = (Document) update.getValue().getUpdateObject().get("$push");
+        assertThat(push.get("outbox", OutboxEvent.class).getCreatedAt()).isEqualTo(NOW);
+        List<Document> arrayFilters = update.getValue().getArrayFilters().stream()
+                .map(filter -> filter.asDocument())
+                .toList();
+        assertThat(arrayFilters).containsExactly(new Document("s.step", 2)
+                .append("s.approverId", 3L)
+                .append("s.status", "pending"));
+        assertThat(options.getValue().isReturnNew()).isTrue();
+    }
+
+    @Test
+    @DisplayName("마지막 단계 승인 - 같은 연산에서 finalStatus도 approved로 변경하고 아웃박스 이벤트는 없음")
+    void applyStepResult_LastStepApproved_SetsFinalStatus() {
+        // given
+        ApprovalRequestDocument completed = ApprovalRequestDocument.builder().requestId(1L).finalStatus("approved").build();
+        when(mongoTemplate.findAndModify(any(Query.class), any(Update.class), any(FindAndModifyOptions.class),
+                eq(ApprovalRequestDocument.class))).thenReturn(completed);
+
+        // when
+        Optional<ApprovalRequestDocument> result = repository.applyStepResult(1L, 2, 3L, "approved", null, NOW);
+
+        // then - 한 번의 findAndModify로 끝남
+        assertThat(result).contains(completed);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(query.capture(), update.capture(), any(FindAndModifyOptions.class),
+                eq(ApprovalRequestDocument.class));
+
+        Document queryObject = query.getValue().getQueryObject();
+        assertThat(queryObject).containsEntry("requestId", 1L).containsEntry("finalStatus", "in_progress");
+        List<?> and = queryObject.get("$and", List.class);
+        assertThat(((Document) and.get(0)).get("steps", Document.class).get("$elemMatch", Document.class))
+                .containsEntry("step", 2).containsEntry("approverId", 3L).containsEntry("status", "pending");
+        Document otherSteps = ((Document) and.get(1)).get("steps", Document.class)
+                .get("$not", Document.class)
+                .get("$elemMatch", Document.class);
+        assertThat(otherSteps.get("status", Document.class)).containsEntry("$ne", "approved");
+        assertThat(otherSteps.get("step", Document.class)).containsEntry("$ne", 2);
+        assertThat(query.getValue().getFieldsObject()).containsEntry("content", 0);
+
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set).containsEntry("steps.$[s].status", "approved").containsEntry("finalStatus", "approved");
+        assertThat(update.getValue().getUpdateObject()).doesNotContainKey("$push");
+    }
+
+    @Test
+    @DisplayName("반려 결과 - 같은 연산에서 finalStatus도 rejected로 변경")
+    void applyStepResult_Rejected_SetsFinalStatus() {
+        // when
+        Optional<ApprovalRequestDocument> result = repository.applyStepResult(1L, 1, 2L, "rejected", "반려합니다.", NOW);
+
+        // then - 조건 불일치(이미 처리됨)면 empty
+        assertThat(result).isEmpty();
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).findAndModify(any(Query.class), update.capture(), any(FindAndModifyOptions.class),
+                eq(ApprovalRequestDocument.class));
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set).containsEntry("finalStatus", "rejected");
+        assertThat(update.getValue().getUpdateObject()).doesNotContainKey("$push");
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - 결과별 조건부 updateOne을 ORDERED bulkWrite 한 번으로 실행")
+    void applyStepResults_SingleOrderedBulkWrite() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.ORDERED, ApprovalRequestDocument.class)).thenReturn(bulkOps);
+        when(bulkOps.execute()).thenReturn(BulkWriteResult.acknowledged(0, 2, 0, 1, List.of(), List.of()));
+        List<ApprovalStepResult> results = List.of(
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("approved").build(),
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("approved").build(),
+                ApprovalStepResult.builder().requestId(2L).step(1).approverId(3L).status("rejected").comment("반려").build());
+
+        // when
+        int modified = repository.applyStepResults(results, NOW);
+
+        // then - 중복 결과는 pending 조건에 걸려 반영되지 않음
+        assertThat(modified).isEqualTo(1);
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps, times(5)).updateOne(query.capture(), update.capture());
+        verify(bulkOps).execute();
+
+        // 승인은 최종 승인 조건부 갱신 → 일반 갱신 순서로 두 번
+        assertThat(query.getAllValues()).extracting(q -> q.getQueryObject().get("requestId"))
+                .containsExactly(1L, 1L, 1L, 1L, 2L);
+        assertThat((Document) update.getAllValues().get(0).getUpdateObject().get("$set"))
+                .containsEntry("finalStatus", "approved");
+        assertThat(update.getAllValues().get(1).getUpdateObject()).containsKey("$push");
+        Document rejectedSet = (Document) update.getAllValues().get(4).getUpdateObject().get("$set");
+        assertThat(rejectedSet).containsEntry("finalStatus", "rejected").containsEntry("steps.$[s].updatedAt", NOW);
+    }
+
+    @Test
+    @DisplayName("일괄 반영 - 빈 목록이면 Mongo를 호출하지 않음")
+    void applyStepResults_Empty() {
+        assertThat(repository.applyStepResults(List.of(), NOW)).isZero();
+        verifyNoInteractions(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("아웃박스 조회 - 발행 대기 이벤트가 있는 문서를 오래된 순으로 limit 건")
+    void findWithPendingOutbox() {
+        // when
+        repository.findWithPendingOutbox(NOW, 50);
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).find(query.capture(), eq(ApprovalRequestDocument.class));
+        assertThat(query.getValue().getQueryObject().get("outbox.createdAt", Document.class)).containsEntry("$lte", NOW);
+        assertThat(query.getValue().getSortObject()).containsEntry("outbox.createdAt", 1);
+        assertThat(query.getValue().getLimit()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("아웃박스 제거 - 결재별로 발행한 eventId만 $pull")
+    void removeOutboxEvents() {
+        // given
+        BulkOperations bulkOps = mock(BulkOperations.class);
+        when(mongoTemplate.bulkOps(BulkOperations.BulkMode.UNORDERED, ApprovalRequestDocument.class)).thenReturn(bulkOps);
+
+        // when
+        repository.removeOutboxEvents(Map.of(1L, List.of("e1", "e2")));
+
+        // then
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOps).updateOne(query.capture(), update.capture());
+        verify(bulkOps).execute();
+        assertThat(query.getValue().getQueryObject()).containsEntry("requestId", 1L);
+        Document pull = (Document) update.getValue().getUpdateObject().get("$pull");
+        assertThat(pull.get("outbox", Document.class).get("eventId", Document.class))
+                .containsEntry("$in", List.of("e1", "e2"));
+    }
+
+    @Test
+    @DisplayName("최종 승인 - 진행 중이고 approved가 아닌 단계가 없을 때만 변경")
+    void completeIfAllApproved() {
+        // given
+        when(mongoTemplate.updateFirst(any(Query.class), any(Update.class), eq(ApprovalRequestDocument.class)))
+                .thenReturn(UpdateResult.acknowledged(1, 1L, null));
+
+        // when
+        boolean completed = repository.completeIfAllApproved(1L, NOW);
+
+        // then
+        assertThat(completed).isTrue();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).updateFirst(query.capture(), update.capture(), eq(ApprovalRequestDocument.class));
+
+        Document queryObject = query.getValue().getQueryObject();
+        assertThat(queryObject).containsEntry("finalStatus", "in_progress");
+        Document notElemMatch = queryObject.get("steps", Document.class)
+                .get("$not", Document.class)
+                .get("$elemMatch", Document.class);
+        assertThat(notElemMatch.get("status", Document.class)).containsEntry("$ne", "approved");
+        assertThat((Document) update.getValue().getUpdateObject().get("$set")).containsEntry("finalStatus", "approved");
+    }
+}
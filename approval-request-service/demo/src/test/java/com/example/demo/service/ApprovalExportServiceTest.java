@@ -0,0 +1,104 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStep;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApprovalExportService 테스트")
+class ApprovalExportServiceTest {
+
+    private final ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+
+    private MongoTemplate mongoTemplate;
+    private ApprovalExportService approvalExportService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        approvalExportService = new ApprovalExportService(mongoTemplate, objectMapper, 2);
+    }
+
+    @Test
+    @DisplayName("커서의 문서를 한 줄에 하나씩 출력하고 커서를 닫음")
+    void export_WritesOneJsonPerLine() throws Exception {
+        // given
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<ApprovalRequestDocument> cursor = LongStream.rangeClosed(1, 5)
+                .mapToObj(this::document)
+                .onClose(() -> closed.set(true));
+        when(mongoTemplate.stream(any(Query.class), eq(ApprovalRequestDocument.class))).thenReturn(cursor);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        long count = approvalExportService.export(null, out);
+
+        // then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(count).isEqualTo(5);
+        assertThat(lines).hasSize(5);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertThat(first.get("requestId").asLong()).isEqualTo(1L);
+        assertThat(first.get("steps").get(0).get("approverId").asLong()).isEqualTo(2L);
+        assertThat(closed).isTrue();
+
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(ApprovalRequestDocument.class));
+        assertThat(query.getValue().getQueryObject()).isEmpty();
+        assertThat(query.getValue().getMeta().getCursorBatchSize()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("since 지정 시 updatedAt(없으면 createdAt) 워터마크 조건으로 조회")
+    void export_Since_FiltersByUpdatedAt() throws Exception {
+        // given
+        when(mongoTemplate.stream(any(Query.class), eq(ApprovalRequestDocument.class))).thenReturn(Stream.empty());
+
+        // when
+        long count = approvalExportService.export(LocalDateTime.of(2024, 1, 1, 0, 0), new ByteArrayOutputStream());
+
+        // then
+        assertThat(count).isZero();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        verify(mongoTemplate).stream(query.capture(), eq(ApprovalRequestDocument.class));
+        assertThat(query.getValue().getQueryObject().toString())
+                .contains("updatedAt=Document{{$gte=2024-01-01T00:00}}")
+                .contains("updatedAt=null")
+                .contains("createdAt=Document{{$gte=2024-01-01T00:00}}");
+    }
+
+    private ApprovalRequestDocument document(long requestId) {
+        return ApprovalRequestDocument.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("결재 " + requestId)
+                .content("본문")
+                .steps(List.of(ApprovalStep.builder().step(1).approverId(2L).status("pending").build()))
+                .finalStatus("in_progress")
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+    }
+}
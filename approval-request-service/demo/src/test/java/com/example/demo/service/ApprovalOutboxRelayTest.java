@@ -0,0 +1,142 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStep;
+import com.example.demo.document.OutboxEvent;
+import com.example.demo.repository.ApprovalRequestRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("ApprovalOutboxRelay 테스트")
+class ApprovalOutboxRelayTest {
+
+    private ApprovalRequestRepository approvalRequestRepository;
+    private ApprovalRequestSender approvalRequestSender;
+    private LeaseManager leaseManager;
+    private SimpleMeterRegistry meterRegistry;
+    private ApprovalOutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        approvalRequestRepository = mock(ApprovalRequestRepository.class);
+        approvalRequestSender = mock(ApprovalRequestSender.class);
+        leaseManager = mock(LeaseManager.class);
+        when(leaseManager.tryAcquire(ApprovalOutboxRelay.LEASE_ID, Duration.ofSeconds(30))).thenReturn(true);
+        meterRegistry = new SimpleMeterRegistry();
+        relay = new ApprovalOutboxRelay(approvalRequestRepository, approvalRequestSender, leaseManager,
+                meterRegistry, 3, Duration.ofSeconds(1), Duration.ofSeconds(30));
+    }
+
+    @Test
+    @DisplayName("조회분을 모두 send한 뒤 flush 1회, 전송 확인된 이벤트만 제거")
+    void relayBatch_SendsFlushesAndRemovesSucceeded() {
+        // given
+        ApprovalRequestDocument first = document(1L, "in_progress", "e1");
+        ApprovalRequestDocument second = document(2L, "in_progress", "e2");
+        when(approvalRequestRepository.findWithPendingOutbox(any(), eq(3))).thenReturn(List.of(first, second));
+        doReturn(CompletableFuture.completedFuture(null)).when(approvalRequestSender).sendApprovalRequest(first);
+        doReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")))
+                .when(approvalRequestSender).sendApprovalRequest(second);
+
+        // when
+        boolean more = relay.relayBatch();
+
+        // then - 실패한 결재의 이벤트는 남겨두고 다음 주기에 재시도
+        assertThat(more).isFalse();
+        var order = inOrder(approvalRequestSender, approvalRequestRepository);
+        order.verify(approvalRequestSender, times(2)).sendApprovalRequest(any());
+        order.verify(approvalRequestSender).flush();
+        order.verify(approvalRequestRepository).removeOutboxEvents(Map.of(1L, List.of("e1")));
+
+        assertThat(meterRegistry.get("approval.outbox.relayed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("approval.outbox.failed").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("approval.outbox.flush.duration").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("approval.outbox.lag").timeGauge().value(TimeUnit.MILLISECONDS)).isPositive();
+    }
+
+    @Test
+    @DisplayName("전달할 단계가 없는 결재의 이벤트는 발행 없이 제거")
+    void relayBatch_DiscardsFinishedApprovals() {
+        // given
+        ApprovalRequestDocument approved = document(1L, "approved", "e1");
+        when(approvalRequestRepository.findWithPendingOutbox(any(), anyInt())).thenReturn(List.of(approved));
+
+        // when
+        relay.relayBatch();
+
+        // then
+        verify(approvalRequestSender, never()).sendApprovalRequest(any());
+        verify(approvalRequestSender, never()).flush();
+        verify(approvalRequestRepository).removeOutboxEvents(Map.of(1L, List.of("e1")));
+        assertThat(meterRegistry.get("approval.outbox.discarded").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("batch가 가득 차 있으면 리스를 갱신하며 이어서 처리, 비면 lag 0")
+    void relay_DrainsFullBatches() {
+        // given
+        List<ApprovalRequestDocument> full = List.of(
+                document(1L, "in_progress", "e1"), document(2L, "in_progress", "e2"), document(3L, "in_progress", "e3"));
+        when(approvalRequestRepository.findWithPendingOutbox(any(), anyInt())).thenReturn(full, List.of());
+        doReturn(CompletableFuture.completedFuture(null)).when(approvalRequestSender).sendApprovalRequest(any());
+
+        // when
+        relay.relay();
+
+        // then
+        verify(approvalRequestRepository, times(2)).findWithPendingOutbox(any(), anyInt());
+        verify(leaseManager, times(2)).tryAcquire(ApprovalOutboxRelay.LEASE_ID, Duration.ofSeconds(30));
+        assertThat(meterRegistry.get("approval.outbox.relayed").counter().count()).isEqualTo(3.0);
+        assertThat(meterRegistry.get("approval.outbox.lag").timeGauge().value(TimeUnit.MILLISECONDS)).isZero();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 리스를 가지고 있으면 발행하지 않음")
+    void relay_LeaseHeldByOtherInstance_Skips() {
+        // given
+        when(leaseManager.tryAcquire(ApprovalOutboxRelay.LEASE_ID, Duration.ofSeconds(30))).thenReturn(false);
+
+        // when
+        relay.relay();
+
+        // then
+        verify(approvalRequestRepository, never()).findWithPendingOutbox(any(), anyInt());
+        verify(approvalRequestSender, never()).flush();
+    }
+
+    private ApprovalRequestDocument document(Long requestId, String finalStatus, String eventId) {
+        return ApprovalRequestDocument.builder()
+                .requestId(requestId)
+                .requesterId(1L)
+                .title("휴가 신청")
+                .content("연차 휴가 신청합니다.")
+                .steps(List.of(
+                        ApprovalStep.builder().step(1).approverId(2L).status("approved").build(),
+                        ApprovalStep.builder().step(2).approverId(3L)
+                                .status("approved".equals(finalStatus) ? "approved" : "pending").build()))
+                .finalStatus(finalStatus)
+                .outbox(List.of(new OutboxEvent(eventId, LocalDateTime.now().minusSeconds(5))))
+                .build();
+    }
+}
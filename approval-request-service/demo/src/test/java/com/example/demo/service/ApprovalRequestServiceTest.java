@@ -1,16 +1,22 @@
 package com.example.demo.service;
 
+import com.example.approval.wire.ApproverPartitioner;
 import com.example.demo.client.EmployeeServiceClient;
 import com.example.demo.client.NotificationServiceClient;
 import com.example.demo.document.ApprovalRequestDocument;
 import com.example.demo.document.ApprovalStep;
+import com.example.demo.document.OutboxEvent;
 import com.example.demo.dto.ApprovalCreateRequest;
 import com.example.demo.dto.ApprovalResponse;
+import com.example.demo.dto.ApprovalStepResult;
+import com.example.demo.dto.ApprovalSummaryResponse;
+import com.example.demo.dto.CursorPage;
 import com.example.demo.dto.NotificationRequest;
+import com.example.demo.dto.PendingPartitionFilter;
 import com.example.demo.dto.StepRequest;
 import com.example.demo.exception.ApprovalNotFoundException;
+import com.example.demo.exception.InvalidPageRequestException;
 import com.example.demo.exception.InvalidStepOrderException;
-import com.example.demo.grpc.ApprovalProcessingGrpcClient;
 import com.example.demo.repository.ApprovalRequestRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,15 +26,22 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -37,14 +50,24 @@ class ApprovalRequestServiceTest {
     @Mock
     private ApprovalRequestRepository approvalRequestRepository;
 
+    @Mock
+    private MongoTemplate mongoTemplate;
+
     @Mock
     private EmployeeServiceClient employeeServiceClient;
 
     @Mock
     private NotificationServiceClient notificationServiceClient;
 
+    // 생성 시 직접 호출되면 안 되는 전송 수단 (아웃박스 릴레이만 사용)
+    @Mock
+    private ApprovalRequestSender approvalRequestSender;
+
+    @Mock
+    private RequestIdAllocator requestIdAllocator;
+
     @Mock
-    private ApprovalProcessingGrpcClient approvalProcessingGrpcClient;
+    private StatisticsViewService statisticsViewService;
 
     @InjectMocks
     private ApprovalRequestService approvalRequestService;
@@ -83,20 +106,43 @@ class ApprovalRequestServiceTest {
     @DisplayName("결재 요청 생성 - 성공")
     void createApproval_Success() {
         // Given
-        when(approvalRequestRepository.findTopByOrderByRequestIdDesc()).thenReturn(Optional.empty());
+        when(requestIdAllocator.nextId()).thenReturn(1L);
         when(approvalRequestRepository.save(any(ApprovalRequestDocument.class))).thenReturn(savedDocument);
-        when(approvalProcessingGrpcClient.requestApproval(any())).thenReturn("SUCCESS");
 
         // When
         Long requestId = approvalRequestService.createApproval(createRequest);
 
         // Then
         assertThat(requestId).isEqualTo(1L);
-        verify(employeeServiceClient).validateEmployee(1L);
-        verify(employeeServiceClient).validateEmployee(2L);
-        verify(employeeServiceClient).validateEmployee(3L);
-        verify(approvalRequestRepository).save(any(ApprovalRequestDocument.class));
-        verify(approvalProcessingGrpcClient).requestApproval(any());
+        verify(employeeServiceClient).validateEmployees(Set.of(1L, 2L, 3L));
+        verify(employeeServiceClient, never()).validateEmployee(any());
+        ArgumentCaptor<ApprovalRequestDocument> saved = ArgumentCaptor.forClass(ApprovalRequestDocument.class);
+        verify(approvalRequestRepository).save(saved.capture());
+        // Processing Service 전달은 같은 저장 연산으로 기록된 아웃박스 이벤트로 대체 - 전송 수단은 호출하지 않음
+        assertThat(saved.getValue().getOutbox()).singleElement()
+                .isInstanceOf(OutboxEvent.class)
+                .extracting(OutboxEvent::getCreatedAt)
+                .isEqualTo(saved.getValue().getCreatedAt());
+        assertThat(saved.getValue().getPriority()).isEqualTo(ApprovalRequestDocument.DEFAULT_PRIORITY);
+        verifyNoInteractions(approvalRequestSender);
+    }
+
+    @Test
+    @DisplayName("결재 요청 생성 - 이미 쓰인 requestId면 카운터를 다시 맞추고 새 번호로 저장")
+    void createApproval_DuplicateRequestId_ReseedsAndRetries() {
+        // Given - 롤링 배포 중 이전 버전 인스턴스가 1번을 먼저 사용
+        when(requestIdAllocator.nextId()).thenReturn(1L, 2L);
+        when(approvalRequestRepository.save(any(ApprovalRequestDocument.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key error: requestId_unique"))
+                .thenReturn(savedDocument);
+
+        // When
+        Long requestId = approvalRequestService.createApproval(createRequest);
+
+        // Then
+        assertThat(requestId).isEqualTo(2L);
+        verify(requestIdAllocator).reseed();
+        verify(approvalRequestRepository, times(2)).save(any(ApprovalRequestDocument.class));
     }
 
     @Test
@@ -120,17 +166,51 @@ class ApprovalRequestServiceTest {
 
     @Test
     @DisplayName("결재 요청 목록 조회 - 성공")
-    void getAllApprovals_Success() {
+    void getApprovals_Success() {
         // Given
         List<ApprovalRequestDocument> documents = Arrays.asList(savedDocument);
-        when(approvalRequestRepository.findAll()).thenReturn(documents);
+        when(mongoTemplate.find(any(Query.class), eq(ApprovalRequestDocument.class))).thenReturn(documents);
 
         // When
-        List<ApprovalResponse> result = approvalRequestService.getAllApprovals();
+        CursorPage<ApprovalSummaryResponse> result = approvalRequestService.getApprovals(null, 20, null, null);
 
         // Then
-        assertThat(result).hasSize(1);
-        assertThat(result.get(0).getRequestId()).isEqualTo(1L);
+        assertThat(result.getItems()).hasSize(1);
+        assertThat(result.getItems().get(0).getRequestId()).isEqualTo(1L);
+        assertThat(result.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("pending 결재 페이지 조회 - 결재자 파티션 필터에 맞는 결재가 limit건 모이거나 끝날 때까지 이어 읽음")
+    void getPendingApprovals_FilteredByApproverPartition() {
+        // Given - 결재자 owned는 요청한 파티션, other는 다른 파티션
+        long owned = 7L;
+        int partition = ApproverPartitioner.partitionOf(owned, 3);
+        long other = LongStream.iterate(8, id -> id + 1)
+                .filter(id -> ApproverPartitioner.partitionOf(id, 3) != partition)
+                .findFirst().orElseThrow();
+        when(mongoTemplate.find(any(Query.class), eq(ApprovalRequestDocument.class)))
+                .thenReturn(List.of(pendingFor(1L, other), pendingFor(2L, owned), pendingFor(3L, other)))
+                .thenReturn(List.of(pendingFor(4L, other), pendingFor(5L, owned)));
+
+        // When
+        CursorPage<ApprovalRequestDocument> result = approvalRequestService.getPendingApprovals(null, 2,
+                PendingPartitionFilter.of(List.of(partition), 3));
+
+        // Then
+        assertThat(result.getItems()).extracting(ApprovalRequestDocument::getRequestId).containsExactly(2L, 5L);
+        assertThat(result.hasNext()).isFalse();
+        verify(mongoTemplate, times(2)).find(any(Query.class), eq(ApprovalRequestDocument.class));
+    }
+
+    @Test
+    @DisplayName("pending 결재 파티션 필터 - 파티션 수 없이 파티션만 주거나 범위를 벗어나면 잘못된 요청")
+    void pendingPartitionFilter_InvalidParameters() {
+        assertThat(PendingPartitionFilter.of(null, null)).isEqualTo(PendingPartitionFilter.ALL);
+        assertThatThrownBy(() -> PendingPartitionFilter.of(List.of(0), null))
+                .isInstanceOf(InvalidPageRequestException.class);
+        assertThatThrownBy(() -> PendingPartitionFilter.of(List.of(3), 3))
+                .isInstanceOf(InvalidPageRequestException.class);
     }
 
     @Test
@@ -159,70 +239,225 @@ class ApprovalRequestServiceTest {
     }
 
     @Test
-    @DisplayName("결재 결과 처리 - 승인 (다음 단계 존재)")
+    @DisplayName("결재 결과 처리 - 승인 후 다음 단계 존재")
     void processApprovalResult_Approved_NextStepExists() {
         // Given
-        when(approvalRequestRepository.findByRequestId(1L)).thenReturn(Optional.of(savedDocument));
-        when(approvalRequestRepository.save(any())).thenReturn(savedDocument);
-        when(approvalProcessingGrpcClient.requestApproval(any())).thenReturn("SUCCESS");
+        ApprovalRequestDocument updated = documentWithSteps("approved", "pending");
+        when(approvalRequestRepository.applyStepResult(eq(1L), eq(1), eq(2L), eq("approved"), any(), any()))
+                .thenReturn(Optional.of(updated));
 
         // When
-        approvalRequestService.processApprovalResult(1L, 1, 2L, "approved");
+        approvalRequestService.processApprovalResult(1L, 1, 2L, "approved", "확인했습니다.");
 
-        // Then
-        verify(approvalRequestRepository).save(any());
-        verify(approvalProcessingGrpcClient).requestApproval(any());
-        verify(notificationServiceClient, never()).sendNotification(any());
+        // Then - 다음 단계 전달은 아웃박스 릴레이가 담당하므로 본문 재조회 없음
+        verify(approvalRequestRepository, never()).save(any());
+        verify(approvalRequestRepository, never()).findByRequestId(any());
+        verify(approvalRequestRepository, never()).completeIfAllApproved(any(), any());
+        verify(notificationServiceClient).sendNotification(any());
     }
 
     @Test
-    @DisplayName("결재 결과 처리 - 최종 승인")
+    @DisplayName("결재 결과 처리 - 최종 승인 (마지막 단계 결과와 같은 연산으로 기록)")
     void processApprovalResult_FinalApproval() {
         // Given
-        ApprovalRequestDocument document = ApprovalRequestDocument.builder()
-                .id("test-id")
-                .requestId(1L)
-                .requesterId(1L)
-                .title("휴가 신청")
-                .content("연차 휴가 신청합니다.")
-                .steps(Arrays.asList(
-                        ApprovalStep.builder().step(1).approverId(2L).status("approved").build(),
-                        ApprovalStep.builder().step(2).approverId(3L).status("pending").build()
-                ))
-                .finalStatus("in_progress")
-                .createdAt(LocalDateTime.now())
-                .build();
-
-        when(approvalRequestRepository.findByRequestId(1L)).thenReturn(Optional.of(document));
-        when(approvalRequestRepository.save(any())).thenReturn(document);
+        ApprovalRequestDocument updated = documentWithSteps("approved", "approved");
+        updated.setFinalStatus("approved");
+        when(approvalRequestRepository.applyStepResult(eq(1L), eq(2), eq(3L), eq("approved"), any(), any()))
+                .thenReturn(Optional.of(updated));
 
         // When
-        approvalRequestService.processApprovalResult(1L, 2, 3L, "approved");
+        approvalRequestService.processApprovalResult(1L, 2, 3L, "approved", null);
 
-        // Then
-        ArgumentCaptor<ApprovalRequestDocument> captor = ArgumentCaptor.forClass(ApprovalRequestDocument.class);
-        verify(approvalRequestRepository).save(captor.capture());
-        assertThat(captor.getValue().getFinalStatus()).isEqualTo("approved");
+        // Then - 별도의 최종 승인 쓰기 없음
+        verify(approvalRequestRepository, never()).save(any());
+        verify(approvalRequestRepository, never()).completeIfAllApproved(any(), any());
+        verify(statisticsViewService).recordFinalStatusChange(1L, "in_progress", "approved");
         verify(notificationServiceClient).sendNotification(any());
     }
 
+    @Test
+    @DisplayName("결재 결과 처리 - 최종 승인 기록이 실패한 이전 문서는 결과 재수신 시 완료")
+    void processApprovalResult_CompletionFailed_CompletedOnRedelivery() {
+        // Given - 단계 결과만 기록되고(모든 단계 approved, in_progress) 최종 승인 쓰기가 한 번 실패
+        ApprovalRequestDocument stalled = documentWithSteps("approved", "approved");
+        when(approvalRequestRepository.applyStepResult(eq(1L), eq(2), eq(3L), eq("approved"), any(), any()))
+                .thenReturn(Optional.of(stalled), Optional.empty());
+        when(approvalRequestRepository.completeIfAllApproved(eq(1L), any()))
+                .thenThrow(new IllegalStateException("Mongo unavailable"))
+                .thenReturn(true);
+        when(approvalRequestRepository.existsByRequestId(1L)).thenReturn(true);
+        when(approvalRequestRepository.findWithoutContentByRequestIdIn(Set.of(1L))).thenReturn(List.of(stalled));
+
+        // When - 첫 수신은 실패(offset 미커밋), 같은 결과 재수신
+        assertThatThrownBy(() -> approvalRequestService.processApprovalResult(1L, 2, 3L, "approved", null))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(notificationServiceClient, statisticsViewService);
+        approvalRequestService.processApprovalResult(1L, 2, 3L, "approved", null);
+
+        // Then - 이미 처리된 단계여도 최종 승인을 마저 기록하고 한 번만 알림
+        verify(approvalRequestRepository, times(2)).completeIfAllApproved(eq(1L), any());
+        verify(statisticsViewService).recordFinalStatusChange(1L, "in_progress", "approved");
+        ArgumentCaptor<NotificationRequest> notification = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationServiceClient).sendNotification(notification.capture());
+        assertThat(notification.getValue().getFinalResult()).isEqualTo("approved");
+    }
+
     @Test
     @DisplayName("결재 결과 처리 - 반려")
     void processApprovalResult_Rejected() {
         // Given
-        when(approvalRequestRepository.findByRequestId(1L)).thenReturn(Optional.of(savedDocument));
-        when(approvalRequestRepository.save(any())).thenReturn(savedDocument);
+        ApprovalRequestDocument updated = documentWithSteps("rejected", "pending");
+        updated.setFinalStatus("rejected");
+        when(approvalRequestRepository.applyStepResult(eq(1L), eq(1), eq(2L), eq("rejected"), any(), any()))
+                .thenReturn(Optional.of(updated));
 
         // When
-        approvalRequestService.processApprovalResult(1L, 1, 2L, "rejected");
+        approvalRequestService.processApprovalResult(1L, 1, 2L, "rejected", "반려합니다.");
 
         // Then
-        ArgumentCaptor<ApprovalRequestDocument> captor = ArgumentCaptor.forClass(ApprovalRequestDocument.class);
-        verify(approvalRequestRepository).save(captor.capture());
-        assertThat(captor.getValue().getFinalStatus()).isEqualTo("rejected");
+        verify(approvalRequestRepository, never()).save(any());
+        verify(statisticsViewService).recordFinalStatusChange(1L, "in_progress", "rejected");
 
         ArgumentCaptor<NotificationRequest> notificationCaptor = ArgumentCaptor.forClass(NotificationRequest.class);
         verify(notificationServiceClient).sendNotification(notificationCaptor.capture());
         assertThat(notificationCaptor.getValue().getResult()).isEqualTo("rejected");
     }
+
+    @Test
+    @DisplayName("결재 결과 처리 - 이미 처리된 단계 결과 중복 수신 시 무시")
+    void processApprovalResult_AlreadyProcessed_Ignored() {
+        // Given
+        when(approvalRequestRepository.applyStepResult(eq(1L), eq(1), eq(2L), eq("approved"), any(), any()))
+                .thenReturn(Optional.empty());
+        when(approvalRequestRepository.existsByRequestId(1L)).thenReturn(true);
+
+        // When
+        approvalRequestService.processApprovalResult(1L, 1, 2L, "approved", null);
+
+        // Then
+        verify(notificationServiceClient, never()).sendNotification(any());
+        verifyNoInteractions(statisticsViewService);
+    }
+
+    @Test
+    @DisplayName("결재 결과 처리 - 존재하지 않는 결재")
+    void processApprovalResult_NotFound_ThrowsException() {
+        // Given
+        when(approvalRequestRepository.applyStepResult(eq(999L), eq(1), eq(2L), eq("approved"), any(), any()))
+                .thenReturn(Optional.empty());
+        when(approvalRequestRepository.existsByRequestId(999L)).thenReturn(false);
+
+        // When & Then
+        assertThatThrownBy(() -> approvalRequestService.processApprovalResult(999L, 1, 2L, "approved", null))
+                .isInstanceOf(ApprovalNotFoundException.class);
+    }
+
+    @Test
+    @DisplayName("결재 결과 일괄 처리 - bulkWrite 1회, 반영된 결과만 후처리")
+    void processApprovalResults_BulkAppliesAndPostProcessesAppliedOnly() {
+        // Given - 1번 결재: 1단계 승인(다음 단계 있음), 2번 결재: 1단계 반려, 1번 결재 1단계 중복 수신
+        List<ApprovalStepResult> results = List.of(
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("approved").build(),
+                ApprovalStepResult.builder().requestId(2L).step(1).approverId(2L).status("rejected").build(),
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("approved").build());
+
+        ArgumentCaptor<LocalDateTime> nowCaptor = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(approvalRequestRepository.applyStepResults(any(), nowCaptor.capture())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(1);
+            ApprovalRequestDocument first = documentWithSteps("approved", "pending");
+            first.getSteps().get(0).setUpdatedAt(now);
+            ApprovalRequestDocument second = documentWithSteps("rejected", "pending");
+            second.setRequestId(2L);
+            second.setFinalStatus("rejected");
+            second.getSteps().get(0).setUpdatedAt(now);
+            when(approvalRequestRepository.findWithoutContentByRequestIdIn(any())).thenReturn(List.of(first, second));
+            return 2;
+        });
+
+        // When
+        approvalRequestService.processApprovalResults(results);
+
+        // Then - requestId별로 묶인 순서(1, 1, 2)로 한 번에 반영
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApprovalStepResult>> applied = ArgumentCaptor.forClass(List.class);
+        verify(approvalRequestRepository).applyStepResults(applied.capture(), any());
+        assertThat(applied.getValue()).extracting(ApprovalStepResult::getRequestId).containsExactly(1L, 1L, 2L);
+        assertThat(nowCaptor.getValue().getNano() % 1_000_000).isZero();
+
+        verify(approvalRequestRepository, never()).applyStepResult(any(), anyInt(), any(), any(), any(), any());
+        verify(approvalRequestRepository, never()).save(any());
+        verify(statisticsViewService).recordFinalStatusChange(1L, "in_progress", "rejected");
+        verify(notificationServiceClient, times(2)).sendNotification(any());
+    }
+
+    @Test
+    @DisplayName("결재 결과 일괄 처리 - 한 건의 후처리 실패는 기록만 하고 나머지 건은 후처리")
+    void processApprovalResults_PostProcessingFailure_IsolatedPerResult() {
+        // Given - 1번 결재: 1단계 반려(알림 실패), 2번 결재: 1단계 승인(다음 단계 있음)
+        List<ApprovalStepResult> results = List.of(
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("rejected").build(),
+                ApprovalStepResult.builder().requestId(2L).step(1).approverId(2L).status("approved").build());
+
+        when(approvalRequestRepository.applyStepResults(any(), any())).thenAnswer(invocation -> {
+            LocalDateTime now = invocation.getArgument(1);
+            ApprovalRequestDocument first = documentWithSteps("rejected", "pending");
+            first.setFinalStatus("rejected");
+            first.getSteps().get(0).setUpdatedAt(now);
+            ApprovalRequestDocument second = documentWithSteps("approved", "pending");
+            second.setRequestId(2L);
+            second.getSteps().get(0).setUpdatedAt(now);
+            when(approvalRequestRepository.findWithoutContentByRequestIdIn(any())).thenReturn(List.of(first, second));
+            return 2;
+        });
+        doThrow(new IllegalStateException("notification queue closed")).doNothing()
+                .when(notificationServiceClient).sendNotification(any());
+
+        // When - batch는 예외 없이 완료 (offset 커밋)
+        approvalRequestService.processApprovalResults(results);
+
+        // Then - 실패한 건 뒤의 중간 승인 알림도 전송
+        ArgumentCaptor<NotificationRequest> notifications = ArgumentCaptor.forClass(NotificationRequest.class);
+        verify(notificationServiceClient, times(2)).sendNotification(notifications.capture());
+        assertThat(notifications.getAllValues()).extracting(NotificationRequest::getRequestId)
+                .containsExactly(1L, 2L);
+        verify(approvalRequestRepository, never()).completeIfAllApproved(any(), any());
+    }
+
+    @Test
+    @DisplayName("결재 결과 일괄 처리 - 반영 실패 시 예외 전파")
+    void processApprovalResults_BulkWriteFailure_Propagates() {
+        // Given
+        when(approvalRequestRepository.applyStepResults(any(), any())).thenThrow(new IllegalStateException("bulkWrite failed"));
+
+        // When & Then
+        assertThatThrownBy(() -> approvalRequestService.processApprovalResults(List.of(
+                ApprovalStepResult.builder().requestId(1L).step(1).approverId(2L).status("approved").build())))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(notificationServiceClient, statisticsViewService);
+    }
+
+    private ApprovalRequestDocument pendingFor(long requestId, long approverId) {
+        return ApprovalRequestDocument.builder()
+                .requestId(requestId)
+                .finalStatus("in_progress")
+                .steps(List.of(
+                        ApprovalStep.builder().step(1).approverId(1L).status("approved").build(),
+                        ApprovalStep.builder().step(2).approverId(approverId).status("pending").build()))
+                .build();
+    }
+
+    private ApprovalRequestDocument documentWithSteps(String step1Status, String step2Status) {
+        return ApprovalRequestDocument.builder()
+                .id("test-id")
+                .requestId(1L)
+                .requesterId(1L)
+                .title("휴가 신청")
+                .steps(Arrays.asList(
+                        ApprovalStep.builder().step(1).approverId(2L).status(step1Status).build(),
+                        ApprovalStep.builder().step(2).approverId(3L).status(step2Status).build()
+                ))
+                .finalStatus("in_progress")
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
 }
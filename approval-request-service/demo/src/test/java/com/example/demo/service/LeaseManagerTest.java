@@ -0,0 +1,69 @@
+package com.example.demo.service;
+
+import com.example.demo.document.LeaseDocument;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("LeaseManager 테스트")
+class LeaseManagerTest {
+
+    private MongoTemplate mongoTemplate;
+    private LeaseManager leaseManager;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        leaseManager = new LeaseManager(mongoTemplate);
+    }
+
+    @Test
+    @DisplayName("리스 획득 - 내 리스이거나 만료된 경우에만 owner/expiresAt 갱신")
+    void tryAcquire_UpsertsOwnOrExpiredLease() {
+        // when
+        LocalDateTime before = LocalDateTime.now();
+        boolean acquired = leaseManager.tryAcquire("approval-outbox-relay", Duration.ofSeconds(30));
+
+        // then
+        assertThat(acquired).isTrue();
+        ArgumentCaptor<Query> query = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> update = ArgumentCaptor.forClass(Update.class);
+        verify(mongoTemplate).upsert(query.capture(), update.capture(), eq(LeaseDocument.class));
+        Document criteria = query.getValue().getQueryObject();
+        assertThat(criteria).containsEntry("_id", "approval-outbox-relay");
+        @SuppressWarnings("unchecked")
+        List<Document> or = (List<Document>) criteria.get("$or");
+        assertThat(or).hasSize(2);
+        Document set = (Document) update.getValue().getUpdateObject().get("$set");
+        assertThat(set.getString("owner")).isEqualTo(or.get(0).getString("owner"));
+        assertThat((LocalDateTime) set.get("expiresAt")).isAfterOrEqualTo(before.plusSeconds(30));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스의 리스가 유효하면 upsert가 중복 키로 실패해 false")
+    void tryAcquire_HeldByOtherInstance() {
+        // given
+        when(mongoTemplate.upsert(any(Query.class), any(Update.class), eq(LeaseDocument.class)))
+                .thenThrow(new DuplicateKeyException("E11000 duplicate key"));
+
+        // when & then
+        assertThat(leaseManager.tryAcquire("approval-statistics-consistency-check", Duration.ofHours(1))).isFalse();
+    }
+}
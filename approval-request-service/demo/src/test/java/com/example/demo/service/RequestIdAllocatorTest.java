@@ -0,0 +1,168 @@
+package com.example.demo.service;
+
+import com.example.demo.client.EmployeeServiceClient;
+import com.example.demo.client.NotificationServiceClient;
+import com.example.demo.config.ApprovalRequestIndexInitializer;
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.SequenceCounterDocument;
+import com.example.demo.dto.ApprovalCreateRequest;
+import com.example.demo.dto.StepRequest;
+import com.example.demo.repository.ApprovalRequestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.data.mongo.DataMongoTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.mongodb.core.MongoTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 여러 인스턴스(레플리카)가 동시에 결재 요청을 생성할 때 requestId가 겹치지 않는지 embedded MongoDB로 검증
+ * - 인스턴스마다 자기 RequestIdAllocator를 가진 ApprovalRequestService로 createApproval 호출
+ * - requestId unique 인덱스가 있으므로 중복 번호는 저장 실패로 드러남
+ */
+@DataMongoTest
+@Import({ApprovalRequestService.class, RequestIdAllocator.class, ApprovalRequestIndexInitializer.class})
+@DisplayName("RequestIdAllocator 테스트")
+class RequestIdAllocatorTest {
+
+    private static final int BLOCK_SIZE = 100;
+    private static final int TOTAL = 10_000;
+    private static final int THREADS = 32;
+
+    @Autowired
+    private MongoTemplate mongoTemplate;
+
+    @Autowired
+    private ApprovalRequestRepository approvalRequestRepository;
+
+    @Autowired
+    private ApprovalRequestIndexInitializer indexInitializer;
+
+    @MockBean
+    private EmployeeServiceClient employeeServiceClient;
+
+    @MockBean
+    private NotificationServiceClient notificationServiceClient;
+
+    @MockBean
+    private StatisticsViewService statisticsViewService;
+
+    @BeforeEach
+    void setUp() {
+        approvalRequestRepository.deleteAll();
+        mongoTemplate.dropCollection(SequenceCounterDocument.class);
+        indexInitializer.createIndexes();
+    }
+
+    @Test
+    @DisplayName("두 인스턴스에서 32 스레드로 createApproval 10,000건 - 모두 저장되고 requestId 중복 없음")
+    void concurrentCreateAcrossReplicasIsUnique() throws Exception {
+        // given
+        List<ApprovalRequestService> replicas = List.of(replica(), replica());
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+
+        // when
+        List<Future<List<Long>>> futures = new ArrayList<>();
+        try {
+            for (int t = 0; t < THREADS; t++) {
+                ApprovalRequestService service = replicas.get(t % replicas.size());
+                int count = TOTAL / THREADS + (t < TOTAL % THREADS ? 1 : 0);
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    List<Long> ids = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        ids.add(service.createApproval(createRequest()));
+                    }
+                    return ids;
+                }));
+            }
+            start.countDown();
+            List<Long> issued = new ArrayList<>(TOTAL);
+            for (Future<List<Long>> future : futures) {
+                issued.addAll(future.get(5, TimeUnit.MINUTES));
+            }
+
+            // then
+            assertThat(issued).hasSize(TOTAL).doesNotHaveDuplicates();
+            assertThat(approvalRequestRepository.count()).isEqualTo(TOTAL);
+            Set<Long> stored = new HashSet<>();
+            approvalRequestRepository.findAll().forEach(document -> stored.add(document.getRequestId()));
+            assertThat(stored).containsExactlyInAnyOrderElementsOf(issued);
+            // 인스턴스마다 마지막 블록 하나 정도만 남기고 모두 사용
+            assertThat(counterValue()).isBetween((long) TOTAL, (long) TOTAL + (long) BLOCK_SIZE * replicas.size());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("카운터 도입 이전 데이터가 있으면 기존 최대 requestId 다음 번호부터 발급")
+    void seedsFromExistingMaxRequestId() {
+        // given
+        approvalRequestRepository.save(ApprovalRequestDocument.builder().requestId(41L).title("이전 결재").build());
+        ApprovalRequestService service = replica();
+
+        // when & then
+        assertThat(service.createApproval(createRequest())).isEqualTo(42L);
+        assertThat(service.createApproval(createRequest())).isEqualTo(43L);
+    }
+
+    @Test
+    @DisplayName("롤링 배포 중 이전 버전이 max+1로 같은 번호를 먼저 쓰면 카운터를 다시 맞추고 다음 번호로 저장")
+    void reseedsWhenOldVersionTakesIssuedId() {
+        // given - 이 인스턴스가 1번 블록을 예약한 뒤, 이전 버전 인스턴스가 max+1(2 ~ 150)로 생성
+        ApprovalRequestService service = replica();
+        assertThat(service.createApproval(createRequest())).isEqualTo(1L);
+        for (long requestId = 2; requestId <= 150; requestId++) {
+            approvalRequestRepository.save(ApprovalRequestDocument.builder().requestId(requestId).title("이전 버전").build());
+        }
+
+        // when
+        Long requestId = service.createApproval(createRequest());
+
+        // then
+        assertThat(requestId).isEqualTo(151L);
+        assertThat(approvalRequestRepository.count()).isEqualTo(151);
+    }
+
+    /**
+     * 인스턴스 하나 - 자기 채번기(블록)를 가진 ApprovalRequestService
+     */
+    private ApprovalRequestService replica() {
+        RequestIdAllocator allocator = new RequestIdAllocator(mongoTemplate, approvalRequestRepository, BLOCK_SIZE);
+        return new ApprovalRequestService(approvalRequestRepository, mongoTemplate, employeeServiceClient,
+                notificationServiceClient, allocator, statisticsViewService);
+    }
+
+    private long counterValue() {
+        SequenceCounterDocument counter = mongoTemplate.findById(RequestIdAllocator.SEQUENCE_NAME,
+                SequenceCounterDocument.class);
+        return counter == null ? 0 : counter.getValue();
+    }
+
+    private static ApprovalCreateRequest createRequest() {
+        return ApprovalCreateRequest.builder()
+                .requesterId(1L)
+                .title("휴가 신청")
+                .content("연차 1일")
+                .steps(List.of(
+                        StepRequest.builder().step(1).approverId(2L).build(),
+                        StepRequest.builder().step(2).approverId(3L).build()))
+                .build();
+    }
+}
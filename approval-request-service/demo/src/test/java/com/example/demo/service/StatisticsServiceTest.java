@@ -0,0 +1,93 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalStatisticsDocument;
+import com.example.demo.dto.StatisticsResponse;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class StatisticsServiceTest {
+
+    @Mock
+    private StatisticsViewService statisticsViewService;
+
+    @InjectMocks
+    private StatisticsService statisticsService;
+
+    @Test
+    @DisplayName("전체 통계 - 집계 뷰의 전체/요청자별 Document로 응답 구성")
+    void getStatistics_FromView() {
+        // Given
+        when(statisticsViewService.findGlobal()).thenReturn(Optional.of(ApprovalStatisticsDocument.builder()
+                .id(ApprovalStatisticsDocument.GLOBAL_ID)
+                .totalRequests(6).approvedCount(3).rejectedCount(1).inProgressCount(2).totalSteps(15)
+                .build()));
+        when(statisticsViewService.findAllRequesters()).thenReturn(List.of(
+                ApprovalStatisticsDocument.builder().requesterId(1L).totalRequests(4).build(),
+                ApprovalStatisticsDocument.builder().requesterId(2L).totalRequests(2).build(),
+                ApprovalStatisticsDocument.builder().requesterId(3L).totalRequests(0).build()));
+
+        // When
+        StatisticsResponse response = statisticsService.getStatistics();
+
+        // Then
+        assertThat(response.getTotalRequests()).isEqualTo(6);
+        assertThat(response.getApprovedCount()).isEqualTo(3);
+        assertThat(response.getRejectedCount()).isEqualTo(1);
+        assertThat(response.getInProgressCount()).isEqualTo(2);
+        assertThat(response.getApprovalRate()).isEqualTo(75.0);
+        assertThat(response.getRejectionRate()).isEqualTo(25.0);
+        assertThat(response.getAvgStepsCount()).isEqualTo(2.5);
+        assertThat(response.getRequestsByEmployee()).isEqualTo(Map.of(1L, 4L, 2L, 2L));
+        assertThat(response.getRecentStatusDistribution())
+                .isEqualTo(Map.of("approved", 3L, "rejected", 1L, "in_progress", 2L));
+    }
+
+    @Test
+    @DisplayName("요청자별 통계 - 요청자 Document 1건으로 응답 구성")
+    void getStatisticsByRequester_FromView() {
+        // Given
+        when(statisticsViewService.findByRequester(1L)).thenReturn(Optional.of(ApprovalStatisticsDocument.builder()
+                .id(ApprovalStatisticsDocument.requesterKey(1L))
+                .requesterId(1L)
+                .totalRequests(2).approvedCount(2).totalSteps(2)
+                .build()));
+
+        // When
+        StatisticsResponse response = statisticsService.getStatisticsByRequester(1L);
+
+        // Then
+        assertThat(response.getTotalRequests()).isEqualTo(2);
+        assertThat(response.getApprovedCount()).isEqualTo(2);
+        assertThat(response.getApprovalRate()).isEqualTo(100.0);
+        assertThat(response.getAvgStepsCount()).isEqualTo(1.0);
+        assertThat(response.getRequestsByEmployee()).isNull();
+    }
+
+    @Test
+    @DisplayName("집계 뷰가 없으면 0으로 채운 통계 반환")
+    void getStatistics_Empty() {
+        // Given
+        when(statisticsViewService.findGlobal()).thenReturn(Optional.empty());
+
+        // When
+        StatisticsResponse response = statisticsService.getStatistics();
+
+        // Then
+        assertThat(response.getTotalRequests()).isZero();
+        assertThat(response.getAvgStepsCount()).isZero();
+        assertThat(response.getRequestsByEmployee()).isEmpty();
+        assertThat(response.getRecentStatusDistribution()).isEmpty();
+    }
+}
@@ -0,0 +1,204 @@
+package com.example.demo.service;
+
+import com.example.demo.document.ApprovalRequestDocument;
+import com.example.demo.document.ApprovalStatisticsDocument;
+import com.example.demo.document.ApprovalStep;
+import com.example.demo.dto.StatisticsConsistencyReport;
+import com.example.demo.repository.ApprovalStatisticsRepository;
+import org.bson.Document;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.mongodb.core.BulkOperations;
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.data.mongodb.core.query.Update;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@DisplayName("StatisticsViewService 테스트")
+class StatisticsViewServiceTest {
+
+    private MongoTemplate mongoTemplate;
+    private ApprovalStatisticsRepository approvalStatisticsRepository;
+    private BulkOperations bulkOperations;
+    private LeaseManager leaseManager;
+    private StatisticsViewService statisticsViewService;
+
+    @BeforeEach
+    void setUp() {
+        mongoTemplate = mock(MongoTemplate.class);
+        approvalStatisticsRepository = mock(ApprovalStatisticsRepository.class);
+        bulkOperations = mock(BulkOperations.class);
+        leaseManager = mock(LeaseManager.class);
+        when(mongoTemplate.bulkOps(any(BulkOperations.BulkMode.class), eq(ApprovalStatisticsDocument.class)))
+                .thenReturn(bulkOperations);
+        when(bulkOperations.upsert(any(Query.class), any(Update.class))).thenReturn(bulkOperations);
+        when(bulkOperations.remove(any(Query.class))).thenReturn(bulkOperations);
+        statisticsViewService = new StatisticsViewService(mongoTemplate, approvalStatisticsRepository, false,
+                Duration.ofHours(1), leaseManager);
+    }
+
+    @Test
+    @DisplayName("결재 생성 시 전체/요청자별 Document에 같은 $inc를 한 번의 bulkWrite로 적용")
+    void recordCreated_IncrementsGlobalAndRequester() {
+        // given
+        ApprovalRequestDocument document = ApprovalRequestDocument.builder()
+                .requestId(1L)
+                .requesterId(7L)
+                .finalStatus("in_progress")
+                .steps(List.of(ApprovalStep.builder().step(1).build(), ApprovalStep.builder().step(2).build()))
+                .build();
+
+        // when
+        statisticsViewService.recordCreated(document);
+
+        // then
+        ArgumentCaptor<Query> queries = ArgumentCaptor.forClass(Query.class);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(queries.capture(), updates.capture());
+        verify(bulkOperations).execute();
+
+        assertThat(queries.getAllValues()).extracting(q -> q.getQueryObject().get("_id"))
+                .containsExactly(ApprovalStatisticsDocument.GLOBAL_ID, "requester:7");
+        for (Update update : updates.getAllValues()) {
+            Document inc = (Document) update.getUpdateObject().get("$inc");
+            assertThat(inc).containsEntry("totalRequests", 1L)
+                    .containsEntry("totalSteps", 2L)
+                    .containsEntry("inProgressCount", 1L);
+        }
+    }
+
+    @Test
+    @DisplayName("최종 상태 변경 시 이전 상태 -1, 새 상태 +1 / 같은 상태면 갱신하지 않음")
+    void recordFinalStatusChange() {
+        // when
+        statisticsViewService.recordFinalStatusChange(7L, "in_progress", "approved");
+        statisticsViewService.recordFinalStatusChange(7L, "approved", "approved");
+
+        // then
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(any(Query.class), updates.capture());
+        Document inc = (Document) updates.getValue().getUpdateObject().get("$inc");
+        assertThat(inc).containsEntry("inProgressCount", -1L)
+                .containsEntry("approvedCount", 1L)
+                .doesNotContainKey("totalRequests");
+    }
+
+    @Test
+    @DisplayName("정합성 검사 - 원본 재계산 결과와 다른 필드를 보고하고 repair=false면 수정하지 않음")
+    void checkConsistency_ReportsMismatches() {
+        // given: 원본 - 요청자 7의 승인 2건(단계 합 3), 진행 중 1건(단계 합 1)
+        mockSourceAggregation(List.of(
+                row(7L, "approved", 2, 3),
+                row(7L, "in_progress", 1, 1)));
+        // 뷰 - 승인 건수가 하나 적게 기록됨
+        when(approvalStatisticsRepository.findById(ApprovalStatisticsDocument.GLOBAL_ID))
+                .thenReturn(Optional.of(statistics(ApprovalStatisticsDocument.GLOBAL_ID, null, 3, 1, 1, 4)));
+        when(approvalStatisticsRepository.findByScope(ApprovalStatisticsDocument.SCOPE_REQUESTER))
+                .thenReturn(List.of(statistics("requester:7", 7L, 3, 2, 1, 4)));
+
+        // when
+        StatisticsConsistencyReport report = statisticsViewService.checkConsistency(false);
+
+        // then
+        assertThat(report.isConsistent()).isFalse();
+        assertThat(report.isRepaired()).isFalse();
+        assertThat(report.getCheckedCount()).isEqualTo(2);
+        assertThat(report.getMismatches())
+                .extracting(StatisticsConsistencyReport.Mismatch::getId, StatisticsConsistencyReport.Mismatch::getField,
+                        StatisticsConsistencyReport.Mismatch::getExpected, StatisticsConsistencyReport.Mismatch::getActual)
+                .containsExactly(tuple("global", "approvedCount", 2L, 1L));
+        verify(bulkOperations, never()).execute();
+    }
+
+    @Test
+    @DisplayName("재계산 - 원본 집계 값으로 $set 하고 더 이상 없는 요청자 통계는 삭제")
+    void rebuild_SetsAbsoluteValuesAndRemovesStale() {
+        // given
+        mockSourceAggregation(List.of(row(7L, "rejected", 1, 2)));
+        when(approvalStatisticsRepository.findByScope(ApprovalStatisticsDocument.SCOPE_REQUESTER))
+                .thenReturn(List.of(statistics("requester:7", 7L, 1, 0, 0, 2), statistics("requester:9", 9L, 1, 1, 0, 1)));
+
+        // when
+        int written = statisticsViewService.rebuild();
+
+        // then
+        assertThat(written).isEqualTo(2);
+        ArgumentCaptor<Update> updates = ArgumentCaptor.forClass(Update.class);
+        verify(bulkOperations, times(2)).upsert(any(Query.class), updates.capture());
+        Document set = (Document) updates.getAllValues().get(1).getUpdateObject().get("$set");
+        assertThat(set).containsEntry("requesterId", 7L)
+                .containsEntry("totalRequests", 1L)
+                .containsEntry("rejectedCount", 1L)
+                .containsEntry("totalSteps", 2L);
+
+        ArgumentCaptor<Query> removed = ArgumentCaptor.forClass(Query.class);
+        verify(bulkOperations).remove(removed.capture());
+        assertThat(removed.getValue().getQueryObject().toJson()).contains("requester:9").doesNotContain("requester:7");
+        verify(bulkOperations).execute();
+    }
+
+    @Test
+    @DisplayName("야간 정합성 검사 - 리스를 얻은 인스턴스만 검사하고, 다른 인스턴스가 가진 리스가 유효하면 건너뜀")
+    void scheduledConsistencyCheck_RunsOnlyWithLease() {
+        // given - 다른 인스턴스가 리스를 가진 상태
+        when(leaseManager.tryAcquire(StatisticsViewService.CONSISTENCY_CHECK_LEASE_ID, Duration.ofHours(1)))
+                .thenReturn(false);
+
+        // when
+        statisticsViewService.scheduledConsistencyCheck();
+
+        // then - 원본 집계 없음
+        verify(mongoTemplate, never()).aggregate(any(Aggregation.class), eq(ApprovalRequestDocument.class), eq(Document.class));
+
+        // given - 리스 만료 후 이 인스턴스가 획득
+        when(leaseManager.tryAcquire(StatisticsViewService.CONSISTENCY_CHECK_LEASE_ID, Duration.ofHours(1)))
+                .thenReturn(true);
+        mockSourceAggregation(List.of());
+
+        // when
+        statisticsViewService.scheduledConsistencyCheck();
+
+        // then
+        verify(mongoTemplate).aggregate(any(Aggregation.class), eq(ApprovalRequestDocument.class), eq(Document.class));
+    }
+
+    private void mockSourceAggregation(List<Document> rows) {
+        when(mongoTemplate.aggregate(any(Aggregation.class), eq(ApprovalRequestDocument.class), eq(Document.class)))
+                .thenReturn(new AggregationResults<>(rows, new Document()));
+    }
+
+    private Document row(Long requesterId, String finalStatus, int count, int steps) {
+        return new Document("_id", new Document("requesterId", requesterId).append("finalStatus", finalStatus))
+                .append("count", count)
+                .append("steps", steps);
+    }
+
+    private ApprovalStatisticsDocument statistics(String id, Long requesterId, long total, long approved,
+                                                  long inProgress, long steps) {
+        return ApprovalStatisticsDocument.builder()
+                .id(id)
+                .requesterId(requesterId)
+                .totalRequests(total)
+                .approvedCount(approved)
+                .inProgressCount(inProgress)
+                .totalSteps(steps)
+                .build();
+    }
+}
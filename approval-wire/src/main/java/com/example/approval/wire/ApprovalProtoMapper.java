@@ -0,0 +1,97 @@
+package com.example.approval.wire;
+
+import com.example.demo.grpc.ApprovalRequest;
+import com.example.demo.grpc.ApprovalResultRequest;
+import com.example.demo.grpc.Step;
+import com.google.protobuf.InvalidProtocolBufferException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 결재 Kafka 메시지 DTO ↔ Protobuf 메시지(proto/approval.proto) 변환 (Kafka Protobuf 본문, gRPC 공용)
+ * - proto3 문자열은 null을 가질 수 없으므로 null 필드는 기록하지 않음 (읽으면 빈 문자열)
+ * - 우선순위/생성 시각은 0을 미설정으로 보고 null로 읽음 (필드가 없던 이전 발행 메시지 포함)
+ * - 생성 시각은 LocalDateTime 값을 UTC로 보고 epoch millis로 기록 (보내는 쪽/받는 쪽 시간대와 관계없이 JSON 본문과 같은 값으로 읽힘)
+ */
+public final class ApprovalProtoMapper {
+
+    private ApprovalProtoMapper() {
+    }
+
+    public static ApprovalRequest toProto(ApprovalRequestMessage message) {
+        ApprovalRequest.Builder builder = ApprovalRequest.newBuilder()
+                .setRequestId(message.getRequestId())
+                .setRequesterId(message.getRequesterId());
+        if (message.getTitle() != null) {
+            builder.setTitle(message.getTitle());
+        }
+        if (message.getContent() != null) {
+            builder.setContent(message.getContent());
+        }
+        if (message.getSteps() != null) {
+            message.getSteps().forEach(step -> builder.addSteps(Step.newBuilder()
+                    .setStep(step.getStep())
+                    .setApproverId(step.getApproverId())
+                    .setStatus(step.getStatus())));
+        }
+        if (message.getPriority() != null) {
+            builder.setPriority(message.getPriority());
+        }
+        if (message.getCreatedAt() != null) {
+            builder.setCreatedAt(message.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+        }
+        return builder.build();
+    }
+
+    public static ApprovalRequestMessage parseApprovalRequest(byte[] data) throws InvalidProtocolBufferException {
+        return fromProto(ApprovalRequest.parseFrom(data));
+    }
+
+    public static ApprovalRequestMessage fromProto(ApprovalRequest proto) {
+        return ApprovalRequestMessage.builder()
+                .requestId(proto.getRequestId())
+                .requesterId(proto.getRequesterId())
+                .title(proto.getTitle())
+                .content(proto.getContent())
+                .steps(proto.getStepsList().stream()
+                        .map(step -> ApprovalRequestMessage.StepInfo.builder()
+                                .step(step.getStep())
+                                .approverId(step.getApproverId())
+                                .status(step.getStatus())
+                                .build())
+                        .toList())
+                .priority(proto.getPriority() != 0 ? proto.getPriority() : null)
+                .createdAt(proto.getCreatedAt() != 0
+                        ? LocalDateTime.ofInstant(Instant.ofEpochMilli(proto.getCreatedAt()), ZoneOffset.UTC)
+                        : null)
+                .build();
+    }
+
+    public static ApprovalResultRequest toProto(ApprovalResultMessage message) {
+        ApprovalResultRequest.Builder builder = ApprovalResultRequest.newBuilder()
+                .setRequestId(message.getRequestId())
+                .setStep(message.getStep())
+                .setApproverId(message.getApproverId())
+                .setStatus(message.getStatus());
+        if (message.getComment() != null) {
+            builder.setComment(message.getComment());
+        }
+        return builder.build();
+    }
+
+    public static ApprovalResultMessage parseApprovalResult(byte[] data) throws InvalidProtocolBufferException {
+        return fromProto(ApprovalResultRequest.parseFrom(data));
+    }
+
+    public static ApprovalResultMessage fromProto(ApprovalResultRequest proto) {
+        return ApprovalResultMessage.builder()
+                .requestId(proto.getRequestId())
+                .step(proto.getStep())
+                .approverId(proto.getApproverId())
+                .status(proto.getStatus())
+                .comment(proto.hasComment() ? proto.getComment() : null)
+                .build();
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.approval.wire;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 결재 요청 메시지 (Request Service → Processing Service)
+ * approval-request 토픽 / gRPC RequestApproval 본문, Processing Service 대기 목록 changelog 값
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalRequestMessage {
+    private Long requestId;
+    private Long requesterId;
+    private String title;
+    private String content;
+    private List<StepInfo> steps;
+    private Integer priority; // 1(긴급) ~ 5(낮음), 없으면 보통
+    private LocalDateTime createdAt;
+
+    /**
+     * 첫 번째 pending 단계의 결재자 (대기 목록 주인, approval-request 메시지 key) - pending 단계가 없으면 null
+     */
+    public Long pendingApproverId() {
+        if (steps == null) {
+            return null;
+        }
+        return steps.stream()
+                .filter(s -> "pending".equals(s.getStatus()))
+                .findFirst()
+                .map(StepInfo::getApproverId)
+                .orElse(null);
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class StepInfo {
+        private int step;
+        private Long approverId;
+        private String status;
+    }
+}
@@ -1,4 +1,4 @@
-package com.example.demo.kafka;
+package com.example.approval.wire;
 
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -6,8 +6,8 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 /**
- * Kafka를 통해 전송하는 결재 결과 메시지 DTO
- * approval-result 토픽으로 발행
+ * 결재 결과 메시지 (Processing Service → Request Service)
+ * approval-result 토픽 / gRPC ReturnApprovalResult 본문
  */
 @Data
 @Builder
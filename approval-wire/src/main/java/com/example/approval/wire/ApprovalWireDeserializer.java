@@ -0,0 +1,79 @@
+package com.example.approval.wire;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Set;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Header;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+
+import com.google.protobuf.InvalidProtocolBufferException;
+
+/**
+ * 결재 토픽 Deserializer - 레코드마다 형식을 판별해 JSON/Protobuf 중 허용된 형식으로 읽음
+ * - 전환 기간에는 두 형식을 모두 허용해 기존 JSON 레코드와 새 Protobuf 레코드가 섞여도 처리
+ *
+ * @param <T> 메시지 DTO
+ */
+public class ApprovalWireDeserializer<T> implements Deserializer<T> {
+
+    private final Set<WireFormat> acceptedFormats;
+    private final ProtoParser<T> protoParser;
+    private final JsonDeserializer<T> jsonDeserializer;
+
+    public ApprovalWireDeserializer(Class<T> type, Set<WireFormat> acceptedFormats, ProtoParser<T> protoParser) {
+        this.acceptedFormats = Set.copyOf(acceptedFormats);
+        this.protoParser = protoParser;
+        // 타입 헤더 무시 - 송신측과 수신측의 패키지가 다를 수 있으므로
+        this.jsonDeserializer = new JsonDeserializer<>(type, false);
+    }
+
+    @Override
+    public T deserialize(String topic, byte[] data) {
+        return deserialize(topic, null, data);
+    }
+
+    @Override
+    public T deserialize(String topic, Headers headers, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+        WireFormat format = detect(headers, data);
+        if (!acceptedFormats.contains(format)) {
+            throw new SerializationException("허용되지 않은 메시지 형식: topic=" + topic + ", format=" + format
+                    + ", accepted=" + acceptedFormats);
+        }
+        if (format == WireFormat.JSON) {
+            return jsonDeserializer.deserialize(topic, data);
+        }
+        try {
+            return protoParser.parse(data);
+        } catch (InvalidProtocolBufferException e) {
+            throw new SerializationException("Protobuf 메시지 파싱 실패: topic=" + topic, e);
+        }
+    }
+
+    /**
+     * 헤더가 있으면 헤더 값, 없으면 본문 첫 바이트가 '{'인지로 판별
+     * (Protobuf 본문은 필드 태그로 시작하므로 '{'(필드 15, group)로 시작하지 않음)
+     */
+    static WireFormat detect(Headers headers, byte[] data) {
+        Header header = headers != null ? headers.lastHeader(WireFormat.HEADER) : null;
+        if (header != null) {
+            return WireFormat.from(new String(header.value(), StandardCharsets.UTF_8));
+        }
+        return data.length > 0 && data[0] == '{' ? WireFormat.JSON : WireFormat.PROTOBUF;
+    }
+
+    @Override
+    public void close() {
+        jsonDeserializer.close();
+    }
+
+    @FunctionalInterface
+    public interface ProtoParser<T> {
+        T parse(byte[] data) throws InvalidProtocolBufferException;
+    }
+}
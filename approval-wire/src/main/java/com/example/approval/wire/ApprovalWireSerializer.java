@@ -0,0 +1,53 @@
+package com.example.approval.wire;
+
+import java.nio.charset.StandardCharsets;
+import java.util.function.Function;
+
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.serialization.Serializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.google.protobuf.MessageLite;
+
+/**
+ * 결재 토픽 Serializer - 설정된 형식(JSON/Protobuf)으로 기록하고 형식을 헤더에 남김
+ *
+ * @param <T> 메시지 DTO
+ */
+public class ApprovalWireSerializer<T> implements Serializer<T> {
+
+    private final WireFormat format;
+    private final Function<T, ? extends MessageLite> toProto;
+    private final JsonSerializer<T> jsonSerializer = new JsonSerializer<T>().noTypeInfo();
+    private final byte[] formatHeader;
+
+    public ApprovalWireSerializer(WireFormat format, Function<T, ? extends MessageLite> toProto) {
+        this.format = format;
+        this.toProto = toProto;
+        this.formatHeader = format.headerValue().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public byte[] serialize(String topic, T data) {
+        if (data == null) {
+            return null;
+        }
+        return format == WireFormat.PROTOBUF
+                ? toProto.apply(data).toByteArray()
+                : jsonSerializer.serialize(topic, data);
+    }
+
+    @Override
+    public byte[] serialize(String topic, Headers headers, T data) {
+        if (data != null && headers != null) {
+            headers.remove(WireFormat.HEADER);
+            headers.add(WireFormat.HEADER, formatHeader);
+        }
+        return serialize(topic, data);
+    }
+
+    @Override
+    public void close() {
+        jsonSerializer.close();
+    }
+}
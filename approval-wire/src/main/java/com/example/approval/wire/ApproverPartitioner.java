@@ -0,0 +1,21 @@
+package com.example.approval.wire;
+
+import java.nio.charset.StandardCharsets;
+
+import org.apache.kafka.common.utils.Utils;
+
+/**
+ * approval-request 메시지 key(첫 pending 단계 결재자 ID)가 배정되는 파티션
+ * - Producer 기본 파티셔너와 같은 murmur2 해시이므로 Kafka가 실제로 배정한 파티션과 같음
+ * - Processing Service: 결재자 대기 목록 소유 Pod 판단, Request Service: 소유 파티션만 골라 pending 목록 전달
+ */
+public final class ApproverPartitioner {
+
+    private ApproverPartitioner() {
+    }
+
+    public static int partitionOf(long approverId, int partitionCount) {
+        byte[] key = String.valueOf(approverId).getBytes(StandardCharsets.UTF_8);
+        return Utils.toPositive(Utils.murmur2(key)) % partitionCount;
+    }
+}
@@ -0,0 +1,38 @@
+package com.example.approval.wire;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 결재 토픽 메시지 본문 형식
+ * - Serializer가 형식을 레코드 헤더(approval-wire-format)에 기록
+ * - 헤더가 없는 기존 레코드는 본문 첫 바이트로 판별 ('{'이면 JSON)
+ */
+public enum WireFormat {
+    JSON,
+    PROTOBUF;
+
+    public static final String HEADER = "approval-wire-format";
+
+    public String headerValue() {
+        return name().toLowerCase(Locale.ROOT);
+    }
+
+    public static WireFormat from(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * 쉼표로 구분된 형식 목록 (예: "json,protobuf")
+     */
+    public static Set<WireFormat> parseAll(String values) {
+        Set<WireFormat> formats = EnumSet.noneOf(WireFormat.class);
+        Arrays.stream(values.split(","))
+                .filter(value -> !value.isBlank())
+                .map(WireFormat::from)
+                .forEach(formats::add);
+        return formats;
+    }
+}
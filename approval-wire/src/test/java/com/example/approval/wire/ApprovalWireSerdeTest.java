@@ -0,0 +1,161 @@
+package com.example.approval.wire;
+
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.header.Headers;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TimeZone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("결재 토픽 Serializer/Deserializer 테스트")
+class ApprovalWireSerdeTest {
+
+    private static final String TOPIC = "approval-request";
+    private static final Set<WireFormat> DUAL = EnumSet.allOf(WireFormat.class);
+
+    private final ApprovalRequestMessage requestMessage = ApprovalRequestMessage.builder()
+            .requestId(10L)
+            .requesterId(1L)
+            .title("휴가 신청")
+            .content("12월 연차 사용")
+            .steps(List.of(
+                    new ApprovalRequestMessage.StepInfo(1, 2L, "approved"),
+                    new ApprovalRequestMessage.StepInfo(2, 3L, "pending")))
+            .priority(1)
+            .createdAt(LocalDateTime.of(2026, 10, 17, 9, 30, 15, 123_000_000))
+            .build();
+
+    @Test
+    @DisplayName("Protobuf로 기록하면 형식 헤더를 남기고 같은 내용으로 읽힘")
+    void protobuf_RoundTrip() {
+        // given
+        ApprovalWireSerializer<ApprovalRequestMessage> serializer =
+                new ApprovalWireSerializer<>(WireFormat.PROTOBUF, ApprovalProtoMapper::toProto);
+        ApprovalWireDeserializer<ApprovalRequestMessage> deserializer = requestDeserializer(DUAL);
+        Headers headers = new RecordHeaders();
+
+        // when
+        byte[] data = serializer.serialize(TOPIC, headers, requestMessage);
+        ApprovalRequestMessage result = deserializer.deserialize(TOPIC, headers, data);
+
+        // then
+        assertThat(new String(headers.lastHeader(WireFormat.HEADER).value(), StandardCharsets.UTF_8))
+                .isEqualTo("protobuf");
+        assertThat(result).isEqualTo(requestMessage);
+    }
+
+    @Test
+    @DisplayName("전환 기간 - 헤더 없는 기존 JSON 레코드와 Protobuf 레코드를 모두 읽음")
+    void dualRead_LegacyJsonWithoutHeaderAndProtobuf() {
+        // given - 기존 Producer(JsonSerializer, 헤더 없음)가 기록한 레코드
+        byte[] legacyJson = ("{\"requestId\":10,\"requesterId\":1,\"title\":\"휴가 신청\",\"content\":\"12월 연차 사용\","
+                + "\"steps\":[{\"step\":1,\"approverId\":2,\"status\":\"approved\"},"
+                + "{\"step\":2,\"approverId\":3,\"status\":\"pending\"}]}").getBytes(StandardCharsets.UTF_8);
+        byte[] protobuf = ApprovalProtoMapper.toProto(requestMessage).toByteArray();
+        ApprovalWireDeserializer<ApprovalRequestMessage> deserializer = requestDeserializer(DUAL);
+
+        // when & then
+        // 기존 레코드에는 우선순위/생성 시각이 없음
+        ApprovalRequestMessage legacy = deserializer.deserialize(TOPIC, new RecordHeaders(), legacyJson);
+        assertThat(legacy).usingRecursiveComparison().ignoringFields("priority", "createdAt").isEqualTo(requestMessage);
+        assertThat(legacy.getPriority()).isNull();
+        assertThat(legacy.getCreatedAt()).isNull();
+        assertThat(deserializer.deserialize(TOPIC, new RecordHeaders(), protobuf)).isEqualTo(requestMessage);
+    }
+
+    @Test
+    @DisplayName("JSON으로 기록하면 형식 헤더만 추가되고 본문은 기존 JSON 형식 유지")
+    void json_WritesHeaderAndKeepsJsonBody() {
+        // given
+        ApprovalWireSerializer<ApprovalRequestMessage> serializer =
+                new ApprovalWireSerializer<>(WireFormat.JSON, ApprovalProtoMapper::toProto);
+        Headers headers = new RecordHeaders();
+
+        // when
+        byte[] data = serializer.serialize(TOPIC, headers, requestMessage);
+
+        // then
+        assertThat(new String(headers.lastHeader(WireFormat.HEADER).value(), StandardCharsets.UTF_8)).isEqualTo("json");
+        assertThat(headers.lastHeader("__TypeId__")).isNull();
+        assertThat(new String(data, StandardCharsets.UTF_8)).startsWith("{").contains("\"title\":\"휴가 신청\"");
+        assertThat(requestDeserializer(DUAL).deserialize(TOPIC, headers, data)).isEqualTo(requestMessage);
+    }
+
+    @Test
+    @DisplayName("허용하지 않은 형식의 레코드는 SerializationException")
+    void notAcceptedFormat_Throws() {
+        // given
+        ApprovalWireDeserializer<ApprovalRequestMessage> protobufOnly = requestDeserializer(EnumSet.of(WireFormat.PROTOBUF));
+        byte[] json = "{\"requestId\":10}".getBytes(StandardCharsets.UTF_8);
+
+        // when & then
+        assertThatThrownBy(() -> protobufOnly.deserialize(TOPIC, new RecordHeaders(), json))
+                .isInstanceOf(SerializationException.class)
+                .hasMessageContaining("JSON");
+    }
+
+    @Test
+    @DisplayName("생성 시각 - UTC 기준 epoch millis로 기록해 보내는 쪽과 받는 쪽 시간대가 달라도 같은 값으로 읽힘")
+    void createdAt_EncodedAsUtcEpochMillis() {
+        TimeZone original = TimeZone.getDefault();
+        try {
+            // given - 보내는 쪽 Asia/Seoul
+            TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+            byte[] data = ApprovalProtoMapper.toProto(requestMessage).toByteArray();
+
+            // when - 받는 쪽 UTC
+            TimeZone.setDefault(TimeZone.getTimeZone("UTC"));
+            ApprovalRequestMessage result = requestDeserializer(DUAL).deserialize(TOPIC, new RecordHeaders(), data);
+
+            // then
+            assertThat(ApprovalProtoMapper.toProto(requestMessage).getCreatedAt())
+                    .isEqualTo(requestMessage.getCreatedAt().toInstant(ZoneOffset.UTC).toEpochMilli());
+            assertThat(result.getCreatedAt()).isEqualTo(requestMessage.getCreatedAt());
+        } finally {
+            TimeZone.setDefault(original);
+        }
+    }
+
+    @Test
+    @DisplayName("결재 결과 - 코멘트가 없으면 null로 복원")
+    void approvalResult_NullCommentRoundTrip() {
+        // given
+        ApprovalWireSerializer<ApprovalResultMessage> serializer =
+                new ApprovalWireSerializer<>(WireFormat.PROTOBUF, ApprovalProtoMapper::toProto);
+        ApprovalWireDeserializer<ApprovalResultMessage> deserializer =
+                new ApprovalWireDeserializer<>(ApprovalResultMessage.class, DUAL, ApprovalProtoMapper::parseApprovalResult);
+        ApprovalResultMessage withComment = new ApprovalResultMessage(10L, 1, 2L, "approved", "확인했습니다");
+        ApprovalResultMessage withoutComment = new ApprovalResultMessage(10L, 2, 3L, "rejected", null);
+
+        // when
+        Headers headers = new RecordHeaders();
+        ApprovalResultMessage first = deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, withComment));
+        ApprovalResultMessage second = deserializer.deserialize(TOPIC, headers, serializer.serialize(TOPIC, headers, withoutComment));
+
+        // then
+        assertThat(first).isEqualTo(withComment);
+        assertThat(second).isEqualTo(withoutComment);
+        assertThat(headers.headers(WireFormat.HEADER)).hasSize(1);
+    }
+
+    @Test
+    @DisplayName("형식 목록 파싱 - 대소문자/공백 무시")
+    void parseAll() {
+        assertThat(WireFormat.parseAll(" JSON, protobuf ")).containsExactlyInAnyOrder(WireFormat.JSON, WireFormat.PROTOBUF);
+        assertThat(WireFormat.parseAll("protobuf")).containsExactly(WireFormat.PROTOBUF);
+    }
+
+    private ApprovalWireDeserializer<ApprovalRequestMessage> requestDeserializer(Set<WireFormat> accepted) {
+        return new ApprovalWireDeserializer<>(ApprovalRequestMessage.class, accepted, ApprovalProtoMapper::parseApprovalRequest);
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.EmployeeCreateRequest;
+import com.example.demo.dto.EmployeeExistsRequest;
+import com.example.demo.dto.EmployeeExistsResponse;
 import com.example.demo.dto.EmployeeIdResponse;
 import com.example.demo.dto.EmployeeResponse;
 import com.example.demo.dto.EmployeeUpdateRequest;
 import com.example.demo.dto.OrgChartResponse;
+import com.example.demo.exception.EmployeeNotFoundException;
 import com.example.demo.service.EmployeeService;
+import com.example.demo.service.OrgChartSnapshot;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -65,6 +69,18 @@ public class EmployeeController {
         return ResponseEntity.ok(exists);
     }
 
+    /**
+     * 직원 일괄 존재 여부 확인 (다른 서비스에서 사용)
+     * POST /employees/exists
+     * 요청한 ID 중 존재하지 않는 ID 목록을 반환
+     */
+    @PostMapping("/exists")
+    public ResponseEntity<EmployeeExistsResponse> existsEmployees(
+            @Valid @RequestBody EmployeeExistsRequest request) {
+        List<Long> missingIds = employeeService.findMissingEmployeeIds(request.getIds());
+        return ResponseEntity.ok(new EmployeeExistsResponse(missingIds));
+    }
+
     /**
      * 직원 정보 수정 (department, position만 수정 가능)
      * PUT /employees/{id}
@@ -92,21 +108,29 @@ public class EmployeeController {
     /**
      * 전체 조직도 조회
      * GET /employees/org-chart
+     * 스냅샷 버전을 ETag로 응답하며, If-None-Match가 일치하면 304 Not Modified (본문 직렬화 없음)
      */
     @GetMapping("/org-chart")
     public ResponseEntity<List<OrgChartResponse>> getOrgChart() {
-        List<OrgChartResponse> orgChart = employeeService.getOrgChart();
-        return ResponseEntity.ok(orgChart);
+        OrgChartSnapshot snapshot = employeeService.getOrgChartSnapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.getVersion())
+                .body(snapshot.getOrgChart());
     }
 
     /**
      * 특정 직원을 루트로 하는 조직도 조회
      * GET /employees/{id}/org-chart
+     * 전체 조직도와 동일한 스냅샷 버전을 ETag로 사용
      */
     @GetMapping("/{id}/org-chart")
     public ResponseEntity<OrgChartResponse> getOrgChartByRoot(@PathVariable Long id) {
-        OrgChartResponse orgChart = employeeService.getOrgChartByRoot(id);
-        return ResponseEntity.ok(orgChart);
+        OrgChartSnapshot snapshot = employeeService.getOrgChartSnapshot();
+        OrgChartResponse orgChart = snapshot.findOrgChart(id)
+                .orElseThrow(() -> new EmployeeNotFoundException(id));
+        return ResponseEntity.ok()
+                .eTag(snapshot.getVersion())
+                .body(orgChart);
     }
 
     /**
@@ -0,0 +1,23 @@
+package com.example.demo.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 존재 여부 확인 요청 DTO
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsRequest {
+
+    @NotEmpty(message = "확인할 직원 ID는 최소 1개 이상이어야 합니다.")
+    @Size(max = 1000, message = "한 번에 확인할 수 있는 직원 ID는 1000개 이하입니다.")
+    private List<@NotNull(message = "직원 ID는 null일 수 없습니다.") Long> ids;
+}
@@ -0,0 +1,18 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 직원 일괄 존재 여부 확인 응답 DTO
+ * 요청한 ID 중 존재하지 않는 ID 목록 (모두 존재하면 빈 목록)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EmployeeExistsResponse {
+    private List<Long> missingIds;
+}
@@ -0,0 +1,24 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조직도 구성용 직원 Projection
+ * 조직도에 표시되는 컬럼(id, managerId 및 표시 항목)만 조회
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrgChartEntry {
+
+    private Long id;
+    private String name;
+    private String department;
+    private String position;
+    private String email;
+    private String phoneNumber;
+    private Integer level;
+    private Long managerId;
+}
@@ -1,50 +1,53 @@
 package com.example.demo.dto;
 
 import com.example.demo.entity.Employee;
-import lombok.AllArgsConstructor;
-import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 
-import java.util.ArrayList;
 import java.util.List;
 
 /**
  * 조직도 응답 DTO (재귀 구조)
+ * 조직도 스냅샷의 노드를 여러 요청이 함께 사용하므로 생성 후 변경할 수 없음 (부하 직원 목록도 불변)
  */
-@Data
-@NoArgsConstructor
-@AllArgsConstructor
-@Builder
+@Getter
+@ToString
+@EqualsAndHashCode
 public class OrgChartResponse {
 
-    private Long id;
-    private String name;
-    private String department;
-    private String position;
-    private String email;
-    private String phoneNumber;
-    private Integer level;
-    private Long managerId;
-    
-    @Builder.Default
-    private List<OrgChartResponse> subordinates = new ArrayList<>();
+    private final Long id;
+    private final String name;
+    private final String department;
+    private final String position;
+    private final String email;
+    private final String phoneNumber;
+    private final Integer level;
+    private final Long managerId;
+    private final List<OrgChartResponse> subordinates;
 
-    public static OrgChartResponse from(Employee employee) {
-        return OrgChartResponse.builder()
-                .id(employee.getId())
-                .name(employee.getName())
-                .department(employee.getDepartment())
-                .position(employee.getPosition())
-                .email(employee.getEmail())
-                .phoneNumber(employee.getPhoneNumber())
-                .level(employee.getLevel())
-                .managerId(employee.getManagerId())
-                .subordinates(new ArrayList<>())
-                .build();
+    private OrgChartResponse(Long id, String name, String department, String position, String email,
+                             String phoneNumber, Integer level, Long managerId, List<OrgChartResponse> subordinates) {
+        this.id = id;
+        this.name = name;
+        this.department = department;
+        this.position = position;
+        this.email = email;
+        this.phoneNumber = phoneNumber;
+        this.level = level;
+        this.managerId = managerId;
+        this.subordinates = List.copyOf(subordinates);
     }
 
-    public void addSubordinate(OrgChartResponse subordinate) {
-        this.subordinates.add(subordinate);
+    public static OrgChartResponse from(Employee employee, List<OrgChartResponse> subordinates) {
+        return new OrgChartResponse(employee.getId(), employee.getName(), employee.getDepartment(),
+                employee.getPosition(), employee.getEmail(), employee.getPhoneNumber(), employee.getLevel(),
+                employee.getManagerId(), subordinates);
+    }
+
+    public static OrgChartResponse from(OrgChartEntry entry, List<OrgChartResponse> subordinates) {
+        return new OrgChartResponse(entry.getId(), entry.getName(), entry.getDepartment(),
+                entry.getPosition(), entry.getEmail(), entry.getPhoneNumber(), entry.getLevel(),
+                entry.getManagerId(), subordinates);
     }
 }
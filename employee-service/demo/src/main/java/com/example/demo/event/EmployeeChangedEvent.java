@@ -0,0 +1,19 @@
+package com.example.demo.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+/**
+ * 직원 생성/삭제 이벤트 (애플리케이션 내부 이벤트)
+ * 트랜잭션 커밋 후 Kafka로 전달되어 다른 서비스의 직원 캐시를 무효화
+ */
+@Data
+@AllArgsConstructor
+public class EmployeeChangedEvent {
+
+    public static final String CREATED = "created";
+    public static final String DELETED = "deleted";
+
+    private Long employeeId;
+    private String eventType; // created, deleted
+}
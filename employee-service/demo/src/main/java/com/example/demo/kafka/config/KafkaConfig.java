@@ -0,0 +1,62 @@
+package com.example.demo.kafka.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.apache.kafka.clients.admin.NewTopic;
+import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.kafka.config.TopicBuilder;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.core.ProducerFactory;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+import com.example.demo.kafka.dto.EmployeeEventMessage;
+
+/**
+ * Kafka 설정 클래스
+ * - employee-events 토픽 발행 (직원 생성/삭제 이벤트)
+ * employee.events.enabled=false 이면 비활성화 (테스트 등 Kafka가 없는 환경)
+ */
+@Configuration
+@ConditionalOnProperty(name = "employee.events.enabled", havingValue = "true", matchIfMissing = true)
+public class KafkaConfig {
+
+    @Value("${spring.kafka.bootstrap-servers}")
+    private String bootstrapServers;
+
+    public static final String TOPIC_EMPLOYEE_EVENTS = "employee-events";
+
+    // ==================== Topics ====================
+
+    @Bean
+    public NewTopic employeeEventsTopic() {
+        return TopicBuilder.name(TOPIC_EMPLOYEE_EVENTS)
+                .partitions(1)
+                .replicas(1)
+                .build();
+    }
+
+    // ==================== Producer ====================
+
+    @Bean
+    public ProducerFactory<String, EmployeeEventMessage> employeeEventProducerFactory() {
+        Map<String, Object> configProps = new HashMap<>();
+        configProps.put(ProducerConfig.BOOTSTRAP_SERVERS_CONFIG, bootstrapServers);
+        configProps.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
+        configProps.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
+        // 타입 헤더 비활성화 - 수신측 패키지가 다를 수 있으므로
+        configProps.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false);
+        return new DefaultKafkaProducerFactory<>(configProps);
+    }
+
+    @Bean
+    public KafkaTemplate<String, EmployeeEventMessage> employeeEventKafkaTemplate() {
+        return new KafkaTemplate<>(employeeEventProducerFactory());
+    }
+}
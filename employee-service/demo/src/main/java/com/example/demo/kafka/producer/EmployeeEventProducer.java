@@ -0,0 +1,46 @@
+package com.example.demo.kafka.producer;
+
+import com.example.demo.event.EmployeeChangedEvent;
+import com.example.demo.kafka.config.KafkaConfig;
+import com.example.demo.kafka.dto.EmployeeEventMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+
+/**
+ * 직원 변경 이벤트를 Kafka로 전송하는 Producer
+ * 트랜잭션이 커밋된 후에만 전송 (롤백된 변경은 전파하지 않음)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "employee.events.enabled", havingValue = "true", matchIfMissing = true)
+public class EmployeeEventProducer {
+
+    private final KafkaTemplate<String, EmployeeEventMessage> kafkaTemplate;
+
+    @TransactionalEventListener
+    public void onEmployeeChanged(EmployeeChangedEvent event) {
+        EmployeeEventMessage message = EmployeeEventMessage.builder()
+                .employeeId(event.getEmployeeId())
+                .eventType(event.getEventType())
+                .occurredAt(LocalDateTime.now())
+                .build();
+
+        kafkaTemplate.send(KafkaConfig.TOPIC_EMPLOYEE_EVENTS, String.valueOf(event.getEmployeeId()), message)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        log.info("직원 이벤트 전송 성공: employeeId={}, eventType={}",
+                                event.getEmployeeId(), event.getEventType());
+                    } else {
+                        log.error("직원 이벤트 전송 실패: employeeId={}, eventType={}",
+                                event.getEmployeeId(), event.getEventType(), ex);
+                    }
+                });
+    }
+}
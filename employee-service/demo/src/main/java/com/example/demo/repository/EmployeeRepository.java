@@ -1,12 +1,20 @@
 package com.example.demo.repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.example.demo.dto.OrgChartEntry;
 import com.example.demo.entity.Employee;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface EmployeeRepository extends JpaRepository<Employee, Long> {
 
@@ -19,6 +27,10 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     // 부서 및 직책별 직원 조회
     List<Employee> findByDepartmentAndPosition(String department, String position);
 
+    // 주어진 ID 중 존재하는 직원 ID 조회 (IN 쿼리 1회)
+    @Query("SELECT e.id FROM Employee e WHERE e.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
+
     // 조직도 관련 메서드
     // 특정 상급자의 부하 직원 조회
     List<Employee> findByManagerId(Long managerId);
@@ -26,6 +38,14 @@ public interface EmployeeRepository extends JpaRepository<Employee, Long> {
     // 상급자가 없는 최상위 직원 조회 (CEO 등)
     List<Employee> findByManagerIdIsNull();
 
+    // 조직도 구성용 전체 직원 스트리밍 조회 (단일 쿼리, 표시 컬럼만 조회)
+    // 트랜잭션 내에서 호출하고 사용 후 반드시 close 해야 함
+    @QueryHints(@QueryHint(name = org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.example.demo.dto.OrgChartEntry("
+            + "e.id, e.name, e.department, e.position, e.email, e.phoneNumber, e.level, e.managerId) "
+            + "FROM Employee e ORDER BY e.id")
+    Stream<OrgChartEntry> streamOrgChartEntries();
+
     // 상태별 직원 조회
     List<Employee> findByStatus(String status);
 }
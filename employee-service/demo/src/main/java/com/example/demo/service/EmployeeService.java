@@ -3,17 +3,30 @@ package com.example.demo.service;
 import com.example.demo.dto.EmployeeCreateRequest;
 import com.example.demo.dto.EmployeeResponse;
 import com.example.demo.dto.EmployeeUpdateRequest;
-import com.example.demo.dto.OrgChartResponse;
+import com.example.demo.dto.OrgChartEntry;
 import com.example.demo.entity.Employee;
+import com.example.demo.event.EmployeeChangedEvent;
 import com.example.demo.exception.EmployeeNotFoundException;
 import com.example.demo.repository.EmployeeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
@@ -22,6 +35,16 @@ import java.util.stream.Collectors;
 public class EmployeeService {
 
     private final EmployeeRepository employeeRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 조직도 스냅샷 (직원 변경 커밋 시 세대가 증가하여 다음 조회에서 교체됨)
+    private final AtomicLong orgChartGeneration = new AtomicLong();
+    private final Object orgChartSnapshotLock = new Object();
+    private volatile OrgChartSnapshot orgChartSnapshot;
+
+    // 다른 인스턴스(replica)에서 발생한 변경을 반영하기 위한 스냅샷 최대 유지 시간 (0이면 무제한)
+    @Value("${employee.org-chart.snapshot-ttl:30s}")
+    private Duration orgChartSnapshotTtl;
 
     /**
      * 직원 생성
@@ -45,6 +68,8 @@ public class EmployeeService {
                 .build();
 
         Employee savedEmployee = employeeRepository.save(employee);
+        invalidateOrgChartAfterCommit();
+        eventPublisher.publishEvent(new EmployeeChangedEvent(savedEmployee.getId(), EmployeeChangedEvent.CREATED));
         return savedEmployee.getId();
     }
 
@@ -85,6 +110,17 @@ public class EmployeeService {
         return employeeRepository.existsById(id);
     }
 
+    /**
+     * 직원 일괄 존재 여부 확인 - 존재하지 않는 ID 목록 반환 (요청 순서 유지)
+     */
+    public List<Long> findMissingEmployeeIds(Collection<Long> ids) {
+        Set<Long> requestedIds = new LinkedHashSet<>(ids);
+        Set<Long> existingIds = new HashSet<>(employeeRepository.findExistingIds(requestedIds));
+        return requestedIds.stream()
+                .filter(id -> !existingIds.contains(id))
+                .toList();
+    }
+
     /**
      * 직원 정보 수정 (department, position만 수정 가능)
      */
@@ -92,6 +128,7 @@ public class EmployeeService {
     public EmployeeResponse updateEmployee(Long id, EmployeeUpdateRequest request) {
         Employee employee = employeeRepository.findById(id)
                 .orElseThrow(() -> new EmployeeNotFoundException(id));
+        List<Object> orgChartFieldsBefore = orgChartFields(employee);
 
         if (request.getDepartment() != null && !request.getDepartment().isBlank()) {
             employee.setDepartment(request.getDepartment());
@@ -130,6 +167,10 @@ public class EmployeeService {
             employee.setLevel(request.getLevel());
         }
 
+        if (!orgChartFieldsBefore.equals(orgChartFields(employee))) {
+            invalidateOrgChartAfterCommit();
+        }
+
         return EmployeeResponse.from(employee);
     }
 
@@ -142,53 +183,83 @@ public class EmployeeService {
             throw new EmployeeNotFoundException(id);
         }
         employeeRepository.deleteById(id);
+        invalidateOrgChartAfterCommit();
+        eventPublisher.publishEvent(new EmployeeChangedEvent(id, EmployeeChangedEvent.DELETED));
     }
 
     // ==================== 조직도 관련 메서드 ====================
 
     /**
-     * 전체 조직도 조회 (최상위부터 Tree 구조)
+     * 현재 조직도 스냅샷 조회
+     * 최신 스냅샷이 있으면 잠금 없이 그대로 반환하고,
+     * 직원 변경 커밋 또는 TTL 만료로 무효화된 경우에만 한 스레드가 다시 생성
      */
-    public List<OrgChartResponse> getOrgChart() {
-        log.info("전체 조직도 조회 시작");
-        
-        // 최상위 직원들 조회 (managerId가 null인 직원들)
-        List<Employee> topLevelEmployees = employeeRepository.findByManagerIdIsNull();
-        
-        return topLevelEmployees.stream()
-                .map(this::buildOrgChartRecursive)
-                .collect(Collectors.toList());
+    public OrgChartSnapshot getOrgChartSnapshot() {
+        OrgChartSnapshot snapshot = orgChartSnapshot;
+        if (isFresh(snapshot)) {
+            return snapshot;
+        }
+
+        synchronized (orgChartSnapshotLock) {
+            snapshot = orgChartSnapshot;
+            if (isFresh(snapshot)) {
+                return snapshot;
+            }
+            // 조회 전에 세대를 읽어 두어야 생성 중 커밋된 변경이 다음 조회에서 반영됨
+            long generation = orgChartGeneration.get();
+            snapshot = OrgChartSnapshot.of(generation, loadOrgChartEntries());
+            orgChartSnapshot = snapshot;
+            log.info("조직도 스냅샷 생성: generation={}, version={}", generation, snapshot.getVersion());
+            return snapshot;
+        }
     }
 
     /**
-     * 특정 직원을 루트로 하는 조직도 조회
+     * 조직도 스냅샷 강제 무효화 (서비스를 거치지 않고 DB를 직접 변경한 경우)
      */
-    public OrgChartResponse getOrgChartByRoot(Long employeeId) {
-        log.info("조직도 조회: rootEmployeeId={}", employeeId);
-        
-        Employee employee = employeeRepository.findById(employeeId)
-                .orElseThrow(() -> new EmployeeNotFoundException(employeeId));
-        
-        return buildOrgChartRecursive(employee);
+    public void evictOrgChartSnapshot() {
+        orgChartGeneration.incrementAndGet();
+    }
+
+    private boolean isFresh(OrgChartSnapshot snapshot) {
+        return snapshot != null
+                && snapshot.getGeneration() == orgChartGeneration.get()
+                && (orgChartSnapshotTtl.isZero() || !snapshot.isOlderThan(orgChartSnapshotTtl.toNanos()));
     }
 
     /**
-     * 재귀적으로 조직도 Tree 구조 생성
+     * 전체 직원을 단일 스트리밍 쿼리로 조회
+     * (직원 수만큼 findByManagerId를 호출하던 N+1 조회 제거)
      */
-    private OrgChartResponse buildOrgChartRecursive(Employee employee) {
-        OrgChartResponse response = OrgChartResponse.from(employee);
-        
-        // 부하 직원들 조회
-        List<Employee> subordinates = employeeRepository.findByManagerId(employee.getId());
-        
-        // 재귀적으로 부하 직원들의 조직도 생성
-        List<OrgChartResponse> subordinateResponses = subordinates.stream()
-                .map(this::buildOrgChartRecursive)
-                .collect(Collectors.toList());
-        
-        response.setSubordinates(subordinateResponses);
-        
-        return response;
+    private List<OrgChartEntry> loadOrgChartEntries() {
+        try (Stream<OrgChartEntry> entries = employeeRepository.streamOrgChartEntries()) {
+            return entries.toList();
+        }
+    }
+
+    /**
+     * 조직도 스냅샷 무효화 - 현재 트랜잭션이 커밋된 후 세대 증가
+     * (롤백된 변경은 스냅샷에 영향 없음)
+     */
+    private void invalidateOrgChartAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            orgChartGeneration.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                orgChartGeneration.incrementAndGet();
+            }
+        });
+    }
+
+    /**
+     * 조직도에 표시되는 필드 (변경 여부 비교용)
+     */
+    private static List<Object> orgChartFields(Employee employee) {
+        return Arrays.asList(employee.getManagerId(), employee.getDepartment(), employee.getPosition(),
+                employee.getEmail(), employee.getPhoneNumber(), employee.getLevel());
     }
 
     /**
@@ -0,0 +1,112 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.OrgChartEntry;
+import com.example.demo.dto.OrgChartResponse;
+
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 조직도 인접 인덱스 (상급자 ID → 부하 직원 목록)
+ * 전체 직원을 한 번의 쿼리로 읽어 메모리에서 Tree 구조를 생성
+ */
+public class OrgChartIndex {
+
+    private final Map<Long, OrgChartEntry> entriesById;
+    private final Map<Long, List<OrgChartEntry>> subordinatesByManagerId;
+    private final List<OrgChartEntry> topLevelEntries;
+
+    private OrgChartIndex(Map<Long, OrgChartEntry> entriesById,
+                          Map<Long, List<OrgChartEntry>> subordinatesByManagerId,
+                          List<OrgChartEntry> topLevelEntries) {
+        this.entriesById = entriesById;
+        this.subordinatesByManagerId = subordinatesByManagerId;
+        this.topLevelEntries = topLevelEntries;
+    }
+
+    /**
+     * 직원 스트림으로부터 인덱스 생성 (스트림 순서 = 부하 직원 정렬 순서)
+     */
+    public static OrgChartIndex from(Stream<OrgChartEntry> entries) {
+        Map<Long, OrgChartEntry> entriesById = new HashMap<>();
+        Map<Long, List<OrgChartEntry>> subordinatesByManagerId = new HashMap<>();
+        List<OrgChartEntry> topLevelEntries = new ArrayList<>();
+
+        entries.forEach(entry -> {
+            entriesById.put(entry.getId(), entry);
+            if (entry.getManagerId() == null) {
+                topLevelEntries.add(entry);
+            } else {
+                subordinatesByManagerId
+                        .computeIfAbsent(entry.getManagerId(), k -> new ArrayList<>())
+                        .add(entry);
+            }
+        });
+
+        return new OrgChartIndex(entriesById, subordinatesByManagerId, topLevelEntries);
+    }
+
+    public boolean contains(Long employeeId) {
+        return entriesById.containsKey(employeeId);
+    }
+
+    public int size() {
+        return entriesById.size();
+    }
+
+    /**
+     * 전체 조직도 생성 (managerId가 null인 최상위 직원부터)
+     */
+    public List<OrgChartResponse> buildOrgChart() {
+        List<OrgChartResponse> roots = new ArrayList<>(topLevelEntries.size());
+        for (OrgChartEntry entry : topLevelEntries) {
+            roots.add(buildSubtree(entry));
+        }
+        return roots;
+    }
+
+    /**
+     * 특정 직원을 루트로 하는 조직도 생성
+     */
+    public Optional<OrgChartResponse> buildOrgChart(Long rootEmployeeId) {
+        return Optional.ofNullable(entriesById.get(rootEmployeeId))
+                .map(this::buildSubtree);
+    }
+
+    /**
+     * 명시적 스택으로 Tree 생성 (깊은 계층에서도 StackOverflow 없음, 순환 참조 방지)
+     * 노드는 불변이므로 방문 순서를 거꾸로 따라가며 부하 직원 노드부터 생성
+     */
+    private OrgChartResponse buildSubtree(OrgChartEntry rootEntry) {
+        Set<Long> visited = new HashSet<>();
+        visited.add(rootEntry.getId());
+
+        List<OrgChartEntry> visitOrder = new ArrayList<>();
+        Map<Long, List<OrgChartEntry>> childrenById = new HashMap<>();
+        Deque<OrgChartEntry> stack = new ArrayDeque<>();
+        stack.push(rootEntry);
+        while (!stack.isEmpty()) {
+            OrgChartEntry current = stack.pop();
+            visitOrder.add(current);
+            List<OrgChartEntry> children = new ArrayList<>();
+            for (OrgChartEntry subordinate : subordinatesByManagerId.getOrDefault(current.getId(), List.of())) {
+                if (!visited.add(subordinate.getId())) {
+                    continue;
+                }
+                children.add(subordinate);
+                stack.push(subordinate);
+            }
+            childrenById.put(current.getId(), children);
+        }
+
+        Map<Long, OrgChartResponse> nodesById = new HashMap<>(visitOrder.size() * 2);
+        for (int i = visitOrder.size() - 1; i >= 0; i--) {
+            OrgChartEntry entry = visitOrder.get(i);
+            List<OrgChartResponse> children = childrenById.get(entry.getId()).stream()
+                    .map(child -> nodesById.get(child.getId()))
+                    .toList();
+            nodesById.put(entry.getId(), OrgChartResponse.from(entry, children));
+        }
+        return nodesById.get(rootEntry.getId());
+    }
+}
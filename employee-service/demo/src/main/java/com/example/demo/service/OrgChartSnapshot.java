@@ -0,0 +1,101 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.OrgChartEntry;
+import com.example.demo.dto.OrgChartResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.*;
+
+/**
+ * 조직도 스냅샷 (불변)
+ * 조직도 Tree를 미리 생성해 두고, 직원 변경이 커밋되면 새 스냅샷으로 교체
+ * - generation: 스냅샷 생성 시점의 변경 세대 (무효화 판단용, 서버 내부 값)
+ * - version: 조직도 내용으로 계산한 버전 (ETag, 서버 인스턴스와 무관하게 동일 내용이면 동일 값)
+ */
+public class OrgChartSnapshot {
+
+    private final long generation;
+    private final String version;
+    private final long createdAtNanos;
+    private final List<OrgChartResponse> orgChart;
+    private final Map<Long, OrgChartResponse> nodesById;
+    private final OrgChartIndex index;
+
+    private OrgChartSnapshot(long generation, String version, List<OrgChartResponse> orgChart,
+                             Map<Long, OrgChartResponse> nodesById, OrgChartIndex index) {
+        this.generation = generation;
+        this.version = version;
+        this.createdAtNanos = System.nanoTime();
+        this.orgChart = orgChart;
+        this.nodesById = nodesById;
+        this.index = index;
+    }
+
+    /**
+     * 인덱스로부터 전체 Tree를 한 번 생성하고, 모든 노드를 ID로 조회할 수 있도록 보관
+     * 하위 Tree는 노드를 공유하므로 특정 직원 루트 조회 시 추가 생성 없음
+     */
+    public static OrgChartSnapshot of(long generation, List<OrgChartEntry> entries) {
+        OrgChartIndex index = OrgChartIndex.from(entries.stream());
+        List<OrgChartResponse> orgChart = index.buildOrgChart();
+
+        Map<Long, OrgChartResponse> nodesById = new HashMap<>(entries.size() * 2);
+        Deque<OrgChartResponse> stack = new ArrayDeque<>(orgChart);
+        while (!stack.isEmpty()) {
+            OrgChartResponse node = stack.pop();
+            nodesById.put(node.getId(), node);
+            stack.addAll(node.getSubordinates());
+        }
+
+        return new OrgChartSnapshot(generation, computeVersion(entries),
+                List.copyOf(orgChart), Collections.unmodifiableMap(nodesById), index);
+    }
+
+    public long getGeneration() {
+        return generation;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public boolean isOlderThan(long maxAgeNanos) {
+        return System.nanoTime() - createdAtNanos > maxAgeNanos;
+    }
+
+    /**
+     * 전체 조직도 (최상위 직원부터)
+     */
+    public List<OrgChartResponse> getOrgChart() {
+        return orgChart;
+    }
+
+    /**
+     * 특정 직원을 루트로 하는 조직도
+     * 최상위에서 도달할 수 없는 직원(상급자가 삭제된 경우 등)은 인덱스에서 생성
+     */
+    public Optional<OrgChartResponse> findOrgChart(Long employeeId) {
+        OrgChartResponse node = nodesById.get(employeeId);
+        if (node != null) {
+            return Optional.of(node);
+        }
+        return index.buildOrgChart(employeeId);
+    }
+
+    /**
+     * 조직도 내용 기반 버전 계산 (SHA-256 앞 16자리)
+     */
+    private static String computeVersion(List<OrgChartEntry> entries) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (OrgChartEntry entry : entries) {
+                digest.update(entry.toString().getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+}
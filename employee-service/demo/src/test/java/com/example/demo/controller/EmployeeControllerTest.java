@@ -1,6 +1,7 @@
 package com.example.demo.controller;
 
 import com.example.demo.dto.EmployeeCreateRequest;
+import com.example.demo.dto.EmployeeExistsRequest;
 import com.example.demo.dto.EmployeeUpdateRequest;
 import com.example.demo.entity.Employee;
 import com.example.demo.repository.EmployeeRepository;
@@ -15,6 +16,8 @@ import org.springframework.http.MediaType;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -41,7 +44,7 @@ class EmployeeControllerTest {
     @Test
     @DisplayName("직원 생성 성공")
     void createEmployee_Success() throws Exception {
-        EmployeeCreateRequest request = new EmployeeCreateRequest("Kim", "HR", "Manager");
+        EmployeeCreateRequest request = createRequest("Kim", "HR", "Manager");
 
         mockMvc.perform(post("/employees")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -53,7 +56,7 @@ class EmployeeControllerTest {
     @Test
     @DisplayName("직원 생성 실패 - 필수 필드 누락")
     void createEmployee_Fail_MissingField() throws Exception {
-        EmployeeCreateRequest request = new EmployeeCreateRequest("", "HR", "Manager");
+        EmployeeCreateRequest request = createRequest("", "HR", "Manager");
 
         mockMvc.perform(post("/employees")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -148,12 +151,39 @@ class EmployeeControllerTest {
                 .andExpect(content().string("false"));
     }
 
+    @Test
+    @DisplayName("직원 일괄 존재 여부 확인 - 존재하지 않는 ID만 반환")
+    void existsEmployees_ReturnsMissingIds() throws Exception {
+        // Given
+        Employee kim = createTestEmployee("Kim", "HR", "Manager");
+        Employee lee = createTestEmployee("Lee", "IT", "Developer");
+        EmployeeExistsRequest request = new EmployeeExistsRequest(List.of(kim.getId(), 998L, lee.getId(), 999L));
+
+        // When & Then
+        mockMvc.perform(post("/employees/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.missingIds", contains(998, 999)));
+    }
+
+    @Test
+    @DisplayName("직원 일괄 존재 여부 확인 실패 - 빈 목록")
+    void existsEmployees_Fail_EmptyIds() throws Exception {
+        EmployeeExistsRequest request = new EmployeeExistsRequest(List.of());
+
+        mockMvc.perform(post("/employees/exists")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("직원 정보 수정 성공 - department만")
     void updateEmployee_Success_Department() throws Exception {
         // Given
         Employee employee = createTestEmployee("Kim", "HR", "Manager");
-        EmployeeUpdateRequest request = new EmployeeUpdateRequest("Finance", null);
+        EmployeeUpdateRequest request = updateRequest("Finance", null);
 
         // When & Then
         mockMvc.perform(put("/employees/{id}", employee.getId())
@@ -170,7 +200,7 @@ class EmployeeControllerTest {
     void updateEmployee_Success_Both() throws Exception {
         // Given
         Employee employee = createTestEmployee("Kim", "HR", "Manager");
-        EmployeeUpdateRequest request = new EmployeeUpdateRequest("Finance", "Director");
+        EmployeeUpdateRequest request = updateRequest("Finance", "Director");
 
         // When & Then
         mockMvc.perform(put("/employees/{id}", employee.getId())
@@ -184,7 +214,7 @@ class EmployeeControllerTest {
     @Test
     @DisplayName("직원 정보 수정 실패 - 존재하지 않는 ID")
     void updateEmployee_Fail_NotFound() throws Exception {
-        EmployeeUpdateRequest request = new EmployeeUpdateRequest("Finance", "Director");
+        EmployeeUpdateRequest request = updateRequest("Finance", "Director");
 
         mockMvc.perform(put("/employees/{id}", 999L)
                         .contentType(MediaType.APPLICATION_JSON)
@@ -222,4 +252,19 @@ class EmployeeControllerTest {
                 .build();
         return employeeRepository.save(employee);
     }
+
+    private EmployeeCreateRequest createRequest(String name, String department, String position) {
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName(name);
+        request.setDepartment(department);
+        request.setPosition(position);
+        return request;
+    }
+
+    private EmployeeUpdateRequest updateRequest(String department, String position) {
+        EmployeeUpdateRequest request = new EmployeeUpdateRequest();
+        request.setDepartment(department);
+        request.setPosition(position);
+        return request;
+    }
 }
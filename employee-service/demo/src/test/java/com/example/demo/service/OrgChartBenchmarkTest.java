@@ -0,0 +1,149 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.OrgChartResponse;
+import com.example.demo.entity.Employee;
+import com.example.demo.repository.EmployeeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 조직도 조회 벤치마크 - 기존 재귀(N+1) 방식 vs 단일 쿼리 인덱스 방식
+ * SQL 실행 횟수와 소요 시간을 비교 (gradle loadTest로 실행)
+ */
+@Tag("load")
+@SpringBootTest(properties = {
+        "spring.jpa.show-sql=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@ActiveProfiles("test")
+class OrgChartBenchmarkTest {
+
+    private static final int FAN_OUT = 6;
+    private static final int DEPTH = 5; // 1 + 6 + 36 + 216 + 1296 = 1555명
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+    private int employeeCount;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+
+        List<Employee> currentLevel = List.of(employeeRepository.save(employee("CEO", null, 1)));
+        employeeCount = 1;
+        for (int level = 2; level <= DEPTH; level++) {
+            List<Employee> nextLevel = new ArrayList<>();
+            for (Employee manager : currentLevel) {
+                for (int i = 0; i < FAN_OUT; i++) {
+                    nextLevel.add(employee("E" + level + "-" + i, manager.getId(), level));
+                }
+            }
+            currentLevel = employeeRepository.saveAll(nextLevel);
+            employeeCount += currentLevel.size();
+        }
+        employeeService.evictOrgChartSnapshot();
+    }
+
+    @Test
+    @DisplayName("전체 조직도 조회 - 단일 쿼리로 기존 재귀 방식과 동일한 Tree 생성")
+    void getOrgChart_singleQuery() {
+        // 기존 방식 (직원당 findByManagerId 1회)
+        statistics.clear();
+        long legacyStart = System.nanoTime();
+        List<OrgChartResponse> legacy = employeeRepository.findByManagerIdIsNull().stream()
+                .map(this::buildOrgChartRecursive)
+                .collect(Collectors.toList());
+        long legacyNanos = System.nanoTime() - legacyStart;
+        long legacyQueries = statistics.getPrepareStatementCount();
+
+        // 인덱스 방식 (스냅샷 생성)
+        statistics.clear();
+        long indexedStart = System.nanoTime();
+        List<OrgChartResponse> indexed = employeeService.getOrgChartSnapshot().getOrgChart();
+        long indexedNanos = System.nanoTime() - indexedStart;
+        long indexedQueries = statistics.getPrepareStatementCount();
+
+        System.out.printf("[OrgChart benchmark] employees=%d | recursive: queries=%d, %.2f ms | indexed: queries=%d, %.2f ms%n",
+                employeeCount, legacyQueries, legacyNanos / 1_000_000.0, indexedQueries, indexedNanos / 1_000_000.0);
+
+        assertThat(legacyQueries).isEqualTo(employeeCount + 1);
+        assertThat(indexedQueries).isEqualTo(1);
+        assertThat(collectIds(indexed)).isEqualTo(collectIds(legacy)).hasSize(employeeCount);
+
+        // 스냅샷 재사용 (쿼리 없음)
+        statistics.clear();
+        assertThat(employeeService.getOrgChartSnapshot().getOrgChart()).isSameAs(indexed);
+        assertThat(statistics.getPrepareStatementCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("특정 직원 루트 조직도 조회 - 단일 쿼리")
+    void getOrgChartByRoot_singleQuery() {
+        Employee root = employeeRepository.findByManagerIdIsNull().get(0);
+        Long middleManagerId = employeeRepository.findByManagerId(root.getId()).get(0).getId();
+
+        statistics.clear();
+        OrgChartResponse subtree = employeeService.getOrgChartSnapshot().findOrgChart(middleManagerId).orElseThrow();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(subtree.getId()).isEqualTo(middleManagerId);
+        assertThat(subtree.getSubordinates()).hasSize(FAN_OUT);
+        assertThat(collectIds(List.of(subtree))).hasSize((employeeCount - 1) / FAN_OUT);
+    }
+
+    /**
+     * 기존 EmployeeService의 재귀 조회 방식 (비교 기준)
+     */
+    private OrgChartResponse buildOrgChartRecursive(Employee employee) {
+        return OrgChartResponse.from(employee, employeeRepository.findByManagerId(employee.getId()).stream()
+                .map(this::buildOrgChartRecursive)
+                .collect(Collectors.toList()));
+    }
+
+    private Set<Long> collectIds(List<OrgChartResponse> nodes) {
+        Set<Long> ids = new HashSet<>();
+        List<OrgChartResponse> queue = new ArrayList<>(nodes);
+        while (!queue.isEmpty()) {
+            OrgChartResponse node = queue.remove(queue.size() - 1);
+            ids.add(node.getId());
+            queue.addAll(node.getSubordinates());
+        }
+        return ids;
+    }
+
+    private Employee employee(String name, Long managerId, int level) {
+        return Employee.builder()
+                .name(name)
+                .department("Dept")
+                .position("Staff")
+                .status("ACTIVE")
+                .managerId(managerId)
+                .level(level)
+                .build();
+    }
+}
@@ -0,0 +1,134 @@
+package com.example.demo.service;
+
+import com.example.demo.dto.EmployeeCreateRequest;
+import com.example.demo.dto.EmployeeUpdateRequest;
+import com.example.demo.dto.OrgChartResponse;
+import com.example.demo.repository.EmployeeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class OrgChartSnapshotTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EmployeeService employeeService;
+
+    @Autowired
+    private EmployeeRepository employeeRepository;
+
+    private Long ceoId;
+
+    @BeforeEach
+    void setUp() {
+        employeeRepository.deleteAll();
+        employeeService.evictOrgChartSnapshot();
+        ceoId = employeeService.createEmployee(createRequest("CEO", null));
+    }
+
+    @Test
+    @DisplayName("변경이 없으면 동일 스냅샷 재사용")
+    void snapshot_reusedWithoutChanges() {
+        OrgChartSnapshot first = employeeService.getOrgChartSnapshot();
+        OrgChartSnapshot second = employeeService.getOrgChartSnapshot();
+
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    @DisplayName("직원 생성/삭제 커밋 시 새 스냅샷으로 교체")
+    void snapshot_swappedOnCreateAndDelete() {
+        OrgChartSnapshot before = employeeService.getOrgChartSnapshot();
+
+        Long memberId = employeeService.createEmployee(createRequest("Lee", ceoId));
+        OrgChartSnapshot afterCreate = employeeService.getOrgChartSnapshot();
+
+        assertThat(afterCreate).isNotSameAs(before);
+        assertThat(afterCreate.getVersion()).isNotEqualTo(before.getVersion());
+        assertThat(afterCreate.findOrgChart(ceoId).orElseThrow().getSubordinates()).hasSize(1);
+
+        employeeService.deleteEmployee(memberId);
+        OrgChartSnapshot afterDelete = employeeService.getOrgChartSnapshot();
+
+        assertThat(afterDelete.getVersion()).isEqualTo(before.getVersion());
+        assertThat(afterDelete.findOrgChart(ceoId).orElseThrow().getSubordinates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("조직도와 무관한 필드 수정 시 스냅샷 유지, 관련 필드 수정 시 교체")
+    void snapshot_swappedOnlyWhenOrgChartFieldsChange() {
+        OrgChartSnapshot before = employeeService.getOrgChartSnapshot();
+
+        EmployeeUpdateRequest addressOnly = new EmployeeUpdateRequest();
+        addressOnly.setAddress("Seoul");
+        employeeService.updateEmployee(ceoId, addressOnly);
+        assertThat(employeeService.getOrgChartSnapshot()).isSameAs(before);
+
+        EmployeeUpdateRequest department = new EmployeeUpdateRequest();
+        department.setDepartment("Board");
+        employeeService.updateEmployee(ceoId, department);
+        assertThat(employeeService.getOrgChartSnapshot()).isNotSameAs(before);
+        assertThat(employeeService.getOrgChartSnapshot().findOrgChart(ceoId).orElseThrow().getDepartment())
+                .isEqualTo("Board");
+    }
+
+    @Test
+    @DisplayName("스냅샷 노드는 요청 간 공유되므로 부하 직원 목록을 변경할 수 없음")
+    void snapshot_nodesAreImmutable() {
+        employeeService.createEmployee(createRequest("Lee", ceoId));
+        OrgChartSnapshot snapshot = employeeService.getOrgChartSnapshot();
+        OrgChartResponse ceo = snapshot.getOrgChart().get(0);
+
+        assertThatThrownBy(() -> ceo.getSubordinates().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> snapshot.getOrgChart().clear()).isInstanceOf(UnsupportedOperationException.class);
+        assertThat(snapshot.findOrgChart(ceoId).orElseThrow()).isSameAs(ceo);
+        assertThat(ceo.getSubordinates()).extracting(OrgChartResponse::getName).containsExactly("Lee");
+    }
+
+    @Test
+    @DisplayName("조직도 ETag - If-None-Match 일치 시 304, 변경 후 200")
+    void orgChart_notModifiedWithMatchingETag() throws Exception {
+        String eTag = mockMvc.perform(get("/employees/org-chart"))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/employees/org-chart").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+
+        mockMvc.perform(get("/employees/{id}/org-chart", ceoId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified());
+
+        employeeService.createEmployee(createRequest("Park", ceoId));
+
+        mockMvc.perform(get("/employees/org-chart").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].subordinates[0].name").value("Park"));
+    }
+
+    private EmployeeCreateRequest createRequest(String name, Long managerId) {
+        EmployeeCreateRequest request = new EmployeeCreateRequest();
+        request.setName(name);
+        request.setDepartment("HR");
+        request.setPosition("Staff");
+        request.setManagerId(managerId);
+        return request;
+    }
+}
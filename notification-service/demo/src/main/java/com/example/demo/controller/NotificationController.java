@@ -1,5 +1,6 @@
 package com.example.demo.controller;
 
+import com.example.demo.dto.NotificationBatchResponse;
 import com.example.demo.dto.NotificationRequest;
 import com.example.demo.dto.NotificationResponse;
 import com.example.demo.service.NotificationService;
@@ -8,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -60,6 +62,27 @@ public class NotificationController {
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * 결재 결과 알림 일괄 전송
+     * POST /notifications/approval/batch
+     * 
+     * Approval Request Service가 같은 직원의 알림을 짧은 시간 동안 모아 한 번에 호출
+     * Request Body: NotificationRequest 배열
+     */
+    @PostMapping("/approval/batch")
+    public ResponseEntity<NotificationBatchResponse> sendApprovalNotifications(
+            @RequestBody List<NotificationRequest> requests) {
+
+        log.info("일괄 알림 전송 API 호출: count={}", requests.size());
+
+        int sentCount = notificationService.sendApprovalNotifications(requests);
+
+        return ResponseEntity.ok(NotificationBatchResponse.builder()
+                .requestedCount(requests.size())
+                .sentCount(sentCount)
+                .build());
+    }
+
     /**
      * 직원 연결 상태 확인
      * GET /notifications/status/{employeeId}
@@ -0,0 +1,19 @@
+package com.example.demo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 알림 전송 결과 응답 DTO
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationBatchResponse {
+
+    private int requestedCount;   // 요청된 알림 수
+    private int sentCount;        // 전송된 알림 수 (세션이 없는 직원의 알림은 제외)
+}
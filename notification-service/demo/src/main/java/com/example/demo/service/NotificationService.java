@@ -7,6 +7,8 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.List;
+
 /**
  * 알림 서비스 - WebSocket을 통한 실시간 알림 전송
  */
@@ -39,6 +41,25 @@ public class NotificationService {
         return sent;
     }
 
+    /**
+     * 결재 결과 알림 일괄 전송 (Approval Request Service가 직원별로 묶어 보낸 알림)
+     *
+     * @return 전송된 알림 수
+     */
+    public int sendApprovalNotifications(List<NotificationRequest> requests) {
+        log.info("결재 알림 일괄 전송 요청: count={}", requests.size());
+
+        int sentCount = 0;
+        for (NotificationRequest request : requests) {
+            if (webSocketHandler.sendMessage(request.getEmployeeId(), buildNotificationMessage(request))) {
+                sentCount++;
+            }
+        }
+
+        log.info("결재 알림 일괄 전송 완료: requested={}, sent={}", requests.size(), sentCount);
+        return sentCount;
+    }
+
     /**
      * NotificationRequest를 WebSocket 메시지로 변환
      */
@@ -11,7 +11,10 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.List;
+
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -96,6 +99,25 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.message").value("대상 사용자가 연결되어 있지 않습니다."));
     }
 
+    @Test
+    @DisplayName("POST /notifications/approval/batch - 일괄 알림 전송")
+    void sendApprovalNotifications_batch() throws Exception {
+        // given
+        List<NotificationRequest> requests = List.of(
+                NotificationRequest.builder().requestId(1L).employeeId(100L).result("approved").finalResult("approved").build(),
+                NotificationRequest.builder().requestId(2L).employeeId(100L).result("rejected").rejectedBy(50L).finalResult("rejected").build());
+
+        when(notificationService.sendApprovalNotifications(anyList())).thenReturn(2);
+
+        // when & then
+        mockMvc.perform(post("/notifications/approval/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requests)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.requestedCount").value(2))
+                .andExpect(jsonPath("$.sentCount").value(2));
+    }
+
     @Test
     @DisplayName("GET /notifications/status/{employeeId} - 연결 상태 확인")
     void checkConnectionStatus() throws Exception {
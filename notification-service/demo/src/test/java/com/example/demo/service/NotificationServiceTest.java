@@ -10,6 +10,8 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
@@ -87,6 +89,20 @@ class NotificationServiceTest {
         assertFalse(result);
     }
 
+    @Test
+    @DisplayName("일괄 알림 전송 - 전송된 건수 반환")
+    void sendApprovalNotifications_countsSent() {
+        // given
+        when(webSocketHandler.sendMessage(eq(100L), any())).thenReturn(true, false);
+
+        // when
+        int sent = notificationService.sendApprovalNotifications(List.of(approvedRequest, rejectedRequest));
+
+        // then
+        assertEquals(1, sent);
+        verify(webSocketHandler, times(2)).sendMessage(eq(100L), any());
+    }
+
     @Test
     @DisplayName("직원 연결 상태 확인 - 연결됨")
     void isEmployeeConnected_true() {